@@ -0,0 +1,138 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.ConnectionPoolConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+/**
+ * Periodically resizes a connection pool as per how it is being used, for the datasources with the adaptive sizing mode.
+ * <p>
+ * The pool starts with the default maximum size of the plugin. While requests are waiting for a connection, the maximum
+ * size grows by the number of waiting requests, up to the configured maximum pool size. Once less than half of the
+ * connections have been in use for a while, it shrinks back one connection at a time. When no connection has been in
+ * use for a long time, the minimum idle setting is dropped to zero so that the pool releases all its idle connections,
+ * and it is restored as soon as the datasource is used again.
+ */
+@Slf4j
+public class AdaptivePoolSizer {
+
+    static final Duration EVALUATION_INTERVAL = Duration.ofSeconds(5);
+
+    // 30 seconds of low usage before shrinking by one connection.
+    static final int LOW_USAGE_EVALUATIONS_BEFORE_SHRINKING = 6;
+
+    // 5 minutes without any connection in use before releasing the idle connections.
+    static final int UNUSED_EVALUATIONS_BEFORE_RELEASING = 60;
+
+    /**
+     * The connection pool being resized, implemented by the plugins over their pool implementation.
+     */
+    public interface PoolControl {
+
+        boolean isClosed();
+
+        int getActiveConnections();
+
+        int getThreadsAwaitingConnection();
+
+        void resize(int minimumIdle, int maximumPoolSize);
+    }
+
+    private final String poolName;
+
+    private final int configuredMinimumIdle;
+
+    private final int lowerMaximumPoolSize;
+
+    private final int upperMaximumPoolSize;
+
+    private int minimumIdle;
+
+    private int maximumPoolSize;
+
+    private int lowUsageEvaluations;
+
+    private int unusedEvaluations;
+
+    /**
+     * @param poolName                 Name of the pool, for logs
+     * @param connectionPool           Pool settings, as resolved by {@link ConnectionPoolHelper}
+     * @param defaultMaximumPoolSize   Default maximum pool size of the plugin, which is the size the pool starts with
+     */
+    public AdaptivePoolSizer(String poolName, ConnectionPoolConfiguration connectionPool, int defaultMaximumPoolSize) {
+        this.poolName = poolName;
+        this.upperMaximumPoolSize = connectionPool.getMaximumPoolSize();
+        this.lowerMaximumPoolSize = Math.max(1, Math.min(defaultMaximumPoolSize, upperMaximumPoolSize));
+        this.configuredMinimumIdle = connectionPool.getMinimumIdle();
+        this.maximumPoolSize = lowerMaximumPoolSize;
+        this.minimumIdle = Math.min(configuredMinimumIdle, maximumPoolSize);
+    }
+
+    public synchronized int getMinimumIdle() {
+        return minimumIdle;
+    }
+
+    public synchronized int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    /**
+     * Starts resizing the given pool periodically, until the pool is closed.
+     */
+    public Disposable start(PoolControl pool) {
+        return Flux.interval(EVALUATION_INTERVAL)
+                .takeWhile(tick -> !pool.isClosed())
+                .subscribe(tick -> adjust(pool));
+    }
+
+    void adjust(PoolControl pool) {
+        try {
+            final int previousMinimumIdle = getMinimumIdle();
+            final int previousMaximumPoolSize = getMaximumPoolSize();
+            if (evaluate(pool.getActiveConnections(), pool.getThreadsAwaitingConnection())) {
+                log.debug("Resizing connection pool {} from min idle - {} , max - {} to min idle - {} , max - {}",
+                        poolName, previousMinimumIdle, previousMaximumPoolSize, getMinimumIdle(), getMaximumPoolSize());
+                pool.resize(getMinimumIdle(), getMaximumPoolSize());
+            }
+        } catch (RuntimeException e) {
+            // The pool may have been closed in the meanwhile. In any case, the next evaluation will try again.
+            log.debug("Unable to resize connection pool {}", poolName, e);
+        }
+    }
+
+    /**
+     * Updates the pool size as per the current usage of the pool.
+     *
+     * @return Whether the minimum idle or the maximum pool size has changed
+     */
+    synchronized boolean evaluate(int activeConnections, int threadsAwaitingConnection) {
+        final int previousMinimumIdle = minimumIdle;
+        final int previousMaximumPoolSize = maximumPoolSize;
+
+        if (threadsAwaitingConnection > 0) {
+            lowUsageEvaluations = 0;
+            maximumPoolSize = Math.min(upperMaximumPoolSize, maximumPoolSize + threadsAwaitingConnection);
+        } else if (2 * activeConnections <= maximumPoolSize) {
+            if (++lowUsageEvaluations >= LOW_USAGE_EVALUATIONS_BEFORE_SHRINKING) {
+                lowUsageEvaluations = 0;
+                maximumPoolSize = Math.max(lowerMaximumPoolSize, maximumPoolSize - 1);
+            }
+        } else {
+            lowUsageEvaluations = 0;
+        }
+
+        if (activeConnections > 0 || threadsAwaitingConnection > 0) {
+            unusedEvaluations = 0;
+            minimumIdle = Math.min(configuredMinimumIdle, maximumPoolSize);
+        } else if (++unusedEvaluations >= UNUSED_EVALUATIONS_BEFORE_RELEASING) {
+            minimumIdle = 0;
+        } else {
+            minimumIdle = Math.min(minimumIdle, maximumPoolSize);
+        }
+
+        return minimumIdle != previousMinimumIdle || maximumPoolSize != previousMaximumPoolSize;
+    }
+}
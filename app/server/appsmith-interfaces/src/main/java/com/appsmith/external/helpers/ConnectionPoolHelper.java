@@ -0,0 +1,144 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.ConnectionPoolConfiguration;
+import com.appsmith.external.models.DatasourceConfiguration;
+import reactor.core.Disposable;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Resolves the connection pool settings of a datasource against the defaults of a plugin.
+ */
+public class ConnectionPoolHelper {
+
+    public static final int MAXIMUM_ALLOWED_POOL_SIZE = 50;
+
+    // Lower bounds enforced by Hikari, which the plugins with connection pools use.
+    private static final long MINIMUM_IDLE_TIMEOUT_MS = 10 * 1000;
+    private static final long MINIMUM_MAX_LIFETIME_MS = 30 * 1000;
+    private static final long MINIMUM_CONNECTION_TIMEOUT_MS = 250;
+
+    private static final AtomicLong poolCounter = new AtomicLong();
+
+    /**
+     * Returns the pool settings of the datasource, with the minimum idle and maximum pool size falling back to the given
+     * defaults when not set. In the adaptive sizing mode, the maximum pool size is the size up to which the pool may
+     * grow, which is twice the default unless set.
+     */
+    public static ConnectionPoolConfiguration getConnectionPoolConfiguration(DatasourceConfiguration datasourceConfiguration,
+                                                                             int defaultMinimumIdle,
+                                                                             int defaultMaximumPoolSize) {
+        final ConnectionPoolConfiguration configured = datasourceConfiguration.getConnectionPool() == null
+                ? new ConnectionPoolConfiguration()
+                : datasourceConfiguration.getConnectionPool();
+
+        final int maximumPoolSize;
+        if (configured.getMaximumPoolSize() != null && configured.getMaximumPoolSize() > 0) {
+            maximumPoolSize = Math.min(configured.getMaximumPoolSize(), MAXIMUM_ALLOWED_POOL_SIZE);
+        } else if (configured.isAdaptive()) {
+            maximumPoolSize = Math.min(2 * defaultMaximumPoolSize, MAXIMUM_ALLOWED_POOL_SIZE);
+        } else {
+            maximumPoolSize = defaultMaximumPoolSize;
+        }
+
+        final int minimumIdle = configured.getMinimumIdle() != null && configured.getMinimumIdle() >= 0
+                ? configured.getMinimumIdle()
+                : defaultMinimumIdle;
+
+        return configured.toBuilder()
+                .minimumIdle(Math.min(minimumIdle, maximumPoolSize))
+                .maximumPoolSize(maximumPoolSize)
+                .sizingMode(configured.getSizingMode() == null
+                        ? ConnectionPoolConfiguration.SizingMode.FIXED
+                        : configured.getSizingMode())
+                .build();
+    }
+
+    public static Set<String> validateConnectionPoolConfiguration(ConnectionPoolConfiguration connectionPool) {
+        Set<String> invalids = new HashSet<>();
+        if (connectionPool == null) {
+            return invalids;
+        }
+
+        if (connectionPool.getMinimumIdle() != null && connectionPool.getMinimumIdle() < 0) {
+            invalids.add("Minimum idle connections cannot be negative.");
+        }
+
+        if (connectionPool.getMaximumPoolSize() != null
+                && (connectionPool.getMaximumPoolSize() < 1 || connectionPool.getMaximumPoolSize() > MAXIMUM_ALLOWED_POOL_SIZE)) {
+            invalids.add("Maximum pool size must be between 1 and " + MAXIMUM_ALLOWED_POOL_SIZE + ".");
+        }
+
+        if (connectionPool.getMinimumIdle() != null && connectionPool.getMaximumPoolSize() != null
+                && connectionPool.getMinimumIdle() > connectionPool.getMaximumPoolSize()) {
+            invalids.add("Minimum idle connections cannot be more than the maximum pool size.");
+        }
+
+        if (connectionPool.getIdleTimeoutInMillis() != null
+                && connectionPool.getIdleTimeoutInMillis() != 0
+                && connectionPool.getIdleTimeoutInMillis() < MINIMUM_IDLE_TIMEOUT_MS) {
+            invalids.add("Idle timeout must be at least " + MINIMUM_IDLE_TIMEOUT_MS + " milliseconds.");
+        }
+
+        if (connectionPool.getMaxLifetimeInMillis() != null
+                && connectionPool.getMaxLifetimeInMillis() != 0
+                && connectionPool.getMaxLifetimeInMillis() < MINIMUM_MAX_LIFETIME_MS) {
+            invalids.add("Maximum lifetime must be at least " + MINIMUM_MAX_LIFETIME_MS + " milliseconds.");
+        }
+
+        if (connectionPool.getConnectionTimeoutInMillis() != null
+                && connectionPool.getConnectionTimeoutInMillis() < MINIMUM_CONNECTION_TIMEOUT_MS) {
+            invalids.add("Connection timeout must be at least " + MINIMUM_CONNECTION_TIMEOUT_MS + " milliseconds.");
+        }
+
+        return invalids;
+    }
+
+    /**
+     * Returns a process wide unique name for a new connection pool of the given plugin. Pool metrics are tagged with it.
+     */
+    public static String getPoolName(String prefix) {
+        return prefix + "-" + poolCounter.incrementAndGet();
+    }
+
+    /**
+     * Starts resizing a connection pool with the given sizer, until the pool is closed.
+     * <p>
+     * The pool is taken as its accessors rather than as a Hikari data source, as the plugins bundle their own copy of
+     * Hikari, which isn't visible to the classes here.
+     */
+    public static Disposable startAdaptivePoolSizing(AdaptivePoolSizer adaptivePoolSizer,
+                                                     BooleanSupplier isClosed,
+                                                     IntSupplier activeConnections,
+                                                     IntSupplier threadsAwaitingConnection,
+                                                     IntConsumer setMinimumIdle,
+                                                     IntConsumer setMaximumPoolSize) {
+        return adaptivePoolSizer.start(new AdaptivePoolSizer.PoolControl() {
+            @Override
+            public boolean isClosed() {
+                return isClosed.getAsBoolean();
+            }
+
+            @Override
+            public int getActiveConnections() {
+                return activeConnections.getAsInt();
+            }
+
+            @Override
+            public int getThreadsAwaitingConnection() {
+                return threadsAwaitingConnection.getAsInt();
+            }
+
+            @Override
+            public void resize(int minimumIdle, int maximumPoolSize) {
+                setMaximumPoolSize.accept(maximumPoolSize);
+                setMinimumIdle.accept(minimumIdle);
+            }
+        });
+    }
+}
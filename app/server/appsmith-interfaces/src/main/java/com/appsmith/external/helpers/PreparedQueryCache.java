@@ -0,0 +1,94 @@
+package com.appsmith.external.helpers;
+
+import lombok.Getter;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the prepared statement form of the queries run by the SQL plugins, i.e. the query with its mustache bindings
+ * replaced with question marks, along with the bindings in order.
+ * <p>
+ * The cache is keyed by the query text as saved in the action, so every version of an action gets its own entry.
+ * Lookups don't lock, as the cache is shared by all the executions of a plugin. Once the cache is full, entries are
+ * evicted in no particular order to make room for a new one, so the entries of older versions of the actions, which
+ * are not looked up again, are eventually evicted.
+ */
+public class PreparedQueryCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    @Getter
+    public static class PreparedQuery {
+
+        private final String query;
+
+        private final List<String> mustacheKeysInOrder;
+
+        private PreparedQuery(String query, List<String> mustacheKeysInOrder) {
+            this.query = query;
+            this.mustacheKeysInOrder = List.copyOf(mustacheKeysInOrder);
+        }
+    }
+
+    private final Map<String, PreparedQuery> cache = new ConcurrentHashMap<>();
+
+    private final int maximumSize;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    public PreparedQueryCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public PreparedQueryCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the prepared statement form of the given query, rewriting it only if it isn't cached yet.
+     */
+    public PreparedQuery get(String rawQuery) {
+        final PreparedQuery cachedQuery = cache.get(rawQuery);
+        if (cachedQuery != null) {
+            hits.increment();
+            return cachedQuery;
+        }
+
+        misses.increment();
+        // First extract all the bindings in order
+        final List<String> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(rawQuery);
+        // Replace all the bindings with a ? as expected in a prepared statement.
+        final String query = MustacheHelper.replaceMustacheWithQuestionMark(rawQuery, mustacheKeysInOrder);
+        final PreparedQuery preparedQuery = new PreparedQuery(query, mustacheKeysInOrder);
+
+        evictIfFull();
+        final PreparedQuery concurrentlyCachedQuery = cache.putIfAbsent(rawQuery, preparedQuery);
+        return concurrentlyCachedQuery == null ? preparedQuery : concurrentlyCachedQuery;
+    }
+
+    private void evictIfFull() {
+        final Iterator<String> rawQueries = cache.keySet().iterator();
+        while (cache.size() >= maximumSize && rawQueries.hasNext()) {
+            rawQueries.next();
+            rawQueries.remove();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+}
@@ -0,0 +1,215 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.Property;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static com.appsmith.external.helpers.PluginUtils.getValueSafelyFromPropertyList;
+
+/**
+ * Collects the rows of a query result straight into a JSON array, for the SQL plugins running a query in the streaming
+ * mode. Collection stops once either the row cap or the size cap is reached, and the result is then marked as truncated.
+ * <p>
+ * Along with a JDBC fetch size, which makes the driver read the result from a server side cursor a few rows at a time,
+ * this keeps the memory used by a query bounded by the caps rather than by the size of the result. Streaming is only
+ * used for read only queries, see {@link #isReadOnlyQuery(String)}.
+ */
+public class StreamingRowCollector {
+
+    public static final int FETCH_SIZE = 500;
+
+    public static final int DEFAULT_MAX_ROWS = 10_000;
+
+    public static final int DEFAULT_MAX_BYTES = 5 * 1024 * 1024;
+
+    private static final Pattern READ_ONLY_QUERY_START = Pattern.compile("^(select|with)\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern WRITING_CLAUSES = Pattern.compile(
+            "\\b(into|insert|update|delete|merge|for\\s+share|for\\s+key\\s+share)\\b", Pattern.CASE_INSENSITIVE);
+
+    private final ObjectMapper objectMapper;
+
+    private final ArrayNode rows;
+
+    private final int maxRows;
+
+    private final long maxBytes;
+
+    private long estimatedBytes = 0;
+
+    private boolean truncated = false;
+
+    public StreamingRowCollector(ObjectMapper objectMapper, int maxRows, long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.rows = objectMapper.createArrayNode();
+        this.maxRows = maxRows;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns whether the streaming mode is turned on in the given plugin specified template.
+     */
+    public static boolean isStreamingEnabled(List<Property> pluginSpecifiedTemplates, int index) {
+        final Object value = getValueSafelyFromPropertyList(pluginSpecifiedTemplates, index);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return value instanceof String && Boolean.parseBoolean((String) value);
+    }
+
+    /**
+     * Returns whether the given query is a single SELECT, or a single WITH query, without any clause that may write or
+     * lock, like INTO or FOR UPDATE. Only leading comments are skipped, and a query is not considered read only as soon
+     * as it has such a keyword or a semicolon anywhere but at its end, even within a string or a comment. Streaming
+     * may stop reading the result before it is complete, hence it is only used for the queries that are surely read
+     * only.
+     */
+    public static boolean isReadOnlyQuery(String query) {
+        if (query == null) {
+            return false;
+        }
+
+        String statement = query.trim();
+        while (statement.startsWith("--") || statement.startsWith("/*")) {
+            final int commentEnd = statement.startsWith("--") ? statement.indexOf('\n') : statement.indexOf("*/");
+            if (commentEnd < 0) {
+                return false;
+            }
+            statement = statement.substring(commentEnd + (statement.startsWith("--") ? 1 : 2)).trim();
+        }
+
+        while (statement.endsWith(";")) {
+            statement = statement.substring(0, statement.length() - 1).trim();
+        }
+
+        return statement.indexOf(';') < 0
+                && READ_ONLY_QUERY_START.matcher(statement).find()
+                && !WRITING_CLAUSES.matcher(statement).find();
+    }
+
+    /**
+     * Returns the row cap set in the given plugin specified template, or the default cap if it isn't set.
+     */
+    public static int getMaxRows(List<Property> pluginSpecifiedTemplates, int index) {
+        return getPositiveInt(pluginSpecifiedTemplates, index, DEFAULT_MAX_ROWS);
+    }
+
+    /**
+     * Returns the positive number set in the given plugin specified template, or the given default if it isn't set, or
+     * isn't a positive number.
+     */
+    public static int getPositiveInt(List<Property> pluginSpecifiedTemplates, int index, int defaultValue) {
+        final Object value = getValueSafelyFromPropertyList(pluginSpecifiedTemplates, index);
+        try {
+            final int intValue = value instanceof Number
+                    ? ((Number) value).intValue()
+                    : Integer.parseInt(String.valueOf(value).trim());
+            return intValue > 0 ? intValue : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Returns whether more rows can be added. Once this returns false, the next row of the result, if any, should be
+     * reported with {@link #markTruncated()} instead of being added.
+     */
+    public boolean hasCapacity() {
+        return rows.size() < maxRows && estimatedBytes < maxBytes;
+    }
+
+    /**
+     * Adds a row, with the columns in their iteration order.
+     */
+    public void add(Map<String, Object> row) {
+        final ObjectNode rowNode = addRow();
+        for (Map.Entry<String, Object> column : row.entrySet()) {
+            addColumn(rowNode, column.getKey(), column.getValue());
+        }
+    }
+
+    /**
+     * Adds an empty row, whose columns are then added with {@link #addColumn(ObjectNode, String, Object)} in their
+     * order. This saves building a map for each row of a result that is read column by column.
+     */
+    public ObjectNode addRow() {
+        return rows.addObject();
+    }
+
+    public void addColumn(ObjectNode row, String column, Object value) {
+        final JsonNode valueNode = value instanceof JsonNode ? (JsonNode) value : objectMapper.valueToTree(value);
+        row.set(column, valueNode);
+        estimatedBytes += column.length() + 4 + estimateSize(valueNode);
+    }
+
+    public void markTruncated() {
+        this.truncated = true;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Hint message for the user, when the result has been truncated.
+     */
+    public String getTruncationMessage() {
+        return "The query result has been truncated to its first " + rows.size() + " rows. Please filter the query " +
+                "or use pagination to fetch the rows you need.";
+    }
+
+    public ArrayNode getRows() {
+        return rows;
+    }
+
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Estimates the size of the given node when serialized to JSON, without serializing it.
+     */
+    static long estimateSize(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            return 4;
+        }
+
+        if (node.isTextual()) {
+            return node.textValue().length() + 2L;
+        }
+
+        if (node.isArray()) {
+            long size = 2;
+            for (JsonNode element : node) {
+                size += estimateSize(element) + 1;
+            }
+            return size;
+        }
+
+        if (node.isObject()) {
+            long size = 2;
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                size += field.getKey().length() + 4 + estimateSize(field.getValue());
+            }
+            return size;
+        }
+
+        if (node.isBinary()) {
+            // Base64 encoded
+            final byte[] bytes = ((BinaryNode) node).binaryValue();
+            return (bytes == null ? 0 : bytes.length * 4L / 3) + 2;
+        }
+
+        return node.asText().length();
+    }
+}
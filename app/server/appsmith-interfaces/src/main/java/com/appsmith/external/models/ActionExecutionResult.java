@@ -39,6 +39,12 @@ public class ActionExecutionResult {
 
     List<WidgetSuggestionDTO> suggestedWidgets;
 
+    /*
+     * - Set when only the first rows of the result are returned, e.g. when a SQL query runs in the streaming mode and
+     *   its result exceeds the row or size cap.
+     */
+    Boolean truncated;
+
     public void setErrorInfo(Throwable error, AppsmithPluginErrorUtils pluginErrorUtils) {
         this.body = error.getMessage();
 
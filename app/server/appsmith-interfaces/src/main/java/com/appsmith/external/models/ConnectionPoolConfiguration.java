@@ -0,0 +1,51 @@
+package com.appsmith.external.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Connection pool settings of a datasource, for the plugins which keep a pool of connections per datasource. Settings
+ * which are not set fall back to the defaults of the plugin.
+ */
+@Builder(toBuilder = true)
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Document
+public class ConnectionPoolConfiguration implements AppsmithDomain {
+
+    public enum SizingMode {
+        // The pool is sized as per the minimum idle and maximum pool size settings.
+        FIXED,
+        // The maximum pool size grows up to the configured maximum while requests are waiting for a connection, and
+        // the idle connections are released while the datasource isn't being used.
+        ADAPTIVE
+    }
+
+    Integer minimumIdle;
+
+    Integer maximumPoolSize;
+
+    Long idleTimeoutInMillis;
+
+    Long maxLifetimeInMillis;
+
+    Long connectionTimeoutInMillis;
+
+    SizingMode sizingMode;
+
+    @JsonIgnore
+    public boolean isAdaptive() {
+        return SizingMode.ADAPTIVE.equals(sizingMode);
+    }
+}
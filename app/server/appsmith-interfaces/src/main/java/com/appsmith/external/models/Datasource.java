@@ -65,7 +65,9 @@ public class Datasource extends BaseDomain {
     Boolean isAutoGenerated = false;
 
     // The structure is ignored in JSON as it is not sent as part of the datasources API. We have a separate endpoint
-    // to obtain the structure of the datasource. The value of this field serves as the cache.
+    // to obtain the structure of the datasource. It is not stored with the datasource either, as it can be large and
+    // would then be read with every datasource. The structure is stored in a collection of its own.
+    @Transient
     @JsonIgnore
     DatasourceStructure structure;
 
@@ -2,6 +2,7 @@ package com.appsmith.external.models;
 
 import com.appsmith.external.exceptions.BaseException;
 import com.appsmith.external.exceptions.ErrorDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.gson.InstanceCreator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -148,6 +149,11 @@ public class DatasourceStructure {
 
     ErrorDTO error;
 
+    // Fingerprints of the tables by their name, for plugins that fetch the structure incrementally. A table whose
+    // fingerprint hasn't changed since the last fetch is not introspected again. Not sent to the client.
+    @JsonIgnore
+    Map<String, String> tableFingerprints;
+
     public void setErrorInfo(Throwable error) {
         this.error = new ErrorDTO();
         this.error.setMessage(error.getMessage());
@@ -135,6 +135,23 @@ public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
         return Mono.empty();
     }
 
+    /**
+     * This function fetches the structure of the datasource like {@link #getStructure(Object, DatasourceConfiguration)},
+     * given the structure that was fetched the last time. Plugins that can tell which tables have changed since then
+     * may introspect only those, and reuse the rest from the previous structure. The fingerprints of the tables, that
+     * tell whether they have changed, are kept in {@link DatasourceStructure#getTableFingerprints()}.
+     *
+     * @param connection
+     * @param datasourceConfiguration
+     * @param previousStructure       : Structure fetched the last time, null when there is none.
+     * @return
+     */
+    default Mono<DatasourceStructure> getStructure(C connection,
+                                                   DatasourceConfiguration datasourceConfiguration,
+                                                   DatasourceStructure previousStructure) {
+        return getStructure(connection, datasourceConfiguration);
+    }
+
     /**
      * This function executes the DB query to fetch details about the datasource when we don't want to create new action
      * just to get the information about the datasource
@@ -0,0 +1,129 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.ConnectionPoolConfiguration;
+import com.appsmith.external.models.DatasourceConfiguration;
+import org.junit.jupiter.api.Test;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.appsmith.external.helpers.AdaptivePoolSizer.EVALUATION_INTERVAL;
+import static com.appsmith.external.helpers.AdaptivePoolSizer.LOW_USAGE_EVALUATIONS_BEFORE_SHRINKING;
+import static com.appsmith.external.helpers.AdaptivePoolSizer.UNUSED_EVALUATIONS_BEFORE_RELEASING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptivePoolSizerTest {
+
+    private static AdaptivePoolSizer createSizer(int minimumIdle, int maximumPoolSize) {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setConnectionPool(ConnectionPoolConfiguration.builder()
+                .minimumIdle(minimumIdle)
+                .maximumPoolSize(maximumPoolSize)
+                .sizingMode(ConnectionPoolConfiguration.SizingMode.ADAPTIVE)
+                .build());
+        return new AdaptivePoolSizer("test-pool",
+                ConnectionPoolHelper.getConnectionPoolConfiguration(datasourceConfiguration, 1, 5), 5);
+    }
+
+    @Test
+    public void testGrowsWhileThreadsAreAwaitingConnection() {
+        AdaptivePoolSizer sizer = createSizer(1, 8);
+        assertEquals(5, sizer.getMaximumPoolSize());
+
+        assertTrue(sizer.evaluate(5, 2));
+        assertEquals(7, sizer.getMaximumPoolSize());
+
+        // Never grows beyond the configured maximum pool size
+        assertTrue(sizer.evaluate(7, 10));
+        assertEquals(8, sizer.getMaximumPoolSize());
+        assertFalse(sizer.evaluate(8, 10));
+    }
+
+    @Test
+    public void testShrinksBackAfterLowUsage() {
+        AdaptivePoolSizer sizer = createSizer(1, 8);
+        sizer.evaluate(5, 3);
+        assertEquals(8, sizer.getMaximumPoolSize());
+
+        for (int i = 1; i < LOW_USAGE_EVALUATIONS_BEFORE_SHRINKING; i++) {
+            assertFalse(sizer.evaluate(1, 0));
+        }
+        assertTrue(sizer.evaluate(1, 0));
+        assertEquals(7, sizer.getMaximumPoolSize());
+
+        // Never shrinks below the default maximum pool size
+        for (int i = 0; i < 10 * LOW_USAGE_EVALUATIONS_BEFORE_SHRINKING; i++) {
+            sizer.evaluate(1, 0);
+        }
+        assertEquals(5, sizer.getMaximumPoolSize());
+    }
+
+    @Test
+    public void testReleasesIdleConnectionsWhenUnused() {
+        AdaptivePoolSizer sizer = createSizer(2, 8);
+        assertEquals(2, sizer.getMinimumIdle());
+
+        for (int i = 0; i < UNUSED_EVALUATIONS_BEFORE_RELEASING; i++) {
+            sizer.evaluate(0, 0);
+        }
+        assertEquals(0, sizer.getMinimumIdle());
+
+        assertTrue(sizer.evaluate(1, 0));
+        assertEquals(2, sizer.getMinimumIdle());
+    }
+
+    @Test
+    public void testStartAdaptivePoolSizingResizesPoolUntilItIsClosed() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+        try {
+            AdaptivePoolSizer sizer = createSizer(1, 8);
+            AtomicBoolean isClosed = new AtomicBoolean();
+            AtomicInteger minimumIdle = new AtomicInteger(sizer.getMinimumIdle());
+            AtomicInteger maximumPoolSize = new AtomicInteger(sizer.getMaximumPoolSize());
+            ConnectionPoolHelper.startAdaptivePoolSizing(sizer, isClosed::get, () -> 5, () -> 2,
+                    minimumIdle::set, maximumPoolSize::set);
+
+            scheduler.advanceTimeBy(EVALUATION_INTERVAL);
+            assertEquals(1, minimumIdle.get());
+            assertEquals(7, maximumPoolSize.get());
+
+            // A closed pool is left alone
+            isClosed.set(true);
+            scheduler.advanceTimeBy(EVALUATION_INTERVAL.multipliedBy(2));
+            assertEquals(7, maximumPoolSize.get());
+        } finally {
+            VirtualTimeScheduler.reset();
+        }
+    }
+
+    @Test
+    public void testConnectionPoolConfigurationDefaultsAndValidation() {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        ConnectionPoolConfiguration defaults =
+                ConnectionPoolHelper.getConnectionPoolConfiguration(datasourceConfiguration, 1, 5);
+        assertEquals(1, defaults.getMinimumIdle());
+        assertEquals(5, defaults.getMaximumPoolSize());
+        assertFalse(defaults.isAdaptive());
+
+        datasourceConfiguration.setConnectionPool(ConnectionPoolConfiguration.builder()
+                .minimumIdle(0)
+                .maximumPoolSize(200)
+                .build());
+        ConnectionPoolConfiguration configured =
+                ConnectionPoolHelper.getConnectionPoolConfiguration(datasourceConfiguration, 1, 5);
+        assertEquals(0, configured.getMinimumIdle());
+        assertEquals(ConnectionPoolHelper.MAXIMUM_ALLOWED_POOL_SIZE, configured.getMaximumPoolSize());
+
+        assertTrue(ConnectionPoolHelper.validateConnectionPoolConfiguration(null).isEmpty());
+        assertTrue(ConnectionPoolHelper.validateConnectionPoolConfiguration(ConnectionPoolConfiguration.builder()
+                .minimumIdle(10)
+                .maximumPoolSize(5)
+                .build())
+                .contains("Minimum idle connections cannot be more than the maximum pool size."));
+        assertTrue(ConnectionPoolHelper.validateConnectionPoolConfiguration(datasourceConfiguration.getConnectionPool())
+                .contains("Maximum pool size must be between 1 and 50."));
+    }
+}
@@ -0,0 +1,60 @@
+package com.appsmith.external.helpers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class PreparedQueryCacheTest {
+
+    @Test
+    public void testRewritesQueryOnlyOnce() {
+        PreparedQueryCache cache = new PreparedQueryCache();
+        final String query = "SELECT * FROM users WHERE id = {{Input1.text}} AND name = '{{Input2.text}}' OR id = {{Input1.text}}";
+
+        PreparedQueryCache.PreparedQuery preparedQuery = cache.get(query);
+        assertEquals("SELECT * FROM users WHERE id = ? AND name = ? OR id = ?", preparedQuery.getQuery());
+        assertEquals(List.of("Input1.text", "Input2.text", "Input1.text"), preparedQuery.getMustacheKeysInOrder());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        assertSame(preparedQuery, cache.get(query));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testStaysWithinMaximumSize() {
+        PreparedQueryCache cache = new PreparedQueryCache(2);
+        cache.get("SELECT {{1}}");
+        cache.get("SELECT {{2}}");
+        PreparedQueryCache.PreparedQuery third = cache.get("SELECT {{3}}");
+
+        assertEquals(2, cache.size());
+        assertEquals(3, cache.getMissCount());
+        // The newest query is the one that is surely still cached
+        assertSame(third, cache.get("SELECT {{3}}"));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testConcurrentLookupsOfSameQueryGetSamePreparedQuery() {
+        PreparedQueryCache cache = new PreparedQueryCache();
+        final String query = "SELECT * FROM users WHERE id = {{Input1.text}}";
+
+        Set<PreparedQueryCache.PreparedQuery> preparedQueries = IntStream.range(0, 1000)
+                .parallel()
+                .mapToObj(i -> cache.get(query))
+                .collect(Collectors.toSet());
+
+        assertEquals(1, cache.size());
+        assertEquals(1000, cache.getHitCount() + cache.getMissCount());
+        // Lookups racing on the first miss may each rewrite the query, but they all return the one that got cached
+        assertEquals(Set.of(cache.get(query)), preparedQueries);
+    }
+}
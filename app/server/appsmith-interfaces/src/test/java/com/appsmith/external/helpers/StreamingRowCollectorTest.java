@@ -0,0 +1,117 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.Property;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StreamingRowCollectorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static Map<String, Object> row(int id, String name) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        row.put("name", name);
+        return row;
+    }
+
+    @Test
+    public void testStopsAtRowCap() {
+        StreamingRowCollector collector = new StreamingRowCollector(objectMapper, 2, Long.MAX_VALUE);
+
+        assertTrue(collector.hasCapacity());
+        collector.add(row(1, "one"));
+        collector.add(row(2, "two"));
+        assertFalse(collector.hasCapacity());
+        assertFalse(collector.isTruncated());
+
+        collector.markTruncated();
+        assertTrue(collector.isTruncated());
+        assertEquals(2, collector.getRowCount());
+        assertEquals("two", collector.getRows().get(1).get("name").asText());
+        List<String> columns = new ArrayList<>();
+        collector.getRows().get(0).fieldNames().forEachRemaining(columns::add);
+        assertEquals(List.of("id", "name"), columns);
+    }
+
+    @Test
+    public void testStopsAtSizeCap() {
+        StreamingRowCollector collector = new StreamingRowCollector(objectMapper, 100, 50);
+
+        collector.add(row(1, "a".repeat(20)));
+        assertTrue(collector.hasCapacity());
+        collector.add(row(2, "b".repeat(20)));
+        assertFalse(collector.hasCapacity());
+        assertEquals(2, collector.getRowCount());
+    }
+
+    @Test
+    public void testAddRowColumnByColumn_countsTowardsSizeCap() {
+        StreamingRowCollector collector = new StreamingRowCollector(objectMapper, 100, 50);
+
+        ObjectNode row = collector.addRow();
+        collector.addColumn(row, "id", 1);
+        collector.addColumn(row, "name", "a".repeat(20));
+        assertTrue(collector.hasCapacity());
+        row = collector.addRow();
+        collector.addColumn(row, "id", 2);
+        collector.addColumn(row, "name", "b".repeat(20));
+        assertFalse(collector.hasCapacity());
+
+        assertEquals(2, collector.getRowCount());
+        List<String> columns = new ArrayList<>();
+        collector.getRows().get(1).fieldNames().forEachRemaining(columns::add);
+        assertEquals(List.of("id", "name"), columns);
+    }
+
+    @Test
+    public void testEstimateSize() {
+        assertEquals(4, StreamingRowCollector.estimateSize(null));
+        assertEquals(7, StreamingRowCollector.estimateSize(new TextNode("hello")));
+        // Serialized as {"id":12,"tags":["a","b"]}, which is 26 characters long
+        assertEquals(28, StreamingRowCollector.estimateSize(
+                objectMapper.valueToTree(Map.of("id", 12, "tags", List.of("a", "b")))));
+    }
+
+    @Test
+    public void testSettingsFromPluginSpecifiedTemplates() {
+        List<Property> templates = List.of(new Property(null, "true"), new Property(null, " 250 "));
+        assertTrue(StreamingRowCollector.isStreamingEnabled(templates, 0));
+        assertEquals(250, StreamingRowCollector.getMaxRows(templates, 1));
+
+        List<Property> invalid = List.of(new Property(null, false), new Property(null, "-1"));
+        assertFalse(StreamingRowCollector.isStreamingEnabled(invalid, 0));
+        assertEquals(StreamingRowCollector.DEFAULT_MAX_ROWS, StreamingRowCollector.getMaxRows(invalid, 1));
+
+        assertFalse(StreamingRowCollector.isStreamingEnabled(null, 0));
+        assertEquals(StreamingRowCollector.DEFAULT_MAX_ROWS, StreamingRowCollector.getMaxRows(null, 1));
+        assertEquals(250, StreamingRowCollector.getPositiveInt(templates, 1, Integer.MAX_VALUE));
+        assertEquals(Integer.MAX_VALUE, StreamingRowCollector.getPositiveInt(invalid, 1, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testIsReadOnlyQuery() {
+        assertTrue(StreamingRowCollector.isReadOnlyQuery("SELECT * FROM users;"));
+        assertTrue(StreamingRowCollector.isReadOnlyQuery("-- all users\n/* paged */ select id from users where id > ?"));
+        assertTrue(StreamingRowCollector.isReadOnlyQuery("WITH recent AS (SELECT * FROM orders) SELECT * FROM recent"));
+
+        assertFalse(StreamingRowCollector.isReadOnlyQuery(null));
+        assertFalse(StreamingRowCollector.isReadOnlyQuery("INSERT INTO users VALUES (1)"));
+        assertFalse(StreamingRowCollector.isReadOnlyQuery("SELECT * INTO backup FROM users"));
+        assertFalse(StreamingRowCollector.isReadOnlyQuery("SELECT * FROM users FOR UPDATE"));
+        assertFalse(StreamingRowCollector.isReadOnlyQuery("SELECT 1; DELETE FROM users"));
+        assertFalse(StreamingRowCollector.isReadOnlyQuery("WITH gone AS (DELETE FROM users RETURNING *) SELECT * FROM gone"));
+        assertFalse(StreamingRowCollector.isReadOnlyQuery("/* unterminated comment SELECT 1"));
+    }
+}
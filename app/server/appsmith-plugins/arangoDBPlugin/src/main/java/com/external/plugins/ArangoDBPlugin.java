@@ -1,6 +1,7 @@
 package com.external.plugins;
 
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.StreamingRowCollector;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -9,6 +10,7 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.RequestParamDTO;
@@ -21,6 +23,7 @@ import com.arangodb.ArangoDBException;
 import com.arangodb.ArangoDatabase;
 import com.arangodb.Protocol;
 import com.arangodb.entity.CollectionEntity;
+import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.model.CollectionsReadOptions;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
@@ -45,6 +48,9 @@ import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.helpers.PluginUtils.MATCH_QUOTED_WORDS_REGEX;
+import static com.appsmith.external.helpers.StreamingRowCollector.DEFAULT_MAX_BYTES;
+import static com.appsmith.external.helpers.StreamingRowCollector.getPositiveInt;
+import static com.appsmith.external.helpers.StreamingRowCollector.isStreamingEnabled;
 import static com.external.utils.SSLUtils.isCaCertificateAvailable;
 import static com.external.utils.SSLUtils.setSSLContext;
 import static com.external.utils.SSLUtils.setSSLParam;
@@ -57,6 +63,12 @@ public class ArangoDBPlugin extends BasePlugin {
     private static String WRITES_EXECUTED_KEY = "writesExecuted";
     private static String WRITES_IGNORED_KEY = "writesIgnored";
     private static String RETURN_KEY = "return";
+    private static final int STREAM_CURSOR_INDEX = 0;
+    private static final int BATCH_SIZE_INDEX = 1;
+    private static final int TTL_INDEX = 2;
+    private static final int MAX_DOCUMENTS_INDEX = 3;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int DEFAULT_TTL_SECONDS = 30;
 
     public ArangoDBPlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -91,21 +103,48 @@ public class ArangoDBPlugin extends BasePlugin {
 
             return Mono.fromCallable(() -> {
                         log.debug("In the ArangoDBPlugin, got action execution result");
-                        ArangoCursor<Map> cursor = db.query(query, null, null, Map.class);
+                        final List<Property> pluginSpecifiedTemplates = actionConfiguration.getPluginSpecifiedTemplates();
+                        ArangoCursor<Map> cursor = db.query(query, null, getQueryOptions(pluginSpecifiedTemplates), Map.class);
                         ActionExecutionResult result = new ActionExecutionResult();
                         result.setIsExecutionSuccess(true);
-                        List<Map> docList = new ArrayList<>();
 
                         if (isUpdateQuery(query)) {
+                            List<Map> docList = new ArrayList<>();
                             Map<String, Long> updateCount = new HashMap<>();
                             updateCount.put(WRITES_EXECUTED_KEY, cursor.getStats().getWritesExecuted());
                             updateCount.put(WRITES_IGNORED_KEY, cursor.getStats().getWritesIgnored());
                             docList.add(updateCount);
-                        } else {
-                            docList.addAll(cursor.asListRemaining());
+                            result.setBody(objectMapper.valueToTree(docList));
+                            cursor.close();
+                            return result;
                         }
 
-                        result.setBody(objectMapper.valueToTree(docList));
+                        /*
+                         * - Documents are read off the cursor one batch at a time, straight into the response, until
+                         *   either the document cap, if one is set, or the size cap is reached. Either way the result
+                         *   is then marked as truncated, with a message for the user.
+                         * - Closing the cursor early deletes it on the server, so the remaining batches are never
+                         *   computed (for streaming cursors) or sent.
+                         */
+                        final StreamingRowCollector documents = new StreamingRowCollector(objectMapper,
+                                getPositiveInt(pluginSpecifiedTemplates, MAX_DOCUMENTS_INDEX, Integer.MAX_VALUE), DEFAULT_MAX_BYTES);
+                        try {
+                            while (cursor.hasNext()) {
+                                if (!documents.hasCapacity()) {
+                                    documents.markTruncated();
+                                    break;
+                                }
+                                documents.add(cursor.next());
+                            }
+                        } finally {
+                            cursor.close();
+                        }
+
+                        result.setBody(documents.getRows());
+                        if (documents.isTruncated()) {
+                            result.setTruncated(true);
+                            result.setMessages(Set.of(documents.getTruncationMessage()));
+                        }
 
                         return result;
                     })
@@ -126,6 +165,18 @@ public class ArangoDBPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * - Batch size, TTL and the streaming mode of the AQL cursor, as set in the action settings.
+         * - A streaming cursor computes the result lazily, as the batches are fetched, instead of computing it all
+         * upfront and holding it on the server until the cursor is fully read or its TTL expires.
+         */
+        AqlQueryOptions getQueryOptions(List<Property> pluginSpecifiedTemplates) {
+            return new AqlQueryOptions()
+                    .batchSize(getPositiveInt(pluginSpecifiedTemplates, BATCH_SIZE_INDEX, DEFAULT_BATCH_SIZE))
+                    .ttl(getPositiveInt(pluginSpecifiedTemplates, TTL_INDEX, DEFAULT_TTL_SECONDS))
+                    .stream(isStreamingEnabled(pluginSpecifiedTemplates, STREAM_CURSOR_INDEX));
+        }
+
         /**
          * - In ArangoDB query language, any non-update query is indicated by the use of keyword RETURN.
          * - This method checks if the query provided by user has the RETURN keyword or not. To do so, it first
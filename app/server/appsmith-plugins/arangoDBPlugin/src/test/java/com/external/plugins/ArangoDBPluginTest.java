@@ -8,6 +8,7 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.SSLDetails;
 import com.arangodb.ArangoCollection;
 import com.arangodb.ArangoDB;
@@ -15,6 +16,7 @@ import com.arangodb.ArangoDatabase;
 import com.arangodb.Protocol;
 import com.arangodb.entity.CollectionType;
 import com.arangodb.entity.Permissions;
+import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.model.CollectionCreateOptions;
 import com.arangodb.model.CollectionSchema;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -36,7 +38,9 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Testcontainers
@@ -262,6 +266,88 @@ public class ArangoDBPluginTest {
                 .verifyComplete();
     }
 
+    private static ActionConfiguration createActionConfiguration(String query, String stream, String batchSize,
+                                                                 String ttl, String maxDocuments) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(query);
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(
+                new Property("streamCursor", stream),
+                new Property("batchSize", batchSize),
+                new Property("ttl", ttl),
+                new Property("maxDocuments", maxDocuments)
+        ));
+        return actionConfiguration;
+    }
+
+    @Test
+    public void testGetQueryOptions_withSettings_usesSettings() {
+        AqlQueryOptions options = pluginExecutor.getQueryOptions(
+                createActionConfiguration("", "true", "50", "120", "").getPluginSpecifiedTemplates());
+
+        assertEquals(50, options.getBatchSize());
+        assertEquals(120, options.getTtl());
+        assertTrue(options.getStream());
+    }
+
+    @Test
+    public void testGetQueryOptions_withoutOrWithInvalidSettings_usesDefaults() {
+        AqlQueryOptions options = pluginExecutor.getQueryOptions(null);
+        assertEquals(1000, options.getBatchSize());
+        assertEquals(30, options.getTtl());
+        assertFalse(options.getStream());
+
+        options = pluginExecutor.getQueryOptions(
+                createActionConfiguration("", "false", "-5", "abc", "").getPluginSpecifiedTemplates());
+        assertEquals(1000, options.getBatchSize());
+        assertEquals(30, options.getTtl());
+        assertFalse(options.getStream());
+    }
+
+    @Test
+    public void testExecuteReadQuery_withDocumentCap_returnsFirstDocumentsAsTruncated() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<ArangoDatabase> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        // A streaming cursor with small batches, so that the cap is hit in the middle of a batch
+        ActionConfiguration actionConfiguration = createActionConfiguration(
+                "FOR i IN 1..100 RETURN { n: i }", "true", "10", "60", "25");
+
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertTrue(result.getTruncated());
+                    assertEquals(1, result.getMessages().size());
+
+                    ArrayNode documents = (ArrayNode) result.getBody();
+                    assertEquals(25, documents.size());
+                    assertEquals(25, documents.get(24).get("n").asInt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteReadQuery_withoutDocumentCap_returnsAllDocuments() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<ArangoDatabase> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = createActionConfiguration(
+                "FOR i IN 1..12000 RETURN { n: i }", "false", "", "", "");
+
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertNull(result.getTruncated());
+                    assertEquals(12000, ((ArrayNode) result.getBody()).size());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testStructure() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -14,6 +14,8 @@ public class FieldName {
     public static final String ORDER_BY = "orderBy";
     public static final String START_AFTER = "startAfter";
     public static final String END_BEFORE = "endBefore";
+    public static final String PAGINATION_MODE = "paginationMode";
+    public static final String MAX_DOCUMENTS = "maxDocuments";
     public static final String WHERE = "where";
     public static final String CHILDREN = "children";
     public static final String SMART_SUBSTITUTION = "smartSubstitution";
@@ -27,6 +27,7 @@ import com.google.cloud.firestore.DocumentSnapshot;
 import com.google.cloud.firestore.FieldValue;
 import com.google.cloud.firestore.Firestore;
 import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
 import com.google.cloud.firestore.QuerySnapshot;
 import com.google.cloud.firestore.WriteResult;
 import com.google.firebase.FirebaseApp;
@@ -41,6 +42,8 @@ import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -53,7 +56,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -67,14 +70,17 @@ import static com.external.constants.FieldName.COMMAND;
 import static com.external.constants.FieldName.DELETE_KEY_PATH;
 import static com.external.constants.FieldName.END_BEFORE;
 import static com.external.constants.FieldName.LIMIT_DOCUMENTS;
+import static com.external.constants.FieldName.MAX_DOCUMENTS;
 import static com.external.constants.FieldName.NEXT;
 import static com.external.constants.FieldName.ORDER_BY;
+import static com.external.constants.FieldName.PAGINATION_MODE;
 import static com.external.constants.FieldName.PATH;
 import static com.external.constants.FieldName.PREV;
 import static com.external.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.constants.FieldName.START_AFTER;
 import static com.external.constants.FieldName.TIMESTAMP_VALUE_PATH;
 import static com.external.constants.FieldName.WHERE;
+import static com.external.utils.ApiFutureUtils.toMono;
 import static com.external.utils.WhereConditionUtils.applyWhereConditional;
 import static java.lang.Boolean.TRUE;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -100,8 +106,29 @@ public class FirestorePlugin extends BasePlugin {
     @Extension
     public static class FirestorePluginExecutor implements PluginExecutor<Firestore>, SmartSubstitutionInterface {
 
+        private static final String ALL_PAGES_PAGINATION_MODE = "ALL_PAGES";
+
+        private static final int DEFAULT_MAX_DOCUMENTS = 1000;
+
+        /*
+         * - Reflected `DocumentReference` and `FieldValue` methods, keyed by class, method name and parameter count, so
+         *   that each of them is looked up only once instead of on every execution.
+         */
+        private static final Map<String, java.lang.reflect.Method> reflectedMethods = new ConcurrentHashMap<>();
+
         private final Scheduler scheduler = Schedulers.elastic();
 
+        private static java.lang.reflect.Method getReflectedMethod(Class<?> type, String methodName,
+                                                                   Class<?>... parameterTypes) throws NoSuchMethodException {
+            final String key = type.getName() + "#" + methodName + "/" + parameterTypes.length;
+            java.lang.reflect.Method method = reflectedMethods.get(key);
+            if (method == null) {
+                method = type.getMethod(methodName, parameterTypes);
+                reflectedMethods.put(key, method);
+            }
+            return method;
+        }
+
         @Override
         @Deprecated
         public Mono<ActionExecutionResult> execute(Firestore connection,
@@ -475,7 +502,7 @@ public class FirestorePlugin extends BasePlugin {
                                      *   specified obj argument is ignored. It may be null.
                                      * - Ref: https://docs.oracle.com/javase/8/docs/api/java/lang/reflect/Method.html#invoke-java.lang.Object-java.lang.Object...-
                                      */
-                                    FieldValue.class.getMethod(fieldValueName).invoke(null)
+                                    getReflectedMethod(FieldValue.class, fieldValueName).invoke(null)
                             );
                         } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
                             /*
@@ -504,13 +531,13 @@ public class FirestorePlugin extends BasePlugin {
                             switch (method1) {
                                 case GET_DOCUMENT:
                                 case DELETE_DOCUMENT:
-                                    return Mono.justOrEmpty(DocumentReference.class.getMethod(methodName));
+                                    return Mono.justOrEmpty(getReflectedMethod(DocumentReference.class, methodName));
                                 case SET_DOCUMENT:
                                 case CREATE_DOCUMENT:
                                 case UPDATE_DOCUMENT:
                                     requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null,
                                             null, null));
-                                    return Mono.justOrEmpty(DocumentReference.class.getMethod(methodName, Map.class));
+                                    return Mono.justOrEmpty(getReflectedMethod(DocumentReference.class, methodName, Map.class));
                                 default:
                                     return Mono.error(new AppsmithPluginException(
                                             AppsmithPluginError.PLUGIN_ERROR,
@@ -549,15 +576,8 @@ public class FirestorePlugin extends BasePlugin {
 
                         return Mono.just((ApiFuture<Object>) objFuture);
                     })
-                    // Consume the Future to get the actual result object.
-                    .flatMap(resultFuture -> {
-                        try {
-
-                            return Mono.just(resultFuture.get());
-                        } catch (InterruptedException | ExecutionException e) {
-                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
-                        }
-                    })
+                    // Consume the Future to get the actual result object, without blocking on it.
+                    .flatMap(resultFuture -> toMono(resultFuture))
                     // Build a response object with the result.
                     .flatMap(objResult1 -> {
                         ActionExecutionResult result = new ActionExecutionResult();
@@ -649,6 +669,38 @@ public class FirestorePlugin extends BasePlugin {
             requestParams.add(new RequestParamDTO(LIMIT_DOCUMENTS, limitString == null ? "" : limitString, null, null
                     , null));
 
+            /*
+             * - In the all pages mode, the query follows the cursor page by page, up to the maximum documents.
+             * - Going to the previous page of a paginated table still fetches just that one page.
+             */
+            final boolean isAllPagesMode = !PaginationField.PREV.equals(paginationField)
+                    && ALL_PAGES_PAGINATION_MODE.equals(getDataValueSafelyFromFormData(formData, PAGINATION_MODE,
+                    STRING_TYPE));
+            final int maxDocuments;
+            if (isAllPagesMode) {
+                final String maxDocumentsString = getDataValueSafelyFromFormData(formData, MAX_DOCUMENTS, STRING_TYPE);
+                requestParams.add(new RequestParamDTO(MAX_DOCUMENTS, maxDocumentsString == null ? "" :
+                        maxDocumentsString, null, null, null));
+                try {
+                    maxDocuments = StringUtils.isBlank(maxDocumentsString)
+                            ? DEFAULT_MAX_DOCUMENTS
+                            : Integer.parseInt(maxDocumentsString.trim());
+                } catch (NumberFormatException e) {
+                    return Mono.error(new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            "Maximum documents should be a number, but found: " + maxDocumentsString
+                    ));
+                }
+                if (maxDocuments <= 0) {
+                    return Mono.error(new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            "Maximum documents should be a positive number, but found: " + maxDocumentsString
+                    ));
+                }
+            } else {
+                maxDocuments = limit;
+            }
+
             final Map<String, Object> startAfter = startAfterTemp;
             final Map<String, Object> endBefore = endBeforeTemp;
 
@@ -718,36 +770,69 @@ public class FirestorePlugin extends BasePlugin {
                         return Mono.just(query1);
                     })
                     // Apply limit, always provided, since without it we can inadvertently end up processing too much data.
-                    .map(query1 -> {
-                        if (PaginationField.PREV.equals(paginationField) && !CollectionUtils.isEmpty(endBefore)) {
-                            return query1.limitToLast(limit);
+                    // In the all pages mode, the limit is the page size instead, and is applied on each page.
+                    .flatMap(query1 -> {
+                        if (isAllPagesMode) {
+                            return getAllPages(query1, limit, maxDocuments);
                         }
-                        return query1.limit(limit);
-                    })
-                    // Run the Firestore query to get a Future of the results.
-                    .map(Query::get)
-                    // Consume the future to get the actual results.
-                    .flatMap(resultFuture -> {
-                        try {
-                            return Mono.just(resultFuture.get());
-                        } catch (InterruptedException | ExecutionException e) {
-                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
+
+                        final Query limitedQuery;
+                        if (PaginationField.PREV.equals(paginationField) && !CollectionUtils.isEmpty(endBefore)) {
+                            limitedQuery = query1.limitToLast(limit);
+                        } else {
+                            limitedQuery = query1.limit(limit);
                         }
+                        // Run the Firestore query, and consume the results without blocking on them.
+                        return toMono(limitedQuery.get())
+                                .map(querySnapshot -> Tuples.of(querySnapshot.getDocuments(), false));
                     })
-                    // Build response object with the results from the Future.
-                    .flatMap(objResult1 -> {
+                    // Build response object with the results.
+                    .flatMap(documentsAndTruncated -> {
                         ActionExecutionResult result = new ActionExecutionResult();
                         try {
-                            result.setBody(resultToMap(objResult1));
+                            result.setBody(resultToMap(documentsAndTruncated.getT1()));
                         } catch (AppsmithPluginException e) {
                             return Mono.error(e);
                         }
+                        if (Boolean.TRUE.equals(documentsAndTruncated.getT2())) {
+                            result.setTruncated(true);
+                            hintMessages.add("The result has been truncated to its first " + maxDocuments + " " +
+                                    "documents. Please add a where condition, or increase the maximum documents, to " +
+                                    "fetch the documents you need.");
+                        }
                         result.setIsExecutionSuccess(true);
                         log.debug("In the Firestore Plugin, got action execution result for get collection");
                         return Mono.just(result);
                     });
         }
 
+        /**
+         * Runs the query page by page, each page starting after the last document of the previous page, until either the
+         * query runs out of documents or more than `maxDocuments` documents have been read. One document past
+         * `maxDocuments` is read to tell whether the query has more documents. Returns the first `maxDocuments`
+         * documents, along with whether the result has been truncated at `maxDocuments`.
+         */
+        private Mono<Tuple2<List<QueryDocumentSnapshot>, Boolean>> getAllPages(Query query, int pageSize,
+                                                                               int maxDocuments) {
+            final List<QueryDocumentSnapshot> documents = new ArrayList<>();
+            final int documentsToRead = maxDocuments < Integer.MAX_VALUE ? maxDocuments + 1 : maxDocuments;
+
+            return toMono(query.limit(Math.min(pageSize, documentsToRead)).get())
+                    .expand(page -> {
+                        documents.addAll(page.getDocuments());
+                        final int remaining = documentsToRead - documents.size();
+                        if (page.size() < pageSize || remaining <= 0) {
+                            return Mono.empty();
+                        }
+
+                        final QueryDocumentSnapshot lastDocument = page.getDocuments().get(page.size() - 1);
+                        return toMono(query.startAfter(lastDocument).limit(Math.min(pageSize, remaining)).get());
+                    })
+                    .then(Mono.fromSupplier(() -> documents.size() > maxDocuments
+                            ? Tuples.of(documents.subList(0, maxDocuments), true)
+                            : Tuples.of(documents, false)));
+        }
+
         private boolean isWhereMethodUsed(Map<String, Object> formData) {
             final Map<String, List<Object>> childrenMap = getDataValueSafelyFromFormData(formData, WHERE, new TypeReference<>() {
                     }
@@ -776,16 +861,7 @@ public class FirestorePlugin extends BasePlugin {
 
         private Mono<ActionExecutionResult> methodAddToCollection(CollectionReference collection, Map<String, Object> mapBody) {
             return Mono.justOrEmpty(collection.add(mapBody))
-                    .flatMap(future -> {
-                        try {
-                            return Mono.just(future.get());
-                        } catch (InterruptedException | ExecutionException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_ERROR,
-                                    e.getMessage()
-                            ));
-                        }
-                    })
+                    .flatMap(future -> toMono(future))
                     .flatMap(opResult -> {
                         ActionExecutionResult result = new ActionExecutionResult();
                         try {
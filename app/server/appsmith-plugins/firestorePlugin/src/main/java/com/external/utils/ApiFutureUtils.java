@@ -0,0 +1,37 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
+import reactor.core.publisher.Mono;
+
+public class ApiFutureUtils {
+
+    /**
+     * Bridges a Firestore future to a Mono, through a completion callback. Unlike calling `get()` on the future, this
+     * doesn't block any thread while the RPC is in flight.
+     * <p>
+     * The callback runs on the thread completing the future, i.e. a Firestore client thread, hence the downstream
+     * operators should not block.
+     */
+    public static <T> Mono<T> toMono(ApiFuture<T> future) {
+        return Mono.create(sink -> {
+            ApiFutures.addCallback(future, new ApiFutureCallback<T>() {
+                @Override
+                public void onSuccess(T result) {
+                    sink.success(result);
+                }
+
+                @Override
+                public void onFailure(Throwable throwable) {
+                    sink.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, throwable.toString()));
+                }
+            }, MoreExecutors.directExecutor());
+
+            sink.onCancel(() -> future.cancel(true));
+        });
+    }
+}
@@ -60,8 +60,10 @@ import static com.external.constants.FieldName.COMMAND;
 import static com.external.constants.FieldName.DELETE_KEY_PATH;
 import static com.external.constants.FieldName.END_BEFORE;
 import static com.external.constants.FieldName.LIMIT_DOCUMENTS;
+import static com.external.constants.FieldName.MAX_DOCUMENTS;
 import static com.external.constants.FieldName.NEXT;
 import static com.external.constants.FieldName.ORDER_BY;
+import static com.external.constants.FieldName.PAGINATION_MODE;
 import static com.external.constants.FieldName.PATH;
 import static com.external.constants.FieldName.PREV;
 import static com.external.constants.FieldName.START_AFTER;
@@ -704,6 +706,96 @@ public class FirestorePluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testGetAllPagesInCollection() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "GET_COLLECTION");
+        setDataValueSafelyInFormData(configMap, ORDER_BY, "[\"n\"]");
+        setDataValueSafelyInFormData(configMap, LIMIT_DOCUMENTS, "4");
+        setDataValueSafelyInFormData(configMap, PAGINATION_MODE, "ALL_PAGES");
+        setDataValueSafelyInFormData(configMap, MAX_DOCUMENTS, "10");
+        setDataValueSafelyInFormData(configMap, PATH, "pagination");
+        actionConfiguration.setFormData(configMap);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor
+                .executeParameterized(firestoreConnection, new ExecuteActionDTO(), dsConfig, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertTrue(result.getTruncated());
+
+                    List<Map<String, Object>> results = (List) result.getBody();
+                    final List<Object> numbers = results.stream().map(d -> d.get("n")).collect(Collectors.toList());
+                    assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), numbers);
+                })
+                .verifyComplete();
+
+        // With a cap above the size of the collection, all the documents are fetched.
+        setDataValueSafelyInFormData(configMap, MAX_DOCUMENTS, "100");
+
+        StepVerifier.create(pluginExecutor
+                        .executeParameterized(firestoreConnection, new ExecuteActionDTO(), dsConfig, actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertNull(result.getTruncated());
+                    assertEquals(15, ((List) result.getBody()).size());
+                })
+                .verifyComplete();
+
+        // With a cap at exactly the size of the collection, nothing is left out and the result is not truncated.
+        setDataValueSafelyInFormData(configMap, MAX_DOCUMENTS, "15");
+
+        StepVerifier.create(pluginExecutor
+                        .executeParameterized(firestoreConnection, new ExecuteActionDTO(), dsConfig, actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertNull(result.getTruncated());
+                    assertEquals(15, ((List) result.getBody()).size());
+                })
+                .verifyComplete();
+
+        // With a cap one short of the size of the collection, the result is truncated.
+        setDataValueSafelyInFormData(configMap, MAX_DOCUMENTS, "14");
+
+        StepVerifier.create(pluginExecutor
+                        .executeParameterized(firestoreConnection, new ExecuteActionDTO(), dsConfig, actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertTrue(result.getTruncated());
+                    assertEquals(14, ((List) result.getBody()).size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testGetAllPagesInCollectionWithInvalidMaxDocuments() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "GET_COLLECTION");
+        setDataValueSafelyInFormData(configMap, ORDER_BY, "[\"n\"]");
+        setDataValueSafelyInFormData(configMap, LIMIT_DOCUMENTS, "4");
+        setDataValueSafelyInFormData(configMap, PAGINATION_MODE, "ALL_PAGES");
+        setDataValueSafelyInFormData(configMap, PATH, "pagination");
+        actionConfiguration.setFormData(configMap);
+
+        for (String maxDocuments : List.of("0", "-1")) {
+            setDataValueSafelyInFormData(configMap, MAX_DOCUMENTS, maxDocuments);
+
+            StepVerifier.create(pluginExecutor
+                            .executeParameterized(firestoreConnection, new ExecuteActionDTO(), dsConfig, actionConfiguration))
+                    .assertNext(result -> {
+                        assertFalse(result.getIsExecutionSuccess());
+                        assertEquals("Maximum documents should be a positive number, but found: " + maxDocuments,
+                                result.getBody());
+                    })
+                    .verifyComplete();
+        }
+    }
+
     @Test
     public void testGetDocumentsInCollectionOrdering2() {
         ActionConfiguration actionConfiguration = new ActionConfiguration();
@@ -6,11 +6,14 @@ import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.AdaptivePoolSizer;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
-import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.PreparedQueryCache;
+import com.appsmith.external.helpers.StreamingRowCollector;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolConfiguration;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Endpoint;
@@ -24,7 +27,10 @@ import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
 import com.zaxxer.hikari.pool.HikariPool;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
@@ -64,10 +70,19 @@ import java.util.Set;
 import java.util.stream.IntStream;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getConnectionPoolConfiguration;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getPoolName;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.startAdaptivePoolSizing;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.validateConnectionPoolConfiguration;
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
+import static com.appsmith.external.helpers.StreamingRowCollector.DEFAULT_MAX_BYTES;
+import static com.appsmith.external.helpers.StreamingRowCollector.FETCH_SIZE;
+import static com.appsmith.external.helpers.StreamingRowCollector.getMaxRows;
+import static com.appsmith.external.helpers.StreamingRowCollector.isReadOnlyQuery;
+import static com.appsmith.external.helpers.StreamingRowCollector.isStreamingEnabled;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 
@@ -88,6 +103,10 @@ public class MssqlPlugin extends BasePlugin {
 
     private static final long MS_SQL_DEFAULT_PORT = 1433L;
 
+    // Number of prepared statement handles the driver keeps per connection, keyed by the SQL text, so that re-running a
+    // query reuses its handle on the server instead of preparing it again.
+    private static final int STATEMENT_POOLING_CACHE_SIZE = 256;
+
     public MssqlPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -102,6 +121,23 @@ public class MssqlPlugin extends BasePlugin {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
+        private static final int STREAMING_INDEX = 1;
+
+        private static final int MAX_ROWS_INDEX = 2;
+
+        private static final PreparedQueryCache preparedQueryCache = new PreparedQueryCache();
+
+        static {
+            FunctionCounter.builder("appsmith.plugin.prepared.query.cache", preparedQueryCache, PreparedQueryCache::getHitCount)
+                    .description("Lookups of the prepared statement form of the queries, by result")
+                    .tags("plugin", "mssql", "result", "hit")
+                    .register(Metrics.globalRegistry);
+            FunctionCounter.builder("appsmith.plugin.prepared.query.cache", preparedQueryCache, PreparedQueryCache::getMissCount)
+                    .description("Lookups of the prepared statement form of the queries, by result")
+                    .tags("plugin", "mssql", "result", "miss")
+                    .register(Metrics.globalRegistry);
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * to use PreparedStatement (if configured) which requires the variable substitution, etc. to happen in a particular format
@@ -155,11 +191,10 @@ public class MssqlPlugin extends BasePlugin {
             }
 
             //Prepared Statement
-            // First extract all the bindings in order
-            List<String> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
-            // Replace all the bindings with a ? as expected in a prepared statement.
-            String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
-            actionConfiguration.setBody(updatedQuery);
+            // Replace all the bindings with a ? as expected in a prepared statement, unless already done for this query.
+            PreparedQueryCache.PreparedQuery preparedQuery = preparedQueryCache.get(query);
+            List<String> mustacheKeysInOrder = preparedQuery.getMustacheKeysInOrder();
+            actionConfiguration.setBody(preparedQuery.getQuery());
             return executeCommon(hikariDSConnection, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO);
         }
 
@@ -177,6 +212,9 @@ public class MssqlPlugin extends BasePlugin {
             String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(query) : query;
             List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY,
                     transformedQuery, null, null, psParams));
+            final List<Property> pluginSpecifiedTemplates = actionConfiguration.getPluginSpecifiedTemplates();
+            // Streaming may cancel the statement before it completes, hence it is only used for read only queries
+            final boolean isStreaming = isStreamingEnabled(pluginSpecifiedTemplates, STREAMING_INDEX) && isReadOnlyQuery(query);
 
             return Mono.fromCallable(() -> {
 
@@ -187,6 +225,9 @@ public class MssqlPlugin extends BasePlugin {
                         ResultSet resultSet = null;
                         List<Map<String, Object>> rowsList = new ArrayList<>(50);
                         final List<String> columnsList = new ArrayList<>();
+                        final StreamingRowCollector streamingRows = isStreaming
+                                ? new StreamingRowCollector(objectMapper, getMaxRows(pluginSpecifiedTemplates, MAX_ROWS_INDEX), DEFAULT_MAX_BYTES)
+                                : null;
 
                         try {
                             sqlConnectionFromPool = getConnectionFromConnectionPool(hikariDSConnection);
@@ -225,12 +266,20 @@ public class MssqlPlugin extends BasePlugin {
                                 query, activeConnections, idleConnections, threadsAwaitingConnection, totalConnections);
 
                         try {
+                            // In the streaming mode, the rows are read with the adaptive response buffering of the driver,
+                            // which is its default, i.e. only as they are consumed, a batch of rows at a time.
                             if (FALSE.equals(preparedStatement)) {
                                 statement = sqlConnectionFromPool.createStatement();
+                                if (streamingRows != null) {
+                                    statement.setFetchSize(FETCH_SIZE);
+                                }
                                 isResultSet = statement.execute(query);
                                 resultSet = statement.getResultSet();
                             } else {
                                 preparedQuery = sqlConnectionFromPool.prepareStatement(query);
+                                if (streamingRows != null) {
+                                    preparedQuery.setFetchSize(FETCH_SIZE);
+                                }
 
                                 List<Map.Entry<String, String>> parameters = new ArrayList<>();
                                 preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(preparedQuery,
@@ -255,13 +304,24 @@ public class MssqlPlugin extends BasePlugin {
                                         ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0) :
                                         ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-                                rowsList.add(Map.of("affectedRows", updateCount));
+                                if (streamingRows != null) {
+                                    streamingRows.add(Map.of("affectedRows", updateCount));
+                                } else {
+                                    rowsList.add(Map.of("affectedRows", updateCount));
+                                }
                             } else {
                                 ResultSetMetaData metaData = resultSet.getMetaData();
                                 int colCount = metaData.getColumnCount();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
                                 while (resultSet.next()) {
+                                    if (streamingRows != null && !streamingRows.hasCapacity()) {
+                                        streamingRows.markTruncated();
+                                        // Otherwise closing the statement would read through the rest of the result.
+                                        (statement != null ? statement : preparedQuery).cancel();
+                                        break;
+                                    }
+
                                     // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
                                     Map<String, Object> row = new LinkedHashMap<>(colCount);
 
@@ -302,7 +362,11 @@ public class MssqlPlugin extends BasePlugin {
                                         row.put(metaData.getColumnName(i), value);
                                     }
 
-                                    rowsList.add(row);
+                                    if (streamingRows != null) {
+                                        streamingRows.add(row);
+                                    } else {
+                                        rowsList.add(row);
+                                    }
                                 }
 
                             }
@@ -339,8 +403,17 @@ public class MssqlPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
-                        result.setMessages(populateHintMessages(columnsList));
+                        Set<String> messages = populateHintMessages(columnsList);
+                        if (streamingRows != null) {
+                            result.setBody(streamingRows.getRows());
+                            if (streamingRows.isTruncated()) {
+                                result.setTruncated(true);
+                                messages.add(streamingRows.getTruncationMessage());
+                            }
+                        } else {
+                            result.setBody(objectMapper.valueToTree(rowsList));
+                        }
+                        result.setMessages(messages);
                         result.setIsExecutionSuccess(true);
                         log.debug("In the MssqlPlugin, got action execution result");
                         return Mono.just(result);
@@ -428,6 +501,8 @@ public class MssqlPlugin extends BasePlugin {
 
             }
 
+            invalids.addAll(validateConnectionPoolConfiguration(datasourceConfiguration.getConnectionPool()));
+
             return invalids;
         }
 
@@ -539,12 +614,39 @@ public class MssqlPlugin extends BasePlugin {
         DBAuth authentication = null;
         StringBuilder urlBuilder = null;
         HikariConfig hikariConfig = null;
-        HikariDataSource hikariDatasource = null;
+        final HikariDataSource hikariDatasource;
 
         hikariConfig = new HikariConfig();
         hikariConfig.setDriverClassName(JDBC_DRIVER);
-        hikariConfig.setMinimumIdle(MINIMUM_POOL_SIZE);
-        hikariConfig.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+
+        // Set pool size and timeouts, as configured for the datasource
+        ConnectionPoolConfiguration poolConfiguration =
+                getConnectionPoolConfiguration(datasourceConfiguration, MINIMUM_POOL_SIZE, MAXIMUM_POOL_SIZE);
+        String poolName = getPoolName("mssql");
+        AdaptivePoolSizer adaptivePoolSizer = poolConfiguration.isAdaptive()
+                ? new AdaptivePoolSizer(poolName, poolConfiguration, MAXIMUM_POOL_SIZE)
+                : null;
+        hikariConfig.setPoolName(poolName);
+        if (adaptivePoolSizer != null) {
+            hikariConfig.setMinimumIdle(adaptivePoolSizer.getMinimumIdle());
+            hikariConfig.setMaximumPoolSize(adaptivePoolSizer.getMaximumPoolSize());
+        } else {
+            hikariConfig.setMinimumIdle(poolConfiguration.getMinimumIdle());
+            hikariConfig.setMaximumPoolSize(poolConfiguration.getMaximumPoolSize());
+        }
+        if (poolConfiguration.getIdleTimeoutInMillis() != null) {
+            hikariConfig.setIdleTimeout(poolConfiguration.getIdleTimeoutInMillis());
+        }
+        if (poolConfiguration.getMaxLifetimeInMillis() != null) {
+            hikariConfig.setMaxLifetime(poolConfiguration.getMaxLifetimeInMillis());
+        }
+        if (poolConfiguration.getConnectionTimeoutInMillis() != null) {
+            hikariConfig.setConnectionTimeout(poolConfiguration.getConnectionTimeoutInMillis());
+        }
+
+        // Export the pool statistics as `hikaricp.*` metrics, tagged with the pool name
+        hikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(Metrics.globalRegistry));
+
         // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
         // should get tracked (may be falsely for long running queries) as leaked connection
         hikariConfig.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
@@ -588,6 +690,12 @@ public class MssqlPlugin extends BasePlugin {
                     .append(";");
         }
 
+        urlBuilder
+                .append("disableStatementPooling=false;")
+                .append("statementPoolingCacheSize=")
+                .append(STATEMENT_POOLING_CACHE_SIZE)
+                .append(";");
+
         hikariConfig.setJdbcUrl(urlBuilder.toString());
 
         try {
@@ -596,6 +704,13 @@ public class MssqlPlugin extends BasePlugin {
             throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR, e.getMessage());
         }
 
+        if (adaptivePoolSizer != null) {
+            startAdaptivePoolSizing(adaptivePoolSizer, hikariDatasource::isClosed,
+                    () -> hikariDatasource.getHikariPoolMXBean().getActiveConnections(),
+                    () -> hikariDatasource.getHikariPoolMXBean().getThreadsAwaitingConnection(),
+                    hikariDatasource::setMinimumIdle, hikariDatasource::setMaximumPoolSize);
+        }
+
         return hikariDatasource;
     }
 
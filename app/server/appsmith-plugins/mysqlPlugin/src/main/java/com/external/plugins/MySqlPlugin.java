@@ -24,7 +24,9 @@ import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.external.plugins.datatypes.MySQLSpecificDataTypes;
+import com.external.utils.ConnectionPoolUtils;
 import com.external.utils.QueryUtils;
+import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.spi.ColumnMetadata;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactories;
@@ -34,7 +36,6 @@ import io.r2dbc.spi.Result;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
 import io.r2dbc.spi.Statement;
-import io.r2dbc.spi.ValidationDepth;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
@@ -46,7 +47,6 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -62,7 +62,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -71,6 +70,10 @@ import static com.appsmith.external.helpers.PluginUtils.MATCH_QUOTED_WORDS_REGEX
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
+import static com.external.utils.ConnectionPoolUtils.createConnectionPool;
+import static com.external.utils.ConnectionPoolUtils.getConnectionFromConnectionPool;
+import static com.external.utils.ConnectionPoolUtils.logPoolMetrics;
+import static com.external.utils.ConnectionPoolUtils.releaseConnection;
 import static io.r2dbc.spi.ConnectionFactoryOptions.SSL;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
@@ -81,7 +84,6 @@ public class MySqlPlugin extends BasePlugin {
     private static final String DATE_COLUMN_TYPE_NAME = "date";
     private static final String DATETIME_COLUMN_TYPE_NAME = "datetime";
     private static final String TIMESTAMP_COLUMN_TYPE_NAME = "timestamp";
-    private static final int VALIDATION_CHECK_TIMEOUT = 4; // seconds
     private static final String IS_KEY = "is";
 
     /**
@@ -141,7 +143,7 @@ public class MySqlPlugin extends BasePlugin {
     }
 
     @Extension
-    public static class MySqlPluginExecutor implements PluginExecutor<Connection>, SmartSubstitutionInterface {
+    public static class MySqlPluginExecutor implements PluginExecutor<ConnectionPool>, SmartSubstitutionInterface {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
         private final Scheduler scheduler = Schedulers.elastic();
@@ -152,8 +154,8 @@ public class MySqlPlugin extends BasePlugin {
          * supported by PreparedStatement. In case of PreparedStatement turned off, the action and datasource configurations are
          * prepared (binding replacement) using PluginExecutor.variableSubstitution
          *
-         * @param connection              : This is the connection that is established to the data source. This connection is according
-         *                                to the parameters in Datasource Configuration
+         * @param connectionPool          : This is the connection pool of the data source. The pool is created according to the
+         *                                parameters in Datasource Configuration
          * @param executeActionDTO        : This is the data structure sent by the client during execute. This contains the params
          *                                which would be used for substitution
          * @param datasourceConfiguration : These are the configurations which have been used to create a Datasource from a Plugin
@@ -161,7 +163,7 @@ public class MySqlPlugin extends BasePlugin {
          * @return
          */
         @Override
-        public Mono<ActionExecutionResult> executeParameterized(Connection connection,
+        public Mono<ActionExecutionResult> executeParameterized(ConnectionPool connectionPool,
                                                                 ExecuteActionDTO executeActionDTO,
                                                                 DatasourceConfiguration datasourceConfiguration,
                                                                 ActionConfiguration actionConfiguration) {
@@ -209,7 +211,7 @@ public class MySqlPlugin extends BasePlugin {
             // In case of non prepared statement, simply do binding replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
                 prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
-                return executeCommon(connection, actionConfiguration, FALSE, null, null, requestData);
+                return executeCommon(connectionPool, actionConfiguration, FALSE, null, null, requestData);
             }
 
             //This has to be executed as Prepared Statement
@@ -219,10 +221,10 @@ public class MySqlPlugin extends BasePlugin {
             String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
             // Set the query with bindings extracted and replaced with '?' back in config
             actionConfiguration.setBody(updatedQuery);
-            return executeCommon(connection, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO, requestData);
+            return executeCommon(connectionPool, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO, requestData);
         }
 
-        public Mono<ActionExecutionResult> executeCommon(Connection connection,
+        public Mono<ActionExecutionResult> executeCommon(ConnectionPool connectionPool,
                                                          ActionConfiguration actionConfiguration,
                                                          Boolean preparedStatement,
                                                          List<String> mustacheValuesInOrder,
@@ -259,56 +261,57 @@ public class MySqlPlugin extends BasePlugin {
             List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY,
                     transformedQuery, null, null, psParams));
 
-            // TODO: need to write a JUnit TC for VALIDATION_CHECK_TIMEOUT
-            Flux<Result> resultFlux = Mono.from(connection.validate(ValidationDepth.REMOTE))
-                    .timeout(Duration.ofSeconds(VALIDATION_CHECK_TIMEOUT))
-                    .onErrorMap(TimeoutException.class, error -> new StaleConnectionException())
-                    .flatMapMany(isValid -> {
-                        if (isValid) {
-                            return createAndExecuteQueryFromConnection(finalQuery,
-                                    connection,
-                                    preparedStatement,
-                                    mustacheValuesInOrder,
-                                    executeActionDTO,
-                                    requestData,
-                                    psParams);
+            // The results have to be consumed before the connection is returned to the pool, hence the whole processing
+            // is done within the scope of the connection.
+            Mono<List<Map<String, Object>>> resultMono = Mono.usingWhen(
+                    getConnectionFromConnectionPool(connectionPool),
+                    connection -> {
+                        logPoolMetrics(connectionPool, "Before executing MySQL query");
+                        Flux<Result> resultFlux = createAndExecuteQueryFromConnection(finalQuery,
+                                connection,
+                                preparedStatement,
+                                mustacheValuesInOrder,
+                                executeActionDTO,
+                                requestData,
+                                psParams);
+
+                        if (isSelectOrShowOrDescQuery) {
+                            return resultFlux
+                                    .flatMap(result ->
+                                            result.map((row, meta) -> {
+                                                        rowsList.add(getRow(row, meta));
+
+                                                        if (columnsList.isEmpty()) {
+                                                            columnsList.addAll(meta.getColumnNames());
+                                                        }
+
+                                                        return result;
+                                                    }
+                                            )
+                                    )
+                                    .collectList()
+                                    .thenReturn(rowsList);
                         }
-                        return Flux.error(new StaleConnectionException());
-                    });
-
-            Mono<List<Map<String, Object>>> resultMono;
-
-            if (isSelectOrShowOrDescQuery) {
-                resultMono = resultFlux
-                        .flatMap(result ->
-                                result.map((row, meta) -> {
-                                            rowsList.add(getRow(row, meta));
 
-                                            if (columnsList.isEmpty()) {
-                                                columnsList.addAll(meta.getColumnNames());
-                                            }
-
-                                            return result;
-                                        }
-                                )
-                        )
-                        .collectList()
-                        .thenReturn(rowsList);
-            } else {
-                resultMono = resultFlux
-                        .flatMap(Result::getRowsUpdated)
-                        .collectList()
-                        .flatMap(list -> Mono.just(list.get(list.size() - 1)))
-                        .map(rowsUpdated -> {
-                            rowsList.add(
-                                    Map.of(
-                                            "affectedRows",
-                                            ObjectUtils.defaultIfNull(rowsUpdated, 0)
-                                    )
-                            );
-                            return rowsList;
-                        });
-            }
+                        return resultFlux
+                                .flatMap(Result::getRowsUpdated)
+                                .collectList()
+                                .flatMap(list -> Mono.just(list.get(list.size() - 1)))
+                                .map(rowsUpdated -> {
+                                    rowsList.add(
+                                            Map.of(
+                                                    "affectedRows",
+                                                    ObjectUtils.defaultIfNull(rowsUpdated, 0)
+                                            )
+                                    );
+                                    return rowsList;
+                                });
+                    },
+                    connection -> releaseConnection(connection)
+                            .doFinally(signalType -> logPoolMetrics(connectionPool, "After executing MySQL query")),
+                    ConnectionPoolUtils::releaseConnection,
+                    ConnectionPoolUtils::releaseConnection
+            );
 
             return resultMono
                     .map(res -> {
@@ -499,13 +502,13 @@ public class MySqlPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<ActionExecutionResult> execute(Connection connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
+        public Mono<ActionExecutionResult> execute(ConnectionPool connectionPool, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
             // Unused function
             return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Unsupported Operation"));
         }
 
         @Override
-        public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<ConnectionPool> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
 
             StringBuilder urlBuilder = new StringBuilder();
@@ -590,7 +593,16 @@ public class MySqlPlugin extends BasePlugin {
                     );
             }
 
-            return (Mono<Connection>) Mono.from(ConnectionFactories.get(ob.build()).create())
+            final ConnectionFactoryOptions connectionFactoryOptions = ob.build();
+            return Mono.fromCallable(() -> createConnectionPool(ConnectionFactories.get(connectionFactoryOptions),
+                            authentication.getDatabaseName()))
+                    // Open the minimum number of connections upfront, which also verifies the configuration
+                    .flatMap(connectionPool -> connectionPool.warmup()
+                            .thenReturn(connectionPool)
+                            .onErrorResume(exception -> {
+                                connectionPool.dispose();
+                                return Mono.error(exception);
+                            }))
                     .onErrorResume(exception -> Mono.error(new AppsmithPluginException(
                             AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
                             exception
@@ -599,10 +611,10 @@ public class MySqlPlugin extends BasePlugin {
         }
 
         @Override
-        public void datasourceDestroy(Connection connection) {
+        public void datasourceDestroy(ConnectionPool connectionPool) {
 
-            if (connection != null) {
-                Mono.from(connection.close())
+            if (connectionPool != null) {
+                connectionPool.disposeLater()
                         .onErrorResume(exception -> {
                             log.debug("In datasourceDestroy function error mode.", exception);
                             return Mono.empty();
@@ -814,37 +826,34 @@ public class MySqlPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+        public Mono<DatasourceStructure> getStructure(ConnectionPool connectionPool, DatasourceConfiguration datasourceConfiguration) {
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
             final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
 
-            return Mono.from(connection.validate(ValidationDepth.REMOTE))
-                    .timeout(Duration.ofSeconds(VALIDATION_CHECK_TIMEOUT))
-                    .onErrorMap(TimeoutException.class, error -> new StaleConnectionException())
-                    .flatMapMany(isValid -> {
-                        if (isValid) {
-                            return connection.createStatement(COLUMNS_QUERY).execute();
-                        } else {
-                            return Flux.error(new StaleConnectionException());
-                        }
-                    })
-                    .flatMap(result -> {
-                        return result.map((row, meta) -> {
-                            getTableInfo(row, meta, tablesByName);
+            return Flux.usingWhen(
+                            getConnectionFromConnectionPool(connectionPool),
+                            connection -> Flux.from(connection.createStatement(COLUMNS_QUERY).execute())
+                                    .flatMap(result -> {
+                                        return result.map((row, meta) -> {
+                                            getTableInfo(row, meta, tablesByName);
 
-                            return result;
-                        });
-                    })
-                    .collectList()
-                    .thenMany(Flux.from(connection.createStatement(KEYS_QUERY).execute()))
-                    .flatMap(result -> {
-                        return result.map((row, meta) -> {
-                            getKeyInfo(row, meta, tablesByName, keyRegistry);
+                                            return result;
+                                        });
+                                    })
+                                    .collectList()
+                                    .thenMany(Flux.from(connection.createStatement(KEYS_QUERY).execute()))
+                                    .flatMap(result -> {
+                                        return result.map((row, meta) -> {
+                                            getKeyInfo(row, meta, tablesByName, keyRegistry);
 
-                            return result;
-                        });
-                    })
+                                            return result;
+                                        });
+                                    }),
+                            ConnectionPoolUtils::releaseConnection,
+                            ConnectionPoolUtils::releaseConnection,
+                            ConnectionPoolUtils::releaseConnection
+                    )
                     .collectList()
                     .map(list -> {
                         /* Get templates for each table and put those in. */
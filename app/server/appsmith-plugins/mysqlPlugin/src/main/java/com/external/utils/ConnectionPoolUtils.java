@@ -0,0 +1,203 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ValidationDepth;
+import io.r2dbc.spi.Wrapped;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang.StringUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates the connection pool for a MySQL datasource and hands out connections from it.
+ * <p>
+ * Connections are validated locally when they are acquired, which doesn't need a round trip to the server. A remote
+ * validation is done only for connections which have been idle for longer than {@link #REMOTE_VALIDATION_IDLE_TIME},
+ * since those are the ones that may have been closed by the server or by the network in the meanwhile. A connection
+ * that fails this validation is marked as invalid and released, so that the pool destroys it instead of handing it
+ * out again.
+ * <p>
+ * The pool settings can be overridden with the following environment variables:
+ * APPSMITH_MYSQL_POOL_MIN_SIZE, APPSMITH_MYSQL_POOL_MAX_SIZE, APPSMITH_MYSQL_POOL_MAX_IDLE_TIME_SECONDS,
+ * APPSMITH_MYSQL_POOL_ACQUIRE_TIMEOUT_SECONDS and APPSMITH_MYSQL_POOL_REMOTE_VALIDATION_IDLE_TIME_SECONDS.
+ */
+@Slf4j
+public class ConnectionPoolUtils {
+
+    public static final int MINIMUM_POOL_SIZE = getIntFromEnv("APPSMITH_MYSQL_POOL_MIN_SIZE", 1);
+    public static final int MAXIMUM_POOL_SIZE = getIntFromEnv("APPSMITH_MYSQL_POOL_MAX_SIZE", 5);
+    public static final Duration MAX_IDLE_TIME =
+            Duration.ofSeconds(getIntFromEnv("APPSMITH_MYSQL_POOL_MAX_IDLE_TIME_SECONDS", 600));
+    public static final Duration ACQUIRE_TIMEOUT =
+            Duration.ofSeconds(getIntFromEnv("APPSMITH_MYSQL_POOL_ACQUIRE_TIMEOUT_SECONDS", 30));
+    public static final Duration REMOTE_VALIDATION_IDLE_TIME =
+            Duration.ofSeconds(getIntFromEnv("APPSMITH_MYSQL_POOL_REMOTE_VALIDATION_IDLE_TIME_SECONDS", 30));
+
+    private static final Duration BACKGROUND_EVICTION_INTERVAL = Duration.ofSeconds(60);
+    private static final Duration VALIDATION_CHECK_TIMEOUT = Duration.ofSeconds(4);
+    private static final String POOL_NAME_PREFIX = "mysql-";
+
+    private static final AtomicLong poolCounter = new AtomicLong();
+
+    // Time at which each physical connection was last released back to its pool. Weak keys, so that the connections
+    // evicted from the pools aren't retained here.
+    private static final Map<Connection, Long> lastReleasedAt = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // Physical connections that failed a validation, which the pools evict when they are released
+    private static final Set<Connection> invalidConnections =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    /**
+     * Creates a connection pool over the given connection factory. The pool metrics are registered over JMX under the
+     * pool name, as `io.r2dbc.pool:type=ConnectionPool,name=mysql-{databaseName}-{n}`.
+     */
+    public static ConnectionPool createConnectionPool(ConnectionFactory connectionFactory, String databaseName) {
+        final String poolName = POOL_NAME_PREFIX
+                + StringUtils.defaultString(databaseName).replaceAll("[^A-Za-z0-9_.-]", "_")
+                + "-" + poolCounter.incrementAndGet();
+
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration.builder(connectionFactory)
+                .name(poolName)
+                .initialSize(MINIMUM_POOL_SIZE)
+                .maxSize(Math.max(MINIMUM_POOL_SIZE, MAXIMUM_POOL_SIZE))
+                .maxIdleTime(MAX_IDLE_TIME)
+                .maxAcquireTime(ACQUIRE_TIMEOUT)
+                .backgroundEvictionInterval(BACKGROUND_EVICTION_INTERVAL)
+                .validationDepth(ValidationDepth.LOCAL)
+                // Replaces the idle time eviction of the pool, to also evict the connections that failed a validation
+                .customizer(poolBuilder -> poolBuilder.evictionPredicate((connection, metadata) ->
+                        invalidConnections.contains(connection) || metadata.idleTime() >= MAX_IDLE_TIME.toMillis()))
+                .registerJmx(true)
+                .build();
+
+        return new ConnectionPool(configuration);
+    }
+
+    /**
+     * Acquires a connection from the pool. In case the pool has been disposed, a {@link StaleConnectionException} is
+     * raised so that the pool gets created again. An idle connection that turns out to be broken is evicted from the
+     * pool, and another connection is acquired in its place. Only in case every idle connection of the pool turns out
+     * to be broken is the pool reported as stale.
+     */
+    public static Mono<Connection> getConnectionFromConnectionPool(ConnectionPool connectionPool) {
+        if (connectionPool == null || connectionPool.isDisposed()) {
+            log.debug("Encountered stale connection pool in MySQL plugin. Reporting back.");
+            return Mono.error(new StaleConnectionException());
+        }
+
+        // One more attempt than the pool size, so that a new connection is created after evicting every idle one
+        return getValidConnectionFromConnectionPool(connectionPool, REMOTE_VALIDATION_IDLE_TIME,
+                Math.max(MINIMUM_POOL_SIZE, MAXIMUM_POOL_SIZE) + 1);
+    }
+
+    static Mono<Connection> getValidConnectionFromConnectionPool(ConnectionPool connectionPool,
+                                                                 Duration remoteValidationIdleTime,
+                                                                 int remainingAttempts) {
+        return connectionPool.create()
+                .flatMap(connection -> {
+                    final Long releasedAt = lastReleasedAt.get(unwrap(connection));
+                    final boolean isIdleForLong = releasedAt != null
+                            && System.nanoTime() - releasedAt > remoteValidationIdleTime.toNanos();
+                    if (!isIdleForLong) {
+                        return Mono.just(connection);
+                    }
+
+                    return Mono.from(connection.validate(ValidationDepth.REMOTE))
+                            .timeout(VALIDATION_CHECK_TIMEOUT)
+                            .defaultIfEmpty(false)
+                            .onErrorResume(error -> {
+                                log.debug("Error validating idle MySQL connection", error);
+                                return Mono.just(false);
+                            })
+                            .doOnCancel(() -> releaseConnection(connection).subscribe())
+                            .flatMap(isValid -> {
+                                if (isValid) {
+                                    return Mono.just(connection);
+                                }
+                                log.debug("Evicting broken idle MySQL connection from the pool");
+                                final Mono<Connection> nextConnectionMono = remainingAttempts > 1
+                                        ? getValidConnectionFromConnectionPool(connectionPool, remoteValidationIdleTime,
+                                                remainingAttempts - 1)
+                                        : Mono.error(new StaleConnectionException());
+                                return invalidateConnection(connection).then(nextConnectionMono);
+                            });
+                });
+    }
+
+    /**
+     * Marks the connection as invalid and releases it, so that its pool destroys it instead of handing it out again.
+     */
+    public static Mono<Void> invalidateConnection(Connection connection) {
+        invalidConnections.add(unwrap(connection));
+        return releaseConnection(connection);
+    }
+
+    /**
+     * Returns the connection back to its pool after the given error. The connection is evicted from the pool in case it
+     * has been closed, e.g. when the error was due to the server or the network closing it.
+     */
+    public static Mono<Void> releaseConnection(Connection connection, Throwable error) {
+        return Mono.from(connection.validate(ValidationDepth.LOCAL))
+                .onErrorReturn(false)
+                .defaultIfEmpty(false)
+                .flatMap(isValid -> isValid ? releaseConnection(connection) : invalidateConnection(connection));
+    }
+
+    /**
+     * Returns the connection back to its pool.
+     */
+    public static Mono<Void> releaseConnection(Connection connection) {
+        lastReleasedAt.put(unwrap(connection), System.nanoTime());
+        return Mono.from(connection.close())
+                .onErrorResume(error -> {
+                    log.debug("Error returning MySQL connection to pool", error);
+                    return Mono.empty();
+                });
+    }
+
+    public static void logPoolMetrics(ConnectionPool connectionPool, String stage) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+        connectionPool.getMetrics().ifPresent(metrics -> log.debug(
+                "{} MySQL pool stats : acquired - {} , idle - {} , pending - {} , allocated - {} , max - {}",
+                stage,
+                metrics.acquiredSize(),
+                metrics.idleSize(),
+                metrics.pendingAcquireSize(),
+                metrics.allocatedSize(),
+                metrics.getMaxAllocatedSize()
+        ));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Connection unwrap(Connection connection) {
+        if (connection instanceof Wrapped) {
+            return ((Wrapped<Connection>) connection).unwrap();
+        }
+        return connection;
+    }
+
+    private static int getIntFromEnv(String name, int defaultValue) {
+        final String value = System.getenv(name);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value {} for {}, using the default {}", value, name, defaultValue);
+            return defaultValue;
+        }
+    }
+}
@@ -15,10 +15,12 @@ import com.appsmith.external.models.Property;
 import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
+import com.external.utils.ConnectionPoolUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
+import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactories;
 import io.r2dbc.spi.ConnectionFactoryOptions;
@@ -33,6 +35,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.util.ArrayList;
@@ -43,6 +46,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -181,7 +186,7 @@ public class MySqlPluginTest {
         @Test
         public void testConnectMySQLContainer() {
 
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 StepVerifier.create(dsConnectionMono)
                                 .assertNext(Assertions::assertNotNull)
@@ -195,7 +200,7 @@ public class MySqlPluginTest {
                 dsConfig.setProperties(List.of(
                                 new Property("serverTimezone", "UTC")));
 
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 StepVerifier.create(dsConnectionMono)
                                 .assertNext(Assertions::assertNotNull)
@@ -284,7 +289,7 @@ public class MySqlPluginTest {
                 Set<String> output = pluginExecutor.validateDatasource(dsConfig);
                 assertTrue(output.isEmpty());
                 // test connect
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 StepVerifier.create(dsConnectionMono)
                                 .assertNext(Assertions::assertNotNull)
@@ -310,7 +315,7 @@ public class MySqlPluginTest {
                 Set<String> output = pluginExecutor.validateDatasource(dsConfig);
                 assertTrue(output.isEmpty());
                 // test connect
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 StepVerifier.create(dsConnectionMono)
                                 .assertNext(Assertions::assertNotNull)
@@ -326,7 +331,7 @@ public class MySqlPluginTest {
 
         @Test
         public void testExecute() {
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("show databases");
@@ -346,7 +351,7 @@ public class MySqlPluginTest {
         @Test
         public void testExecuteWithFormattingWithShowCmd() {
                 dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("show\n\tdatabases");
@@ -368,7 +373,7 @@ public class MySqlPluginTest {
         @Test
         public void testExecuteWithFormattingWithSelectCmd() {
                 dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("select\n\t*\nfrom\nusers where id=1");
@@ -410,10 +415,10 @@ public class MySqlPluginTest {
         public void testStaleConnectionCheck() {
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("show databases");
-                Connection connection = pluginExecutor.datasourceCreate(dsConfig).block();
+                ConnectionPool connectionPool = pluginExecutor.datasourceCreate(dsConfig).block();
 
-                Flux<ActionExecutionResult> resultFlux = Mono.from(connection.close())
-                                .thenMany(pluginExecutor.executeParameterized(connection, new ExecuteActionDTO(),
+                Flux<ActionExecutionResult> resultFlux = connectionPool.disposeLater()
+                                .thenMany(pluginExecutor.executeParameterized(connectionPool, new ExecuteActionDTO(),
                                                 dsConfig, actionConfiguration));
 
                 StepVerifier.create(resultFlux)
@@ -477,7 +482,7 @@ public class MySqlPluginTest {
         @Test
         public void testAliasColumnNames() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("SELECT id as user_id FROM users WHERE id = 1");
@@ -506,7 +511,7 @@ public class MySqlPluginTest {
         @Test
         public void testPreparedStatementErrorWithIsKeyword() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 /**
@@ -563,7 +568,7 @@ public class MySqlPluginTest {
                                 .blockLast(); // wait until completion of all the queries
 
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 /**
@@ -639,7 +644,7 @@ public class MySqlPluginTest {
                                 .blockLast(); // wait until completion of all the queries
 
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("SELECT id FROM test_boolean_type WHERE c_boolean={{binding1}};");
@@ -681,7 +686,7 @@ public class MySqlPluginTest {
         @Test
         public void testExecuteWithPreparedStatement() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration
@@ -764,7 +769,7 @@ public class MySqlPluginTest {
         @Test
         public void testExecuteDataTypes() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("SELECT * FROM users WHERE id = 1");
@@ -902,7 +907,7 @@ public class MySqlPluginTest {
         }
 
         private void testExecute(String query) {
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody(query);
                 Mono<Object> executeMono = dsConnectionMono.flatMap(conn -> pluginExecutor.executeParameterized(conn,
@@ -1096,7 +1101,7 @@ public class MySqlPluginTest {
 
                 DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
                 datasourceConfiguration.getConnection().getSsl().setAuthType(SSLDetails.AuthType.DISABLED);
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
                 Mono<Object> executeMono = dsConnectionMono
                                 .flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(),
                                                 dsConfig,
@@ -1121,7 +1126,7 @@ public class MySqlPluginTest {
 
                 DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
                 datasourceConfiguration.getConnection().getSsl().setAuthType(SSLDetails.AuthType.REQUIRED);
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
                 Mono<Object> executeMono = dsConnectionMono
                                 .flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(),
                                                 dsConfig,
@@ -1146,7 +1151,7 @@ public class MySqlPluginTest {
 
                 DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
                 datasourceConfiguration.getConnection().getSsl().setAuthType(SSLDetails.AuthType.PREFERRED);
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
                 Mono<Object> executeMono = dsConnectionMono
                                 .flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(),
                                                 dsConfig,
@@ -1171,7 +1176,7 @@ public class MySqlPluginTest {
 
                 DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
                 datasourceConfiguration.getConnection().getSsl().setAuthType(SSLDetails.AuthType.DEFAULT);
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
                 Mono<Object> executeMono = dsConnectionMono
                                 .flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(),
                                                 dsConfig,
@@ -1192,7 +1197,7 @@ public class MySqlPluginTest {
         @Test
         public void testDuplicateColumnNames() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody(
@@ -1236,7 +1241,7 @@ public class MySqlPluginTest {
         @Test
         public void testExecuteDescribeTableCmd() {
                 dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("describe users");
@@ -1258,7 +1263,7 @@ public class MySqlPluginTest {
         @Test
         public void testExecuteDescTableCmd() {
                 dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("desc users");
@@ -1282,7 +1287,7 @@ public class MySqlPluginTest {
                 pluginExecutor = spy(new MySqlPlugin.MySqlPluginExecutor());
                 doReturn(false).when(pluginExecutor).isIsOperatorUsed(any());
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("SELECT * from (\n" +
@@ -1335,7 +1340,7 @@ public class MySqlPluginTest {
         @Test
         public void testNullAsStringWithPreparedStatement() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("SELECT * from (\n" +
@@ -1389,7 +1394,7 @@ public class MySqlPluginTest {
         @Test
         public void testNumericValuesHavingLeadingZeroWithPreparedStatement() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("SELECT {{binding1}} as numeric_string;");
@@ -1435,7 +1440,7 @@ public class MySqlPluginTest {
         @Test
         public void testLongValueWithPreparedStatement() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("select id from users LIMIT {{binding1}}");
@@ -1476,4 +1481,32 @@ public class MySqlPluginTest {
                                 })
                                 .verifyComplete();
         }
-}
\ No newline at end of file
+
+        @Test
+        public void testConcurrentAcquisitionsAreServedByMultipleConnections() {
+                final int concurrentAcquisitions = 3;
+                ConnectionPool connectionPool = pluginExecutor.datasourceCreate(dsConfig).block();
+                CountDownLatch allAcquired = new CountDownLatch(concurrentAcquisitions);
+
+                // Each acquired connection is held until all of them have been acquired, which would never happen in
+                // case the pool served the acquisitions one after the other over a single connection
+                Mono<List<Long>> connectionIdsMono = Flux.range(0, concurrentAcquisitions)
+                                .flatMap(i -> Mono.usingWhen(
+                                                ConnectionPoolUtils.getConnectionFromConnectionPool(connectionPool),
+                                                connection -> Mono.fromRunnable(allAcquired::countDown)
+                                                                .then(Mono.fromCallable(() -> allAcquired.await(10, TimeUnit.SECONDS))
+                                                                                .subscribeOn(Schedulers.boundedElastic()))
+                                                                .doOnNext(Assertions::assertTrue)
+                                                                .thenMany(connection.createStatement("SELECT CONNECTION_ID()").execute())
+                                                                .flatMap(result -> result.map((row, metadata) -> row.get(0, Long.class)))
+                                                                .single(),
+                                                ConnectionPoolUtils::releaseConnection))
+                                .collectList();
+
+                StepVerifier.create(connectionIdsMono)
+                                .assertNext(connectionIds -> assertEquals(concurrentAcquisitions, new HashSet<>(connectionIds).size()))
+                                .verifyComplete();
+
+                pluginExecutor.datasourceDestroy(connectionPool);
+        }
+}
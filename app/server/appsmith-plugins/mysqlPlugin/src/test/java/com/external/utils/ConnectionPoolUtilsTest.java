@@ -0,0 +1,152 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ValidationDepth;
+import io.r2dbc.spi.Wrapped;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConnectionPoolUtilsTest {
+
+    private final List<Connection> createdConnections = Collections.synchronizedList(new ArrayList<>());
+
+    private ConnectionPool connectionPool;
+
+    @BeforeEach
+    public void setUp() {
+        ConnectionFactory connectionFactory = Mockito.mock(ConnectionFactory.class);
+        Mockito.doAnswer(invocation -> Mono.fromSupplier(() -> {
+            Connection connection = Mockito.mock(Connection.class);
+            Mockito.doReturn(Mono.just(true)).when(connection).validate(Mockito.any());
+            Mockito.doReturn(Mono.empty()).when(connection).close();
+            createdConnections.add(connection);
+            return connection;
+        })).when(connectionFactory).create();
+
+        connectionPool = ConnectionPoolUtils.createConnectionPool(connectionFactory, "test");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connectionPool.dispose();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Connection unwrap(Connection connection) {
+        return ((Wrapped<Connection>) connection).unwrap();
+    }
+
+    @Test
+    public void testReleaseConnection_afterErrorOnOpenConnection_returnsConnectionToPool() {
+        Connection connection = ConnectionPoolUtils.getConnectionFromConnectionPool(connectionPool).block();
+        Connection physicalConnection = unwrap(connection);
+
+        ConnectionPoolUtils.releaseConnection(connection, new RuntimeException("Syntax error")).block();
+
+        Connection nextConnection = ConnectionPoolUtils.getConnectionFromConnectionPool(connectionPool).block();
+        assertSame(physicalConnection, unwrap(nextConnection));
+        Mockito.verify(physicalConnection, Mockito.never()).close();
+    }
+
+    @Test
+    public void testReleaseConnection_afterErrorOnClosedConnection_evictsConnectionFromPool() {
+        Connection connection = ConnectionPoolUtils.getConnectionFromConnectionPool(connectionPool).block();
+        Connection physicalConnection = unwrap(connection);
+        Mockito.doReturn(Mono.just(false)).when(physicalConnection).validate(ValidationDepth.LOCAL);
+
+        ConnectionPoolUtils.releaseConnection(connection, new RuntimeException("Connection closed")).block();
+
+        Connection nextConnection = ConnectionPoolUtils.getConnectionFromConnectionPool(connectionPool).block();
+        assertNotSame(physicalConnection, unwrap(nextConnection));
+        Mockito.verify(physicalConnection).close();
+    }
+
+    @Test
+    public void testInvalidateConnection_evictsConnectionFromPool() {
+        Connection connection = ConnectionPoolUtils.getConnectionFromConnectionPool(connectionPool).block();
+        Connection physicalConnection = unwrap(connection);
+
+        ConnectionPoolUtils.invalidateConnection(connection).block();
+
+        Connection nextConnection = ConnectionPoolUtils.getConnectionFromConnectionPool(connectionPool).block();
+        assertNotSame(physicalConnection, unwrap(nextConnection));
+        Mockito.verify(physicalConnection).close();
+    }
+
+    @Test
+    public void testGetConnection_whenIdleConnectionIsBroken_evictsItAndAcquiresAnotherConnection() {
+        Connection connection = ConnectionPoolUtils.getConnectionFromConnectionPool(connectionPool).block();
+        Connection physicalConnection = unwrap(connection);
+        Mockito.doReturn(Mono.just(false)).when(physicalConnection).validate(ValidationDepth.REMOTE);
+        ConnectionPoolUtils.releaseConnection(connection).block();
+
+        Connection nextConnection = ConnectionPoolUtils
+                .getValidConnectionFromConnectionPool(connectionPool, Duration.ZERO, 2)
+                .block();
+
+        assertNotSame(physicalConnection, unwrap(nextConnection));
+        assertFalse(connectionPool.isDisposed());
+        Mockito.verify(physicalConnection).close();
+    }
+
+    @Test
+    public void testGetConnection_whenEveryAttemptFindsABrokenConnection_reportsStaleConnection() {
+        ConnectionPoolUtils.releaseConnection(
+                ConnectionPoolUtils.getConnectionFromConnectionPool(connectionPool).block()).block();
+        createdConnections.forEach(connection ->
+                Mockito.doReturn(Mono.just(false)).when(connection).validate(ValidationDepth.REMOTE));
+
+        StepVerifier.create(ConnectionPoolUtils.getValidConnectionFromConnectionPool(connectionPool, Duration.ZERO, 1))
+                .expectError(StaleConnectionException.class)
+                .verify();
+    }
+
+    @Test
+    public void testGetConnection_concurrentAcquisitionsAreServedByMultipleConnections() throws InterruptedException {
+        final int concurrentAcquisitions = 3;
+        CountDownLatch allAcquired = new CountDownLatch(concurrentAcquisitions);
+        CountDownLatch release = new CountDownLatch(1);
+        Set<Connection> heldConnections = ConcurrentHashMap.newKeySet();
+
+        // Each connection is held until all of them have been acquired, which would never happen in case the pool
+        // served the acquisitions one after the other over a single connection
+        Flux.range(0, concurrentAcquisitions)
+                .flatMap(i -> ConnectionPoolUtils.getConnectionFromConnectionPool(connectionPool)
+                        .doOnNext(connection -> {
+                            heldConnections.add(unwrap(connection));
+                            allAcquired.countDown();
+                        })
+                        .flatMap(connection -> Mono.fromCallable(() -> release.await(10, TimeUnit.SECONDS))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .then(ConnectionPoolUtils.releaseConnection(connection))))
+                .subscribe();
+
+        assertTrue(allAcquired.await(10, TimeUnit.SECONDS));
+        assertEquals(concurrentAcquisitions, heldConnections.size());
+        release.countDown();
+    }
+}
@@ -6,11 +6,14 @@ import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.AdaptivePoolSizer;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
-import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.PreparedQueryCache;
+import com.appsmith.external.helpers.StreamingRowCollector;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolConfiguration;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
@@ -25,11 +28,15 @@ import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.datatypes.PostgresSpecificDataTypes;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
 import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 import com.zaxxer.hikari.pool.HikariProxyConnection;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.ObjectUtils;
@@ -73,11 +80,20 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getConnectionPoolConfiguration;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getPoolName;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.startAdaptivePoolSizing;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.validateConnectionPoolConfiguration;
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
 import static com.appsmith.external.helpers.Sizeof.sizeof;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
+import static com.appsmith.external.helpers.StreamingRowCollector.DEFAULT_MAX_BYTES;
+import static com.appsmith.external.helpers.StreamingRowCollector.FETCH_SIZE;
+import static com.appsmith.external.helpers.StreamingRowCollector.getMaxRows;
+import static com.appsmith.external.helpers.StreamingRowCollector.isReadOnlyQuery;
+import static com.appsmith.external.helpers.StreamingRowCollector.isStreamingEnabled;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DATE;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DECIMAL;
@@ -119,6 +135,13 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final int HEAVY_OP_FREQUENCY = 100;
 
+    /*
+     * Number of executions after which the driver switches a prepared statement over to a named statement prepared on
+     * the server, so that its plan is reused instead of the query being planned on every run. The named statements are
+     * cached by the driver per connection, keyed by the SQL text, within the default limits of the driver.
+     */
+    private static final int PREPARE_THRESHOLD = 1;
+
     private static int MAX_SIZE_SUPPORTED;
 
     public PostgresPlugin(PluginWrapper wrapper) {
@@ -130,7 +153,7 @@ public class PostgresPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.elastic();
 
-        private static final String TABLES_QUERY =
+        private static final String TABLES_QUERY_TEMPLATE =
                 "select a.attname                                                      as name,\n" +
                         "       t1.typname                                                     as column_type,\n" +
                         "       case when a.atthasdef then pg_get_expr(d.adbin, d.adrelid) end as default_expr,\n" +
@@ -146,9 +169,16 @@ public class PostgresPlugin extends BasePlugin {
                         "  and not a.attisdropped\n" +
                         "  and n.nspname not in ('information_schema', 'pg_catalog')\n" +
                         "  and c.relkind in ('r', 'v')\n" +
+                        "%s" +
                         "order by c.relname, a.attnum;";
 
-        public static final String KEYS_QUERY =
+        private static final String TABLES_QUERY = String.format(TABLES_QUERY_TEMPLATE, "");
+
+        // Columns of the tables with the given oids only.
+        private static final String CHANGED_TABLES_QUERY =
+                String.format(TABLES_QUERY_TEMPLATE, "  and c.oid::bigint = any(?)\n");
+
+        private static final String KEYS_QUERY_TEMPLATE =
                 "select c.conname                                         as constraint_name,\n" +
                         "       c.contype                                         as constraint_type,\n" +
                         "       sch.nspname                                       as self_schema,\n" +
@@ -168,11 +198,64 @@ public class PostgresPlugin extends BasePlugin {
                         "         left join pg_class f_tbl on f_tbl.oid = c.confrelid\n" +
                         "         left join pg_namespace f_sch on f_sch.oid = f_tbl.relnamespace\n" +
                         "         left join pg_attribute f_col on (f_col.attrelid = f_tbl.oid and f_col.attnum = f_u.attnum)\n" +
+                        "%s" +
                         "group by constraint_name, constraint_type, self_schema, self_table, definition, foreign_schema, foreign_table\n" +
                         "order by self_schema, self_table;";
 
+        public static final String KEYS_QUERY = String.format(KEYS_QUERY_TEMPLATE, "");
+
+        // Constraints of the tables with the given oids only.
+        private static final String CHANGED_TABLES_KEYS_QUERY =
+                String.format(KEYS_QUERY_TEMPLATE, "where c.conrelid::bigint = any(?)\n");
+
+        /*
+         * A fingerprint of each table, made of everything that goes into its structure: its kind, its columns with their
+         * types and defaults, and its primary and foreign keys. The definition of a foreign key names the columns it
+         * refers to, so renaming those changes the fingerprint of the referring table as well. This is much cheaper to
+         * run than the queries above, and is used to introspect only the tables that have changed since the structure
+         * was last fetched.
+         */
+        private static final String TABLE_FINGERPRINTS_QUERY =
+                "select c.oid::bigint  as table_oid,\n" +
+                        "       c.relname       as table_name,\n" +
+                        "       n.nspname       as schema_name,\n" +
+                        "       md5(c.relkind || '|' ||\n" +
+                        "           coalesce((select string_agg(a.attname || ':' || a.atttypid || ':' ||\n" +
+                        "                                       coalesce(pg_get_expr(d.adbin, d.adrelid), ''), ',' order by a.attnum)\n" +
+                        "                     from pg_catalog.pg_attribute a\n" +
+                        "                              left join pg_catalog.pg_attrdef d on d.adrelid = a.attrelid and d.adnum = a.attnum\n" +
+                        "                     where a.attrelid = c.oid\n" +
+                        "                       and a.attnum > 0\n" +
+                        "                       and not a.attisdropped), '') || '|' ||\n" +
+                        "           coalesce((select string_agg(k.conname || ':' || pg_get_constraintdef(k.oid), ',' order by k.conname)\n" +
+                        "                     from pg_catalog.pg_constraint k\n" +
+                        "                     where k.conrelid = c.oid\n" +
+                        "                       and k.contype in ('p', 'f')), '')) as fingerprint\n" +
+                        "from pg_catalog.pg_class c\n" +
+                        "         left join pg_catalog.pg_namespace n on c.relnamespace = n.oid\n" +
+                        "where n.nspname not in ('information_schema', 'pg_catalog')\n" +
+                        "  and c.relkind in ('r', 'v')\n" +
+                        "order by c.relname;";
+
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
+        private static final int STREAMING_INDEX = 1;
+
+        private static final int MAX_ROWS_INDEX = 2;
+
+        private static final PreparedQueryCache preparedQueryCache = new PreparedQueryCache();
+
+        static {
+            FunctionCounter.builder("appsmith.plugin.prepared.query.cache", preparedQueryCache, PreparedQueryCache::getHitCount)
+                    .description("Lookups of the prepared statement form of the queries, by result")
+                    .tags("plugin", "postgres", "result", "hit")
+                    .register(Metrics.globalRegistry);
+            FunctionCounter.builder("appsmith.plugin.prepared.query.cache", preparedQueryCache, PreparedQueryCache::getMissCount)
+                    .description("Lookups of the prepared statement form of the queries, by result")
+                    .tags("plugin", "postgres", "result", "miss")
+                    .register(Metrics.globalRegistry);
+        }
+
         private final SharedConfig sharedConfig;
 
         public PostgresPluginExecutor(SharedConfig sharedConfig) {
@@ -235,10 +318,10 @@ public class PostgresPlugin extends BasePlugin {
 
             // Prepared Statement
 
-            // First extract all the bindings in order
-            List<String> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
-            // Replace all the bindings with a ? as expected in a prepared statement.
-            String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+            // Replace all the bindings with a ? as expected in a prepared statement, unless already done for this query.
+            PreparedQueryCache.PreparedQuery preparedQuery = preparedQueryCache.get(query);
+            List<String> mustacheKeysInOrder = preparedQuery.getMustacheKeysInOrder();
+            String updatedQuery = preparedQuery.getQuery();
             List<DataType> explicitCastDataTypes = extractExplicitCasting(updatedQuery);
             actionConfiguration.setBody(updatedQuery);
             return executeCommon(connection, datasourceConfiguration, actionConfiguration, TRUE,
@@ -261,6 +344,8 @@ public class PostgresPlugin extends BasePlugin {
             String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(query) : query;
             List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY,
                     transformedQuery, null, null, psParams));
+            final List<Property> pluginSpecifiedTemplates = actionConfiguration.getPluginSpecifiedTemplates();
+            final boolean isStreaming = isStreamingEnabled(pluginSpecifiedTemplates, STREAMING_INDEX) && isReadOnlyQuery(query);
 
             return Mono.fromCallable(() -> {
 
@@ -278,11 +363,15 @@ public class PostgresPlugin extends BasePlugin {
 
                         List<Map<String, Object>> rowsList = new ArrayList<>(50);
                         final List<String> columnsList = new ArrayList<>();
+                        final StreamingRowCollector streamingRows = isStreaming
+                                ? new StreamingRowCollector(objectMapper, getMaxRows(pluginSpecifiedTemplates, MAX_ROWS_INDEX), DEFAULT_MAX_BYTES)
+                                : null;
 
                         Statement statement = null;
                         ResultSet resultSet = null;
                         PreparedStatement preparedQuery = null;
                         boolean isResultSet;
+                        boolean isAutoCommit = true;
 
                         HikariPoolMXBean poolProxy = connection.getHikariPoolMXBean();
 
@@ -293,12 +382,26 @@ public class PostgresPlugin extends BasePlugin {
                         log.debug("Before executing postgres query [{}] Hikari Pool stats : active - {} , idle - {} , awaiting - {} , total - {}",
                                 query, activeConnections, idleConnections, threadsAwaitingConnection, totalConnections);
                         try {
+                            if (streamingRows != null) {
+                                // With autocommit off and a fetch size set, the driver reads the result through a
+                                // server side cursor, a batch of rows at a time, instead of reading it all at once.
+                                // The transaction is committed once the rows are read, like autocommit would have.
+                                isAutoCommit = connectionFromPool.getAutoCommit();
+                                connectionFromPool.setAutoCommit(false);
+                            }
+
                             if (FALSE.equals(preparedStatement)) {
                                 statement = connectionFromPool.createStatement();
+                                if (streamingRows != null) {
+                                    statement.setFetchSize(FETCH_SIZE);
+                                }
                                 isResultSet = statement.execute(query);
                                 resultSet = statement.getResultSet();
                             } else {
                                 preparedQuery = connectionFromPool.prepareStatement(query);
+                                if (streamingRows != null) {
+                                    preparedQuery.setFetchSize(FETCH_SIZE);
+                                }
 
                                 List<Map.Entry<String, String>> parameters = new ArrayList<>();
                                 preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(preparedQuery,
@@ -325,7 +428,11 @@ public class PostgresPlugin extends BasePlugin {
                                         ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0) :
                                         ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-                                rowsList.add(Map.of("affectedRows", updateCount));
+                                if (streamingRows != null) {
+                                    streamingRows.add(Map.of("affectedRows", updateCount));
+                                } else {
+                                    rowsList.add(Map.of("affectedRows", updateCount));
+                                }
 
                             } else {
 
@@ -333,11 +440,32 @@ public class PostgresPlugin extends BasePlugin {
                                 int colCount = metaData.getColumnCount();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
+                                final String[] columnNames = new String[colCount];
+                                final String[] typeNames = new String[colCount];
+                                for (int i = 0; i < colCount; i++) {
+                                    columnNames[i] = metaData.getColumnName(i + 1);
+                                    typeNames[i] = metaData.getColumnTypeName(i + 1);
+                                }
+
                                 int iterator = 0;
                                 while (resultSet.next()) {
 
-                                    // Only check the data size at low frequency to ensure the performance is not impacted heavily
+                                    if (streamingRows != null) {
+                                        if (!streamingRows.hasCapacity()) {
+                                            streamingRows.markTruncated();
+                                            break;
+                                        }
+
+                                        // Streamed rows are written straight into the JSON result
+                                        final ObjectNode row = streamingRows.addRow();
+                                        for (int i = 0; i < colCount; i++) {
+                                            streamingRows.addColumn(row, columnNames[i], getColumnValue(resultSet, i + 1, typeNames[i]));
+                                        }
+                                        continue;
+                                    }
+
                                     if (iterator % HEAVY_OP_FREQUENCY == 0) {
+                                        // Only check the data size at low frequency to ensure the performance is not impacted heavily
                                         int objectSize = sizeof(rowsList);
 
                                         if (objectSize > MAX_SIZE_SUPPORTED) {
@@ -349,67 +477,19 @@ public class PostgresPlugin extends BasePlugin {
 
                                     // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
                                     Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                                    for (int i = 1; i <= colCount; i++) {
-                                        Object value;
-                                        final String typeName = metaData.getColumnTypeName(i);
-
-                                        if (resultSet.getObject(i) == null) {
-                                            value = null;
-
-                                        } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
-
-                                        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                                    LocalDateTime.of(
-                                                            resultSet.getDate(i).toLocalDate(),
-                                                            resultSet.getTime(i).toLocalTime()
-                                                    )
-                                            ) + "Z";
-
-                                        } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                                    resultSet.getObject(i, OffsetDateTime.class)
-                                            );
-
-                                        } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getString(i);
-
-                                        } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getObject(i).toString();
-
-                                        } else if (typeName.startsWith("_")) {
-                                            value = resultSet.getArray(i).getArray();
-
-                                        } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = objectMapper.readTree(resultSet.getString(i));
-                                        } else {
-                                            value = resultSet.getObject(i);
-
-                                            /**
-                                             * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
-                                             * two attributes: type and value. Hence, when PGobject gets serialized, it gets
-                                             * converted into a JSON like {"type":"citext", "value":"someText"}. Since we are
-                                             * only interested in the value and not the type, it makes sense to extract out
-                                             * the value as a string.
-                                             * Reference: https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
-                                             */
-                                            if (value instanceof PGobject) {
-                                                value = ((PGobject) value).getValue();
-                                            }
-                                        }
-
-                                        row.put(metaData.getColumnName(i), value);
+                                    for (int i = 0; i < colCount; i++) {
+                                        row.put(columnNames[i], getColumnValue(resultSet, i + 1, typeNames[i]));
                                     }
-
                                     rowsList.add(row);
 
                                     iterator++;
                                 }
                             }
 
+                            if (streamingRows != null) {
+                                connectionFromPool.commit();
+                            }
+
                         } catch (SQLException e) {
                             log.debug("In the PostgresPlugin, got action execution error");
                             return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, e.getMessage()));
@@ -449,6 +529,17 @@ public class PostgresPlugin extends BasePlugin {
                                 }
                             }
 
+                            if (streamingRows != null) {
+                                try {
+                                    // Rolls back the streaming transaction in case it failed before being committed,
+                                    // and restores the autocommit mode of the pooled connection
+                                    connectionFromPool.rollback();
+                                    connectionFromPool.setAutoCommit(isAutoCommit);
+                                } catch (SQLException e) {
+                                    log.debug("Execute Error ending Postgres streaming transaction", e);
+                                }
+                            }
+
                             if (connectionFromPool != null) {
                                 try {
                                     // Return the connection back to the pool
@@ -461,8 +552,17 @@ public class PostgresPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
-                        result.setMessages(populateHintMessages(columnsList));
+                        Set<String> messages = populateHintMessages(columnsList);
+                        if (streamingRows != null) {
+                            result.setBody(streamingRows.getRows());
+                            if (streamingRows.isTruncated()) {
+                                result.setTruncated(true);
+                                messages.add(streamingRows.getTruncationMessage());
+                            }
+                        } else {
+                            result.setBody(objectMapper.valueToTree(rowsList));
+                        }
+                        result.setMessages(messages);
                         result.setIsExecutionSuccess(true);
                         log.debug("In the PostgresPlugin, got action execution result");
                         return Mono.just(result);
@@ -493,6 +593,61 @@ public class PostgresPlugin extends BasePlugin {
 
         }
 
+        /**
+         * Reads the value of the given column of the current row of the result, in the form it is sent in the response.
+         */
+        private Object getColumnValue(ResultSet resultSet, int columnIndex, String typeName) throws SQLException, IOException {
+            Object value;
+            if (resultSet.getObject(columnIndex) == null) {
+                value = null;
+
+            } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(columnIndex).toLocalDate());
+
+            } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = DateTimeFormatter.ISO_DATE_TIME.format(
+                        LocalDateTime.of(
+                                resultSet.getDate(columnIndex).toLocalDate(),
+                                resultSet.getTime(columnIndex).toLocalTime()
+                        )
+                ) + "Z";
+
+            } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = DateTimeFormatter.ISO_DATE_TIME.format(
+                        resultSet.getObject(columnIndex, OffsetDateTime.class)
+                );
+
+            } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = resultSet.getString(columnIndex);
+
+            } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = resultSet.getObject(columnIndex).toString();
+
+            } else if (typeName.startsWith("_")) {
+                value = resultSet.getArray(columnIndex).getArray();
+
+            } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
+                    || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = objectMapper.readTree(resultSet.getString(columnIndex));
+            } else {
+                value = resultSet.getObject(columnIndex);
+
+                /**
+                 * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
+                 * two attributes: type and value. Hence, when PGobject gets serialized, it gets
+                 * converted into a JSON like {"type":"citext", "value":"someText"}. Since we are
+                 * only interested in the value and not the type, it makes sense to extract out
+                 * the value as a string.
+                 * Reference: https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
+                 */
+                if (value instanceof PGobject) {
+                    value = ((PGobject) value).getValue();
+                }
+            }
+
+            return value;
+        }
+
         private Set<String> populateHintMessages(List<String> columnNames) {
 
             Set<String> messages = new HashSet<>();
@@ -586,11 +741,25 @@ public class PostgresPlugin extends BasePlugin {
                         "Please reach out to Appsmith customer support to resolve this.");
             }
 
+            invalids.addAll(validateConnectionPoolConfiguration(datasourceConfiguration.getConnectionPool()));
+
             return invalids;
         }
 
         @Override
         public Mono<DatasourceStructure> getStructure(HikariDataSource connection, DatasourceConfiguration datasourceConfiguration) {
+            return getStructure(connection, datasourceConfiguration, null);
+        }
+
+        /**
+         * Fetches the structure of the tables and views in the database. When the previous structure is given, only the
+         * tables whose fingerprint has changed since then are introspected, and the rest are taken from the previous
+         * structure as they are.
+         */
+        @Override
+        public Mono<DatasourceStructure> getStructure(HikariDataSource connection,
+                                                      DatasourceConfiguration datasourceConfiguration,
+                                                      DatasourceStructure previousStructure) {
 
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
@@ -620,143 +789,68 @@ public class PostgresPlugin extends BasePlugin {
                         // Ref: <https://docs.oracle.com/en/java/javase/11/docs/api/java.sql/java/sql/DatabaseMetaData.html>.
                         try (Statement statement = connectionFromPool.createStatement()) {
 
-                            // Get tables and fill up their columns.
-                            try (ResultSet columnsResultSet = statement.executeQuery(TABLES_QUERY)) {
-                                while (columnsResultSet.next()) {
-                                    final char kind = columnsResultSet.getString("kind").charAt(0);
-                                    final String schemaName = columnsResultSet.getString("schema_name");
-                                    final String tableName = columnsResultSet.getString("table_name");
-                                    final String fullTableName = schemaName + "." + tableName;
-                                    if (!tablesByName.containsKey(fullTableName)) {
-                                        tablesByName.put(fullTableName, new DatasourceStructure.Table(
-                                                kind == 'r' ? DatasourceStructure.TableType.TABLE : DatasourceStructure.TableType.VIEW,
-                                                schemaName,
-                                                fullTableName,
-                                                new ArrayList<>(),
-                                                new ArrayList<>(),
-                                                new ArrayList<>()
-                                        ));
-                                    }
-                                    final DatasourceStructure.Table table = tablesByName.get(fullTableName);
-                                    final String defaultExpr = columnsResultSet.getString("default_expr");
-                                    boolean isAutogenerated = !StringUtils.isEmpty(defaultExpr) && defaultExpr.toLowerCase().contains("nextval");
-
-                                    table.getColumns().add(new DatasourceStructure.Column(
-                                                    columnsResultSet.getString("name"),
-                                                    columnsResultSet.getString("column_type"),
-                                                    defaultExpr,
-                                                    isAutogenerated
-                                            )
-                                    );
+                            final Map<String, String> fingerprints = new LinkedHashMap<>();
+                            final Map<String, Long> oidsByName = new HashMap<>();
+                            try (ResultSet fingerprintsResultSet = statement.executeQuery(TABLE_FINGERPRINTS_QUERY)) {
+                                while (fingerprintsResultSet.next()) {
+                                    final String fullTableName = fingerprintsResultSet.getString("schema_name") + "."
+                                            + fingerprintsResultSet.getString("table_name");
+                                    fingerprints.put(fullTableName, fingerprintsResultSet.getString("fingerprint"));
+                                    oidsByName.put(fullTableName, fingerprintsResultSet.getLong("table_oid"));
                                 }
                             }
 
-                            // Get tables' constraints and fill those up.
-                            try (ResultSet constraintsResultSet = statement.executeQuery(KEYS_QUERY)) {
-                                while (constraintsResultSet.next()) {
-                                    final String constraintName = constraintsResultSet.getString("constraint_name");
-                                    final char constraintType = constraintsResultSet.getString("constraint_type").charAt(0);
-                                    final String selfSchema = constraintsResultSet.getString("self_schema");
-                                    final String tableName = constraintsResultSet.getString("self_table");
-                                    final String fullTableName = selfSchema + "." + tableName;
-                                    if (!tablesByName.containsKey(fullTableName)) {
-                                        continue;
+                            // Tables that haven't changed since the previous structure was fetched are reused as they are.
+                            final Map<String, DatasourceStructure.Table> unchangedTables =
+                                    getUnchangedTables(previousStructure, fingerprints);
+                            final List<Long> changedTableOids = oidsByName.entrySet()
+                                    .stream()
+                                    .filter(entry -> !unchangedTables.containsKey(entry.getKey()))
+                                    .map(Map.Entry::getValue)
+                                    .collect(Collectors.toList());
+
+                            final Map<String, DatasourceStructure.Table> introspectedTables = new LinkedHashMap<>();
+                            if (unchangedTables.isEmpty()) {
+                                // Get tables and fill up their columns, then their constraints.
+                                try (ResultSet columnsResultSet = statement.executeQuery(TABLES_QUERY)) {
+                                    readColumns(columnsResultSet, introspectedTables);
+                                }
+                                try (ResultSet constraintsResultSet = statement.executeQuery(KEYS_QUERY)) {
+                                    readKeys(constraintsResultSet, introspectedTables);
+                                }
+                            } else if (!changedTableOids.isEmpty()) {
+                                final Array oids = connectionFromPool.createArrayOf("int8", changedTableOids.toArray());
+                                try (PreparedStatement columnsStatement = connectionFromPool.prepareStatement(CHANGED_TABLES_QUERY)) {
+                                    columnsStatement.setArray(1, oids);
+                                    try (ResultSet columnsResultSet = columnsStatement.executeQuery()) {
+                                        readColumns(columnsResultSet, introspectedTables);
                                     }
-
-                                    final DatasourceStructure.Table table = tablesByName.get(fullTableName);
-
-                                    if (constraintType == 'p') {
-                                        final DatasourceStructure.PrimaryKey key = new DatasourceStructure.PrimaryKey(
-                                                constraintName,
-                                                List.of((String[]) constraintsResultSet.getArray("self_columns").getArray())
-                                        );
-                                        table.getKeys().add(key);
-
-                                    } else if (constraintType == 'f') {
-                                        final String foreignSchema = constraintsResultSet.getString("foreign_schema");
-                                        final String prefix = (foreignSchema.equalsIgnoreCase(selfSchema) ? "" : foreignSchema + ".")
-                                                + constraintsResultSet.getString("foreign_table")
-                                                + ".";
-
-                                        final DatasourceStructure.ForeignKey key = new DatasourceStructure.ForeignKey(
-                                                constraintName,
-                                                List.of((String[]) constraintsResultSet.getArray("self_columns").getArray()),
-                                                Stream.of((String[]) constraintsResultSet.getArray("foreign_columns").getArray())
-                                                        .map(name -> prefix + name)
-                                                        .collect(Collectors.toList())
-                                        );
-
-                                        table.getKeys().add(key);
-
+                                }
+                                try (PreparedStatement keysStatement = connectionFromPool.prepareStatement(CHANGED_TABLES_KEYS_QUERY)) {
+                                    keysStatement.setArray(1, oids);
+                                    try (ResultSet constraintsResultSet = keysStatement.executeQuery()) {
+                                        readKeys(constraintsResultSet, introspectedTables);
                                     }
                                 }
                             }
 
                             // Get/compute templates for each table and put those in.
-                            for (DatasourceStructure.Table table : tablesByName.values()) {
-                                final List<DatasourceStructure.Column> columnsWithoutDefault = table.getColumns()
-                                        .stream()
-                                        .filter(column -> column.getDefaultValue() == null)
-                                        .collect(Collectors.toList());
-
-                                final List<String> columnNames = new ArrayList<>();
-                                final List<String> columnValues = new ArrayList<>();
-                                final StringBuilder setFragments = new StringBuilder();
-
-                                for (DatasourceStructure.Column column : columnsWithoutDefault) {
-                                    final String name = column.getName();
-                                    final String type = column.getType();
-                                    String value;
-
-                                    if (type == null) {
-                                        value = "null";
-                                    } else if ("text".equals(type) || "varchar".equals(type)) {
-                                        value = "''";
-                                    } else if (type.startsWith("int")) {
-                                        value = "1";
-                                    } else if (type.startsWith("float") || type.startsWith("double")) {
-                                        value = "1.0";
-                                    } else if ("date".equals(type)) {
-                                        value = "'2019-07-01'";
-                                    } else if ("time".equals(type)) {
-                                        value = "'18:32:45'";
-                                    } else if ("timetz".equals(type)) {
-                                        value = "'04:05:06 PST'";
-                                    } else if ("timestamp".equals(type)) {
-                                        value = "TIMESTAMP '2019-07-01 10:00:00'";
-                                    } else if ("timestamptz".equals(type)) {
-                                        value = "TIMESTAMP WITH TIME ZONE '2019-07-01 06:30:00 CET'";
-                                    } else if (type.startsWith("_int")) {
-                                        value = "'{1, 2, 3}'";
-                                    } else if ("_varchar".equals(type)) {
-                                        value = "'{\"first\", \"second\"}'";
-                                    } else {
-                                        value = "''";
-                                    }
-
-                                    columnNames.add("\"" + name + "\"");
-                                    columnValues.add(value);
-                                    setFragments.append("\n    \"").append(name).append("\" = ").append(value).append(",");
-                                }
+                            for (DatasourceStructure.Table table : introspectedTables.values()) {
+                                addTemplates(table);
+                            }
 
-                                // Delete the last comma
-                                if (setFragments.length() > 0) {
-                                    setFragments.deleteCharAt(setFragments.length() - 1);
+                            for (String fullTableName : fingerprints.keySet()) {
+                                final DatasourceStructure.Table table = unchangedTables.containsKey(fullTableName)
+                                        ? unchangedTables.get(fullTableName)
+                                        : introspectedTables.remove(fullTableName);
+                                if (table != null) {
+                                    tablesByName.put(fullTableName, table);
                                 }
-
-                                final String quotedTableName = table.getName().replaceFirst("\\.(\\w+)", ".\"$1\"");
-                                table.getTemplates().addAll(List.of(
-                                        new DatasourceStructure.Template("SELECT", "SELECT * FROM " + quotedTableName + " LIMIT 10;"),
-                                        new DatasourceStructure.Template("INSERT", "INSERT INTO " + quotedTableName
-                                                + " (" + String.join(", ", columnNames) + ")\n"
-                                                + "  VALUES (" + String.join(", ", columnValues) + ");"),
-                                        new DatasourceStructure.Template("UPDATE", "UPDATE " + quotedTableName + " SET"
-                                                + setFragments.toString() + "\n"
-                                                + "  WHERE 1 = 0; -- Specify a valid condition here. Removing the condition may update every row in the table!"),
-                                        new DatasourceStructure.Template("DELETE", "DELETE FROM " + quotedTableName
-                                                + "\n  WHERE 1 = 0; -- Specify a valid condition here. Removing the condition may delete everything in the table!")
-                                ));
                             }
+                            // Tables created after the fingerprints were read. They have no fingerprint, and are
+                            // introspected again the next time.
+                            tablesByName.putAll(introspectedTables);
+                            structure.setTableFingerprints(fingerprints);
 
                         } catch (SQLException throwable) {
                             return Mono.error(new AppsmithPluginException(
@@ -792,6 +886,162 @@ public class PostgresPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        private static Map<String, DatasourceStructure.Table> getUnchangedTables(DatasourceStructure previousStructure,
+                                                                                Map<String, String> fingerprints) {
+            if (previousStructure == null
+                    || previousStructure.getTables() == null
+                    || previousStructure.getTableFingerprints() == null) {
+                return Map.of();
+            }
+
+            final Map<String, String> previousFingerprints = previousStructure.getTableFingerprints();
+            final Map<String, DatasourceStructure.Table> unchangedTables = new HashMap<>();
+            for (DatasourceStructure.Table table : previousStructure.getTables()) {
+                final String fingerprint = fingerprints.get(table.getName());
+                if (fingerprint != null && fingerprint.equals(previousFingerprints.get(table.getName()))) {
+                    unchangedTables.put(table.getName(), table);
+                }
+            }
+            return unchangedTables;
+        }
+
+        private static void readColumns(ResultSet columnsResultSet,
+                                        Map<String, DatasourceStructure.Table> tablesByName) throws SQLException {
+            while (columnsResultSet.next()) {
+                final char kind = columnsResultSet.getString("kind").charAt(0);
+                final String schemaName = columnsResultSet.getString("schema_name");
+                final String tableName = columnsResultSet.getString("table_name");
+                final String fullTableName = schemaName + "." + tableName;
+                if (!tablesByName.containsKey(fullTableName)) {
+                    tablesByName.put(fullTableName, new DatasourceStructure.Table(
+                            kind == 'r' ? DatasourceStructure.TableType.TABLE : DatasourceStructure.TableType.VIEW,
+                            schemaName,
+                            fullTableName,
+                            new ArrayList<>(),
+                            new ArrayList<>(),
+                            new ArrayList<>()
+                    ));
+                }
+                final DatasourceStructure.Table table = tablesByName.get(fullTableName);
+                final String defaultExpr = columnsResultSet.getString("default_expr");
+                boolean isAutogenerated = !StringUtils.isEmpty(defaultExpr) && defaultExpr.toLowerCase().contains("nextval");
+
+                table.getColumns().add(new DatasourceStructure.Column(
+                                columnsResultSet.getString("name"),
+                                columnsResultSet.getString("column_type"),
+                                defaultExpr,
+                                isAutogenerated
+                        )
+                );
+            }
+        }
+
+        private static void readKeys(ResultSet constraintsResultSet,
+                                     Map<String, DatasourceStructure.Table> tablesByName) throws SQLException {
+            while (constraintsResultSet.next()) {
+                final String constraintName = constraintsResultSet.getString("constraint_name");
+                final char constraintType = constraintsResultSet.getString("constraint_type").charAt(0);
+                final String selfSchema = constraintsResultSet.getString("self_schema");
+                final String tableName = constraintsResultSet.getString("self_table");
+                final String fullTableName = selfSchema + "." + tableName;
+                if (!tablesByName.containsKey(fullTableName)) {
+                    continue;
+                }
+
+                final DatasourceStructure.Table table = tablesByName.get(fullTableName);
+
+                if (constraintType == 'p') {
+                    final DatasourceStructure.PrimaryKey key = new DatasourceStructure.PrimaryKey(
+                            constraintName,
+                            List.of((String[]) constraintsResultSet.getArray("self_columns").getArray())
+                    );
+                    table.getKeys().add(key);
+
+                } else if (constraintType == 'f') {
+                    final String foreignSchema = constraintsResultSet.getString("foreign_schema");
+                    final String prefix = (foreignSchema.equalsIgnoreCase(selfSchema) ? "" : foreignSchema + ".")
+                            + constraintsResultSet.getString("foreign_table")
+                            + ".";
+
+                    final DatasourceStructure.ForeignKey key = new DatasourceStructure.ForeignKey(
+                            constraintName,
+                            List.of((String[]) constraintsResultSet.getArray("self_columns").getArray()),
+                            Stream.of((String[]) constraintsResultSet.getArray("foreign_columns").getArray())
+                                    .map(name -> prefix + name)
+                                    .collect(Collectors.toList())
+                    );
+
+                    table.getKeys().add(key);
+
+                }
+            }
+        }
+
+        private static void addTemplates(DatasourceStructure.Table table) {
+            final List<DatasourceStructure.Column> columnsWithoutDefault = table.getColumns()
+                    .stream()
+                    .filter(column -> column.getDefaultValue() == null)
+                    .collect(Collectors.toList());
+
+            final List<String> columnNames = new ArrayList<>();
+            final List<String> columnValues = new ArrayList<>();
+            final StringBuilder setFragments = new StringBuilder();
+
+            for (DatasourceStructure.Column column : columnsWithoutDefault) {
+                final String name = column.getName();
+                final String type = column.getType();
+                String value;
+
+                if (type == null) {
+                    value = "null";
+                } else if ("text".equals(type) || "varchar".equals(type)) {
+                    value = "''";
+                } else if (type.startsWith("int")) {
+                    value = "1";
+                } else if (type.startsWith("float") || type.startsWith("double")) {
+                    value = "1.0";
+                } else if ("date".equals(type)) {
+                    value = "'2019-07-01'";
+                } else if ("time".equals(type)) {
+                    value = "'18:32:45'";
+                } else if ("timetz".equals(type)) {
+                    value = "'04:05:06 PST'";
+                } else if ("timestamp".equals(type)) {
+                    value = "TIMESTAMP '2019-07-01 10:00:00'";
+                } else if ("timestamptz".equals(type)) {
+                    value = "TIMESTAMP WITH TIME ZONE '2019-07-01 06:30:00 CET'";
+                } else if (type.startsWith("_int")) {
+                    value = "'{1, 2, 3}'";
+                } else if ("_varchar".equals(type)) {
+                    value = "'{\"first\", \"second\"}'";
+                } else {
+                    value = "''";
+                }
+
+                columnNames.add("\"" + name + "\"");
+                columnValues.add(value);
+                setFragments.append("\n    \"").append(name).append("\" = ").append(value).append(",");
+            }
+
+            // Delete the last comma
+            if (setFragments.length() > 0) {
+                setFragments.deleteCharAt(setFragments.length() - 1);
+            }
+
+            final String quotedTableName = table.getName().replaceFirst("\\.(\\w+)", ".\"$1\"");
+            table.getTemplates().addAll(List.of(
+                    new DatasourceStructure.Template("SELECT", "SELECT * FROM " + quotedTableName + " LIMIT 10;"),
+                    new DatasourceStructure.Template("INSERT", "INSERT INTO " + quotedTableName
+                            + " (" + String.join(", ", columnNames) + ")\n"
+                            + "  VALUES (" + String.join(", ", columnValues) + ");"),
+                    new DatasourceStructure.Template("UPDATE", "UPDATE " + quotedTableName + " SET"
+                            + setFragments.toString() + "\n"
+                            + "  WHERE 1 = 0; -- Specify a valid condition here. Removing the condition may update every row in the table!"),
+                    new DatasourceStructure.Template("DELETE", "DELETE FROM " + quotedTableName
+                            + "\n  WHERE 1 = 0; -- Specify a valid condition here. Removing the condition may delete everything in the table!")
+            ));
+        }
+
         @Override
         public Object substituteValueInInput(int index,
                                              String binding,
@@ -942,8 +1192,34 @@ public class PostgresPlugin extends BasePlugin {
 
         // Set SSL property
         com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
-        config.setMinimumIdle(MINIMUM_POOL_SIZE);
-        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+
+        // Set pool size and timeouts, as configured for the datasource
+        ConnectionPoolConfiguration poolConfiguration =
+                getConnectionPoolConfiguration(datasourceConfiguration, MINIMUM_POOL_SIZE, MAXIMUM_POOL_SIZE);
+        String poolName = getPoolName("postgres");
+        AdaptivePoolSizer adaptivePoolSizer = poolConfiguration.isAdaptive()
+                ? new AdaptivePoolSizer(poolName, poolConfiguration, MAXIMUM_POOL_SIZE)
+                : null;
+        config.setPoolName(poolName);
+        if (adaptivePoolSizer != null) {
+            config.setMinimumIdle(adaptivePoolSizer.getMinimumIdle());
+            config.setMaximumPoolSize(adaptivePoolSizer.getMaximumPoolSize());
+        } else {
+            config.setMinimumIdle(poolConfiguration.getMinimumIdle());
+            config.setMaximumPoolSize(poolConfiguration.getMaximumPoolSize());
+        }
+        if (poolConfiguration.getIdleTimeoutInMillis() != null) {
+            config.setIdleTimeout(poolConfiguration.getIdleTimeoutInMillis());
+        }
+        if (poolConfiguration.getMaxLifetimeInMillis() != null) {
+            config.setMaxLifetime(poolConfiguration.getMaxLifetimeInMillis());
+        }
+        if (poolConfiguration.getConnectionTimeoutInMillis() != null) {
+            config.setConnectionTimeout(poolConfiguration.getConnectionTimeoutInMillis());
+        }
+
+        // Export the pool statistics as `hikaricp.*` metrics, tagged with the pool name
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(Metrics.globalRegistry));
 
         // Set authentication properties
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -1027,6 +1303,8 @@ public class PostgresPlugin extends BasePlugin {
         // should get tracked (may be falsely for long running queries) as leaked connection
         config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
 
+        config.addDataSourceProperty("prepareThreshold", String.valueOf(PREPARE_THRESHOLD));
+
         // Set read only mode if applicable
         switch (configurationConnection.getMode()) {
             case READ_WRITE: {
@@ -1041,7 +1319,7 @@ public class PostgresPlugin extends BasePlugin {
         }
 
         // Now create the connection pool from the configuration
-        HikariDataSource datasource = null;
+        final HikariDataSource datasource;
         try {
             datasource = new HikariDataSource(config);
         } catch (PoolInitializationException e) {
@@ -1051,6 +1329,13 @@ public class PostgresPlugin extends BasePlugin {
             );
         }
 
+        if (adaptivePoolSizer != null) {
+            startAdaptivePoolSizing(adaptivePoolSizer, datasource::isClosed,
+                    () -> datasource.getHikariPoolMXBean().getActiveConnections(),
+                    () -> datasource.getHikariPoolMXBean().getThreadsAwaitingConnection(),
+                    datasource::setMinimumIdle, datasource::setMaximumPoolSize);
+        }
+
         return datasource;
     }
 
@@ -51,6 +51,8 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Testcontainers
@@ -409,6 +411,108 @@ public class PostgresPluginTest {
                 .verifyComplete();
     }
 
+    private ActionConfiguration createStreamingActionConfiguration(String query, String maxRows) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(query);
+
+        List<Property> pluginSpecifiedTemplates = new ArrayList<>();
+        pluginSpecifiedTemplates.add(new Property("preparedStatement", "false"));
+        pluginSpecifiedTemplates.add(new Property("streamResults", "true"));
+        pluginSpecifiedTemplates.add(new Property("maxRows", maxRows));
+        actionConfiguration.setPluginSpecifiedTemplates(pluginSpecifiedTemplates);
+        return actionConfiguration;
+    }
+
+    @Test
+    public void testExecute_withStreamingAndRowCap_returnsFirstRowsAsTruncated() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<HikariDataSource> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration =
+                createStreamingActionConfiguration("SELECT n FROM generate_series(1, 2000) AS n ORDER BY n", "600");
+
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono
+                .flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertTrue(result.getTruncated());
+
+                    // More rows than a single fetch, which are read through the cursor
+                    ArrayNode rows = (ArrayNode) result.getBody();
+                    assertEquals(600, rows.size());
+                    assertEquals(1, rows.get(0).get("n").asInt());
+                    assertEquals(600, rows.get(599).get("n").asInt());
+                    assertTrue(result.getMessages().stream().anyMatch(message -> message.contains("truncated")));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecute_withStreamingOnWriteQuery_runsAndCommitsWithoutStreaming() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource dsConnection = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        pluginExecutor.executeParameterized(dsConnection, new ExecuteActionDTO(), dsConfig,
+                createStreamingActionConfiguration("CREATE TABLE streamed_writes (id int)", "10")).block();
+
+        Mono<ActionExecutionResult> insertMono = pluginExecutor.executeParameterized(dsConnection, new ExecuteActionDTO(),
+                dsConfig, createStreamingActionConfiguration("INSERT INTO streamed_writes VALUES (1), (2)", "10"));
+
+        StepVerifier.create(insertMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(2, ((ArrayNode) result.getBody()).get(0).get("affectedRows").asInt());
+                })
+                .verifyComplete();
+
+        // Read back through the streaming mode, which must leave the connections of the pool in autocommit mode for the
+        // write that follows
+        Mono<ActionExecutionResult> selectMono = pluginExecutor.executeParameterized(dsConnection, new ExecuteActionDTO(),
+                dsConfig, createStreamingActionConfiguration("SELECT count(*) AS total FROM streamed_writes", "10"));
+
+        StepVerifier.create(selectMono)
+                .assertNext(result -> assertEquals(2, ((ArrayNode) result.getBody()).get(0).get("total").asInt()))
+                .verifyComplete();
+
+        Mono<ActionExecutionResult> dropMono = pluginExecutor.executeParameterized(dsConnection, new ExecuteActionDTO(),
+                dsConfig, createStreamingActionConfiguration("DROP TABLE streamed_writes", "10"));
+
+        StepVerifier.create(dropMono)
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecute_withStreamingOnSelectWithSideEffects_commitsSideEffects() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource dsConnection = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        pluginExecutor.executeParameterized(dsConnection, new ExecuteActionDTO(), dsConfig,
+                createStreamingActionConfiguration("CREATE TABLE streamed_calls (id int)", "10")).block();
+        pluginExecutor.executeParameterized(dsConnection, new ExecuteActionDTO(), dsConfig,
+                createStreamingActionConfiguration("CREATE FUNCTION record_streamed_call() RETURNS bigint AS $$ " +
+                        "INSERT INTO streamed_calls VALUES (1); SELECT count(*) FROM streamed_calls $$ LANGUAGE sql", "10"))
+                .block();
+
+        // The insert made by the function fails in a read only transaction, and is lost in a rolled back one
+        Mono<ActionExecutionResult> callMono = pluginExecutor.executeParameterized(dsConnection, new ExecuteActionDTO(),
+                dsConfig, createStreamingActionConfiguration("SELECT record_streamed_call() AS calls", "10"));
+
+        StepVerifier.create(callMono.then(callMono))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(2, ((ArrayNode) result.getBody()).get(0).get("calls").asInt());
+                })
+                .verifyComplete();
+
+        pluginExecutor.executeParameterized(dsConnection, new ExecuteActionDTO(), dsConfig,
+                createStreamingActionConfiguration("DROP FUNCTION record_streamed_call", "10")).block();
+        pluginExecutor.executeParameterized(dsConnection, new ExecuteActionDTO(), dsConfig,
+                createStreamingActionConfiguration("DROP TABLE streamed_calls", "10")).block();
+    }
+
     @Test
     public void testStructure() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -595,6 +699,67 @@ public class PostgresPluginTest {
                 .verifyComplete();
     }
 
+    private static void executeOnTestDatabase(String sql) throws SQLException {
+        Properties properties = new Properties();
+        properties.putAll(Map.of(
+                "user", username,
+                "password", password
+        ));
+
+        try (Connection connection = DriverManager.getConnection(
+                "jdbc:postgresql://" + address + ":" + port + "/" + username,
+                properties
+        ); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    @Test
+    public void testStructure_WhenPreviousStructureGiven_IntrospectsOnlyChangedTables() throws SQLException {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        executeOnTestDatabase("CREATE TABLE structure_test (id serial PRIMARY KEY, name varchar)");
+
+        try {
+            HikariDataSource connection = pluginExecutor.datasourceCreate(dsConfig).block();
+            DatasourceStructure previousStructure = pluginExecutor.getStructure(connection, dsConfig, null).block();
+            assertNotNull(previousStructure.getTableFingerprints().get("public.structure_test"));
+
+            executeOnTestDatabase("ALTER TABLE structure_test ADD COLUMN age int4");
+
+            Mono<DatasourceStructure> structureMono = pluginExecutor.getStructure(connection, dsConfig, previousStructure);
+
+            StepVerifier.create(structureMono)
+                    .assertNext(structure -> {
+                        assertEquals(previousStructure.getTables().size(), structure.getTables().size());
+                        Map<String, DatasourceStructure.Table> previousTables = previousStructure.getTables()
+                                .stream()
+                                .collect(Collectors.toMap(DatasourceStructure.Table::getName, table -> table));
+
+                        for (DatasourceStructure.Table table : structure.getTables()) {
+                            if ("public.structure_test".equals(table.getName())) {
+                                assertNotSame(previousTables.get(table.getName()), table);
+                                assertEquals(
+                                        List.of("id", "name", "age"),
+                                        table.getColumns().stream().map(DatasourceStructure.Column::getName).collect(Collectors.toList())
+                                );
+                                assertEquals(1, table.getKeys().size());
+                                assertEquals(4, table.getTemplates().size());
+                                assertNotEquals(
+                                        previousStructure.getTableFingerprints().get(table.getName()),
+                                        structure.getTableFingerprints().get(table.getName())
+                                );
+                            } else {
+                                // Tables that haven't changed are reused from the previous structure
+                                assertSame(previousTables.get(table.getName()), table);
+                            }
+                        }
+                    })
+                    .verifyComplete();
+        } finally {
+            executeOnTestDatabase("DROP TABLE structure_test");
+        }
+    }
+
     @Test
     public void testStaleConnectionCheck() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -3,6 +3,7 @@ package com.external.plugins;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.StreamingRowCollector;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -10,6 +11,7 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
@@ -45,8 +47,14 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.validateConnectionPoolConfiguration;
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
+import static com.appsmith.external.helpers.StreamingRowCollector.DEFAULT_MAX_BYTES;
+import static com.appsmith.external.helpers.StreamingRowCollector.FETCH_SIZE;
+import static com.appsmith.external.helpers.StreamingRowCollector.getMaxRows;
+import static com.appsmith.external.helpers.StreamingRowCollector.isReadOnlyQuery;
+import static com.appsmith.external.helpers.StreamingRowCollector.isStreamingEnabled;
 import static com.external.utils.RedshiftDatasourceUtils.createConnectionPool;
 import static com.external.utils.RedshiftDatasourceUtils.getConnectionFromConnectionPool;
 
@@ -64,6 +72,10 @@ public class RedshiftPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.elastic();
 
+        private static final int STREAMING_INDEX = 0;
+
+        private static final int MAX_ROWS_INDEX = 1;
+
         private static final String TABLES_QUERY =
                 "select a.attname                                                      as name,\n" +
                         "       t1.typname                                                     as column_type,\n" +
@@ -199,6 +211,8 @@ public class RedshiftPlugin extends BasePlugin {
             String query = actionConfiguration.getBody();
             List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null
                     , null, null));
+            final List<Property> pluginSpecifiedTemplates = actionConfiguration.getPluginSpecifiedTemplates();
+            final boolean isStreaming = isStreamingEnabled(pluginSpecifiedTemplates, STREAMING_INDEX) && isReadOnlyQuery(query);
 
             if (query == null) {
                 return Mono.error(
@@ -242,11 +256,26 @@ public class RedshiftPlugin extends BasePlugin {
 
                         List<Map<String, Object>> rowsList = new ArrayList<>(50);
                         final List<String> columnsList = new ArrayList<>();
+                        final StreamingRowCollector streamingRows = isStreaming
+                                ? new StreamingRowCollector(objectMapper, getMaxRows(pluginSpecifiedTemplates, MAX_ROWS_INDEX), DEFAULT_MAX_BYTES)
+                                : null;
                         Statement statement = null;
                         ResultSet resultSet = null;
+                        boolean isAutoCommit = true;
 
                         try {
+                            if (streamingRows != null) {
+                                // With autocommit off and a fetch size set, the driver reads the result through a
+                                // server side cursor, a batch of rows at a time, instead of reading it all at once.
+                                // The transaction is committed once the rows are read, like autocommit would have.
+                                isAutoCommit = connection.getAutoCommit();
+                                connection.setAutoCommit(false);
+                            }
+
                             statement = connection.createStatement();
+                            if (streamingRows != null) {
+                                statement.setFetchSize(FETCH_SIZE);
+                            }
                             boolean isResultSet = statement.execute(query);
 
                             if (isResultSet) {
@@ -255,15 +284,30 @@ public class RedshiftPlugin extends BasePlugin {
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
                                 while (resultSet.next()) {
-                                    Map<String, Object> row = getRow(resultSet);
-                                    rowsList.add(row);
+                                    if (streamingRows == null) {
+                                        rowsList.add(getRow(resultSet));
+                                    } else if (streamingRows.hasCapacity()) {
+                                        streamingRows.add(getRow(resultSet));
+                                    } else {
+                                        streamingRows.markTruncated();
+                                        break;
+                                    }
                                 }
                             } else {
-                                rowsList.add(Map.of(
+                                Map<String, Object> affectedRows = Map.of(
                                         "affectedRows",
-                                        ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0))
+                                        ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                                 );
+                                if (streamingRows != null) {
+                                    streamingRows.add(affectedRows);
+                                } else {
+                                    rowsList.add(affectedRows);
+                                }
+
+                            }
 
+                            if (streamingRows != null) {
+                                connection.commit();
                             }
                         } catch (SQLException e) {
                             e.printStackTrace();
@@ -285,6 +329,17 @@ public class RedshiftPlugin extends BasePlugin {
                                 }
                             }
 
+                            if (streamingRows != null) {
+                                try {
+                                    // Rolls back the streaming transaction in case it failed before being committed,
+                                    // and restores the autocommit mode of the pooled connection
+                                    connection.rollback();
+                                    connection.setAutoCommit(isAutoCommit);
+                                } catch (SQLException e) {
+                                    log.error("Error ending Redshift streaming transaction", e);
+                                }
+                            }
+
                             try {
                                 connection.close();
                             } catch (SQLException e) {
@@ -294,8 +349,17 @@ public class RedshiftPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
-                        result.setMessages(populateHintMessages(columnsList));
+                        Set<String> messages = populateHintMessages(columnsList);
+                        if (streamingRows != null) {
+                            result.setBody(streamingRows.getRows());
+                            if (streamingRows.isTruncated()) {
+                                result.setTruncated(true);
+                                messages.add(streamingRows.getTruncationMessage());
+                            }
+                        } else {
+                            result.setBody(objectMapper.valueToTree(rowsList));
+                        }
+                        result.setMessages(messages);
                         result.setIsExecutionSuccess(true);
                         log.debug("In RedshiftPlugin, got action execution result");
                         return Mono.just(result);
@@ -422,6 +486,8 @@ public class RedshiftPlugin extends BasePlugin {
                 }
             }
 
+            invalids.addAll(validateConnectionPoolConfiguration(datasourceConfiguration.getConnectionPool()));
+
             return invalids;
         }
 
@@ -3,11 +3,15 @@ package com.external.utils;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.AdaptivePoolSizer;
+import com.appsmith.external.models.ConnectionPoolConfiguration;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
 import com.zaxxer.hikari.pool.HikariPool;
+import io.micrometer.core.instrument.Metrics;
 import org.apache.commons.lang.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -16,6 +20,9 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getConnectionPoolConfiguration;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getPoolName;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.startAdaptivePoolSizing;
 import static com.external.plugins.RedshiftPlugin.JDBC_DRIVER;
 
 public class RedshiftDatasourceUtils {
@@ -23,6 +30,7 @@ public class RedshiftDatasourceUtils {
     private static final int MINIMUM_POOL_SIZE = 1;
     private static final int MAXIMUM_POOL_SIZE = 5;
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
+    private static final long CONNECTION_TIMEOUT_MS = 60 * 1000;
     private static final String JDBC_PROTOCOL = "jdbc:redshift://";
 
 
@@ -30,8 +38,34 @@ public class RedshiftDatasourceUtils {
         HikariConfig config = new HikariConfig();
 
         config.setDriverClassName(JDBC_DRIVER);
-        config.setMinimumIdle(MINIMUM_POOL_SIZE);
-        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+
+        // Set pool size and timeouts, as configured for the datasource
+        ConnectionPoolConfiguration poolConfiguration =
+                getConnectionPoolConfiguration(datasourceConfiguration, MINIMUM_POOL_SIZE, MAXIMUM_POOL_SIZE);
+        String poolName = getPoolName("redshift");
+        AdaptivePoolSizer adaptivePoolSizer = poolConfiguration.isAdaptive()
+                ? new AdaptivePoolSizer(poolName, poolConfiguration, MAXIMUM_POOL_SIZE)
+                : null;
+        config.setPoolName(poolName);
+        if (adaptivePoolSizer != null) {
+            config.setMinimumIdle(adaptivePoolSizer.getMinimumIdle());
+            config.setMaximumPoolSize(adaptivePoolSizer.getMaximumPoolSize());
+        } else {
+            config.setMinimumIdle(poolConfiguration.getMinimumIdle());
+            config.setMaximumPoolSize(poolConfiguration.getMaximumPoolSize());
+        }
+        if (poolConfiguration.getIdleTimeoutInMillis() != null) {
+            config.setIdleTimeout(poolConfiguration.getIdleTimeoutInMillis());
+        }
+        if (poolConfiguration.getMaxLifetimeInMillis() != null) {
+            config.setMaxLifetime(poolConfiguration.getMaxLifetimeInMillis());
+        }
+        config.setConnectionTimeout(poolConfiguration.getConnectionTimeoutInMillis() != null
+                ? poolConfiguration.getConnectionTimeoutInMillis()
+                : CONNECTION_TIMEOUT_MS);
+
+        // Export the pool statistics as `hikaricp.*` metrics, tagged with the pool name
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(Metrics.globalRegistry));
 
         // Set authentication properties
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -63,7 +97,6 @@ public class RedshiftDatasourceUtils {
         // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
         // should get tracked (may be falsely for long running queries) as leaked connection
         config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
-        config.setConnectionTimeout(60 * 1000);
 
         // Set read only mode if applicable
         com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
@@ -80,7 +113,7 @@ public class RedshiftDatasourceUtils {
         }
 
         // Now create the connection pool from the configuration
-        HikariDataSource datasource = null;
+        final HikariDataSource datasource;
         try {
             datasource = new HikariDataSource(config);
         } catch (HikariPool.PoolInitializationException e) {
@@ -90,6 +123,13 @@ public class RedshiftDatasourceUtils {
             );
         }
 
+        if (adaptivePoolSizer != null) {
+            startAdaptivePoolSizing(adaptivePoolSizer, datasource::isClosed,
+                    () -> datasource.getHikariPoolMXBean().getActiveConnections(),
+                    () -> datasource.getHikariPoolMXBean().getThreadsAwaitingConnection(),
+                    datasource::setMinimumIdle, datasource::setMaximumPoolSize);
+        }
+
         return datasource;
     }
 
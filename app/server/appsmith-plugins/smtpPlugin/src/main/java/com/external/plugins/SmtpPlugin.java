@@ -12,12 +12,16 @@ import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.external.utils.SmtpTransportPool;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import javax.activation.DataHandler;
 import javax.activation.DataSource;
@@ -37,9 +41,12 @@ import javax.mail.internet.MimeMessage;
 import javax.mail.internet.MimeMultipart;
 import javax.mail.util.ByteArrayDataSource;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -48,99 +55,57 @@ import java.util.Set;
 public class SmtpPlugin extends BasePlugin {
     private static final String BASE64_DELIMITER = ";base64,";
 
+    // Closes the idle transports of the datasources, which may block on the SMTP servers.
+    private static final Scheduler transportEvictionScheduler = Schedulers.newBoundedElastic(
+            1, Integer.MAX_VALUE, "smtp-transport-eviction", 60, true);
+
     public SmtpPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
 
+    @Override
+    public void stop() {
+        transportEvictionScheduler.dispose();
+    }
+
+    /**
+     * The connection of a datasource is its mail session along with the pool of connected transports to send its
+     * emails over, which is closed with the connection.
+     */
     @Extension
-    public static class SmtpPluginExecutor implements PluginExecutor<Session> {
+    public static class SmtpPluginExecutor implements PluginExecutor<SmtpTransportPool> {
 
+        private static final String SEND_BATCH_COMMAND = "SEND_BATCH";
 
         @Override
-        public Mono<ActionExecutionResult> execute(Session connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
+        public Mono<ActionExecutionResult> execute(SmtpTransportPool transportPool, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
+
+            final Map<String, Object> formData = actionConfiguration.getFormData();
+            final Session connection = transportPool.getSession();
+
+            if (SEND_BATCH_COMMAND.equals(PluginUtils.getValueSafelyFromFormData(formData, "command"))) {
+                return executeBatch(connection, transportPool, formData);
+            }
 
-            Message message = new MimeMessage(connection);
             ActionExecutionResult result = new ActionExecutionResult();
             try {
-                String fromAddress = (String) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.from");
-                String toAddress = (String) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.to");
-                String ccAddress = (String) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.cc");
-                String bccAddress = (String) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.bcc");
-                String subject = (String) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.subject");
-                Boolean isReplyTo = (Boolean) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.isReplyTo");
+                String fromAddress = (String) PluginUtils.getValueSafelyFromFormData(formData, "send.from");
+                String toAddress = (String) PluginUtils.getValueSafelyFromFormData(formData, "send.to");
+                String ccAddress = (String) PluginUtils.getValueSafelyFromFormData(formData, "send.cc");
+                String bccAddress = (String) PluginUtils.getValueSafelyFromFormData(formData, "send.bcc");
+                String subject = (String) PluginUtils.getValueSafelyFromFormData(formData, "send.subject");
+                Boolean isReplyTo = (Boolean) PluginUtils.getValueSafelyFromFormData(formData, "send.isReplyTo");
                 String replyTo = Boolean.TRUE.equals(isReplyTo) ?
-                        (String) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.replyTo") : null;
-
-                if (!StringUtils.hasText(toAddress)) {
-                    return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                            "Couldn't find a valid recipient address. Please check your action configuration."));
-                }
-                if (!StringUtils.hasText(fromAddress)) {
-                    return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                            "Couldn't find a valid sender address. Please check your action configuration."));
-                }
-                message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(toAddress, false));
-                message.setFrom(new InternetAddress(fromAddress));
-
-                if (StringUtils.hasText(ccAddress)) {
-                    message.setRecipients(Message.RecipientType.CC, InternetAddress.parse(ccAddress, false));
-                }
-                if (StringUtils.hasText(bccAddress)) {
-                    message.setRecipients(Message.RecipientType.BCC, InternetAddress.parse(bccAddress, false));
-                }
-                if (StringUtils.hasText(replyTo)) {
-                    message.setReplyTo(InternetAddress.parse(replyTo, false));
-                }
-
-                message.setSubject(subject);
-
-                String msg = StringUtils.hasText(actionConfiguration.getBody()) ? actionConfiguration.getBody() : "";
-
-                MimeBodyPart mimeBodyPart = new MimeBodyPart();
-
-                // By default, all emails sent will be of type HTML. This can be parameterized. For simplification reasons,
-                // use the text/html mime type right now.
-                mimeBodyPart.setContent(msg, "text/html");
-
-                Multipart multipart = new MimeMultipart();
-                multipart.addBodyPart(mimeBodyPart);
-                message.setContent(multipart);
-
+                        (String) PluginUtils.getValueSafelyFromFormData(formData, "send.replyTo") : null;
                 // Look for any attachments that need to be sent along with this email
-                String attachmentsStr = (String) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.attachments");
-
-                if (StringUtils.hasText(attachmentsStr)) {
-                    MultipartFormDataDTO[] attachmentData = objectMapper.readValue(
-                            attachmentsStr,
-                            MultipartFormDataDTO[].class
-                    );
-
-                    // Iterate over each attachment and add it to the main multipart body of the email
-                    for (MultipartFormDataDTO attachment : attachmentData) {
-                        MimeBodyPart attachBodyPart = new MimeBodyPart();
-
-                        // Decode the base64 data received in the input by first removing the sequence data:image/png;base64,
-                        // from the start of the string.
-                        Base64.Decoder decoder = Base64.getDecoder();
-                        String attachmentStr = String.valueOf(attachment.getData());
-                        if (!attachmentStr.contains(BASE64_DELIMITER)) {
-                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR,
-                                    "Attachment " + attachment.getName() + " contains invalid data. Unable to send email."));
-                        }
-                        byte[] bytes = decoder.decode(attachmentStr.split(BASE64_DELIMITER)[1]);
-                        DataSource emailDatasource = new ByteArrayDataSource(bytes, attachment.getType());
-
-                        attachBodyPart.setDataHandler(new DataHandler(emailDatasource));
-                        attachBodyPart.setDisposition(Part.ATTACHMENT);
-                        attachBodyPart.setFileName(attachment.getName());
-                        // Add the attachment body part to the multipart body
-                        multipart.addBodyPart(attachBodyPart);
-                    }
-                }
+                String attachmentsStr = (String) PluginUtils.getValueSafelyFromFormData(formData, "send.attachments");
+
+                Message message = createMessage(connection, fromAddress, toAddress, ccAddress, bccAddress, replyTo,
+                        subject, actionConfiguration.getBody(), attachmentsStr);
 
                 // Send the email now
                 log.debug("Going to send the email");
-                Transport.send(message);
+                transportPool.send(message);
 
                 result.setIsExecutionSuccess(true);
                 Map<String, String> responseBody = new HashMap<>();
@@ -148,6 +113,8 @@ public class SmtpPlugin extends BasePlugin {
                 result.setBody(objectMapper.valueToTree(responseBody));
 
                 log.debug("Sent the email successfully");
+            } catch (AppsmithPluginException e) {
+                return Mono.error(e);
             } catch (MessagingException e) {
                 return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR,
                         "Unable to send email because of error: " + e.getMessage()));
@@ -159,8 +126,160 @@ public class SmtpPlugin extends BasePlugin {
             return Mono.just(result);
         }
 
+        /**
+         * Sends each of the messages in the batch over the pooled transports of the session, and reports the status of
+         * each message. A message that fails doesn't stop the rest of the batch from being sent.
+         */
+        private Mono<ActionExecutionResult> executeBatch(Session connection, SmtpTransportPool transportPool,
+                                                         Map<String, Object> formData) {
+            final List<Map<String, Object>> messages;
+            try {
+                messages = getBatchMessages(PluginUtils.getValueSafelyFromFormData(formData, "sendBatch.messages"));
+            } catch (IOException e) {
+                return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Unable to parse the messages, since they are not a valid JSON array of objects."));
+            }
+
+            if (messages.isEmpty()) {
+                return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Couldn't find any messages to send. Please check your action configuration."));
+            }
+
+            final String defaultFromAddress = (String) PluginUtils.getValueSafelyFromFormData(formData, "sendBatch.from");
+            final List<Map<String, Object>> statuses = new ArrayList<>();
+            int sentCount = 0;
+
+            log.debug("Going to send a batch of {} emails", messages.size());
+            for (int i = 0; i < messages.size(); i++) {
+                final Map<String, Object> fields = messages.get(i);
+                final String fromAddress = StringUtils.hasText(getString(fields, "from"))
+                        ? getString(fields, "from")
+                        : defaultFromAddress;
+
+                final Map<String, Object> status = new LinkedHashMap<>();
+                status.put("index", i);
+                status.put("to", getString(fields, "to"));
+                try {
+                    final Object attachments = fields.get("attachments");
+                    final String attachmentsStr = attachments == null || attachments instanceof String
+                            ? (String) attachments
+                            : objectMapper.writeValueAsString(attachments);
+                    final Message message = createMessage(connection, fromAddress, getString(fields, "to"),
+                            getString(fields, "cc"), getString(fields, "bcc"), getString(fields, "replyTo"),
+                            getString(fields, "subject"), getString(fields, "body"), attachmentsStr);
+                    transportPool.send(message);
+                    status.put("status", "SENT");
+                    sentCount++;
+                } catch (AppsmithPluginException | MessagingException | IOException e) {
+                    status.put("status", "FAILED");
+                    status.put("error", e.getMessage());
+                }
+                statuses.add(status);
+            }
+            log.debug("Sent {} out of {} emails in the batch", sentCount, messages.size());
+
+            final Map<String, Object> responseBody = new LinkedHashMap<>();
+            responseBody.put("sent", sentCount);
+            responseBody.put("failed", messages.size() - sentCount);
+            responseBody.put("messages", statuses);
+
+            ActionExecutionResult result = new ActionExecutionResult();
+            result.setIsExecutionSuccess(sentCount == messages.size());
+            result.setBody(objectMapper.valueToTree(responseBody));
+            return Mono.just(result);
+        }
+
+        private List<Map<String, Object>> getBatchMessages(Object messages) throws IOException {
+            if (messages == null || (messages instanceof String && !StringUtils.hasText((String) messages))) {
+                return List.of();
+            }
+
+            if (messages instanceof String) {
+                return objectMapper.readValue((String) messages, new TypeReference<List<Map<String, Object>>>() {});
+            }
+
+            return objectMapper.convertValue(messages, new TypeReference<List<Map<String, Object>>>() {});
+        }
+
+        private static String getString(Map<String, Object> fields, String key) {
+            final Object value = fields.get(key);
+            return value == null ? null : String.valueOf(value);
+        }
+
+        private Message createMessage(Session connection, String fromAddress, String toAddress, String ccAddress,
+                                      String bccAddress, String replyTo, String subject, String body,
+                                      String attachmentsStr) throws MessagingException, IOException {
+            if (!StringUtils.hasText(toAddress)) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Couldn't find a valid recipient address. Please check your action configuration.");
+            }
+            if (!StringUtils.hasText(fromAddress)) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Couldn't find a valid sender address. Please check your action configuration.");
+            }
+
+            Message message = new MimeMessage(connection);
+            message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(toAddress, false));
+            message.setFrom(new InternetAddress(fromAddress));
+
+            if (StringUtils.hasText(ccAddress)) {
+                message.setRecipients(Message.RecipientType.CC, InternetAddress.parse(ccAddress, false));
+            }
+            if (StringUtils.hasText(bccAddress)) {
+                message.setRecipients(Message.RecipientType.BCC, InternetAddress.parse(bccAddress, false));
+            }
+            if (StringUtils.hasText(replyTo)) {
+                message.setReplyTo(InternetAddress.parse(replyTo, false));
+            }
+
+            message.setSubject(subject);
+
+            String msg = StringUtils.hasText(body) ? body : "";
+
+            MimeBodyPart mimeBodyPart = new MimeBodyPart();
+
+            // By default, all emails sent will be of type HTML. This can be parameterized. For simplification reasons,
+            // use the text/html mime type right now.
+            mimeBodyPart.setContent(msg, "text/html");
+
+            Multipart multipart = new MimeMultipart();
+            multipart.addBodyPart(mimeBodyPart);
+            message.setContent(multipart);
+
+            if (StringUtils.hasText(attachmentsStr)) {
+                MultipartFormDataDTO[] attachmentData = objectMapper.readValue(
+                        attachmentsStr,
+                        MultipartFormDataDTO[].class
+                );
+
+                // Iterate over each attachment and add it to the main multipart body of the email
+                for (MultipartFormDataDTO attachment : attachmentData) {
+                    MimeBodyPart attachBodyPart = new MimeBodyPart();
+
+                    // Decode the base64 data received in the input by first removing the sequence data:image/png;base64,
+                    // from the start of the string.
+                    Base64.Decoder decoder = Base64.getDecoder();
+                    String attachmentStr = String.valueOf(attachment.getData());
+                    if (!attachmentStr.contains(BASE64_DELIMITER)) {
+                        throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR,
+                                "Attachment " + attachment.getName() + " contains invalid data. Unable to send email.");
+                    }
+                    byte[] bytes = decoder.decode(attachmentStr.split(BASE64_DELIMITER)[1]);
+                    DataSource emailDatasource = new ByteArrayDataSource(bytes, attachment.getType());
+
+                    attachBodyPart.setDataHandler(new DataHandler(emailDatasource));
+                    attachBodyPart.setDisposition(Part.ATTACHMENT);
+                    attachBodyPart.setFileName(attachment.getName());
+                    // Add the attachment body part to the multipart body
+                    multipart.addBodyPart(attachBodyPart);
+                }
+            }
+
+            return message;
+        }
+
         @Override
-        public Mono<Session> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<SmtpTransportPool> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
 
             Endpoint endpoint = datasourceConfiguration.getEndpoints().get(0);
             DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -183,12 +302,17 @@ public class SmtpPlugin extends BasePlugin {
                     return new PasswordAuthentication(username, password);
                 }
             });
-            return Mono.just(session);
+            return Mono.just(new SmtpTransportPool(session, transportEvictionScheduler));
         }
 
         @Override
-        public void datasourceDestroy(Session session) {
+        public void datasourceDestroy(SmtpTransportPool transportPool) {
             log.debug("Going to destroy email datasource");
+            if (transportPool == null) {
+                return;
+            }
+            transportPool.close();
+            final Session session = transportPool.getSession();
             try {
                 if (session != null && session.getTransport() != null) {
                     session.getTransport().close();
@@ -224,12 +348,12 @@ public class SmtpPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceTestResult> testDatasource(Session connection) {
+        public Mono<DatasourceTestResult> testDatasource(SmtpTransportPool connection) {
             log.debug("Going to test email datasource");
             return Mono.fromCallable(() -> {
                         Set<String> invalids = new HashSet<>();
                         try {
-                            Transport transport = connection.getTransport();
+                            Transport transport = connection.getSession().getTransport();
                             if (transport != null) {
                                 transport.connect();
                             }
@@ -0,0 +1,180 @@
+package com.external.utils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The mail session of a datasource along with a small pool of connected SMTP transports for it, so that sending an
+ * email doesn't need a new TCP connection, TLS handshake and authentication every time.
+ * <p>
+ * Idle transports are reused most recently used first. One is checked with a NOOP before being reused, and one that
+ * has been idle for longer than the idle timeout is closed instead. Idle transports are also closed periodically on
+ * the given scheduler, until the pool is closed.
+ */
+@Slf4j
+public class SmtpTransportPool {
+
+    public static final int DEFAULT_MAX_IDLE = 4;
+
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(1);
+
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(30);
+
+    private static class IdleTransport {
+
+        private final Transport transport;
+
+        private final Instant idleSince;
+
+        private IdleTransport(Transport transport) {
+            this.transport = transport;
+            this.idleSince = Instant.now();
+        }
+
+        private Duration idleFor() {
+            return Duration.between(idleSince, Instant.now());
+        }
+    }
+
+    @Getter
+    private final Session session;
+
+    private final int maxIdle;
+
+    private final Duration idleTimeout;
+
+    // Most recently released transports first.
+    private final Deque<IdleTransport> idleTransports = new ArrayDeque<>();
+
+    private final Disposable periodicEviction;
+
+    private boolean closed = false;
+
+    public SmtpTransportPool(Session session, Scheduler evictionScheduler) {
+        this(session, DEFAULT_MAX_IDLE, DEFAULT_IDLE_TIMEOUT, evictionScheduler);
+    }
+
+    public SmtpTransportPool(Session session, int maxIdle, Duration idleTimeout, Scheduler evictionScheduler) {
+        this.session = session;
+        this.maxIdle = maxIdle;
+        this.idleTimeout = idleTimeout;
+        this.periodicEviction = evictionScheduler.schedulePeriodically(this::evictIdle,
+                EVICTION_INTERVAL.toMillis(), EVICTION_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sends the given message over a pooled transport, or over a newly connected one when none of the pooled ones is
+     * still connected. A message whose sending fails is not sent again, as the server may have accepted it before the
+     * failure.
+     */
+    public void send(Message message) throws MessagingException {
+        message.saveChanges();
+
+        final Transport transport;
+        final IdleTransport idleTransport = pollConnectedIdleTransport();
+        if (idleTransport != null) {
+            transport = idleTransport.transport;
+        } else {
+            transport = session.getTransport();
+            transport.connect();
+        }
+        sendMessage(transport, message);
+    }
+
+    /**
+     * Closes the transports that have been idle for longer than the idle timeout.
+     */
+    public void evictIdle() {
+        final List<Transport> evicted = new ArrayList<>();
+        synchronized (idleTransports) {
+            while (!idleTransports.isEmpty() && idleTransports.peekLast().idleFor().compareTo(idleTimeout) > 0) {
+                evicted.add(idleTransports.pollLast().transport);
+            }
+        }
+        evicted.forEach(SmtpTransportPool::closeQuietly);
+    }
+
+    public void close() {
+        periodicEviction.dispose();
+        final List<Transport> transports = new ArrayList<>();
+        synchronized (idleTransports) {
+            closed = true;
+            idleTransports.forEach(idleTransport -> transports.add(idleTransport.transport));
+            idleTransports.clear();
+        }
+        transports.forEach(SmtpTransportPool::closeQuietly);
+    }
+
+    public int getIdleCount() {
+        synchronized (idleTransports) {
+            return idleTransports.size();
+        }
+    }
+
+    private void sendMessage(Transport transport, Message message) throws MessagingException {
+        try {
+            transport.sendMessage(message, message.getAllRecipients());
+        } catch (SendFailedException e) {
+            release(transport);
+            throw e;
+        } catch (MessagingException e) {
+            closeQuietly(transport);
+            throw e;
+        }
+        release(transport);
+    }
+
+    private IdleTransport pollConnectedIdleTransport() {
+        while (true) {
+            final IdleTransport idleTransport;
+            synchronized (idleTransports) {
+                idleTransport = idleTransports.pollFirst();
+            }
+
+            if (idleTransport == null) {
+                return null;
+            }
+
+            // For SMTP transports, `isConnected` sends a NOOP to check that the server hasn't dropped the connection.
+            // Checking before sending is what lets a dropped connection be replaced without sending a message twice.
+            if (idleTransport.idleFor().compareTo(idleTimeout) <= 0 && idleTransport.transport.isConnected()) {
+                return idleTransport;
+            }
+
+            closeQuietly(idleTransport.transport);
+        }
+    }
+
+    private void release(Transport transport) {
+        synchronized (idleTransports) {
+            if (!closed && idleTransports.size() < maxIdle) {
+                idleTransports.offerFirst(new IdleTransport(transport));
+                return;
+            }
+        }
+        closeQuietly(transport);
+    }
+
+    private static void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Error closing SMTP transport: {}", e.getMessage());
+        }
+    }
+}
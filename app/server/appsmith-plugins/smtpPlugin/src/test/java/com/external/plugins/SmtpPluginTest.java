@@ -9,6 +9,8 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.external.utils.SmtpTransportPool;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.GenericContainer;
@@ -18,13 +20,13 @@ import org.testcontainers.utility.DockerImageName;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import javax.mail.Session;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -321,7 +323,7 @@ public class SmtpPluginTest {
     public void testSendEmailValidWithAttachment() {
 
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Session> sessionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<SmtpTransportPool> sessionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = createActionConfiguration();
         PluginUtils.setValueSafelyInFormData(actionConfiguration.getFormData(), "send.attachments", "");
@@ -339,7 +341,7 @@ public class SmtpPluginTest {
     @Test
     public void testSendMultipleEmailsConcurrently() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Session> sessionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<SmtpTransportPool> sessionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration1 = createActionConfiguration();
         ActionConfiguration actionConfiguration2 = createActionConfiguration();
@@ -358,4 +360,35 @@ public class SmtpPluginTest {
                 .verifyComplete();
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSendBatchReportsStatusOfEachMessage() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<SmtpTransportPool> sessionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        Map<String, Object> formData = new HashMap<>();
+        PluginUtils.setValueSafelyInFormData(formData, "command", "SEND_BATCH");
+        PluginUtils.setValueSafelyInFormData(formData, "sendBatch.from", "from@test.com");
+        PluginUtils.setValueSafelyInFormData(formData, "sendBatch.messages", "[" +
+                "{\"to\": \"to1@test.com\", \"subject\": \"First\", \"body\": \"One\"}," +
+                "{\"to\": \"\", \"subject\": \"Second\", \"body\": \"Two\"}," +
+                "{\"to\": \"to3@test.com\", \"from\": \"from3@test.com\", \"subject\": \"Third\"}" +
+                "]");
+        actionConfiguration.setFormData(formData);
+
+        Mono<ActionExecutionResult> resultMono = sessionMono.flatMap(session -> pluginExecutor.execute(session, dsConfig, actionConfiguration));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    JsonNode body = (JsonNode) result.getBody();
+                    assertEquals(2, body.get("sent").asInt());
+                    assertEquals(1, body.get("failed").asInt());
+                    assertEquals("SENT", body.get("messages").get(0).get("status").asText());
+                    assertEquals("FAILED", body.get("messages").get(1).get("status").asText());
+                    assertEquals("SENT", body.get("messages").get(2).get("status").asText());
+                })
+                .verifyComplete();
+    }
+}
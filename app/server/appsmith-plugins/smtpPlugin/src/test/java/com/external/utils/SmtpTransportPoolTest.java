@@ -0,0 +1,165 @@
+package com.external.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import javax.mail.Address;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.Provider;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.URLName;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SmtpTransportPoolTest {
+
+    /**
+     * Records every connection and message, in place of an SMTP server.
+     */
+    public static class RecordingTransport extends Transport {
+
+        static final List<RecordingTransport> transports = new ArrayList<>();
+
+        int sentCount = 0;
+
+        boolean failNextSend = false;
+
+        boolean dropped = false;
+
+        public RecordingTransport(Session session, URLName urlName) {
+            super(session, urlName);
+            transports.add(this);
+        }
+
+        @Override
+        protected boolean protocolConnect(String host, int port, String user, String password) {
+            return true;
+        }
+
+        @Override
+        public synchronized boolean isConnected() {
+            return !dropped && super.isConnected();
+        }
+
+        @Override
+        public void sendMessage(Message message, Address[] addresses) throws MessagingException {
+            if (failNextSend) {
+                failNextSend = false;
+                throw new MessagingException("Connection dropped");
+            }
+            sentCount++;
+        }
+    }
+
+    private Session session;
+
+    private VirtualTimeScheduler scheduler;
+
+    @BeforeEach
+    public void setup() {
+        scheduler = VirtualTimeScheduler.create();
+        RecordingTransport.transports.clear();
+        Properties properties = new Properties();
+        properties.put("mail.transport.protocol", "recording");
+        session = Session.getInstance(properties);
+        session.addProvider(new Provider(Provider.Type.TRANSPORT, "recording", RecordingTransport.class.getName(),
+                "Appsmith", "1.0"));
+    }
+
+    private Message createMessage() throws MessagingException {
+        Message message = new MimeMessage(session);
+        message.setFrom(new InternetAddress("from@test.com"));
+        message.setRecipients(Message.RecipientType.TO, InternetAddress.parse("to@test.com"));
+        message.setText("body");
+        return message;
+    }
+
+    @Test
+    public void testReusesConnectedTransport() throws MessagingException {
+        SmtpTransportPool pool = new SmtpTransportPool(session, scheduler);
+
+        pool.send(createMessage());
+        pool.send(createMessage());
+        pool.send(createMessage());
+
+        assertEquals(1, RecordingTransport.transports.size());
+        assertEquals(3, RecordingTransport.transports.get(0).sentCount);
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    public void testReconnectsWhenPooledTransportWasDropped() throws MessagingException {
+        SmtpTransportPool pool = new SmtpTransportPool(session, scheduler);
+
+        pool.send(createMessage());
+        RecordingTransport first = RecordingTransport.transports.get(0);
+        first.dropped = true;
+        pool.send(createMessage());
+
+        assertEquals(2, RecordingTransport.transports.size());
+        assertEquals(1, first.sentCount);
+        assertEquals(1, RecordingTransport.transports.get(1).sentCount);
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    public void testDoesNotSendAgainWhenSendingFails() throws MessagingException {
+        SmtpTransportPool pool = new SmtpTransportPool(session, scheduler);
+
+        pool.send(createMessage());
+        RecordingTransport first = RecordingTransport.transports.get(0);
+        first.failNextSend = true;
+        // The server may have accepted the message before the connection failed
+        assertThrows(MessagingException.class, () -> pool.send(createMessage()));
+
+        assertEquals(1, RecordingTransport.transports.size());
+        assertEquals(1, first.sentCount);
+        assertFalse(first.isConnected());
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void testEvictsAndClosesIdleTransports() throws MessagingException {
+        SmtpTransportPool pool = new SmtpTransportPool(session, 2, Duration.ZERO, scheduler);
+
+        pool.send(createMessage());
+        assertEquals(1, pool.getIdleCount());
+        RecordingTransport transport = RecordingTransport.transports.get(0);
+
+        pool.evictIdle();
+        assertEquals(0, pool.getIdleCount());
+        assertFalse(transport.isConnected());
+
+        pool.send(createMessage());
+        pool.close();
+        assertEquals(0, pool.getIdleCount());
+        assertSame(transport, RecordingTransport.transports.get(0));
+        assertFalse(RecordingTransport.transports.get(1).isConnected());
+    }
+
+    @Test
+    public void testEvictsIdleTransportsPeriodically() throws MessagingException {
+        SmtpTransportPool pool = new SmtpTransportPool(session, 2, Duration.ZERO, scheduler);
+
+        pool.send(createMessage());
+        assertEquals(1, pool.getIdleCount());
+
+        scheduler.advanceTimeBy(Duration.ofSeconds(30));
+        assertEquals(0, pool.getIdleCount());
+        assertFalse(RecordingTransport.transports.get(0).isConnected());
+
+        pool.close();
+    }
+}
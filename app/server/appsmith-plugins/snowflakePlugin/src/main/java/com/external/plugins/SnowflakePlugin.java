@@ -13,6 +13,7 @@ import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.external.utils.SqlUtils;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
@@ -22,7 +23,6 @@ import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -32,9 +32,13 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
 
+import static com.external.utils.ConnectionPoolUtils.JDBC_DRIVER;
+import static com.external.utils.ConnectionPoolUtils.createConnectionPool;
+import static com.external.utils.ConnectionPoolUtils.getConnectionFromConnectionPool;
+import static com.external.utils.ConnectionPoolUtils.logPoolMetrics;
+import static com.external.utils.ConnectionPoolUtils.resizeConnectionPoolForWarehouse;
 import static com.external.utils.ExecutionUtils.getRowsFromQueryResult;
 import static com.external.utils.ValidationUtils.validateWarehouseDatabaseSchema;
 
@@ -46,12 +50,12 @@ public class SnowflakePlugin extends BasePlugin {
     }
 
     @Extension
-    public static class SnowflakePluginExecutor implements PluginExecutor<Connection> {
+    public static class SnowflakePluginExecutor implements PluginExecutor<HikariDataSource> {
 
         private final Scheduler scheduler = Schedulers.elastic();
 
         @Override
-        public Mono<ActionExecutionResult> execute(Connection connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
+        public Mono<ActionExecutionResult> execute(HikariDataSource connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
 
             String query = actionConfiguration.getBody();
 
@@ -61,13 +65,18 @@ public class SnowflakePlugin extends BasePlugin {
                         "Missing required parameter: Query."));
             }
 
+            // Let Snowflake cancel the query once the action has timed out, so that it doesn't keep the connection busy.
+            final int timeoutSeconds = (int) Math.ceil(actionConfiguration.getTimeoutInMillisecond() / 1000.0);
+
             return Mono
                     .fromCallable(() -> {
+                        Connection connectionFromPool = getPooledConnection(connection);
+                        logPoolMetrics(connection, "Before executing Snowflake query");
                         try {
-                            // Connection staleness is checked as part of this method call.
-                            return getRowsFromQueryResult(connection, query);
-                        } catch (AppsmithPluginException | StaleConnectionException e) {
-                            throw e;
+                            return getRowsFromQueryResult(connectionFromPool, query, timeoutSeconds);
+                        } finally {
+                            releaseConnection(connectionFromPool);
+                            logPoolMetrics(connection, "After executing Snowflake query,");
                         }
                     })
                     .map(rowsList -> {
@@ -83,47 +92,29 @@ public class SnowflakePlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             try {
-                Class.forName("net.snowflake.client.jdbc.SnowflakeDriver");
+                Class.forName(JDBC_DRIVER);
             } catch (ClassNotFoundException ex) {
                 log.debug("Driver not found");
                 return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, ex.getMessage()));
             }
-            DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
-            Properties properties = new Properties();
-            properties.setProperty("user", authentication.getUsername());
-            properties.setProperty("password", authentication.getPassword());
-            properties.setProperty("warehouse", String.valueOf(datasourceConfiguration.getProperties().get(0).getValue()));
-            properties.setProperty("db", String.valueOf(datasourceConfiguration.getProperties().get(1).getValue()));
-            properties.setProperty("schema", String.valueOf(datasourceConfiguration.getProperties().get(2).getValue()));
-            properties.setProperty("role", String.valueOf(datasourceConfiguration.getProperties().get(3).getValue()));
 
             return Mono
                     .fromCallable(() -> {
-                        Connection conn;
-                        try {
-                            conn = DriverManager.getConnection("jdbc:snowflake://" + datasourceConfiguration.getUrl() + ".snowflakecomputing.com", properties);
-                        } catch (SQLException e) {
-                            log.error("Exception caught when connecting to Snowflake endpoint: " + datasourceConfiguration.getUrl() + ". Cause: ", e);
-                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR, e.getMessage());
-                        }
-                        if (conn == null) {
-                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Unable to create connection to Snowflake URL");
-                        }
-                        return conn;
+                        log.debug("Connecting to Snowflake endpoint: {}", datasourceConfiguration.getUrl());
+                        HikariDataSource connectionPool = createConnectionPool(datasourceConfiguration);
+                        resizeConnectionPoolForWarehouse(connectionPool,
+                                String.valueOf(datasourceConfiguration.getProperties().get(0).getValue()));
+                        return connectionPool;
                     })
                     .subscribeOn(scheduler);
         }
 
         @Override
-        public void datasourceDestroy(Connection connection) {
+        public void datasourceDestroy(HikariDataSource connection) {
             if (connection != null) {
-                try {
-                    connection.close();
-                } catch (SQLException throwable) {
-                    log.error("Exception caught when closing Snowflake connection. Cause: ", throwable);
-                }
+                connection.close();
             }
         }
 
@@ -176,31 +167,38 @@ public class SnowflakePlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceTestResult> testDatasource(Connection connection) {
+        public Mono<DatasourceTestResult> testDatasource(HikariDataSource connection) {
             return Mono.fromCallable(() -> {
-                        return validateWarehouseDatabaseSchema(connection);
+                        Connection connectionFromPool = getPooledConnection(connection);
+                        try {
+                            return validateWarehouseDatabaseSchema(connectionFromPool);
+                        } finally {
+                            releaseConnection(connectionFromPool);
+                        }
                     })
-                    .map(DatasourceTestResult::new);
+                    .map(DatasourceTestResult::new)
+                    .subscribeOn(scheduler);
         }
 
         @Override
-        public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+        public Mono<DatasourceStructure> getStructure(HikariDataSource connection, DatasourceConfiguration datasourceConfiguration) {
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
             final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
 
             return Mono
-                    .fromSupplier(() -> {
+                    .fromCallable(() -> {
+                        Connection connectionFromPool = getPooledConnection(connection);
+                        logPoolMetrics(connection, "Before getting Snowflake db structure");
                         try {
-                            // Connection staleness is checked as part of this method call.
-                            Set<String> invalids = validateWarehouseDatabaseSchema(connection);
+                            Set<String> invalids = validateWarehouseDatabaseSchema(connectionFromPool);
                             if (!invalids.isEmpty()) {
                                 throw new AppsmithPluginException(
                                         AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
                                         invalids.toArray()[0]
                                 );
                             }
-                            Statement statement = connection.createStatement();
+                            Statement statement = connectionFromPool.createStatement();
                             final String columnsQuery = SqlUtils.COLUMNS_QUERY + "'"
                                     + datasourceConfiguration.getProperties().get(2).getValue() + "'";
                             ResultSet resultSet = statement.executeQuery(columnsQuery);
@@ -228,10 +226,33 @@ public class SnowflakePlugin extends BasePlugin {
                         } catch (SQLException throwable) {
                             log.error("Exception caught while fetching structure of Snowflake datasource. Cause: ", throwable);
                             throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, throwable.getMessage());
+                        } finally {
+                            releaseConnection(connectionFromPool);
+                            logPoolMetrics(connection, "After getting Snowflake db structure,");
                         }
                         return structure;
                     })
                     .subscribeOn(scheduler);
         }
+
+        private static Connection getPooledConnection(HikariDataSource connectionPool) throws StaleConnectionException {
+            try {
+                return getConnectionFromConnectionPool(connectionPool);
+            } catch (SQLException e) {
+                // The underlying hikari library throws SQLException in case the pool is closed or there is an issue
+                // initializing the connection pool which can also be translated in our world to
+                // StaleConnectionException and should then trigger the destruction and recreation of the pool.
+                throw new StaleConnectionException();
+            }
+        }
+
+        private static void releaseConnection(Connection connectionFromPool) {
+            try {
+                // Return the connection back to the pool
+                connectionFromPool.close();
+            } catch (SQLException e) {
+                log.debug("Error returning Snowflake connection to pool", e);
+            }
+        }
     }
 }
@@ -0,0 +1,210 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.models.DBAuth;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates the connection pool for a Snowflake datasource and hands out connections from it.
+ * <p>
+ * Snowflake queries are usually long running, so the pool is sized as per the number of queries the configured
+ * warehouse can run concurrently, i.e. its `MAX_CONCURRENCY_LEVEL` times its maximum cluster count, bounded by
+ * {@link #MAXIMUM_POOL_SIZE}. Sessions are kept alive by the driver, so that idle connections in the pool don't need to
+ * re-authenticate, and every statement runs with a server side timeout so that abandoned queries don't keep holding on
+ * to a connection and to the warehouse.
+ * <p>
+ * The pool settings can be overridden with the following environment variables:
+ * APPSMITH_SNOWFLAKE_POOL_MIN_SIZE, APPSMITH_SNOWFLAKE_POOL_MAX_SIZE and APPSMITH_SNOWFLAKE_STATEMENT_TIMEOUT_SECONDS.
+ */
+@Slf4j
+public class ConnectionPoolUtils {
+
+    public static final String JDBC_DRIVER = "net.snowflake.client.jdbc.SnowflakeDriver";
+
+    public static final int MINIMUM_POOL_SIZE = getIntFromEnv("APPSMITH_SNOWFLAKE_POOL_MIN_SIZE", 1);
+    public static final int MAXIMUM_POOL_SIZE = getIntFromEnv("APPSMITH_SNOWFLAKE_POOL_MAX_SIZE", 10);
+    public static final int STATEMENT_TIMEOUT_SECONDS = getIntFromEnv("APPSMITH_SNOWFLAKE_STATEMENT_TIMEOUT_SECONDS", 3600);
+
+    // Pool size used until the concurrency of the warehouse is known.
+    private static final int DEFAULT_POOL_SIZE = 5;
+
+    // Snowflake defaults, used when a setting is missing from the listed warehouse, e.g. in the editions without
+    // multi-cluster warehouses.
+    private static final int DEFAULT_MAX_CONCURRENCY_LEVEL = 8;
+    private static final int DEFAULT_MAX_CLUSTER_COUNT = 1;
+
+    // Snowflake queries can take a while, so only the connections held for longer than this are reported as leaked.
+    private static final long LEAK_DETECTION_TIME_MS = 5 * 60 * 1000;
+
+    private static final String POOL_NAME_PREFIX = "snowflake-";
+
+    private static final AtomicLong poolCounter = new AtomicLong();
+
+    /**
+     * Creates a connection pool for the given datasource configuration. The session parameters for keep alive,
+     * statement timeout and result chunk prefetching are passed on to the driver as connection properties.
+     */
+    public static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration) throws AppsmithPluginException {
+        HikariConfig config = new HikariConfig();
+
+        config.setDriverClassName(JDBC_DRIVER);
+        config.setJdbcUrl("jdbc:snowflake://" + datasourceConfiguration.getUrl() + ".snowflakecomputing.com");
+        config.setPoolName(POOL_NAME_PREFIX + poolCounter.incrementAndGet());
+        config.setMinimumIdle(Math.min(MINIMUM_POOL_SIZE, DEFAULT_POOL_SIZE));
+        config.setMaximumPoolSize(Math.max(MINIMUM_POOL_SIZE, DEFAULT_POOL_SIZE));
+        config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+
+        // Set authentication properties
+        DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
+        if (authentication.getUsername() != null) {
+            config.setUsername(authentication.getUsername());
+        }
+        if (authentication.getPassword() != null) {
+            config.setPassword(authentication.getPassword());
+        }
+
+        config.addDataSourceProperty("warehouse", String.valueOf(datasourceConfiguration.getProperties().get(0).getValue()));
+        config.addDataSourceProperty("db", String.valueOf(datasourceConfiguration.getProperties().get(1).getValue()));
+        config.addDataSourceProperty("schema", String.valueOf(datasourceConfiguration.getProperties().get(2).getValue()));
+        config.addDataSourceProperty("role", String.valueOf(datasourceConfiguration.getProperties().get(3).getValue()));
+
+        // Session parameters
+        config.addDataSourceProperty("CLIENT_SESSION_KEEP_ALIVE", "true");
+        config.addDataSourceProperty("STATEMENT_TIMEOUT_IN_SECONDS", String.valueOf(STATEMENT_TIMEOUT_SECONDS));
+        config.addDataSourceProperty("CLIENT_PREFETCH_THREADS", String.valueOf(ExecutionUtils.PREFETCH_THREADS));
+
+        try {
+            return new HikariDataSource(config);
+        } catch (PoolInitializationException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * First checks if the connection pool is still valid. If yes, we fetch a connection from the pool and return.
+     * In case a connection is not available in the pool, SQL Exception is thrown.
+     */
+    public static Connection getConnectionFromConnectionPool(HikariDataSource connectionPool) throws SQLException {
+        if (connectionPool == null || connectionPool.isClosed() || !connectionPool.isRunning()) {
+            log.debug("Encountered stale connection pool in Snowflake plugin. Reporting back.");
+            throw new StaleConnectionException();
+        }
+
+        return connectionPool.getConnection();
+    }
+
+    /**
+     * Resizes the pool to the number of queries the warehouse can run concurrently. This is best effort, the pool keeps
+     * its current size in case the warehouse settings can't be read.
+     */
+    public static void resizeConnectionPoolForWarehouse(HikariDataSource connectionPool, String warehouseName) {
+        final OptionalInt concurrency;
+        try (Connection connection = getConnectionFromConnectionPool(connectionPool)) {
+            concurrency = getWarehouseConcurrency(connection, warehouseName);
+        } catch (SQLException e) {
+            log.debug("Unable to read the settings of Snowflake warehouse {}, keeping the pool size", warehouseName, e);
+            return;
+        }
+
+        if (!concurrency.isPresent()) {
+            log.debug("Snowflake warehouse {} is not visible to the role, keeping the pool size", warehouseName);
+            return;
+        }
+
+        final int poolSize = Math.max(MINIMUM_POOL_SIZE, Math.min(concurrency.getAsInt(), MAXIMUM_POOL_SIZE));
+        connectionPool.getHikariConfigMXBean().setMaximumPoolSize(poolSize);
+        log.debug("Snowflake pool {} sized to {} connections for warehouse {}", connectionPool.getPoolName(), poolSize,
+                warehouseName);
+    }
+
+    /**
+     * Returns the number of queries the warehouse can run concurrently, or empty if the warehouse isn't listed, e.g. as
+     * the role can't see it.
+     */
+    static OptionalInt getWarehouseConcurrency(Connection connection, String warehouseName) throws SQLException {
+        int maxClusterCount;
+        int maxConcurrencyLevel = DEFAULT_MAX_CONCURRENCY_LEVEL;
+        String name;
+
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery(
+                    "SHOW WAREHOUSES LIKE '" + warehouseName.replace("'", "''") + "'")) {
+                if (!resultSet.next()) {
+                    return OptionalInt.empty();
+                }
+                name = resultSet.getString("name");
+                maxClusterCount = getPositiveInt(resultSet, "max_cluster_count", DEFAULT_MAX_CLUSTER_COUNT);
+            }
+
+            if (!StringUtils.isEmpty(name)) {
+                // The name as returned by Snowflake is used, so that quoting it doesn't change its case.
+                try (ResultSet resultSet = statement.executeQuery(
+                        "SHOW PARAMETERS LIKE 'MAX_CONCURRENCY_LEVEL' IN WAREHOUSE \"" + name.replace("\"", "\"\"") + "\"")) {
+                    if (resultSet.next()) {
+                        maxConcurrencyLevel = getPositiveInt(resultSet, "value", DEFAULT_MAX_CONCURRENCY_LEVEL);
+                    }
+                }
+            }
+        }
+
+        return OptionalInt.of(maxConcurrencyLevel * maxClusterCount);
+    }
+
+    public static void logPoolMetrics(HikariDataSource connectionPool, String stage) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+        HikariPoolMXBean poolProxy = connectionPool.getHikariPoolMXBean();
+        if (poolProxy == null) {
+            return;
+        }
+        log.debug("{} Snowflake Hikari Pool stats : active - {} , idle - {} , awaiting - {} , total - {}",
+                stage,
+                poolProxy.getActiveConnections(),
+                poolProxy.getIdleConnections(),
+                poolProxy.getThreadsAwaitingConnection(),
+                poolProxy.getTotalConnections());
+    }
+
+    private static int getPositiveInt(ResultSet resultSet, String column, int defaultValue) {
+        try {
+            final String value = resultSet.getString(column);
+            if (!StringUtils.hasText(value)) {
+                return defaultValue;
+            }
+            final int intValue = Integer.parseInt(value.trim());
+            return intValue > 0 ? intValue : defaultValue;
+        } catch (SQLException | NumberFormatException e) {
+            // The column is missing in the editions without multi-cluster warehouses.
+            return defaultValue;
+        }
+    }
+
+    static int getIntFromEnv(String name, int defaultValue) {
+        final String value = System.getenv(name);
+        if (!StringUtils.hasText(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value {} for {}, using the default {}", value, name, defaultValue);
+            return defaultValue;
+        }
+    }
+}
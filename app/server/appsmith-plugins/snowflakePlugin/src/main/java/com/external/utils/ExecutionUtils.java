@@ -16,8 +16,23 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import static com.external.utils.ConnectionPoolUtils.getIntFromEnv;
+
 @Slf4j
 public class ExecutionUtils {
+
+    /**
+     * Number of rows the driver fetches per round trip. Can be overridden with APPSMITH_SNOWFLAKE_FETCH_SIZE.
+     */
+    public static final int FETCH_SIZE = getIntFromEnv("APPSMITH_SNOWFLAKE_FETCH_SIZE", 1000);
+
+    /**
+     * Number of threads the driver uses to download the chunks of a large result set in parallel. This is set as the
+     * `CLIENT_PREFETCH_THREADS` session parameter of every pooled connection. Can be overridden with
+     * APPSMITH_SNOWFLAKE_PREFETCH_THREADS.
+     */
+    public static final int PREFETCH_THREADS = getIntFromEnv("APPSMITH_SNOWFLAKE_PREFETCH_THREADS", 4);
+
     /**
      * Execute query and return the resulting table as a list of rows.
      *
@@ -29,18 +44,33 @@ public class ExecutionUtils {
      */
     public static List<Map<String, Object>> getRowsFromQueryResult(Connection connection, String query) throws
             AppsmithPluginException, StaleConnectionException {
+        return getRowsFromQueryResult(connection, query, 0);
+    }
+
+    /**
+     * Execute query and return the resulting table as a list of rows.
+     *
+     * @param connection     - Connection object to execute query.
+     * @param query          - Query string
+     * @param timeoutSeconds - Time after which Snowflake cancels the query, 0 for the session default.
+     * @return List of rows from the response table.
+     * @throws AppsmithPluginException
+     * @throws StaleConnectionException
+     */
+    public static List<Map<String, Object>> getRowsFromQueryResult(Connection connection, String query,
+                                                                   int timeoutSeconds) throws
+            AppsmithPluginException, StaleConnectionException {
         List<Map<String, Object>> rowsList = new ArrayList<>();
         ResultSet resultSet = null;
         Statement statement = null;
         try {
-            // We do not use keep alive threads for our connections since these might become expensive
-            // Instead for every execution, we check for connection validity,
-            // and reset the connection if required
-            if (!connection.isValid(30)) {
-                throw new StaleConnectionException();
-            }
-
+            // Connections come from the pool, which validates them before handing them out, and the driver keeps
+            // their sessions alive. Hence, they are not validated again here.
             statement = connection.createStatement();
+            statement.setFetchSize(FETCH_SIZE);
+            if (timeoutSeconds > 0) {
+                statement.setQueryTimeout(timeoutSeconds);
+            }
             resultSet = statement.executeQuery(query);
             ResultSetMetaData metaData = resultSet.getMetaData();
             int colCount = metaData.getColumnCount();
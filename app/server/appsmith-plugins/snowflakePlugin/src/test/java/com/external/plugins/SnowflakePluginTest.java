@@ -6,8 +6,12 @@ import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Property;
+import com.external.utils.ConnectionPoolUtils;
 import com.external.utils.ExecutionUtils;
 import com.external.utils.ValidationUtils;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import lombok.extern.slf4j.Slf4j;
 import net.snowflake.client.jdbc.SnowflakeReauthenticationRequest;
 import org.junit.jupiter.api.Test;
@@ -17,6 +21,8 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
@@ -30,9 +36,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Slf4j
@@ -61,8 +72,7 @@ public class SnowflakePluginTest {
     public void testExecute_authenticationTimeout_returnsStaleConnectionException() throws SQLException {
         final String testQuery = "testQuery";
         final Connection connection = mock(Connection.class);
-        when(connection.isValid(30))
-                .thenReturn(true);
+        final HikariDataSource connectionPool = mockConnectionPool(connection);
         final Statement statement = mock(Statement.class);
         when(connection.createStatement())
                 .thenReturn(statement);
@@ -75,11 +85,108 @@ public class SnowflakePluginTest {
         final ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody(testQuery);
         final Mono<ActionExecutionResult> actionExecutionResultMono =
-                pluginExecutor.execute(connection, new DatasourceConfiguration(), actionConfiguration);
+                pluginExecutor.execute(connectionPool, new DatasourceConfiguration(), actionConfiguration);
 
         StepVerifier.create(actionExecutionResultMono)
                 .expectErrorMatches(e -> e instanceof StaleConnectionException)
                 .verify();
+
+        // The connection must have been returned to the pool.
+        verify(connection).close();
+    }
+
+    @Test
+    public void testExecute_closedConnectionPool_returnsStaleConnectionException() {
+        final HikariDataSource connectionPool = mock(HikariDataSource.class);
+        when(connectionPool.isClosed()).thenReturn(true);
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("testQuery");
+
+        StepVerifier.create(pluginExecutor.execute(connectionPool, new DatasourceConfiguration(), actionConfiguration))
+                .expectErrorMatches(e -> e instanceof StaleConnectionException)
+                .verify();
+    }
+
+    @Test
+    public void testExecute_setsFetchSizeAndQueryTimeout() throws SQLException {
+        final String testQuery = "select 1";
+        final Connection connection = mock(Connection.class);
+        final HikariDataSource connectionPool = mockConnectionPool(connection);
+        final Statement statement = mock(Statement.class);
+        final ResultSet resultSet = mock(ResultSet.class);
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(testQuery)).thenReturn(resultSet);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(0);
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(testQuery);
+        actionConfiguration.setTimeoutInMillisecond("20000");
+
+        StepVerifier.create(pluginExecutor.execute(connectionPool, new DatasourceConfiguration(), actionConfiguration))
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+
+        verify(statement).setFetchSize(ExecutionUtils.FETCH_SIZE);
+        verify(statement).setQueryTimeout(20);
+        verify(connection).close();
+    }
+
+    @Test
+    public void testResizeConnectionPool_usesWarehouseConcurrency() throws SQLException {
+        final Connection connection = mock(Connection.class);
+        final HikariDataSource connectionPool = mockConnectionPool(connection);
+        final HikariConfigMXBean configMXBean = mock(HikariConfigMXBean.class);
+        when(connectionPool.getHikariConfigMXBean()).thenReturn(configMXBean);
+
+        final Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        final ResultSet warehouses = mock(ResultSet.class);
+        when(warehouses.next()).thenReturn(true);
+        when(warehouses.getString("name")).thenReturn("TEST_WH");
+        when(warehouses.getString("max_cluster_count")).thenReturn("2");
+        when(statement.executeQuery("SHOW WAREHOUSES LIKE 'test_wh'")).thenReturn(warehouses);
+        final ResultSet parameters = mock(ResultSet.class);
+        when(parameters.next()).thenReturn(true);
+        when(parameters.getString("value")).thenReturn("3");
+        when(statement.executeQuery("SHOW PARAMETERS LIKE 'MAX_CONCURRENCY_LEVEL' IN WAREHOUSE \"TEST_WH\""))
+                .thenReturn(parameters);
+
+        ConnectionPoolUtils.resizeConnectionPoolForWarehouse(connectionPool, "test_wh");
+
+        verify(configMXBean).setMaximumPoolSize(Math.min(6, ConnectionPoolUtils.MAXIMUM_POOL_SIZE));
+        verify(connection).close();
+    }
+
+    @Test
+    public void testResizeConnectionPool_whenWarehouseSettingsCannotBeRead_keepsPoolSize() throws SQLException {
+        final Connection connection = mock(Connection.class);
+        final HikariDataSource connectionPool = mockConnectionPool(connection);
+        final HikariConfigMXBean configMXBean = mock(HikariConfigMXBean.class);
+        when(connectionPool.getHikariConfigMXBean()).thenReturn(configMXBean);
+
+        final Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SHOW WAREHOUSES LIKE 'test_wh'")).thenThrow(new SQLException("test error"));
+        ConnectionPoolUtils.resizeConnectionPoolForWarehouse(connectionPool, "test_wh");
+
+        // The warehouse is not listed when the role can't see it
+        final ResultSet warehouses = mock(ResultSet.class);
+        when(warehouses.next()).thenReturn(false);
+        doReturn(warehouses).when(statement).executeQuery("SHOW WAREHOUSES LIKE 'test_wh'");
+        ConnectionPoolUtils.resizeConnectionPoolForWarehouse(connectionPool, "test_wh");
+
+        verify(configMXBean, never()).setMaximumPoolSize(anyInt());
+        verify(connection, times(2)).close();
+    }
+
+    private HikariDataSource mockConnectionPool(Connection connection) throws SQLException {
+        final HikariDataSource connectionPool = mock(HikariDataSource.class);
+        when(connectionPool.isClosed()).thenReturn(false);
+        when(connectionPool.isRunning()).thenReturn(true);
+        when(connectionPool.getConnection()).thenReturn(connection);
+        when(connectionPool.getHikariPoolMXBean()).thenReturn(mock(HikariPoolMXBean.class));
+        return connectionPool;
     }
 
     /**
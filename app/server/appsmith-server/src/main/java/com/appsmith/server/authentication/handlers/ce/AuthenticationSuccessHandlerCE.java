@@ -128,6 +128,8 @@ public class AuthenticationSuccessHandlerCE implements ServerAuthenticationSucce
                 .flatMap(currentUser -> {
                     List<Mono<?>> monos = new ArrayList<>();
                     monos.add(userDataService.ensureViewedCurrentVersionReleaseNotes(currentUser));
+                    monos.add(webFilterExchange.getExchange().getSession()
+                            .flatMap(session -> sessionUserService.trackSession(currentUser.getEmail(), session)));
 
                     String modeOfLogin = FieldName.FORM_LOGIN;
                     if (authentication instanceof OAuth2AuthenticationToken) {
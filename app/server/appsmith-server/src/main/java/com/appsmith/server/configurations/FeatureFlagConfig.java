@@ -8,10 +8,13 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class FeatureFlagConfig {
 
+    /**
+     * Flags are evaluated through {@link com.appsmith.server.featureflags.FeatureFlagEvaluator}, which caches them per
+     * user and audits the checks only when asked to. So auditing by FF4j itself is left off.
+     */
     @Bean
     public FF4j ff4j() {
         return new FF4j(new YamlParser(), "features/init-flags.yml")
-                .audit(true)
                 .autoCreate(true);
     }
 }
@@ -0,0 +1,30 @@
+package com.appsmith.server.configurations;
+
+import com.appsmith.server.services.PluginService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warms the cache of plugin resources once the server is up, so that the first editors to load don't wait on the
+ * resources being read from the plugin jars.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PluginResourcesPreloader implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final PluginService pluginService;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent applicationReadyEvent) {
+        pluginService.preloadFormResources()
+                .subscribe(
+                        null,
+                        error -> log.error("Error preloading plugin resources", error),
+                        () -> log.debug("Preloaded plugin resources")
+                );
+    }
+}
@@ -1,5 +1,6 @@
 package com.appsmith.server.configurations;
 
+import com.appsmith.server.helpers.AnalyticsClient;
 import com.segment.analytics.Analytics;
 import com.segment.analytics.Log;
 import com.segment.analytics.messages.TrackMessage;
@@ -68,6 +69,22 @@ public class SegmentConfig {
         return analytics;
     }
 
+    /**
+     * Sends the batches collected by the analytics pipeline to Segment. Returns `null` when analytics is disabled, which
+     * in turn disables the pipeline.
+     */
+    @Bean
+    public AnalyticsClient analyticsClient(@Autowired(required = false) Analytics analytics) {
+        if (analytics == null) {
+            return null;
+        }
+
+        return messages -> {
+            messages.forEach(analytics::enqueue);
+            analytics.flush();
+        };
+    }
+
     public String getCeKey() {
         return ceKey;
     }
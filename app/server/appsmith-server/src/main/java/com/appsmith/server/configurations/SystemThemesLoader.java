@@ -0,0 +1,29 @@
+package com.appsmith.server.configurations;
+
+import com.appsmith.server.services.ThemeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the system themes into memory once the server is up, which is after the migrations that create or update them
+ * have run. Theme reads are served from the DB until then.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SystemThemesLoader implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final ThemeService themeService;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent applicationReadyEvent) {
+        themeService.loadSystemThemes()
+                .subscribe(
+                        null,
+                        error -> log.error("Error loading system themes", error)
+                );
+    }
+}
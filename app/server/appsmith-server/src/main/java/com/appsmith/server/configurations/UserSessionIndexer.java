@@ -0,0 +1,29 @@
+package com.appsmith.server.configurations;
+
+import com.appsmith.server.services.SessionUserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the sessions which were created before the per-user session index existed to the index, once the server is up,
+ * so that logging a user out of all their sessions covers those sessions as well.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UserSessionIndexer implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final SessionUserService sessionUserService;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent applicationReadyEvent) {
+        sessionUserService.indexExistingSessions()
+                .subscribe(
+                        count -> log.debug("Indexed {} existing user sessions", count),
+                        error -> log.error("Error indexing existing user sessions", error)
+                );
+    }
+}
@@ -77,6 +77,7 @@ public class FieldName {
     public static String COMMENT_THREAD = "commentThread";
     public static String PUBLISHED_APPLICATION = "deployed application";
     public static final String TOKEN = "token";
+    public static final String CURSOR = "cursor";
     public static String WIDGET_TYPE = "type";
     public static String TABLE_WIDGET = "TABLE_WIDGET";
     public static String CONTAINER_WIDGET = "CONTAINER_WIDGET";
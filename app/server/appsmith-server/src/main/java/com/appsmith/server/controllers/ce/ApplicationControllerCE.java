@@ -12,16 +12,19 @@ import com.appsmith.server.dtos.ApplicationPagesDTO;
 import com.appsmith.server.dtos.GitAuthDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.dtos.UserHomepageDTO;
+import com.appsmith.server.dtos.WorkspaceApplicationsPageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.ApplicationService;
+import com.appsmith.server.services.ApplicationViewBundleService;
 import com.appsmith.server.services.ThemeService;
 import com.appsmith.server.solutions.ApplicationFetcher;
 import com.appsmith.server.solutions.ApplicationForkingService;
 import com.appsmith.server.solutions.ImportExportApplicationService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -55,6 +58,7 @@ public class ApplicationControllerCE extends BaseController<ApplicationService,
     private final ApplicationForkingService applicationForkingService;
     private final ImportExportApplicationService importExportApplicationService;
     private final ThemeService themeService;
+    private final ApplicationViewBundleService applicationViewBundleService;
 
     @Autowired
     public ApplicationControllerCE(
@@ -62,13 +66,15 @@ public class ApplicationControllerCE extends BaseController<ApplicationService,
             ApplicationPageService applicationPageService,
             ApplicationFetcher applicationFetcher,
             ApplicationForkingService applicationForkingService,
-            ImportExportApplicationService importExportApplicationService, ThemeService themeService) {
+            ImportExportApplicationService importExportApplicationService, ThemeService themeService,
+            ApplicationViewBundleService applicationViewBundleService) {
         super(service);
         this.applicationPageService = applicationPageService;
         this.applicationFetcher = applicationFetcher;
         this.applicationForkingService = applicationForkingService;
         this.importExportApplicationService = importExportApplicationService;
         this.themeService = themeService;
+        this.applicationViewBundleService = applicationViewBundleService;
     }
 
     @PostMapping
@@ -125,6 +131,15 @@ public class ApplicationControllerCE extends BaseController<ApplicationService,
                 .map(applications -> new ResponseDTO<>(HttpStatus.OK.value(), applications, null));
     }
 
+    @GetMapping("/home")
+    public Mono<ResponseDTO<WorkspaceApplicationsPageDTO>> getApplicationsPageForHome(@RequestParam(required = false) Integer page,
+                                                                                    @RequestParam(required = false) Integer size,
+                                                                                    @RequestParam(defaultValue = "false") boolean includeMembers) {
+        log.debug("Going to get page {} of applications grouped by workspace", page);
+        return applicationFetcher.getApplicationsPage(page, size, includeMembers)
+                .map(applicationsPage -> new ResponseDTO<>(HttpStatus.OK.value(), applicationsPage, null));
+    }
+
     @PutMapping("/{defaultApplicationId}/changeAccess")
     public Mono<ResponseDTO<Application>> shareApplication(@PathVariable String defaultApplicationId,
                                                            @RequestBody ApplicationAccessDTO applicationAccessDTO,
@@ -148,6 +163,46 @@ public class ApplicationControllerCE extends BaseController<ApplicationService,
                 .map(application -> new ResponseDTO<>(HttpStatus.OK.value(), application, null));
     }
 
+    /**
+     * Serves everything needed to render the published application in a single response. The response is generated
+     * once per set of permission groups of the viewers, hence only the permission check and a single read are done here
+     * for the later views. The response carries a strong ETag which changes only when the application changes, so that
+     * the clients can revalidate their cached copy with If-None-Match instead of downloading the bundle again.
+     */
+    @GetMapping("/view/{defaultApplicationId}/bundle")
+    public Mono<ResponseEntity<byte[]>> getApplicationViewBundle(@PathVariable String defaultApplicationId,
+                                                                 @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName,
+                                                                 @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                                 @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return applicationViewBundleService.getViewBundle(defaultApplicationId, branchName)
+                .map(bundle -> {
+                    String eTag = "\"" + bundle.getVersion() + "\"";
+                    // The bundle is checked against the permissions of the user on every request, hence the clients
+                    // may store it but must revalidate it before use
+                    CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+
+                    if (isETagMatching(ifNoneMatch, eTag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(eTag)
+                                .cacheControl(cacheControl)
+                                .build();
+                    }
+
+                    ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok()
+                            .eTag(eTag)
+                            .cacheControl(cacheControl)
+                            .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                            .contentType(MediaType.APPLICATION_JSON);
+
+                    if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                        return responseBuilder
+                                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                                .body(bundle.getContent());
+                    }
+                    return responseBuilder.body(applicationViewBundleService.decompress(bundle.getContent()));
+                });
+    }
+
     @PostMapping("/{defaultApplicationId}/fork/{workspaceId}")
     public Mono<ResponseDTO<Application>> forkApplication(
             @PathVariable String defaultApplicationId,
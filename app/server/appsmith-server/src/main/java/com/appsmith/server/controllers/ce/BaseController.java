@@ -86,4 +86,23 @@ public abstract class BaseController<S extends CrudService<T, ID>, T extends Bas
                 .map(deletedResource -> new ResponseDTO<>(HttpStatus.OK.value(), deletedResource, null));
     }
 
+    /**
+     * Returns whether the given If-None-Match header of a request matches the given ETag, i.e. whether the client
+     * already has the current version of the resource.
+     */
+    protected static boolean isETagMatching(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmedCandidate = candidate.trim();
+            if (trimmedCandidate.startsWith("W/")) {
+                trimmedCandidate = trimmedCandidate.substring(2);
+            }
+            if (trimmedCandidate.equals("*") || trimmedCandidate.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
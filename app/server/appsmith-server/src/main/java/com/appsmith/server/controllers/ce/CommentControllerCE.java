@@ -4,7 +4,9 @@ import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.constants.Url;
 import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.dtos.CommentPageDTO;
 import com.appsmith.server.dtos.CommentThreadFilterDTO;
+import com.appsmith.server.dtos.CommentThreadPageDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.services.CommentService;
 import lombok.extern.slf4j.Slf4j;
@@ -66,6 +68,21 @@ public class CommentControllerCE extends BaseController<CommentService, Comment,
                 .map(threads -> new ResponseDTO<>(HttpStatus.OK.value(), threads, null));
     }
 
+    @GetMapping("/threads/page")
+    public Mono<ResponseDTO<CommentThreadPageDTO>> getCommentThreadsPage(@Valid CommentThreadFilterDTO filterDTO,
+                                                                         @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
+        return service.getThreadsPageByApplicationId(filterDTO, branchName)
+                .map(page -> new ResponseDTO<>(HttpStatus.OK.value(), page, null));
+    }
+
+    @GetMapping("/threads/{threadId}/comments")
+    public Mono<ResponseDTO<CommentPageDTO>> getThreadComments(@PathVariable String threadId,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer limit) {
+        return service.getCommentsByThreadId(threadId, cursor, limit)
+                .map(page -> new ResponseDTO<>(HttpStatus.OK.value(), page, null));
+    }
+
     @PutMapping("/threads/{threadId}")
     public Mono<ResponseDTO<CommentThread>> updateThread(
             @Valid @RequestBody CommentThread resource,
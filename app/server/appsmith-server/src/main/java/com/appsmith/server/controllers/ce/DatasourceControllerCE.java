@@ -70,9 +70,10 @@ public class DatasourceControllerCE extends BaseController<DatasourceService, Da
 
     @GetMapping("/{datasourceId}/structure")
     public Mono<ResponseDTO<DatasourceStructure>> getStructure(@PathVariable String datasourceId,
-                                                               @RequestParam(required = false, defaultValue = "false") Boolean ignoreCache) {
+                                                               @RequestParam(required = false, defaultValue = "false") Boolean ignoreCache,
+                                                               @RequestParam(required = false, defaultValue = "true") Boolean incremental) {
         log.debug("Going to get structure for datasource with id: '{}'.", datasourceId);
-        return datasourceStructureSolution.getStructure(datasourceId, BooleanUtils.isTrue(ignoreCache))
+        return datasourceStructureSolution.getStructure(datasourceId, BooleanUtils.isTrue(ignoreCache), BooleanUtils.isTrue(incremental))
                 .map(structure -> new ResponseDTO<>(HttpStatus.OK.value(), structure, null));
     }
 
@@ -7,11 +7,16 @@ import com.appsmith.server.dtos.PluginWorkspaceDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.services.PluginService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import reactor.core.publisher.Mono;
@@ -42,10 +47,40 @@ public class PluginControllerCE extends BaseController<PluginService, Plugin, St
                 .map(workspace -> new ResponseDTO<>(HttpStatus.CREATED.value(), workspace, null));
     }
 
+    /**
+     * Serves the pre-serialized form config of the plugin, with an ETag which changes only when the plugin's resources
+     * change, so that the editors can revalidate their cached copy with If-None-Match instead of downloading the form
+     * config again on every load.
+     */
     @GetMapping("/{pluginId}/form")
-    public Mono<ResponseDTO<Object>> getDatasourceForm(@PathVariable String pluginId) {
-        return service.getFormConfig(pluginId)
-                .map(form -> new ResponseDTO<>(HttpStatus.OK.value(), form, null));
+    public Mono<ResponseEntity<byte[]>> getDatasourceForm(@PathVariable String pluginId,
+                                                          @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                          @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return service.getFormResource(pluginId)
+                .map(formResource -> {
+                    String eTag = "\"" + formResource.getVersion() + "\"";
+                    CacheControl cacheControl = CacheControl.noCache();
+
+                    if (isETagMatching(ifNoneMatch, eTag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(eTag)
+                                .cacheControl(cacheControl)
+                                .build();
+                    }
+
+                    ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok()
+                            .eTag(eTag)
+                            .cacheControl(cacheControl)
+                            .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                            .contentType(MediaType.APPLICATION_JSON);
+
+                    if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                        return responseBuilder
+                                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                                .body(formResource.getCompressedContent());
+                    }
+                    return responseBuilder.body(formResource.getContent());
+                });
     }
 
     @GetMapping("/default/icons")
@@ -65,6 +65,17 @@ public class Application extends BaseDomain {
     @JsonIgnore
     String clonedFromApplicationId;
 
+    // Set while the application is being created as a clone of another application, and unset once all of its pages,
+    // actions and collections have been cloned. A clone left with this set is resumed by the next clone of the same
+    // application into the same workspace.
+    @JsonIgnore
+    Boolean cloneInProgress;
+
+    // Until when the clone in progress is being worked on. Only a clone whose lease has expired is resumed, so that a
+    // clone which is still running isn't resumed by another clone of the same application at the same time.
+    @JsonIgnore
+    Instant cloneLeaseExpiresAt;
+
     String color;
 
     String icon;
@@ -0,0 +1,39 @@
+package com.appsmith.server.domains;
+
+import com.appsmith.external.models.BaseDomain;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Pre-computed, gzip compressed response of everything a viewer needs to render a published application. The pages and
+ * actions in it are the ones readable with a given set of permission groups, so a bundle is generated, on first view,
+ * for every distinct set of permission groups of the viewers, and is shared by the viewers having that set.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Document
+public class ApplicationViewBundle extends BaseDomain {
+
+    String applicationId;
+
+    // Hash of the sorted ids of the permission groups the bundle was generated with
+    String permissionGroupsKey;
+
+    // Last update time of the application when the bundle was generated. The bundle is not served anymore once the
+    // application is updated, e.g. by an import or a git pull, or by a server of another version.
+    Instant applicationUpdatedAt;
+
+    String serverVersion;
+
+    // Hash of the uncompressed content. This changes only when the published application changes and hence is used as
+    // a strong ETag while serving the bundle.
+    String version;
+
+    byte[] content;
+
+}
@@ -50,6 +50,14 @@ public class CommentThread extends AbstractCommentDomain {
     @Transient
     List<Comment> comments;
 
+    // Set when only the latest comments of the thread are loaded, and the thread has older comments than those.
+    @Transient
+    Boolean hasMoreComments;
+
+    // Cursor to fetch the comments older than the latest ones loaded with, set along with `hasMoreComments`.
+    @Transient
+    String commentsCursor;
+
     @Data
     public static class Position {
         Integer top;
@@ -0,0 +1,28 @@
+package com.appsmith.server.domains;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.DatasourceStructure;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * The structure of a datasource, as last fetched from its plugin. It is stored apart from the datasource, as it can be
+ * large, and is only needed by the structure API and by a few flows that generate queries from it.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Document
+public class StoredDatasourceStructure extends BaseDomain {
+
+    String datasourceId;
+
+    // Fingerprint of the datasource configuration the structure was fetched with. The stored structure is not used
+    // anymore once the configuration changes, e.g. to point to another database.
+    String configurationFingerprint;
+
+    DatasourceStructure structure;
+
+}
@@ -0,0 +1,35 @@
+package com.appsmith.server.domains;
+
+import com.appsmith.external.models.BaseDomain;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Number of unread things of a user in a scope, counted on read and dropped whenever they are created or read, so that
+ * the polled unread counts are read from one small document instead of being counted from the notifications and
+ * comment threads on every poll.
+ * The scope is either {@link #NOTIFICATIONS_SCOPE}, or the id of the application whose unread comment threads are
+ * counted.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Document
+public class UnreadCounter extends BaseDomain {
+
+    public static final String NOTIFICATIONS_SCOPE = "notifications";
+
+    String username;
+
+    String scope;
+
+    Long count;
+
+    // Changed by every write to the count, so that a count stored after counting can tell whether the counter was
+    // changed while counting. Starts at a random value, so that a counter created again after being dropped doesn't
+    // take a count that was counted for the dropped one.
+    Long version;
+
+}
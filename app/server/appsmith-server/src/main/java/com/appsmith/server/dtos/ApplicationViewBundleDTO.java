@@ -0,0 +1,26 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Theme;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ApplicationViewBundleDTO {
+
+    Application application;
+
+    ApplicationPagesDTO pages;
+
+    List<PageDTO> pageDetails;
+
+    List<ActionViewDTO> actions;
+
+    Theme theme;
+
+}
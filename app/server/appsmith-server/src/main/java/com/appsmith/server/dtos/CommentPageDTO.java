@@ -0,0 +1,22 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.server.domains.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentPageDTO {
+
+    List<Comment> comments;
+
+    // Cursor to fetch the older comments of the thread with, null when these are the oldest comments.
+    String nextCursor;
+
+}
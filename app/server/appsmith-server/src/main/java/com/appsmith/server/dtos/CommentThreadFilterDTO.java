@@ -11,4 +11,9 @@ public class CommentThreadFilterDTO {
     private String applicationId;
     private Boolean resolved;
     private ApplicationMode mode;
+
+    // Pagination, only used when fetching threads page by page.
+    private String cursor;
+    private Integer limit;
+    private Integer commentsLimit;
 }
@@ -0,0 +1,22 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.server.domains.CommentThread;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentThreadPageDTO {
+
+    List<CommentThread> threads;
+
+    // Cursor to fetch the next page of threads with, null when this is the last page.
+    String nextCursor;
+
+}
@@ -0,0 +1,25 @@
+package com.appsmith.server.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * The form config of a plugin, i.e. its form, editor, setting and dependency configs merged together, along with the
+ * serialized response for it and a hash of that response, so that the form config endpoint doesn't have to serialize
+ * the config on every request, and can answer conditional requests for it.
+ */
+@Getter
+@AllArgsConstructor
+public class PluginFormResourceDTO {
+
+    Map form;
+
+    byte[] content;
+
+    byte[] compressedContent;
+
+    String version;
+
+}
@@ -0,0 +1,29 @@
+package com.appsmith.server.dtos;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * A page of the workspaces of the user, along with the applications in those workspaces, as shown on the homepage.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class WorkspaceApplicationsPageDTO {
+
+    List<WorkspaceApplicationsDTO> workspaceApplications;
+
+    int page;
+
+    int size;
+
+    long totalWorkspaces;
+
+    boolean hasMore;
+
+}
@@ -0,0 +1,231 @@
+package com.appsmith.server.featureflags;
+
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.User;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.ff4j.FF4j;
+import org.ff4j.audit.Event;
+import org.ff4j.audit.EventBuilder;
+import org.ff4j.audit.EventConstants;
+import org.ff4j.core.Feature;
+import org.ff4j.core.FlippingExecutionContext;
+import org.ff4j.core.FlippingStrategy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Evaluates the feature flags for users. All the flags are evaluated together the first time a user is looked at, and
+ * the result is cached for the user until the flag set changes, so that a check on a request path is a map lookup
+ * instead of a run of the FF4j flipping strategy.
+ * <p>
+ * FF4j doesn't audit these evaluations. When {@code appsmith.featureflags.audit.enabled} is set, every check is instead
+ * queued to a bounded in-memory queue, which is drained into the FF4j event repository in the background. Checks are
+ * never slowed down by the audit, and are dropped from it when the queue is full.
+ */
+@Slf4j
+@Component
+public class FeatureFlagEvaluator {
+
+    private static final int MAX_CACHED_USERS = 10_000;
+
+    // Bounds how long the flags of a user are kept, so that strategies that depend on more than the flag set, like the
+    // percentage rollouts, are re-evaluated now and then.
+    private static final Duration USER_FLAGS_CACHE_TTL = Duration.ofMinutes(10);
+
+    // How often the flag set is looked at for changes made to it through FF4j while the server is running.
+    private static final Duration FLAG_SET_VERSION_TTL = Duration.ofSeconds(30);
+
+    private static final Duration AUDIT_DRAIN_INTERVAL = Duration.ofSeconds(1);
+
+    private final FF4j ff4j;
+
+    // Flags of users by their email, along with the version of the flag set they were evaluated for.
+    private final Cache<String, VersionedFlags> userFlagsCache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_USERS)
+            .expireAfterWrite(USER_FLAGS_CACHE_TTL)
+            .build();
+
+    private volatile Supplier<String> flagSetVersion;
+
+    // Null when auditing is disabled.
+    private final BlockingQueue<AuditedCheck> auditQueue;
+    private final Scheduler auditScheduler;
+    private final Disposable auditDrain;
+    private final AtomicLong droppedAuditEvents = new AtomicLong();
+
+    @Getter
+    @AllArgsConstructor
+    private static class VersionedFlags {
+        private final String version;
+        private final Map<String, Boolean> flags;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class AuditedCheck {
+        private final String featureName;
+        private final boolean enabled;
+        private final String user;
+        private final long timestamp;
+    }
+
+    @Autowired
+    public FeatureFlagEvaluator(FF4j ff4j,
+                                @Value("${appsmith.featureflags.audit.enabled:false}") boolean isAuditEnabled,
+                                @Value("${appsmith.featureflags.audit.queue.capacity:10000}") int auditQueueCapacity) {
+        this.ff4j = ff4j;
+        // Checks are audited here when enabled, FF4j would otherwise publish an event from each evaluation.
+        ff4j.audit(false);
+        this.flagSetVersion = memoizedFlagSetVersion();
+
+        if (isAuditEnabled) {
+            this.auditQueue = new ArrayBlockingQueue<>(auditQueueCapacity);
+            this.auditScheduler = Schedulers.newSingle("feature-flags-audit", true);
+            this.auditDrain = auditScheduler.schedulePeriodically(
+                    this::drainAuditQueue,
+                    AUDIT_DRAIN_INTERVAL.toMillis(),
+                    AUDIT_DRAIN_INTERVAL.toMillis(),
+                    TimeUnit.MILLISECONDS
+            );
+        } else {
+            this.auditQueue = null;
+            this.auditScheduler = null;
+            this.auditDrain = null;
+        }
+    }
+
+    public boolean check(String featureName, User user) {
+        final Boolean isEnabled = getAllFlags(user).get(featureName);
+        final boolean result = isEnabled != null ? isEnabled : evaluate(featureName, user);
+        audit(featureName, result, user);
+        return result;
+    }
+
+    /**
+     * Returns all the flags, by their name, for the given user. The returned map must not be modified.
+     */
+    public Map<String, Boolean> getAllFlags(User user) {
+        final String version = flagSetVersion.get();
+        final String email = user.getEmail();
+        if (email == null) {
+            return evaluateAll(user);
+        }
+
+        final VersionedFlags cachedFlags = userFlagsCache.getIfPresent(email);
+        if (cachedFlags != null && cachedFlags.getVersion().equals(version)) {
+            return cachedFlags.getFlags();
+        }
+
+        final Map<String, Boolean> flags = evaluateAll(user);
+        userFlagsCache.put(email, new VersionedFlags(version, flags));
+        return flags;
+    }
+
+    /**
+     * Makes the next check of each user look at the flag set again. To be called after the flag set is changed through
+     * FF4j, for the change to take effect right away.
+     */
+    public void invalidate() {
+        flagSetVersion = memoizedFlagSetVersion();
+        userFlagsCache.invalidateAll();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (auditDrain != null) {
+            auditDrain.dispose();
+            drainAuditQueue();
+            auditScheduler.dispose();
+        }
+    }
+
+    private Map<String, Boolean> evaluateAll(User user) {
+        final Map<String, Boolean> flags = new HashMap<>();
+        for (String featureName : ff4j.getFeatures().keySet()) {
+            flags.put(featureName, evaluate(featureName, user));
+        }
+        return Collections.unmodifiableMap(flags);
+    }
+
+    private boolean evaluate(String featureName, User user) {
+        return ff4j.check(featureName, new FlippingExecutionContext(Map.of(FieldName.USER, user)));
+    }
+
+    private Supplier<String> memoizedFlagSetVersion() {
+        return Suppliers.memoizeWithExpiration(
+                this::computeFlagSetVersion, FLAG_SET_VERSION_TTL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A fingerprint of everything that decides the result of evaluating the flags: the features, whether they are
+     * enabled, and their flipping strategies.
+     */
+    private String computeFlagSetVersion() {
+        final StringBuilder fingerprint = new StringBuilder();
+        for (Feature feature : new TreeMap<>(ff4j.getFeatures()).values()) {
+            fingerprint.append(feature.getUid()).append(':').append(feature.isEnable());
+            final FlippingStrategy strategy = feature.getFlippingStrategy();
+            if (strategy != null) {
+                fingerprint.append(':').append(strategy.getClass().getName())
+                        .append(':').append(new TreeMap<>(strategy.getInitParams()));
+            }
+            fingerprint.append(';');
+        }
+        return Integer.toHexString(fingerprint.toString().hashCode()) + "-" + fingerprint.length();
+    }
+
+    private void audit(String featureName, boolean isEnabled, User user) {
+        if (auditQueue == null) {
+            return;
+        }
+        if (!auditQueue.offer(new AuditedCheck(featureName, isEnabled, user.getEmail(), System.currentTimeMillis()))) {
+            droppedAuditEvents.incrementAndGet();
+        }
+    }
+
+    private void drainAuditQueue() {
+        final List<AuditedCheck> checks = new ArrayList<>();
+        auditQueue.drainTo(checks);
+        for (AuditedCheck check : checks) {
+            final Event event = new EventBuilder(ff4j)
+                    .feature(check.getFeatureName())
+                    .action(check.isEnabled() ? EventConstants.ACTION_CHECK_OK : EventConstants.ACTION_CHECK_OFF)
+                    .build();
+            event.setUser(check.getUser());
+            event.setTimestamp(check.getTimestamp());
+            try {
+                ff4j.getEventRepository().saveEvent(event);
+            } catch (RuntimeException e) {
+                log.warn("Error while saving the audit event of feature flag {}", check.getFeatureName(), e);
+            }
+        }
+
+        final long dropped = droppedAuditEvents.getAndSet(0);
+        if (dropped > 0) {
+            log.warn("Dropped {} feature flag audit events as the audit queue was full", dropped);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.appsmith.server.filters;
+
+import com.appsmith.server.helpers.PermissionGroupsRequestCache;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puts a fresh {@link PermissionGroupsRequestCache} in the Reactor context of every request and records how many times
+ * the permission groups of the user were looked up and actually resolved while serving it.
+ */
+@Component
+public class PermissionGroupsRequestCacheFilter implements WebFilter {
+
+    private static final String LOOKUPS_METRIC = "appsmith.acl.permission_groups.lookups";
+    private static final String RESOLUTIONS_METRIC = "appsmith.acl.permission_groups.resolutions";
+    private static final String URI_TAG = "uri";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public PermissionGroupsRequestCacheFilter(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        // Slices of the application context, like the controller tests, don't have a meter registry configured
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        final PermissionGroupsRequestCache permissionGroupsRequestCache = new PermissionGroupsRequestCache();
+        return chain.filter(exchange)
+                .doFinally(signalType -> recordMetrics(exchange, permissionGroupsRequestCache))
+                .contextWrite(ctx -> ctx.put(PermissionGroupsRequestCache.CONTEXT_KEY, permissionGroupsRequestCache));
+    }
+
+    private void recordMetrics(ServerWebExchange exchange, PermissionGroupsRequestCache permissionGroupsRequestCache) {
+        if (permissionGroupsRequestCache.getLookupCount() == 0) {
+            return;
+        }
+
+        // Use the route pattern instead of the actual path to keep the cardinality of the metrics bounded
+        Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+        DistributionSummary.builder(LOOKUPS_METRIC)
+                .description("Permission group lookups made by the repositories per request")
+                .tag(URI_TAG, uri)
+                .register(meterRegistry)
+                .record(permissionGroupsRequestCache.getLookupCount());
+
+        DistributionSummary.builder(RESOLUTIONS_METRIC)
+                .description("Permission group resolutions per request")
+                .tag(URI_TAG, uri)
+                .register(meterRegistry)
+                .record(permissionGroupsRequestCache.getResolutionCount());
+    }
+}
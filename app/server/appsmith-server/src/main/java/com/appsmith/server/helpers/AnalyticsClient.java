@@ -0,0 +1,19 @@
+package com.appsmith.server.helpers;
+
+import com.segment.analytics.messages.MessageBuilder;
+
+import java.util.List;
+
+/**
+ * Sink for the analytics messages collected by the {@link AnalyticsEventPipeline}. In production, this sends the
+ * messages to Segment. Tests can replace it with a local stub to inspect the messages that would have been sent.
+ */
+public interface AnalyticsClient {
+
+    /**
+     * Sends a batch of messages. This is always called from the flush thread of the pipeline, and never from the
+     * thread serving a request, so implementations may block.
+     */
+    void send(List<MessageBuilder<?, ?>> messages);
+
+}
@@ -0,0 +1,248 @@
+package com.appsmith.server.helpers;
+
+import com.segment.analytics.messages.MessageBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects analytics messages in a bounded queue and sends them to the {@link AnalyticsClient} in batches, from a
+ * dedicated thread. The batches are flushed when they are full, or periodically, whichever happens first.
+ * <p>
+ * Messages are submitted as publishers which are subscribed to off the request thread, so that any lookups needed to
+ * build a message don't delay the response. In case the queue is full, e.g. because the analytics endpoint is slow or
+ * unreachable, the new messages are dropped instead of applying backpressure on the requests.
+ * <p>
+ * Events can also be sampled, with rates configured as a comma separated list of event names and rates, e.g.
+ * {@code execute_ACTION_TRIGGERED=0.1}. Events without a configured rate are always sent.
+ */
+@Slf4j
+@Component
+public class AnalyticsEventPipeline {
+
+    private static final String EVENTS_METRIC = "appsmith.analytics.events";
+    private static final String OUTCOME_TAG = "outcome";
+
+    private final AnalyticsClient analyticsClient;
+
+    private final int capacity;
+
+    private final int batchSize;
+
+    private final Map<String, Double> sampleRates;
+
+    private final Queue<MessageBuilder<?, ?>> queue = new ConcurrentLinkedQueue<>();
+
+    // Number of messages which are either being built or waiting in the queue. This bounds the queue without locking.
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final AtomicInteger queuedCount = new AtomicInteger();
+
+    private final AtomicBoolean isFlushScheduled = new AtomicBoolean();
+
+    private final Scheduler flushScheduler;
+
+    private final Disposable periodicFlush;
+
+    private final Counter sampledOutCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Counter sentCounter;
+
+    @Autowired
+    public AnalyticsEventPipeline(@Autowired(required = false) AnalyticsClient analyticsClient,
+                                  ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                  @Value("${appsmith.analytics.queue.capacity:10000}") int capacity,
+                                  @Value("${appsmith.analytics.batch.size:100}") int batchSize,
+                                  @Value("${appsmith.analytics.flush.interval.ms:5000}") long flushIntervalMillis,
+                                  @Value("${appsmith.analytics.sample.rates:}") String sampleRates) {
+        this(analyticsClient, meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry),
+                capacity, batchSize, flushIntervalMillis, parseSampleRates(sampleRates));
+    }
+
+    public AnalyticsEventPipeline(AnalyticsClient analyticsClient,
+                                  MeterRegistry meterRegistry,
+                                  int capacity,
+                                  int batchSize,
+                                  long flushIntervalMillis,
+                                  Map<String, Double> sampleRates) {
+        this.analyticsClient = analyticsClient;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.sampleRates = sampleRates;
+
+        this.sampledOutCounter = eventsCounter(meterRegistry, "sampled_out");
+        this.droppedCounter = eventsCounter(meterRegistry, "dropped");
+        this.failedCounter = eventsCounter(meterRegistry, "failed");
+        this.sentCounter = eventsCounter(meterRegistry, "sent");
+
+        if (analyticsClient == null) {
+            this.flushScheduler = null;
+            this.periodicFlush = null;
+        } else {
+            this.flushScheduler = Schedulers.newSingle("analytics-flush", true);
+            this.periodicFlush = flushScheduler
+                    .schedulePeriodically(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isActive() {
+        return analyticsClient != null;
+    }
+
+    int getQueuedCount() {
+        return queuedCount.get();
+    }
+
+    public double getSampleRate(String event) {
+        return sampleRates.getOrDefault(event, 1.0);
+    }
+
+    /**
+     * Decides whether an occurrence of the given event should be sent. This should be checked before doing any work to
+     * build the message for the event.
+     */
+    public boolean isSampled(String event) {
+        final double sampleRate = getSampleRate(event);
+        if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            return true;
+        }
+        sampledOutCounter.increment();
+        return false;
+    }
+
+    /**
+     * Builds the message off the calling thread and queues it for sending. Returns immediately. An empty publisher
+     * means that there is nothing to send, and errors while building the message are logged and ignored.
+     */
+    public void submit(Mono<? extends MessageBuilder<?, ?>> messageMono) {
+        if (!isActive()) {
+            return;
+        }
+
+        if (pendingCount.incrementAndGet() > capacity) {
+            pendingCount.decrementAndGet();
+            droppedCounter.increment();
+            return;
+        }
+
+        final AtomicBoolean isQueued = new AtomicBoolean();
+        messageMono
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(message -> {
+                    isQueued.set(true);
+                    enqueue(message);
+                })
+                .doOnError(error -> {
+                    log.debug("Error while building analytics message", error);
+                    failedCounter.increment();
+                })
+                .doFinally(signalType -> {
+                    if (!isQueued.get()) {
+                        pendingCount.decrementAndGet();
+                    }
+                })
+                .subscribe(message -> {}, error -> {});
+    }
+
+    /**
+     * Sends all the queued messages. Called from the flush thread, or on shutdown.
+     */
+    public void flush() {
+        isFlushScheduled.set(false);
+        List<MessageBuilder<?, ?>> batch = new ArrayList<>(batchSize);
+        MessageBuilder<?, ?> message;
+        while ((message = queue.poll()) != null) {
+            queuedCount.decrementAndGet();
+            batch.add(message);
+            if (batch.size() >= batchSize) {
+                send(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!isActive()) {
+            return;
+        }
+        periodicFlush.dispose();
+        flush();
+        flushScheduler.dispose();
+    }
+
+    private void enqueue(MessageBuilder<?, ?> message) {
+        queue.offer(message);
+        if (queuedCount.incrementAndGet() >= batchSize && isFlushScheduled.compareAndSet(false, true)) {
+            flushScheduler.schedule(this::flush);
+        }
+    }
+
+    private void send(List<MessageBuilder<?, ?>> batch) {
+        try {
+            analyticsClient.send(batch);
+            sentCounter.increment(batch.size());
+        } catch (Exception e) {
+            log.debug("Error while sending analytics messages", e);
+            failedCounter.increment(batch.size());
+        } finally {
+            // Messages hold their place in the queue until they are sent, so that a slow client leads to dropping
+            pendingCount.addAndGet(-batch.size());
+        }
+    }
+
+    private static Counter eventsCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(EVENTS_METRIC)
+                .description("Analytics events by their outcome in the pipeline")
+                .tag(OUTCOME_TAG, outcome)
+                .register(meterRegistry);
+    }
+
+    static Map<String, Double> parseSampleRates(String sampleRates) {
+        if (StringUtils.isBlank(sampleRates)) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, Double> rates = new HashMap<>();
+        for (String entry : sampleRates.split(",")) {
+            final String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                log.warn("Ignoring invalid analytics sample rate: {}", entry);
+                continue;
+            }
+            try {
+                rates.put(parts[0].trim(), Double.parseDouble(parts[1].trim()));
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring invalid analytics sample rate: {}", entry);
+            }
+        }
+        return Collections.unmodifiableMap(rates);
+    }
+}
@@ -0,0 +1,317 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.domains.Comment;
+import com.appsmith.server.domains.CommentNotification;
+import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.domains.CommentThreadNotification;
+import com.appsmith.server.domains.Notification;
+import com.appsmith.server.domains.UnreadCounter;
+import com.appsmith.server.repositories.NotificationRepository;
+import com.appsmith.server.services.UnreadCounterService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Buffers notifications for a short window and writes them to the database in batches, with one unordered
+ * {@code insertMany} per batch, instead of one insert per notification. This makes fanning out a comment event to all
+ * the subscribers of a thread a single write.
+ * <p>
+ * Only the notifications which are duplicates of each other are coalesced, i.e. the ones for the same user and the same
+ * comment, or for the same user and the same thread event, which are submitted within the window. The latest submitted
+ * notification is the one that's written, with the id of the first. The notifications are given their ids and audit
+ * fields when submitted, so they can be returned to the callers right away.
+ * <p>
+ * The callers are answered before the notifications are written. The notifications pending when the server stops
+ * abruptly, i.e. those submitted during the last flush interval, up to a batch, are lost, as notifications are best
+ * effort. When the server is shut down gracefully, they are written once the web server has stopped taking requests.
+ * <p>
+ * The unread notification counters of the users are dropped once their notifications are written.
+ */
+@Slf4j
+@Component
+public class NotificationBatchWriter implements SmartLifecycle {
+
+    private static final String WRITES_METRIC = "appsmith.notifications.writes";
+    private static final String BATCH_SIZE_METRIC = "appsmith.notifications.write.batch.size";
+    private static final String BATCH_DURATION_METRIC = "appsmith.notifications.write.batch.duration";
+    private static final String OUTCOME_TAG = "outcome";
+
+    private final NotificationRepository repository;
+
+    private final UnreadCounterService unreadCounterService;
+
+    private final int batchSize;
+
+    // Pending notifications by their coalescing key, in the order they were first submitted. Guarded by itself.
+    private final Map<String, Notification> pending = new LinkedHashMap<>();
+
+    private final AtomicBoolean isFlushScheduled = new AtomicBoolean();
+
+    private final long flushIntervalMillis;
+
+    private final Scheduler flushScheduler;
+
+    private volatile Disposable periodicFlush;
+
+    private final Counter submittedCounter;
+    private final Counter coalescedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchDurationTimer;
+
+    @Autowired
+    public NotificationBatchWriter(NotificationRepository repository,
+                                   UnreadCounterService unreadCounterService,
+                                   ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                   @Value("${appsmith.notifications.batch.size:500}") int batchSize,
+                                   @Value("${appsmith.notifications.flush.interval.ms:1000}") long flushIntervalMillis) {
+        this(repository, unreadCounterService, meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry), batchSize, flushIntervalMillis);
+    }
+
+    public NotificationBatchWriter(NotificationRepository repository,
+                                   UnreadCounterService unreadCounterService,
+                                   MeterRegistry meterRegistry,
+                                   int batchSize,
+                                   long flushIntervalMillis) {
+        this.repository = repository;
+        this.unreadCounterService = unreadCounterService;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+
+        this.submittedCounter = writesCounter(meterRegistry, "submitted");
+        this.coalescedCounter = writesCounter(meterRegistry, "coalesced");
+        this.writtenCounter = writesCounter(meterRegistry, "written");
+        this.failedCounter = writesCounter(meterRegistry, "failed");
+        this.batchSizeSummary = DistributionSummary.builder(BATCH_SIZE_METRIC)
+                .description("Number of notifications written per batch")
+                .register(meterRegistry);
+        this.batchDurationTimer = Timer.builder(BATCH_DURATION_METRIC)
+                .description("Time taken to write a batch of notifications")
+                .register(meterRegistry);
+
+        this.flushScheduler = Schedulers.newSingle("notifications-flush", true);
+    }
+
+    /**
+     * Queues the notifications to be written with the next batch, with their ids, creation times and authors set.
+     * Returns the notifications which will be written, i.e. only the latest of the submitted notifications which are
+     * coalesced together. A notification which takes the place of a pending one takes over its id as well, so the id
+     * returned for the pending notification is the id of the notification that's written.
+     *
+     * @param submittedBy username of the user whose action the notifications are for, or null if there's no such user
+     */
+    public <T extends Notification> List<T> submit(Collection<T> notifications, String submittedBy) {
+        final Instant now = Instant.now();
+        final Map<String, T> submitted = new LinkedHashMap<>();
+        int pendingCount;
+        int coalescedCount = 0;
+
+        synchronized (pending) {
+            for (T notification : notifications) {
+                if (notification.getId() == null) {
+                    notification.setId(new ObjectId().toHexString());
+                }
+                notification.setCreatedAt(now);
+                notification.setUpdatedAt(now);
+                notification.setCreatedBy(submittedBy);
+                notification.setModifiedBy(submittedBy);
+
+                final String key = getCoalescingKey(notification);
+                // Remove first, so that a coalesced notification takes the place of the latest event in the order.
+                final Notification coalesced = pending.remove(key);
+                if (coalesced != null) {
+                    coalescedCount++;
+                    notification.setId(coalesced.getId());
+                }
+                pending.put(key, notification);
+                submitted.remove(key);
+                submitted.put(key, notification);
+            }
+            pendingCount = pending.size();
+        }
+
+        submittedCounter.increment(notifications.size());
+        coalescedCounter.increment(coalescedCount);
+
+        if (pendingCount >= batchSize && isFlushScheduled.compareAndSet(false, true)) {
+            flushScheduler.schedule(this::scheduledFlush);
+        }
+
+        return new ArrayList<>(submitted.values());
+    }
+
+    /**
+     * Writes all the pending notifications. Errors are logged and counted, but not propagated, as notifications are
+     * best effort.
+     */
+    public Mono<Void> flush() {
+        final List<Notification> notifications;
+        synchronized (pending) {
+            notifications = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+
+        if (notifications.isEmpty()) {
+            return Mono.empty();
+        }
+
+        final List<List<Notification>> batches = new ArrayList<>();
+        for (int i = 0; i < notifications.size(); i += batchSize) {
+            batches.add(notifications.subList(i, Math.min(i + batchSize, notifications.size())));
+        }
+
+        return Flux.fromIterable(batches)
+                .concatMap(this::write)
+                .then();
+    }
+
+    @Override
+    public void start() {
+        periodicFlush = flushScheduler
+                .schedulePeriodically(this::scheduledFlush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return periodicFlush != null && !periodicFlush.isDisposed();
+    }
+
+    @Override
+    public void stop() {
+        stop(() -> {
+        });
+    }
+
+    /**
+     * Writes the pending notifications without blocking the shutdown thread, and lets the context know once they are
+     * written, so that the context waits for them until its shutdown phase timeout.
+     */
+    @Override
+    public void stop(Runnable callback) {
+        if (periodicFlush != null) {
+            periodicFlush.dispose();
+        }
+        flush()
+                .doFinally(signal -> {
+                    flushScheduler.dispose();
+                    callback.run();
+                })
+                .subscribe();
+    }
+
+    /**
+     * Stops after the web server, which stops in a higher phase, so that the notifications submitted by the requests
+     * still being served are written with the last flush.
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    int getPendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    private void scheduledFlush() {
+        isFlushScheduled.set(false);
+        flush().subscribe();
+    }
+
+    private Mono<Integer> write(List<Notification> batch) {
+        final long startTime = System.nanoTime();
+        return repository.insertUnordered(batch)
+                .doOnNext(insertedCount -> {
+                    batchDurationTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                    batchSizeSummary.record(batch.size());
+                    writtenCounter.increment(insertedCount);
+                    failedCounter.increment(batch.size() - insertedCount);
+                })
+                .flatMap(insertedCount -> updateUnreadCounters(batch).thenReturn(insertedCount))
+                .onErrorResume(error -> {
+                    log.error("Error while writing a batch of {} notifications", batch.size(), error);
+                    failedCounter.increment(batch.size());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Drops the unread notification counters of the users who were sent unread notifications, to be counted again the
+     * next time they are read. They are not incremented, as a count which is running while the batch is written may
+     * count the written notifications already.
+     */
+    private Mono<Void> updateUnreadCounters(List<Notification> batch) {
+        final Set<String> usernames = new HashSet<>();
+        for (Notification notification : batch) {
+            if (notification.getForUsername() != null && !Boolean.TRUE.equals(notification.getIsRead())) {
+                usernames.add(notification.getForUsername());
+            }
+        }
+
+        if (usernames.isEmpty()) {
+            return Mono.empty();
+        }
+        return unreadCounterService.invalidate(usernames, UnreadCounter.NOTIFICATIONS_SCOPE);
+    }
+
+    /**
+     * Notifications about the same comment are duplicates, the latest one having the latest state of the comment. So are
+     * notifications about the same event of a thread. Notifications about different comments of a thread are not.
+     */
+    private static String getCoalescingKey(Notification notification) {
+        String subjectKey = null;
+        if (notification instanceof CommentNotification) {
+            final CommentNotification commentNotification = (CommentNotification) notification;
+            final Comment comment = commentNotification.getComment();
+            subjectKey = comment == null || comment.getId() == null ? null : "comment:" + comment.getId();
+        } else if (notification instanceof CommentThreadNotification) {
+            final CommentThreadNotification threadNotification = (CommentThreadNotification) notification;
+            final CommentThread thread = threadNotification.getCommentThread();
+            subjectKey = thread == null || thread.getId() == null
+                    ? null
+                    : "thread:" + thread.getId() + ":" + threadNotification.getEvent();
+        }
+
+        if (subjectKey == null) {
+            // Nothing to coalesce this notification with.
+            return notification.getId();
+        }
+        return notification.getForUsername() + ":" + subjectKey;
+    }
+
+    private static Counter writesCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(WRITES_METRIC)
+                .description("Notification writes by their outcome")
+                .tag(OUTCOME_TAG, outcome)
+                .register(meterRegistry);
+    }
+}
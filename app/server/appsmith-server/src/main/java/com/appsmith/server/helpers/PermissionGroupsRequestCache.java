@@ -0,0 +1,66 @@
+package com.appsmith.server.helpers;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Holds the permission groups of the users resolved while serving a single request. An instance of this class is put
+ * in the Reactor context at the beginning of every request, so that all the repository calls made while serving the
+ * request share a single resolution of the permission groups instead of resolving them once per query.
+ */
+public class PermissionGroupsRequestCache {
+
+    public static final String CONTEXT_KEY = PermissionGroupsRequestCache.class.getName();
+
+    private final Map<String, Mono<Set<String>>> permissionGroupsByUser = new ConcurrentHashMap<>();
+
+    private final AtomicInteger lookupCount = new AtomicInteger();
+
+    private final AtomicInteger resolutionCount = new AtomicInteger();
+
+    public static Optional<PermissionGroupsRequestCache> fromContext(ContextView contextView) {
+        return contextView.getOrEmpty(CONTEXT_KEY);
+    }
+
+    /**
+     * Returns the permission groups of the given user, resolving them with the given resolver only if they haven't been
+     * resolved already in this request. Errors are not cached.
+     */
+    public Mono<Set<String>> getOrResolve(String username, Supplier<Mono<Set<String>>> resolver) {
+        lookupCount.incrementAndGet();
+        return permissionGroupsByUser.computeIfAbsent(username, key -> Mono
+                .defer(() -> {
+                    resolutionCount.incrementAndGet();
+                    return resolver.get();
+                })
+                .map(Collections::unmodifiableSet)
+                .doOnError(error -> permissionGroupsByUser.remove(key))
+                .cache()
+        );
+    }
+
+    /**
+     * The permission groups of a user may change in the middle of a request, e.g. when the user creates a workspace.
+     * Such changes evict the permission groups cache, and this makes sure that the next lookup in the request resolves
+     * them again.
+     */
+    public void invalidate() {
+        permissionGroupsByUser.clear();
+    }
+
+    public int getLookupCount() {
+        return lookupCount.get();
+    }
+
+    public int getResolutionCount() {
+        return resolutionCount.get();
+    }
+}
@@ -1,8 +1,10 @@
 package com.appsmith.server.helpers;
 
+import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.Policy;
+import com.appsmith.external.models.QDatasource;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.PolicyGenerator;
 import com.appsmith.server.domains.ActionCollection;
@@ -11,6 +13,9 @@ import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.PermissionGroup;
+import com.appsmith.server.domains.QActionCollection;
+import com.appsmith.server.domains.QNewAction;
+import com.appsmith.server.domains.QNewPage;
 import com.appsmith.server.domains.Theme;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.Permission;
@@ -24,6 +29,7 @@ import com.appsmith.server.repositories.ThemeRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
@@ -42,6 +48,8 @@ import java.util.stream.Collectors;
 
 import static com.appsmith.server.acl.AclPermission.MANAGE_DATASOURCES;
 import static com.appsmith.server.acl.AclPermission.READ_THEMES;
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Component
 @AllArgsConstructor
@@ -363,6 +371,58 @@ public class PolicyUtils {
                 .flatMapMany(actionCollectionRepository::saveAll);
     }
 
+    /*
+     * The methods below are the bulk counterparts of the `updateWith...` methods above. Instead of loading every document
+     * and saving it back with its updated policies, they update the `policies` of all the documents in place on the
+     * database, and only return the number of documents in scope.
+     */
+
+    public Mono<Long> updateDatasourcePoliciesByDatasourceIds(Set<String> ids, Map<String, Policy> datasourcePolicyMap, boolean addPolicyToObject) {
+        if (CollectionUtils.isEmpty(ids)) {
+            return Mono.just(0L);
+        }
+        Criteria idCriteria = where(fieldName(QDatasource.datasource.id)).in(ids);
+        return datasourceRepository.updatePoliciesByCriteria(
+                List.of(idCriteria), datasourcePolicyMap, addPolicyToObject, MANAGE_DATASOURCES);
+    }
+
+    /**
+     * Updates the policies of the datasources used by the published or the unpublished actions of the given application.
+     */
+    public Mono<Long> updateDatasourcePoliciesByApplicationId(String applicationId, Map<String, Policy> datasourcePolicyMap, boolean addPolicyToObject) {
+        return newActionRepository.findByApplicationIdWithDatasourceProjection(applicationId)
+                .flatMapIterable(action -> {
+                    Set<String> datasourceIds = new HashSet<>();
+                    for (ActionDTO actionDTO : new ActionDTO[]{action.getUnpublishedAction(), action.getPublishedAction()}) {
+                        if (actionDTO != null && actionDTO.getDatasource() != null && actionDTO.getDatasource().getId() != null) {
+                            datasourceIds.add(actionDTO.getDatasource().getId());
+                        }
+                    }
+                    return datasourceIds;
+                })
+                .collect(Collectors.toSet())
+                .flatMap(datasourceIds -> updateDatasourcePoliciesByDatasourceIds(datasourceIds, datasourcePolicyMap, addPolicyToObject));
+    }
+
+    public Mono<Long> updatePagePoliciesByApplicationId(String applicationId, Map<String, Policy> newPagePoliciesMap, boolean addPolicyToObject) {
+        // As in updateWithApplicationPermissionsToAllItsPages, this covers both the published and the unpublished pages.
+        Criteria applicationIdCriteria = where(fieldName(QNewPage.newPage.applicationId)).is(applicationId);
+        return newPageRepository.updatePoliciesByCriteria(
+                List.of(applicationIdCriteria), newPagePoliciesMap, addPolicyToObject, AclPermission.READ_PAGES);
+    }
+
+    public Mono<Long> updateActionPoliciesByApplicationId(String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
+        Criteria applicationIdCriteria = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
+        return newActionRepository.updatePoliciesByCriteria(
+                List.of(applicationIdCriteria), newActionPoliciesMap, addPolicyToObject, null);
+    }
+
+    public Mono<Long> updateActionCollectionPoliciesByApplicationId(String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
+        Criteria applicationIdCriteria = where(fieldName(QActionCollection.actionCollection.applicationId)).is(applicationId);
+        return actionCollectionRepository.updatePoliciesByCriteria(
+                List.of(applicationIdCriteria), newActionPoliciesMap, addPolicyToObject, null);
+    }
+
     public Map<String, Policy> generateInheritedPoliciesFromSourcePolicies(Map<String, Policy> sourcePolicyMap,
                                                                            Class<? extends BaseDomain> sourceEntity,
                                                                            Class<? extends BaseDomain> destinationEntity) {
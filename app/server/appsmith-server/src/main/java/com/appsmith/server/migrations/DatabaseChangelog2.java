@@ -16,11 +16,13 @@ import com.appsmith.server.domains.Action;
 import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationPage;
+import com.appsmith.server.domains.ApplicationViewBundle;
 import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.Config;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.Notification;
 import com.appsmith.server.domains.Organization;
 import com.appsmith.server.domains.Page;
 import com.appsmith.server.domains.PermissionGroup;
@@ -28,22 +30,28 @@ import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.PricingPlan;
 import com.appsmith.server.domains.QActionCollection;
 import com.appsmith.server.domains.QApplication;
+import com.appsmith.server.domains.QApplicationViewBundle;
 import com.appsmith.server.domains.QComment;
 import com.appsmith.server.domains.QCommentThread;
 import com.appsmith.server.domains.QConfig;
 import com.appsmith.server.domains.QNewAction;
 import com.appsmith.server.domains.QNewPage;
+import com.appsmith.server.domains.QNotification;
 import com.appsmith.server.domains.QOrganization;
 import com.appsmith.server.domains.QPermissionGroup;
 import com.appsmith.server.domains.QPlugin;
+import com.appsmith.server.domains.QStoredDatasourceStructure;
 import com.appsmith.server.domains.QTenant;
 import com.appsmith.server.domains.QTheme;
+import com.appsmith.server.domains.QUnreadCounter;
 import com.appsmith.server.domains.QUser;
 import com.appsmith.server.domains.QUserData;
 import com.appsmith.server.domains.QWorkspace;
 import com.appsmith.server.domains.Sequence;
+import com.appsmith.server.domains.StoredDatasourceStructure;
 import com.appsmith.server.domains.Tenant;
 import com.appsmith.server.domains.Theme;
+import com.appsmith.server.domains.UnreadCounter;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.UserData;
 import com.appsmith.server.domains.UserRole;
@@ -56,6 +64,7 @@ import com.appsmith.server.helpers.TextUtils;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
 import com.appsmith.server.repositories.NewPageRepository;
 import com.appsmith.server.repositories.UserRepository;
+import com.appsmith.server.services.DatasourceStructureService;
 import com.appsmith.server.services.WorkspaceService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.cloudyrock.mongock.ChangeLog;
@@ -66,6 +75,7 @@ import com.querydsl.core.types.Path;
 import io.changock.migration.api.annotations.NonLockGuarded;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.dao.DuplicateKeyException;
@@ -2772,4 +2782,93 @@ public class DatabaseChangelog2 {
         ensureIndexes(mongockTemplate, Workspace.class, makeIndex("tenantId", "deleted").named("tenantId_deleted"));
     }
 
+    @ChangeSet(order = "040", id = "add-application-view-bundle-index", author = "")
+    public void addApplicationViewBundleIndex(MongockTemplate mongockTemplate) {
+        ensureIndexes(mongockTemplate, ApplicationViewBundle.class,
+                makeIndex(
+                        fieldName(QApplicationViewBundle.applicationViewBundle.applicationId),
+                        fieldName(QApplicationViewBundle.applicationViewBundle.permissionGroupsKey))
+                        .unique().named("applicationId_permissionGroupsKey_compound_index")
+        );
+    }
+
+    /**
+     * Datasource structures are stored in a collection of their own. The structures stored with the datasources are
+     * moved there, along with the fingerprint of the datasource configuration, so they're still used until the
+     * configuration changes.
+     */
+    @ChangeSet(order = "041", id = "move-datasource-structures-to-own-collection", author = "")
+    public void moveDatasourceStructuresToOwnCollection(MongockTemplate mongockTemplate,
+                                                        @NonLockGuarded DatasourceStructureService datasourceStructureService) {
+        final QStoredDatasourceStructure qStoredStructure = QStoredDatasourceStructure.storedDatasourceStructure;
+        ensureIndexes(mongockTemplate, StoredDatasourceStructure.class,
+                makeIndex(fieldName(qStoredStructure.datasourceId)).unique()
+        );
+
+        // The structure isn't mapped on the datasource anymore, so the datasources are read as documents, and the
+        // structure is moved over as it is stored.
+        final String structureField = fieldName(QDatasource.datasource.structure);
+        final Query query = query(where(structureField).exists(true));
+        try (Stream<Document> stream = mongockTemplate
+                .stream(query, Document.class, mongockTemplate.getCollectionName(Datasource.class))
+                .stream()) {
+            stream.forEach(document -> {
+                final Object structure = document.get(structureField);
+                if (structure != null) {
+                    final Datasource datasource = mongockTemplate.getConverter().read(Datasource.class, document);
+                    final Instant now = Instant.now();
+                    // A structure that was stored in the new collection already is newer, and is kept.
+                    mongockTemplate.upsert(
+                            query(where(fieldName(qStoredStructure.datasourceId)).is(datasource.getId())),
+                            new Update()
+                                    .setOnInsert(fieldName(qStoredStructure.configurationFingerprint),
+                                            datasourceStructureService.getConfigurationFingerprint(datasource))
+                                    .setOnInsert(fieldName(qStoredStructure.structure), structure)
+                                    .setOnInsert(fieldName(qStoredStructure.createdAt), now)
+                                    .setOnInsert(fieldName(qStoredStructure.updatedAt), now),
+                            StoredDatasourceStructure.class
+                    );
+                }
+
+                mongockTemplate.updateFirst(
+                        query(where("_id").is(document.get("_id"))),
+                        new Update().unset(structureField),
+                        Datasource.class
+                );
+            });
+        }
+    }
+
+    /**
+     * Indexes for the unread counts. Counting the unread notifications of a user is answered from the notification
+     * index alone. The unread comment threads can't be counted from an index alone, as the viewers and the policies of
+     * a thread are arrays, but the index narrows the count down to the unresolved threads of the application.
+     */
+    @ChangeSet(order = "042", id = "add-unread-count-indexes", author = "")
+    public void addUnreadCountIndexes(MongockTemplate mongockTemplate) {
+        ensureIndexes(mongockTemplate, UnreadCounter.class,
+                makeIndex(
+                        fieldName(QUnreadCounter.unreadCounter.username),
+                        fieldName(QUnreadCounter.unreadCounter.scope))
+                        .unique().named("username_scope_compound_index"),
+                makeIndex(fieldName(QUnreadCounter.unreadCounter.scope))
+        );
+
+        ensureIndexes(mongockTemplate, Notification.class,
+                makeIndex(
+                        fieldName(QNotification.notification.forUsername),
+                        fieldName(QNotification.notification.isRead))
+                        .named("forUsername_isRead_compound_index")
+        );
+
+        ensureIndexes(mongockTemplate, CommentThread.class,
+                makeIndex(
+                        fieldName(QCommentThread.commentThread.applicationId),
+                        fieldName(QCommentThread.commentThread.resolvedState) + "."
+                                + fieldName(QCommentThread.commentThread.resolvedState.active),
+                        fieldName(QCommentThread.commentThread.deleted))
+                        .named("applicationId_resolvedState_deleted_compound_index")
+        );
+    }
+
 }
@@ -0,0 +1,8 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.ApplicationViewBundleRepositoryCE;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ApplicationViewBundleRepository extends ApplicationViewBundleRepositoryCE, CustomApplicationViewBundleRepository {
+}
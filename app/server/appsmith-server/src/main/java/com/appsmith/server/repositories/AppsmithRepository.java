@@ -8,12 +8,15 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public interface AppsmithRepository<T> {
 
     Mono<T> findById(String id, AclPermission permission);
 
+    Mono<T> findById(String id, List<String> projectionFieldNames, AclPermission permission);
+
     Mono<T> updateById(String id, T resource, AclPermission permission);
 
     Flux<T> queryAll(List<Criteria> criterias, AclPermission permission);
@@ -29,4 +32,8 @@ public interface AppsmithRepository<T> {
     Mono<T> findByGitSyncIdAndDefaultApplicationId(String defaultApplicationId, String gitSyncId, AclPermission permission);
 
     Mono<Boolean> isPermissionPresentForUser(Set<Policy> policies, String permission, String username);
+
+    Mono<Long> updatePoliciesByCriteria(List<Criteria> criteriaList, Map<String, Policy> policyMap, boolean addPolicies, AclPermission permission);
+
+    Mono<Integer> insertAllUnordered(List<T> resources);
 }
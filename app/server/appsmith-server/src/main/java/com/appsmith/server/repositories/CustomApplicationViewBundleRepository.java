@@ -0,0 +1,7 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomApplicationViewBundleRepositoryCE;
+
+public interface CustomApplicationViewBundleRepository extends CustomApplicationViewBundleRepositoryCE {
+
+}
@@ -0,0 +1,18 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomApplicationViewBundleRepositoryCEImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class CustomApplicationViewBundleRepositoryImpl extends CustomApplicationViewBundleRepositoryCEImpl
+        implements CustomApplicationViewBundleRepository {
+
+    public CustomApplicationViewBundleRepositoryImpl(ReactiveMongoOperations mongoOperations, MongoConverter mongoConverter, CacheableRepositoryHelper cacheableRepositoryHelper) {
+        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
+    }
+
+}
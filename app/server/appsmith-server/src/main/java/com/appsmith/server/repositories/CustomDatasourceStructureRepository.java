@@ -0,0 +1,7 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomDatasourceStructureRepositoryCE;
+
+public interface CustomDatasourceStructureRepository extends CustomDatasourceStructureRepositoryCE {
+
+}
@@ -0,0 +1,20 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomDatasourceStructureRepositoryCEImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class CustomDatasourceStructureRepositoryImpl extends CustomDatasourceStructureRepositoryCEImpl
+        implements CustomDatasourceStructureRepository {
+
+    public CustomDatasourceStructureRepositoryImpl(ReactiveMongoOperations mongoOperations,
+                                                   MongoConverter mongoConverter,
+                                                   CacheableRepositoryHelper cacheableRepositoryHelper) {
+        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomUnreadCounterRepositoryCE;
+
+public interface CustomUnreadCounterRepository extends CustomUnreadCounterRepositoryCE {
+
+}
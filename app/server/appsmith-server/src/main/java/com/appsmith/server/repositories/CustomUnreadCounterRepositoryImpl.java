@@ -0,0 +1,20 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomUnreadCounterRepositoryCEImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class CustomUnreadCounterRepositoryImpl extends CustomUnreadCounterRepositoryCEImpl
+        implements CustomUnreadCounterRepository {
+
+    public CustomUnreadCounterRepositoryImpl(ReactiveMongoOperations mongoOperations,
+                                             MongoConverter mongoConverter,
+                                             CacheableRepositoryHelper cacheableRepositoryHelper) {
+        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.UnreadCounterRepositoryCE;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UnreadCounterRepository extends UnreadCounterRepositoryCE, CustomUnreadCounterRepository {
+
+}
@@ -0,0 +1,15 @@
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.server.domains.ApplicationViewBundle;
+import com.appsmith.server.repositories.BaseRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ApplicationViewBundleRepositoryCE extends BaseRepository<ApplicationViewBundle, String>, CustomApplicationViewBundleRepositoryCE {
+
+    Mono<ApplicationViewBundle> findByApplicationIdAndPermissionGroupsKey(String applicationId, String permissionGroupsKey);
+
+    Mono<Void> deleteByApplicationId(String applicationId);
+
+}
@@ -9,12 +9,17 @@ import com.appsmith.server.domains.QUser;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PermissionGroupsRequestCache;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.result.UpdateResult;
 import com.querydsl.core.types.Path;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Sort;
@@ -129,10 +134,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
         if (id == null) {
             return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.ID));
         }
-        return ReactiveSecurityContextHolder.getContext()
-                .map(ctx -> ctx.getAuthentication())
-                .map(auth -> auth.getPrincipal())
-                .flatMap(principal -> getAllPermissionGroupsForUser((User) principal))
+        return getCurrentUserPermissionGroups()
                 .flatMap(permissionGroups -> {
                     Query query = new Query(getIdCriteria(id));
                     query.addCriteria(new Criteria().andOperator(notDeleted(), userAcl(permissionGroups, permission)));
@@ -144,6 +146,13 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                 });
     }
 
+    public Mono<T> findById(String id, List<String> projectionFieldNames, AclPermission permission) {
+        if (id == null) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.ID));
+        }
+        return queryOne(List.of(getIdCriteria(id)), projectionFieldNames, permission);
+    }
+
     public Mono<T> updateById(String id, T resource, AclPermission permission) {
         if (id == null) {
             return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.ID));
@@ -151,7 +160,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
         return ReactiveSecurityContextHolder.getContext()
                 .map(ctx -> ctx.getAuthentication())
                 .map(auth -> auth.getPrincipal())
-                .zipWhen(principal -> getAllPermissionGroupsForUser((User) principal))
+                .zipWhen(principal -> getCurrentUserPermissionGroups((User) principal))
                 .flatMap(touple -> {
                     User user = (User) touple.getT1();
                     Set<String> permissionGroups = touple.getT2();
@@ -183,10 +192,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
         if (id == null) {
             return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.ID));
         }
-        return ReactiveSecurityContextHolder.getContext()
-                .map(ctx -> ctx.getAuthentication())
-                .map(auth -> auth.getPrincipal())
-                .flatMap(principal -> getAllPermissionGroupsForUser((User) principal))
+        return getCurrentUserPermissionGroups()
                 .flatMap(permissionGroups -> {
                     Query query = new Query(Criteria.where("id").is(id));
                     query.addCriteria(new Criteria().andOperator(notDeleted(), userAcl(permissionGroups, permission)));
@@ -204,24 +210,96 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
         return mongoOperations.updateMulti(query, updateObj, this.genericDomain);
     }
 
+    /**
+     * Adds the permission groups of the given policies to, or removes them from, the policies of all the documents
+     * matching the given criteria. This is done in place on the database with `$addToSet` / `$pullAll` on the
+     * `policies` array, so unlike loading the documents, updating their policies and saving them back, neither the rest
+     * of the documents is read nor are concurrent changes to them overwritten. The updated documents get the current
+     * time as their last modification time, and the current user as their last modifier.
+     *
+     * @param criteriaList      Criteria for the documents to update, e.g. by workspace, application or page id
+     * @param policyMap         Policies to add or remove, keyed by their permission
+     * @param addPolicies       Whether to add the permission groups, or to remove them
+     * @param permission        If not null, only the documents the current user has this permission on are updated
+     * @return Number of documents matching the criteria
+     */
+    public Mono<Long> updatePoliciesByCriteria(List<Criteria> criteriaList,
+                                               Map<String, Policy> policyMap,
+                                               boolean addPolicies,
+                                               AclPermission permission) {
+        if (criteriaList == null) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, "criteriaList"));
+        }
+
+        final Mono<Set<String>> permissionGroupsMono = permission == null
+                ? Mono.just(Set.of())
+                : getCurrentUserPermissionGroups();
+
+        return permissionGroupsMono.flatMap(permissionGroups -> {
+            final String policiesField = fieldName(QBaseDomain.baseDomain.policies);
+            final Update update = new Update();
+            final List<Mono<UpdateResult>> addMissingPolicyMonos = new ArrayList<>();
+
+            int index = 0;
+            for (Policy policy : policyMap.values()) {
+                if (CollectionUtils.isEmpty(policy.getPermissionGroups())) {
+                    continue;
+                }
+
+                final String identifier = "policy" + index++;
+                final String permissionGroupsField = policiesField + ".$[" + identifier + "].permissionGroups";
+                if (addPolicies) {
+                    update.addToSet(permissionGroupsField).each(policy.getPermissionGroups().toArray());
+
+                    // Documents that don't have a policy for this permission yet get an empty one first, which is
+                    // then filled in along with the existing ones.
+                    final List<Criteria> missingPolicyCriteria = new ArrayList<>(criteriaList);
+                    missingPolicyCriteria.add(where(policiesField + ".permission").ne(policy.getPermission()));
+                    addMissingPolicyMonos.add(mongoOperations.updateMulti(
+                            createQueryWithPermission(missingPolicyCriteria, permissionGroups, permission),
+                            new Update().push(policiesField, Policy.builder().permission(policy.getPermission()).build()),
+                            this.genericDomain
+                    ));
+                } else {
+                    update.pullAll(permissionGroupsField, policy.getPermissionGroups().toArray());
+                }
+                update.filterArray(where(identifier + ".permission").is(policy.getPermission()));
+            }
+
+            final Query query = createQueryWithPermission(criteriaList, permissionGroups, permission);
+            if (index == 0) {
+                return mongoOperations.count(query, this.genericDomain);
+            }
+
+            return Flux.concat(addMissingPolicyMonos)
+                    .then(setModifiedFields(update))
+                    .flatMap(modifiedUpdate -> mongoOperations.updateMulti(query, modifiedUpdate, this.genericDomain))
+                    .map(UpdateResult::getMatchedCount);
+        });
+    }
+
     protected Mono<T> queryOne(List<Criteria> criterias, AclPermission aclPermission) {
-        return ReactiveSecurityContextHolder.getContext()
-                .map(ctx -> ctx.getAuthentication())
-                .map(auth -> auth.getPrincipal())
-                .flatMap(principal -> getAllPermissionGroupsForUser((User) principal))
+        return queryOne(criterias, null, aclPermission);
+    }
+
+    /**
+     * Same as {@link #queryOne(List, AclPermission)}, but only the given fields are read from the database. This is
+     * useful for documents that hold large sub-documents (e.g. published and unpublished copies of a page), where the
+     * caller only needs one of them. The policies are always needed to compute the user permissions, and hence are
+     * added to the projection if missing.
+     */
+    protected Mono<T> queryOne(List<Criteria> criterias, List<String> includeFields, AclPermission aclPermission) {
+        return getCurrentUserPermissionGroups()
                 .flatMap(permissionGroups -> {
                     return mongoOperations.query(this.genericDomain)
-                            .matching(createQueryWithPermission(criterias, permissionGroups, aclPermission))
+                            .matching(createQueryWithPermission(criterias, includeFields, permissionGroups, aclPermission))
                             .one()
                             .flatMap(obj -> setUserPermissionsInObject(obj, permissionGroups));
                 });
     }
 
     protected Mono<T> queryFirst(List<Criteria> criterias, AclPermission aclPermission) {
-        return ReactiveSecurityContextHolder.getContext()
-                .map(ctx -> ctx.getAuthentication())
-                .map(auth -> auth.getPrincipal())
-                .flatMap(principal -> getAllPermissionGroupsForUser((User) principal))
+        return getCurrentUserPermissionGroups()
                 .flatMap(permissionGroups -> {
                     return mongoOperations.query(this.genericDomain)
                             .matching(createQueryWithPermission(criterias, permissionGroups, aclPermission))
@@ -231,7 +309,20 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
     }
 
     protected Query createQueryWithPermission(List<Criteria> criterias, Set<String> permissionGroups, AclPermission aclPermission) {
+        return createQueryWithPermission(criterias, null, permissionGroups, aclPermission);
+    }
+
+    protected Query createQueryWithPermission(List<Criteria> criterias,
+                                              List<String> includeFields,
+                                              Set<String> permissionGroups,
+                                              AclPermission aclPermission) {
         Query query = new Query();
+        if (!CollectionUtils.isEmpty(includeFields)) {
+            for (String includeField : includeFields) {
+                query.fields().include(includeField);
+            }
+            query.fields().include(fieldName(QBaseDomain.baseDomain.policies));
+        }
         criterias.stream()
                 .forEach(criteria -> query.addCriteria(criteria));
         if (aclPermission == null) {
@@ -243,10 +334,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
     }
 
     protected Mono<Long> count(List<Criteria> criterias, AclPermission aclPermission) {
-        return ReactiveSecurityContextHolder.getContext()
-                .map(ctx -> ctx.getAuthentication())
-                .map(auth -> auth.getPrincipal())
-                .flatMap(principal -> getAllPermissionGroupsForUser((User) principal))
+        return getCurrentUserPermissionGroups()
                 .flatMap(permissionGroups ->
                         mongoOperations.count(
                                 createQueryWithPermission(criterias, permissionGroups, aclPermission), this.genericDomain
@@ -274,10 +362,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
 
     public Flux<T> queryAll(List<Criteria> criterias, List<String> includeFields, AclPermission aclPermission, Sort sort, int limit) {
         final ArrayList<Criteria> criteriaList = new ArrayList<>(criterias);
-        return ReactiveSecurityContextHolder.getContext()
-                .map(ctx -> ctx.getAuthentication())
-                .map(auth -> auth.getPrincipal())
-                .flatMap(principal -> getAllPermissionGroupsForUser((User) principal))
+        return getCurrentUserPermissionGroups()
                 .flatMapMany(permissionGroups -> queryAllWithPermissionGroups(criteriaList, includeFields, aclPermission, sort, permissionGroups, limit));
     }
 
@@ -318,11 +403,62 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                 .flatMap(obj -> setUserPermissionsInObject(obj, permissionGroups));
     }
 
+    /**
+     * Inserts the given documents with a single unordered insertMany, instead of saving them one by one. The documents
+     * are expected to have their ids set. Documents whose id already exists are skipped, so that an insert which was
+     * interrupted can be retried as is. Any other write error is propagated, once the rest of the documents have been
+     * inserted. Returns the number of documents which were inserted.
+     * <p>
+     * The insert skips the auditing of saved documents, so the audit fields which aren't set on a document are set here,
+     * to the current time and the current user, if any.
+     */
+    public Mono<Integer> insertAllUnordered(List<T> resources) {
+        if (resources.isEmpty()) {
+            return Mono.just(0);
+        }
+
+        return getCurrentUsername()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(username -> insertAllUnordered(resources, username.orElse(null)));
+    }
+
+    private Mono<Integer> insertAllUnordered(List<T> resources, String username) {
+        final Instant now = Instant.now();
+        final List<Document> documents = new ArrayList<>(resources.size());
+        for (T resource : resources) {
+            if (resource.getCreatedAt() == null) {
+                resource.setCreatedAt(now);
+            }
+            if (resource.getUpdatedAt() == null) {
+                resource.setUpdatedAt(now);
+            }
+            if (resource.getCreatedBy() == null) {
+                resource.setCreatedBy(username);
+            }
+            if (resource.getModifiedBy() == null) {
+                resource.setModifiedBy(username);
+            }
+            final Document document = new Document();
+            mongoConverter.write(resource, document);
+            documents.add(document);
+        }
+
+        return mongoOperations.getCollection(mongoOperations.getCollectionName(this.genericDomain))
+                .flatMap(collection -> Mono.from(collection.insertMany(documents, new InsertManyOptions().ordered(false))))
+                .map(result -> result.getInsertedIds().size())
+                .onErrorResume(MongoBulkWriteException.class, error -> {
+                    final boolean isOnlyDuplicates = error.getWriteErrors().stream()
+                            .allMatch(writeError -> ErrorCategory.fromErrorCode(writeError.getCode()) == ErrorCategory.DUPLICATE_KEY);
+                    if (isOnlyDuplicates) {
+                        return Mono.just(error.getWriteResult().getInsertedCount());
+                    }
+                    return Mono.error(error);
+                });
+    }
+
     public Mono<T> setUserPermissionsInObject(T obj) {
-        return ReactiveSecurityContextHolder.getContext()
-                .map(ctx -> ctx.getAuthentication())
-                .map(auth -> auth.getPrincipal())
-                .flatMap(principal -> getAllPermissionGroupsForUser((User) principal))
+        return getCurrentUserPermissionGroups()
                 .flatMap(permissionGroups -> setUserPermissionsInObject(obj, permissionGroups));
     }
 
@@ -396,6 +532,47 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                 });
     }
 
+    /**
+     * Returns the permission groups of the user making the current request. These are resolved only once per request
+     * and then shared by all the repository calls made while serving it, see {@link PermissionGroupsRequestCache}.
+     */
+    protected Mono<Set<String>> getCurrentUserPermissionGroups() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .map(auth -> auth.getPrincipal())
+                .flatMap(principal -> getCurrentUserPermissionGroups((User) principal));
+    }
+
+    /**
+     * Returns the username of the user making the current request, or an empty Mono if there is no such user, e.g. in
+     * migrations and background jobs.
+     */
+    protected Mono<String> getCurrentUsername() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .map(auth -> auth.getPrincipal())
+                .filter(principal -> principal instanceof User)
+                .map(principal -> ((User) principal).getUsername());
+    }
+
+    /**
+     * Sets the current time as the last modification time, and the current user, if any, as the last modifier, on the
+     * given update. Updates made in place on the database skip the auditing of saved documents, hence this.
+     */
+    protected Mono<Update> setModifiedFields(Update update) {
+        update.set(fieldName(QBaseDomain.baseDomain.updatedAt), Instant.now());
+        return getCurrentUsername()
+                .map(username -> update.set(fieldName(QBaseDomain.baseDomain.modifiedBy), username))
+                .defaultIfEmpty(update);
+    }
+
+    private Mono<Set<String>> getCurrentUserPermissionGroups(User user) {
+        return Mono.deferContextual(contextView -> PermissionGroupsRequestCache.fromContext(contextView)
+                .map(requestCache -> requestCache.getOrResolve(user.getEmail(), () -> getAllPermissionGroupsForUser(user)))
+                .orElseGet(() -> getAllPermissionGroupsForUser(user))
+        );
+    }
+
     protected Mono<Set<String>> getAnonymousUserPermissionGroups() {
         return cacheableRepositoryHelper.getPermissionGroupsOfAnonymousUser();
     }
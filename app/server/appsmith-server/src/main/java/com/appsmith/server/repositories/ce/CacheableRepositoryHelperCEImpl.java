@@ -11,6 +11,7 @@ import com.appsmith.server.domains.QTenant;
 import com.appsmith.server.domains.QUser;
 import com.appsmith.server.domains.Tenant;
 import com.appsmith.server.domains.User;
+import com.appsmith.server.helpers.PermissionGroupsRequestCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -72,7 +73,11 @@ public class CacheableRepositoryHelperCEImpl implements CacheableRepositoryHelpe
     @CacheEvict(cacheName = "permissionGroupsForUser", key = "{#email + #tenantId}")
     @Override
     public Mono<Void> evictPermissionGroupsUser(String email, String tenantId) {
-        return Mono.empty();
+        // Also drop the permission groups resolved so far in the current request, if any
+        return Mono.deferContextual(contextView -> {
+            PermissionGroupsRequestCache.fromContext(contextView).ifPresent(PermissionGroupsRequestCache::invalidate);
+            return Mono.empty();
+        });
     }
 
     @Override
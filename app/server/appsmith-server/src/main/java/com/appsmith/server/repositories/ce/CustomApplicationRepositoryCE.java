@@ -2,6 +2,7 @@ package com.appsmith.server.repositories.ce;
 
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Application.AppLayout;
 import com.appsmith.server.domains.ApplicationPage;
 import com.appsmith.server.domains.GitAuth;
 import com.appsmith.server.repositories.AppsmithRepository;
@@ -9,6 +10,7 @@ import com.mongodb.client.result.UpdateResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 
@@ -22,6 +24,8 @@ public interface CustomApplicationRepositoryCE extends AppsmithRepository<Applic
 
     Flux<Application> findByMultipleWorkspaceIds(Set<String> workspaceIds, AclPermission permission);
 
+    Flux<Application> findByMultipleWorkspaceIds(Set<String> workspaceIds, List<String> includeFields, AclPermission permission);
+
     /**
      * Finds all the applications that are directly assigned to the user.
      * This method would not return public applications.
@@ -33,6 +37,10 @@ public interface CustomApplicationRepositoryCE extends AppsmithRepository<Applic
 
     Flux<Application> findByClonedFromApplicationId(String applicationId, AclPermission permission);
 
+    Mono<Application> claimCloneInProgress(String clonedFromApplicationId, String workspaceId, Duration leaseDuration, AclPermission permission);
+
+    Mono<UpdateResult> completeClone(String applicationId, List<ApplicationPage> pages, AppLayout appLayout, AclPermission permission);
+
     Mono<UpdateResult> addPageToApplication(String applicationId, String pageId, boolean isDefault, String defaultPageId);
 
     Mono<UpdateResult> setPages(String applicationId, List<ApplicationPage> pages);
@@ -3,6 +3,7 @@ package com.appsmith.server.repositories.ce;
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Application.AppLayout;
 import com.appsmith.server.domains.ApplicationPage;
 import com.appsmith.server.domains.GitAuth;
 import com.appsmith.server.domains.QApplication;
@@ -14,6 +15,7 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -24,6 +26,7 @@ import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Set;
@@ -74,6 +77,12 @@ public class CustomApplicationRepositoryCEImpl extends BaseAppsmithRepositoryImp
         return queryAll(List.of(workspaceIdCriteria), permission);
     }
 
+    @Override
+    public Flux<Application> findByMultipleWorkspaceIds(Set<String> workspaceIds, List<String> includeFields, AclPermission permission) {
+        Criteria workspaceIdCriteria = where(fieldName(QApplication.application.workspaceId)).in(workspaceIds);
+        return queryAll(List.of(workspaceIdCriteria), includeFields, permission, null);
+    }
+
     @Override
     public Flux<Application> findAllUserApps(AclPermission permission) {
         Mono<User> currentUserWithTenantMono = ReactiveSecurityContextHolder.getContext()
@@ -103,6 +112,53 @@ public class CustomApplicationRepositoryCEImpl extends BaseAppsmithRepositoryImp
         return queryAll(List.of(clonedFromCriteria), permission);
     }
 
+    /**
+     * Finds a clone of the given application in the given workspace which was left in progress, and whose lease has
+     * expired, and takes a new lease on it, in a single update. Only one caller can get the same clone, and a clone that
+     * is still being worked on isn't returned.
+     */
+    @Override
+    public Mono<Application> claimCloneInProgress(String clonedFromApplicationId, String workspaceId, Duration leaseDuration, AclPermission permission) {
+        final Instant now = Instant.now();
+        final String leaseField = fieldName(QApplication.application.cloneLeaseExpiresAt);
+        Criteria clonedFromCriteria = where(fieldName(QApplication.application.clonedFromApplicationId)).is(clonedFromApplicationId);
+        Criteria workspaceIdCriteria = where(fieldName(QApplication.application.workspaceId)).is(workspaceId);
+        Criteria cloneInProgressCriteria = where(fieldName(QApplication.application.cloneInProgress)).is(true);
+        Criteria leaseExpiredCriteria = new Criteria().orOperator(where(leaseField).exists(false), where(leaseField).lt(now));
+
+        return getCurrentUserPermissionGroups()
+                .flatMap(permissionGroups -> {
+                    Query query = new Query(new Criteria().andOperator(
+                            clonedFromCriteria,
+                            workspaceIdCriteria,
+                            cloneInProgressCriteria,
+                            leaseExpiredCriteria,
+                            notDeleted(),
+                            userAcl(permissionGroups, permission)
+                    ));
+                    Update update = new Update().set(leaseField, now.plus(leaseDuration));
+                    return mongoOperations
+                            .findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Application.class)
+                            .flatMap(application -> setUserPermissionsInObject(application, permissionGroups));
+                });
+    }
+
+    /**
+     * Sets the pages of a cloned application and publishes them, along with the given layout, in a single update. This
+     * also marks the clone as complete.
+     */
+    @Override
+    public Mono<UpdateResult> completeClone(String applicationId, List<ApplicationPage> pages, AppLayout appLayout, AclPermission permission) {
+        Update update = new Update()
+                .set(fieldName(QApplication.application.pages), pages)
+                .set(fieldName(QApplication.application.publishedPages), pages)
+                .set(fieldName(QApplication.application.publishedAppLayout), appLayout)
+                .set(fieldName(QApplication.application.lastEditedAt), Instant.now())
+                .unset(fieldName(QApplication.application.cloneInProgress))
+                .unset(fieldName(QApplication.application.cloneLeaseExpiresAt));
+        return this.updateById(applicationId, update, permission);
+    }
+
     @Override
     public Mono<UpdateResult> addPageToApplication(String applicationId, String pageId, boolean isDefault, String defaultPageId) {
         final ApplicationPage applicationPage = new ApplicationPage();
@@ -0,0 +1,13 @@
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.server.domains.ApplicationViewBundle;
+import com.appsmith.server.repositories.AppsmithRepository;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+public interface CustomApplicationViewBundleRepositoryCE extends AppsmithRepository<ApplicationViewBundle> {
+
+    Mono<Set<String>> getPermissionGroupsOfCurrentUser();
+
+}
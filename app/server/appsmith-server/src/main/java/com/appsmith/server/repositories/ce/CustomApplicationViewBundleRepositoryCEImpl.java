@@ -0,0 +1,32 @@
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.server.domains.ApplicationViewBundle;
+import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
+import com.appsmith.server.repositories.CacheableRepositoryHelper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+@Component
+@Slf4j
+public class CustomApplicationViewBundleRepositoryCEImpl extends BaseAppsmithRepositoryImpl<ApplicationViewBundle>
+        implements CustomApplicationViewBundleRepositoryCE {
+
+    public CustomApplicationViewBundleRepositoryCEImpl(ReactiveMongoOperations mongoOperations, MongoConverter mongoConverter, CacheableRepositoryHelper cacheableRepositoryHelper) {
+        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
+    }
+
+    /**
+     * The permission groups the repository queries of the current request are made with, which decide the pages and
+     * actions that go in a bundle.
+     */
+    @Override
+    public Mono<Set<String>> getPermissionGroupsOfCurrentUser() {
+        return getCurrentUserPermissionGroups();
+    }
+
+}
@@ -1,12 +1,18 @@
 package com.appsmith.server.repositories.ce;
 
+import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.Comment;
 import com.appsmith.server.repositories.AppsmithRepository;
 import com.mongodb.client.result.UpdateResult;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+
 public interface CustomCommentRepositoryCE extends AppsmithRepository<Comment> {
 
+    Flux<Comment> findByThreadId(String threadId, Instant createdBefore, String idBefore, int limit, AclPermission permission);
+
     Mono<UpdateResult> pushReaction(String commentId, Comment.Reaction reaction);
 
     Mono<UpdateResult> deleteReaction(String commentId, Comment.Reaction reaction);
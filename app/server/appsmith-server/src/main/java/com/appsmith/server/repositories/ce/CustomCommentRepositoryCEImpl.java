@@ -1,19 +1,26 @@
 package com.appsmith.server.repositories.ce;
 
+import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.QComment;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
 import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Slf4j
@@ -23,6 +30,29 @@ public class CustomCommentRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Co
         super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
     }
 
+    /**
+     * Finds the latest comments of a thread, which come after the last comment of the previous page, latest first.
+     *
+     * @param createdBefore `createdAt` of the last comment on the previous page, or null for the first page
+     * @param idBefore      id of the last comment on the previous page, to break ties between comments made together
+     */
+    @Override
+    public Flux<Comment> findByThreadId(String threadId, Instant createdBefore, String idBefore, int limit,
+                                        AclPermission permission) {
+        final String createdAtField = fieldName(QComment.comment.createdAt);
+        final String idField = fieldName(QComment.comment.id);
+
+        final List<Criteria> criteria = new ArrayList<>();
+        criteria.add(where(fieldName(QComment.comment.threadId)).is(threadId));
+        if (createdBefore != null) {
+            criteria.add(new Criteria().orOperator(
+                    where(createdAtField).lt(createdBefore),
+                    where(createdAtField).is(createdBefore).and(idField).lt(idBefore)
+            ));
+        }
+        return queryAll(criteria, null, permission, Sort.by(Sort.Direction.DESC, createdAtField, idField), limit);
+    }
+
     /**
      * Add a reaction, by a user, if the reaction by that user already doesn't exist on this comment.
      *
@@ -9,6 +9,7 @@ import com.mongodb.client.result.UpdateResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.Set;
 
 public interface CustomCommentThreadRepositoryCE extends AppsmithRepository<CommentThread> {
@@ -17,6 +18,13 @@ public interface CustomCommentThreadRepositoryCE extends AppsmithRepository<Comm
 
     Flux<CommentThread> find(CommentThreadFilterDTO commentThreadFilterDTO, AclPermission permission);
 
+    Flux<CommentThread> findWithLatestComments(CommentThreadFilterDTO commentThreadFilterDTO,
+                                               Instant updatedBefore,
+                                               String idBefore,
+                                               int limit,
+                                               int commentsLimit,
+                                               AclPermission permission);
+
     Mono<UpdateResult> addToSubscribers(String threadId, Set<String> usernames);
 
     Mono<UpdateResult> removeSubscriber(String threadId, String username);
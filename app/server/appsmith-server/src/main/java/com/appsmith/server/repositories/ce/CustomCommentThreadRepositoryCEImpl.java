@@ -2,14 +2,20 @@ package com.appsmith.server.repositories.ce;
 
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.ApplicationMode;
+import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.domains.QComment;
 import com.appsmith.server.domains.QCommentThread;
 import com.appsmith.server.dtos.CommentThreadFilterDTO;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
 import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -29,6 +35,8 @@ import static org.springframework.data.mongodb.core.query.Criteria.where;
 public class CustomCommentThreadRepositoryCEImpl extends BaseAppsmithRepositoryImpl<CommentThread>
         implements CustomCommentThreadRepositoryCE {
 
+    private static final String COMMENTS_FIELD = "comments";
+
     public CustomCommentThreadRepositoryCEImpl(ReactiveMongoOperations mongoOperations, MongoConverter mongoConverter, CacheableRepositoryHelper cacheableRepositoryHelper) {
         super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
     }
@@ -98,6 +106,88 @@ public class CustomCommentThreadRepositoryCEImpl extends BaseAppsmithRepositoryI
 
     @Override
     public Flux<CommentThread> find(CommentThreadFilterDTO commentThreadFilterDTO, AclPermission permission) {
+        return queryAll(getFilterCriteria(commentThreadFilterDTO), permission);
+    }
+
+    /**
+     * Finds a page of the threads matching the filter, most recently updated first, along with the latest comments of
+     * each of them, in a single aggregation. The comments of each thread are looked up with a limited sub-pipeline, so
+     * that threads with long discussions don't blow up the size of the page.
+     *
+     * @param updatedBefore  `updatedAt` of the last thread on the previous page, or null for the first page
+     * @param idBefore       id of the last thread on the previous page, to break ties between threads updated together
+     * @param commentsLimit  number of latest comments to load for each thread. One more comment is looked up to know
+     *                       whether the thread has more comments than the ones loaded.
+     */
+    @Override
+    public Flux<CommentThread> findWithLatestComments(CommentThreadFilterDTO commentThreadFilterDTO,
+                                                      Instant updatedBefore,
+                                                      String idBefore,
+                                                      int limit,
+                                                      int commentsLimit,
+                                                      AclPermission permission) {
+        final String updatedAtField = fieldName(QCommentThread.commentThread.updatedAt);
+        final String idField = fieldName(QCommentThread.commentThread.id);
+
+        final List<Criteria> criteriaList = getFilterCriteria(commentThreadFilterDTO);
+        if (updatedBefore != null) {
+            criteriaList.add(new Criteria().orOperator(
+                    where(updatedAtField).lt(updatedBefore),
+                    where(updatedAtField).is(updatedBefore).and(idField).lt(idBefore)
+            ));
+        }
+
+        return getCurrentUserPermissionGroups()
+                .flatMapMany(permissionGroups -> {
+                    criteriaList.add(notDeleted());
+                    criteriaList.add(userAcl(permissionGroups, permission));
+
+                    final Document commentsCriteria = new Criteria()
+                            .andOperator(notDeleted(), userAcl(permissionGroups, AclPermission.READ_COMMENTS))
+                            .getCriteriaObject();
+                    final Document commentsLookup = new Document("$lookup", new Document()
+                            .append("from", mongoOperations.getCollectionName(Comment.class))
+                            .append("let", new Document("threadId", new Document("$toString", "$_id")))
+                            .append("pipeline", List.of(
+                                    new Document("$match", new Document("$expr",
+                                            new Document("$eq", List.of("$" + fieldName(QComment.comment.threadId), "$$threadId")))),
+                                    new Document("$match", commentsCriteria),
+                                    // Same order as the pages of comments of a thread, so that they continue from here
+                                    new Document("$sort", new Document(fieldName(QComment.comment.createdAt), -1).append("_id", -1)),
+                                    new Document("$limit", commentsLimit + 1)
+                            ))
+                            .append("as", COMMENTS_FIELD));
+
+                    final TypedAggregation<CommentThread> aggregation = Aggregation.newAggregation(
+                            CommentThread.class,
+                            Aggregation.match(new Criteria().andOperator(criteriaList.toArray(new Criteria[0]))),
+                            Aggregation.sort(Sort.by(Sort.Direction.DESC, updatedAtField, idField)),
+                            Aggregation.limit(limit),
+                            context -> commentsLookup
+                    );
+
+                    return mongoOperations.aggregate(aggregation, Document.class)
+                            .map(document -> toThreadWithComments(document, commentsLimit))
+                            .flatMap(thread -> setUserPermissionsInObject(thread, permissionGroups));
+                });
+    }
+
+    private CommentThread toThreadWithComments(Document document, int commentsLimit) {
+        final List<Document> commentDocuments = document.getList(COMMENTS_FIELD, Document.class, List.of());
+        document.remove(COMMENTS_FIELD);
+        final CommentThread thread = mongoConverter.read(CommentThread.class, document);
+
+        // The comments are looked up latest first, but are sent in the order they were made.
+        final List<Comment> comments = new ArrayList<>();
+        for (Document commentDocument : commentDocuments.subList(0, Math.min(commentsLimit, commentDocuments.size()))) {
+            comments.add(0, mongoConverter.read(Comment.class, commentDocument));
+        }
+        thread.setComments(comments);
+        thread.setHasMoreComments(commentDocuments.size() > commentsLimit);
+        return thread;
+    }
+
+    private List<Criteria> getFilterCriteria(CommentThreadFilterDTO commentThreadFilterDTO) {
         List<Criteria> criteriaList = new ArrayList<>();
         criteriaList.add(
                 where(fieldName(QCommentThread.commentThread.applicationId))
@@ -114,6 +204,6 @@ public class CustomCommentThreadRepositoryCEImpl extends BaseAppsmithRepositoryI
         if (commentThreadFilterDTO.getMode() != null) {
             criteriaList.add(where(fieldName(QCommentThread.commentThread.mode)).is(commentThreadFilterDTO.getMode()));
         }
-        return queryAll(criteriaList, permission);
+        return criteriaList;
     }
 }
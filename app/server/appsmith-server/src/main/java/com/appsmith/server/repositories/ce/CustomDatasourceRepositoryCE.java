@@ -1,10 +1,8 @@
 package com.appsmith.server.repositories.ce;
 
 import com.appsmith.external.models.Datasource;
-import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.repositories.AppsmithRepository;
-import com.mongodb.client.result.UpdateResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -20,6 +18,4 @@ public interface CustomDatasourceRepositoryCE extends AppsmithRepository<Datasou
 
     Flux<Datasource> findAllByIds(Set<String> ids, AclPermission permission);
 
-    Mono<UpdateResult> saveStructure(String datasourceId, DatasourceStructure structure);
-
 }
@@ -1,17 +1,14 @@
 package com.appsmith.server.repositories.ce;
 
 import com.appsmith.external.models.Datasource;
-import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.QDatasource;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
-import com.mongodb.client.result.UpdateResult;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Update;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -19,7 +16,6 @@ import java.util.List;
 import java.util.Set;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
-import static org.springframework.data.mongodb.core.query.Query.query;
 
 public class CustomDatasourceRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Datasource> implements CustomDatasourceRepositoryCE {
 
@@ -45,12 +41,4 @@ public class CustomDatasourceRepositoryCEImpl extends BaseAppsmithRepositoryImpl
         Criteria idcriteria = where(fieldName(QDatasource.datasource.id)).in(ids);
         return queryAll(List.of(idcriteria), permission);
     }
-
-    public Mono<UpdateResult> saveStructure(String datasourceId, DatasourceStructure structure) {
-        return mongoOperations.updateFirst(
-                query(where(fieldName(QDatasource.datasource.id)).is(datasourceId)),
-                Update.update(fieldName(QDatasource.datasource.structure), structure),
-                Datasource.class
-        );
-    }
 }
@@ -0,0 +1,18 @@
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.server.domains.StoredDatasourceStructure;
+import com.appsmith.server.repositories.AppsmithRepository;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import reactor.core.publisher.Mono;
+
+public interface CustomDatasourceStructureRepositoryCE extends AppsmithRepository<StoredDatasourceStructure> {
+
+    Mono<StoredDatasourceStructure> findByDatasourceId(String datasourceId);
+
+    Mono<UpdateResult> saveStructure(String datasourceId, String configurationFingerprint, DatasourceStructure structure);
+
+    Mono<DeleteResult> deleteByDatasourceId(String datasourceId);
+
+}
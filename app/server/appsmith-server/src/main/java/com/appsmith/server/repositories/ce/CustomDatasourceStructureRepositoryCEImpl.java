@@ -0,0 +1,69 @@
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.server.domains.QStoredDatasourceStructure;
+import com.appsmith.server.domains.StoredDatasourceStructure;
+import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
+import com.appsmith.server.repositories.CacheableRepositoryHelper;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Component
+@Slf4j
+public class CustomDatasourceStructureRepositoryCEImpl extends BaseAppsmithRepositoryImpl<StoredDatasourceStructure>
+        implements CustomDatasourceStructureRepositoryCE {
+
+    public CustomDatasourceStructureRepositoryCEImpl(ReactiveMongoOperations mongoOperations,
+                                                     MongoConverter mongoConverter,
+                                                     CacheableRepositoryHelper cacheableRepositoryHelper) {
+        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
+    }
+
+    @Override
+    public Mono<StoredDatasourceStructure> findByDatasourceId(String datasourceId) {
+        return mongoOperations.findOne(
+                query(where(fieldName(QStoredDatasourceStructure.storedDatasourceStructure.datasourceId)).is(datasourceId)),
+                StoredDatasourceStructure.class
+        );
+    }
+
+    /**
+     * Replaces the stored structure of the datasource, creating it if there is none yet. There is a unique index on the
+     * datasource id, so concurrent saves for the same datasource end up in the one document.
+     */
+    @Override
+    public Mono<UpdateResult> saveStructure(String datasourceId, String configurationFingerprint, DatasourceStructure structure) {
+        final QStoredDatasourceStructure qStoredStructure = QStoredDatasourceStructure.storedDatasourceStructure;
+        final Instant now = Instant.now();
+        final Update update = new Update()
+                .set(fieldName(qStoredStructure.configurationFingerprint), configurationFingerprint)
+                .set(fieldName(qStoredStructure.structure), structure)
+                .set(fieldName(qStoredStructure.updatedAt), now)
+                .setOnInsert(fieldName(qStoredStructure.createdAt), now);
+
+        return mongoOperations.upsert(
+                query(where(fieldName(qStoredStructure.datasourceId)).is(datasourceId)),
+                update,
+                StoredDatasourceStructure.class
+        );
+    }
+
+    @Override
+    public Mono<DeleteResult> deleteByDatasourceId(String datasourceId) {
+        return mongoOperations.remove(
+                query(where(fieldName(QStoredDatasourceStructure.storedDatasourceStructure.datasourceId)).is(datasourceId)),
+                StoredDatasourceStructure.class
+        );
+    }
+}
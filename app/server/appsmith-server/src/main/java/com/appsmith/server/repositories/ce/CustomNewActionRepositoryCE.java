@@ -40,6 +40,10 @@ public interface CustomNewActionRepositoryCE extends AppsmithRepository<NewActio
 
     Flux<NewAction> findByApplicationIdAndViewMode(String applicationId, Boolean viewMode, AclPermission aclPermission);
 
+    Flux<NewAction> findByApplicationIdAndViewModeWithProjection(String applicationId, Boolean viewMode, AclPermission aclPermission);
+
+    Flux<NewAction> findByApplicationIdWithDatasourceProjection(String applicationId);
+
     Mono<Long> countByDatasourceId(String datasourceId);
 
     Mono<NewAction> findByBranchNameAndDefaultActionId(String branchName, String defaultActionId, AclPermission permission);
@@ -260,6 +260,70 @@ public class CustomNewActionRepositoryCEImpl extends BaseAppsmithRepositoryImpl<
         return queryAll(criteria, aclPermission);
     }
 
+    @Override
+    public Flux<NewAction> findByApplicationIdAndViewModeWithProjection(String applicationId,
+                                                                        Boolean viewMode,
+                                                                        AclPermission aclPermission) {
+
+        Criteria applicationCriterion = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
+
+        // An action document carries both the published and the unpublished copy of the action. Only read the one
+        // that has been asked for, along with the fields needed to identify the action and compute its permissions.
+        String actionFieldName = Boolean.TRUE.equals(viewMode)
+                ? fieldName(QNewAction.newAction.publishedAction)
+                : fieldName(QNewAction.newAction.unpublishedAction);
+
+        List<String> includeFields = new ArrayList<>(List.of(
+                fieldName(QNewAction.newAction.applicationId),
+                fieldName(QNewAction.newAction.workspaceId),
+                fieldName(QNewAction.newAction.pluginType),
+                fieldName(QNewAction.newAction.pluginId),
+                fieldName(QNewAction.newAction.defaultResources),
+                fieldName(QNewAction.newAction.gitSyncId),
+                fieldName(QNewAction.newAction.policies),
+                actionFieldName
+        ));
+
+        if (Boolean.TRUE.equals(viewMode)) {
+            // Actions missing their plugin type or id have them filled in from the unpublished action, see
+            // NewActionServiceCEImpl.sanitizeAction, so the fields of it that are used for that are read as well.
+            final String unpublishedActionFieldName = fieldName(QNewAction.newAction.unpublishedAction);
+            includeFields.add(unpublishedActionFieldName + "." + fieldName(QNewAction.newAction.unpublishedAction.collectionId));
+            includeFields.add(unpublishedActionFieldName + "." + fieldName(QNewAction.newAction.unpublishedAction.datasource)
+                    + "." + fieldName(QNewAction.newAction.unpublishedAction.datasource.pluginId));
+        }
+
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(applicationCriterion);
+
+        if (Boolean.FALSE.equals(viewMode)) {
+            // In case an action has been deleted in edit mode, but still exists in deployed mode, NewAction object would exist. To handle this, only fetch non-deleted actions
+            Criteria deletedCriterion = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.deletedAt)).is(null);
+            criteria.add(deletedCriterion);
+        }
+
+        return queryAll(criteria, includeFields, aclPermission, null);
+    }
+
+    /**
+     * Returns all the actions of the given application, with only the ids of their published and unpublished
+     * datasources read from the database. This is not filtered by the permissions of the current user.
+     */
+    @Override
+    public Flux<NewAction> findByApplicationIdWithDatasourceProjection(String applicationId) {
+        Criteria applicationCriterion = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
+
+        List<String> includeFields = List.of(
+                fieldName(QNewAction.newAction.unpublishedAction) + ".datasource._id",
+                fieldName(QNewAction.newAction.publishedAction) + ".datasource._id"
+        );
+
+        return mongoOperations.find(
+                createQueryWithPermission(List.of(applicationCriterion), includeFields, null, null),
+                this.genericDomain
+        );
+    }
+
     @Override
     public Mono<Long> countByDatasourceId(String datasourceId) {
         Criteria unpublishedDatasourceCriteria = where(fieldName(QNewAction.newAction.unpublishedAction)
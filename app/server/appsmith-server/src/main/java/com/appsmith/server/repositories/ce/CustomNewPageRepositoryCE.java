@@ -14,6 +14,8 @@ public interface CustomNewPageRepositoryCE extends AppsmithRepository<NewPage> {
 
     Flux<NewPage> findByApplicationIdAndNonDeletedEditMode(String applicationId, AclPermission aclPermission);
 
+    Mono<NewPage> findByIdAndViewMode(String id, AclPermission aclPermission, Boolean viewMode);
+
     Mono<NewPage> findByIdAndLayoutsIdAndViewMode(String id, String layoutId, AclPermission aclPermission, Boolean viewMode);
 
     Mono<NewPage> findByNameAndViewMode(String name, AclPermission aclPermission, Boolean viewMode);
@@ -6,6 +6,8 @@ import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.QLayout;
 import com.appsmith.server.domains.QNewPage;
 import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
 import lombok.extern.slf4j.Slf4j;
@@ -43,6 +45,14 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
         return queryAll(List.of(applicationIdCriteria, activeEditModeCriteria), aclPermission);
     }
 
+    @Override
+    public Mono<NewPage> findByIdAndViewMode(String id, AclPermission aclPermission, Boolean viewMode) {
+        if (id == null) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.ID));
+        }
+        return queryOne(List.of(getIdCriteria(id)), getViewModeFieldNames(viewMode), aclPermission);
+    }
+
     @Override
     public Mono<NewPage> findByIdAndLayoutsIdAndViewMode(String id, String layoutId, AclPermission aclPermission, Boolean viewMode) {
         String layoutsIdKey;
@@ -66,7 +76,7 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
         Criteria layoutCriterion = where(layoutsIdKey).is(layoutId);
         criteria.add(layoutCriterion);
 
-        return queryOne(criteria, aclPermission);
+        return queryOne(criteria, getViewModeFieldNames(viewMode), aclPermission);
     }
 
     @Override
@@ -114,6 +124,27 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
         return queryAll(List.of(idsCriterion), aclPermission);
     }
 
+    /**
+     * A page document carries both the published and the unpublished copy of the page, each with the complete DSL of
+     * all its layouts. Callers that are only interested in one of the two modes should not pay for reading and
+     * decoding the other one, so this returns the fields that are needed to build the page for the given mode.
+     */
+    private List<String> getViewModeFieldNames(Boolean viewMode) {
+        String pageFieldName = Boolean.TRUE.equals(viewMode)
+                ? fieldName(QNewPage.newPage.publishedPage)
+                : fieldName(QNewPage.newPage.unpublishedPage);
+
+        return List.of(
+                fieldName(QNewPage.newPage.applicationId),
+                fieldName(QNewPage.newPage.defaultResources),
+                fieldName(QNewPage.newPage.gitSyncId),
+                fieldName(QNewPage.newPage.createdAt),
+                fieldName(QNewPage.newPage.updatedAt),
+                fieldName(QNewPage.newPage.policies),
+                pageFieldName
+        );
+    }
+
     private Criteria getNameCriterion(String name, Boolean viewMode) {
         String nameKey;
 
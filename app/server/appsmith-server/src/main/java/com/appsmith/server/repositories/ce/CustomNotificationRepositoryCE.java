@@ -11,4 +11,5 @@ public interface CustomNotificationRepositoryCE extends AppsmithRepository<Notif
     Mono<UpdateResult> updateIsReadByForUsernameAndIdList(String forUsername, List<String> idList, boolean isRead);
     Mono<UpdateResult> updateIsReadByForUsername(String forUsername, boolean isRead);
     Mono<Void> updateCommentAuthorNames(String authorId, String authorName);
+    Mono<Integer> insertUnordered(List<Notification> notifications);
 }
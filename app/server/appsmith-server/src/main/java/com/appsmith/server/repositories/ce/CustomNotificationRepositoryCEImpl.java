@@ -5,7 +5,9 @@ import com.appsmith.server.domains.QComment;
 import com.appsmith.server.domains.QNotification;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.client.result.UpdateResult;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -18,6 +20,7 @@ import java.util.List;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
 
+@Slf4j
 public class CustomNotificationRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Notification>
         implements CustomNotificationRepositoryCE {
 
@@ -58,4 +61,18 @@ public class CustomNotificationRepositoryCEImpl extends BaseAppsmithRepositoryIm
                 )
                 .then();
     }
+
+    /**
+     * Inserts the notifications with a single unordered insertMany, so that a failure to insert one of them doesn't
+     * stop the others from being inserted. The notifications are expected to have their ids and audit fields set.
+     * Returns the number of notifications which were inserted.
+     */
+    @Override
+    public Mono<Integer> insertUnordered(List<Notification> notifications) {
+        return insertAllUnordered(notifications)
+                .onErrorResume(MongoBulkWriteException.class, error -> {
+                    log.warn("Failed to insert {} of {} notifications", error.getWriteErrors().size(), notifications.size());
+                    return Mono.just(error.getWriteResult().getInsertedCount());
+                });
+    }
 }
@@ -10,6 +10,7 @@ public interface CustomThemeRepositoryCE extends AppsmithRepository<Theme> {
     Flux<Theme> getApplicationThemes(String applicationId, AclPermission aclPermission);
     Flux<Theme> getSystemThemes();
     Mono<Theme> getSystemThemeByName(String themeName);
+    Flux<Theme> findAllSystemThemes();
     Mono<Boolean> archiveByApplicationId(String applicationId);
     Mono<Boolean> archiveDraftThemesById(String editModeThemeId, String publishedModeThemeId);
 }
@@ -3,15 +3,14 @@ package com.appsmith.server.repositories.ce;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.QTheme;
 import com.appsmith.server.domains.Theme;
-import com.appsmith.server.domains.User;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
-import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -52,11 +51,18 @@ public class CustomThemeRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Them
         return queryOne(List.of(criteria), AclPermission.READ_THEMES);
     }
 
+    /**
+     * Fetches the system themes without checking permissions, as these are available to all users. This doesn't need
+     * a user in the context, so that the themes can be loaded when the server starts.
+     */
+    @Override
+    public Flux<Theme> findAllSystemThemes() {
+        Criteria criteria = where(fieldName(QTheme.theme.isSystemTheme)).is(true);
+        return mongoOperations.find(new Query(new Criteria().andOperator(criteria, notDeleted())), Theme.class);
+    }
+
     private Mono<Boolean> archiveThemeByCriteria(Criteria criteria) {
-        return ReactiveSecurityContextHolder.getContext()
-                .map(ctx -> ctx.getAuthentication())
-                .map(auth -> auth.getPrincipal())
-                .flatMap(principal -> getAllPermissionGroupsForUser((User) principal))
+        return getCurrentUserPermissionGroups()
                 .flatMap(permissionGroups -> {
                     Criteria permissionCriteria = userAcl(permissionGroups, AclPermission.MANAGE_THEMES);
 
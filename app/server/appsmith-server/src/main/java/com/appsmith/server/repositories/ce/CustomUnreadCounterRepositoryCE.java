@@ -0,0 +1,25 @@
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.server.domains.UnreadCounter;
+import com.appsmith.server.repositories.AppsmithRepository;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface CustomUnreadCounterRepositoryCE extends AppsmithRepository<UnreadCounter> {
+
+    Mono<UnreadCounter> findByUsernameAndScope(String username, String scope);
+
+    Mono<UnreadCounter> createIfAbsent(String username, String scope);
+
+    Mono<UpdateResult> setCount(String username, String scope, long count, Long expectedVersion);
+
+    Mono<DeleteResult> deleteByUsernamesAndScope(Collection<String> usernames, String scope);
+
+    Mono<DeleteResult> deleteByScope(String scope);
+
+    Mono<DeleteResult> deleteByUsernames(Collection<String> usernames);
+
+}
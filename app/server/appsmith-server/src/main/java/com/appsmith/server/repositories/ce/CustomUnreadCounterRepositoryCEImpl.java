@@ -0,0 +1,110 @@
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.server.domains.QUnreadCounter;
+import com.appsmith.server.domains.UnreadCounter;
+import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
+import com.appsmith.server.repositories.CacheableRepositoryHelper;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Component
+@Slf4j
+public class CustomUnreadCounterRepositoryCEImpl extends BaseAppsmithRepositoryImpl<UnreadCounter>
+        implements CustomUnreadCounterRepositoryCE {
+
+    public CustomUnreadCounterRepositoryCEImpl(ReactiveMongoOperations mongoOperations,
+                                               MongoConverter mongoConverter,
+                                               CacheableRepositoryHelper cacheableRepositoryHelper) {
+        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
+    }
+
+    @Override
+    public Mono<UnreadCounter> findByUsernameAndScope(String username, String scope) {
+        return mongoOperations.findOne(
+                query(where(fieldName(QUnreadCounter.unreadCounter.username)).is(username)
+                        .and(fieldName(QUnreadCounter.unreadCounter.scope)).is(scope)),
+                UnreadCounter.class
+        );
+    }
+
+    /**
+     * Returns the counter, creating one without a count if there is none yet. There is a unique index on the username
+     * and the scope, so a concurrent creation of the same counter fails with a duplicate key error. A created counter
+     * starts at a random version, so that a count which was counted for a dropped counter is not stored into one
+     * created after it.
+     */
+    @Override
+    public Mono<UnreadCounter> createIfAbsent(String username, String scope) {
+        final QUnreadCounter qUnreadCounter = QUnreadCounter.unreadCounter;
+        return mongoOperations.findAndModify(
+                query(where(fieldName(qUnreadCounter.username)).is(username)
+                        .and(fieldName(qUnreadCounter.scope)).is(scope)),
+                new Update()
+                        .setOnInsert(fieldName(qUnreadCounter.createdAt), Instant.now())
+                        .setOnInsert(fieldName(qUnreadCounter.version), ThreadLocalRandom.current().nextLong()),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                UnreadCounter.class
+        );
+    }
+
+    /**
+     * Sets the counter to the given count, only if its version is still the expected one, i.e. the counter was neither
+     * changed nor dropped since it was read. A count that was counted while the counter changed is not stored, as it
+     * may have missed that change. The modified count of the result tells whether the count was stored.
+     */
+    @Override
+    public Mono<UpdateResult> setCount(String username, String scope, long count, Long expectedVersion) {
+        final QUnreadCounter qUnreadCounter = QUnreadCounter.unreadCounter;
+        final Update update = new Update()
+                .set(fieldName(qUnreadCounter.count), count)
+                .set(fieldName(qUnreadCounter.updatedAt), Instant.now())
+                .inc(fieldName(qUnreadCounter.version), 1);
+
+        return mongoOperations.updateFirst(
+                query(where(fieldName(qUnreadCounter.username)).is(username)
+                        .and(fieldName(qUnreadCounter.scope)).is(scope)
+                        .and(fieldName(qUnreadCounter.version)).is(expectedVersion)),
+                update,
+                UnreadCounter.class
+        );
+    }
+
+    @Override
+    public Mono<DeleteResult> deleteByUsernamesAndScope(Collection<String> usernames, String scope) {
+        return mongoOperations.remove(
+                query(where(fieldName(QUnreadCounter.unreadCounter.username)).in(usernames)
+                        .and(fieldName(QUnreadCounter.unreadCounter.scope)).is(scope)),
+                UnreadCounter.class
+        );
+    }
+
+    @Override
+    public Mono<DeleteResult> deleteByScope(String scope) {
+        return mongoOperations.remove(
+                query(where(fieldName(QUnreadCounter.unreadCounter.scope)).is(scope)),
+                UnreadCounter.class
+        );
+    }
+
+    @Override
+    public Mono<DeleteResult> deleteByUsernames(Collection<String> usernames) {
+        return mongoOperations.remove(
+                query(where(fieldName(QUnreadCounter.unreadCounter.username)).in(usernames)),
+                UnreadCounter.class
+        );
+    }
+}
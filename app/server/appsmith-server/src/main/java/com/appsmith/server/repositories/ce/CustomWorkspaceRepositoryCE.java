@@ -7,6 +7,7 @@ import org.springframework.data.domain.Sort;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Set;
 
 public interface CustomWorkspaceRepositoryCE extends AppsmithRepository<Workspace> {
@@ -20,4 +21,6 @@ public interface CustomWorkspaceRepositoryCE extends AppsmithRepository<Workspac
     Flux<Workspace> findAllWorkspaces();
 
     Flux<Workspace> findAll(AclPermission permission);
+
+    Flux<Workspace> findAll(List<String> includeFields, AclPermission permission);
 }
@@ -74,4 +74,13 @@ public class CustomWorkspaceRepositoryCEImpl extends BaseAppsmithRepositoryImpl<
             });
         
     }
+
+    @Override
+    public Flux<Workspace> findAll(List<String> includeFields, AclPermission permission) {
+        return sessionUserService.getCurrentUser()
+                .flatMapMany(user -> {
+                    Criteria tenantIdCriteria = where(fieldName(QWorkspace.workspace.tenantId)).is(user.getTenantId());
+                    return queryAll(List.of(tenantIdCriteria), includeFields, permission, null);
+                });
+    }
 }
@@ -0,0 +1,10 @@
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.server.domains.StoredDatasourceStructure;
+import com.appsmith.server.repositories.BaseRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DatasourceStructureRepositoryCE extends BaseRepository<StoredDatasourceStructure, String>, CustomDatasourceStructureRepositoryCE {
+
+}
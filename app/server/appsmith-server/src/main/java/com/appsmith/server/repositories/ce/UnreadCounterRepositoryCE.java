@@ -0,0 +1,10 @@
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.server.domains.UnreadCounter;
+import com.appsmith.server.repositories.BaseRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UnreadCounterRepositoryCE extends BaseRepository<UnreadCounter, String>, CustomUnreadCounterRepositoryCE {
+
+}
@@ -1,10 +1,10 @@
 package com.appsmith.server.services;
 
 import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.helpers.AnalyticsEventPipeline;
 import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.helpers.UserUtils;
 import com.appsmith.server.services.ce.AnalyticsServiceCEImpl;
-import com.segment.analytics.Analytics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -14,14 +14,14 @@ import org.springframework.stereotype.Service;
 public class AnalyticsServiceImpl extends AnalyticsServiceCEImpl implements AnalyticsService {
 
     @Autowired
-    public AnalyticsServiceImpl(@Autowired(required = false) Analytics analytics,
+    public AnalyticsServiceImpl(AnalyticsEventPipeline analyticsEventPipeline,
                                 SessionUserService sessionUserService,
                                 CommonConfig commonConfig,
                                 ConfigService configService,
                                 PolicyUtils policyUtils,
                                 UserUtils userUtils) {
 
-        super(analytics, sessionUserService, commonConfig, configService, policyUtils, userUtils);
+        super(analyticsEventPipeline, sessionUserService, commonConfig, configService, policyUtils, userUtils);
     }
 
 
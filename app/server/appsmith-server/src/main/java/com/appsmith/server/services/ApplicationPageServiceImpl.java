@@ -28,10 +28,13 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
                                       GitFileUtils gitFileUtils,
                                       CommentThreadRepository commentThreadRepository,
                                       ThemeService themeService,
-                                      ResponseUtils responseUtils) {
+                                      ResponseUtils responseUtils,
+                                      ApplicationViewBundleService applicationViewBundleService,
+                                      UnreadCounterService unreadCounterService) {
 
         super(workspaceService, applicationService, sessionUserService, workspaceRepository, layoutActionService, analyticsService,
                 policyGenerator, applicationRepository, newPageService, newActionService, actionCollectionService,
-                gitFileUtils, commentThreadRepository, themeService, responseUtils);
+                gitFileUtils, commentThreadRepository, themeService, responseUtils, applicationViewBundleService,
+                unreadCounterService);
     }
 }
@@ -32,10 +32,12 @@ public class ApplicationServiceImpl extends ApplicationServiceCEImpl implements
                                   ResponseUtils responseUtils,
                                   PermissionGroupService permissionGroupService,
                                   TenantService tenantService,
-                                  UserRepository userRepository) {
+                                  UserRepository userRepository,
+                                  UnreadCounterService unreadCounterService) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService, policyUtils,
-                configService, commentThreadRepository, sessionUserService, responseUtils, permissionGroupService, tenantService, userRepository);
+                configService, commentThreadRepository, sessionUserService, responseUtils, permissionGroupService, tenantService, userRepository,
+                unreadCounterService);
 
     }
 }
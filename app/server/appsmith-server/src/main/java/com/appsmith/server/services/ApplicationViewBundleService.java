@@ -0,0 +1,6 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.ApplicationViewBundleServiceCE;
+
+public interface ApplicationViewBundleService extends ApplicationViewBundleServiceCE {
+}
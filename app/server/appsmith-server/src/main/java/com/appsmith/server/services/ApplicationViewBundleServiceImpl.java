@@ -0,0 +1,31 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.configurations.ProjectProperties;
+import com.appsmith.server.helpers.ResponseUtils;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.ApplicationViewBundleRepository;
+import com.appsmith.server.services.ce.ApplicationViewBundleServiceCEImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class ApplicationViewBundleServiceImpl extends ApplicationViewBundleServiceCEImpl implements ApplicationViewBundleService {
+
+    public ApplicationViewBundleServiceImpl(ApplicationViewBundleRepository repository,
+                                            ApplicationRepository applicationRepository,
+                                            ApplicationService applicationService,
+                                            NewPageService newPageService,
+                                            NewActionService newActionService,
+                                            ThemeService themeService,
+                                            LayoutActionService layoutActionService,
+                                            ResponseUtils responseUtils,
+                                            ObjectMapper objectMapper,
+                                            ProjectProperties projectProperties,
+                                            AnalyticsService analyticsService) {
+
+        super(repository, applicationRepository, applicationService, newPageService, newActionService, themeService,
+                layoutActionService, responseUtils, objectMapper, projectProperties, analyticsService);
+    }
+}
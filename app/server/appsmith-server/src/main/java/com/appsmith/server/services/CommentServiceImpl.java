@@ -37,12 +37,13 @@ public class CommentServiceImpl extends CommentServiceCEImpl implements CommentS
                               EmailEventHandler emailEventHandler,
                               UserDataRepository userDataRepository,
                               SequenceService sequenceService,
-                              ResponseUtils responseUtils) {
+                              ResponseUtils responseUtils,
+                              UnreadCounterService unreadCounterService) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService,
                 threadRepository, userService, sessionUserService, applicationService, newPageService,
                 notificationService, policyGenerator, policyUtils, emailEventHandler, userDataRepository,
-                sequenceService, responseUtils);
+                sequenceService, responseUtils, unreadCounterService);
 
     }
 }
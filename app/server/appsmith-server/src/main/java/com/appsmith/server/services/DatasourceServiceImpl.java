@@ -30,11 +30,12 @@ public class DatasourceServiceImpl extends DatasourceServiceCEImpl implements Da
                                  PolicyGenerator policyGenerator,
                                  SequenceService sequenceService,
                                  NewActionRepository newActionRepository,
-                                 DatasourceContextService datasourceContextService) {
+                                 DatasourceContextService datasourceContextService,
+                                 DatasourceStructureService datasourceStructureService) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, workspaceService,
                 analyticsService, sessionUserService, pluginService, pluginExecutorHelper, policyGenerator,
-                sequenceService, newActionRepository, datasourceContextService);
+                sequenceService, newActionRepository, datasourceContextService, datasourceStructureService);
 
     }
 }
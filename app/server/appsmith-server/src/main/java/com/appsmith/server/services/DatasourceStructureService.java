@@ -0,0 +1,6 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.DatasourceStructureServiceCE;
+
+public interface DatasourceStructureService extends DatasourceStructureServiceCE {
+}
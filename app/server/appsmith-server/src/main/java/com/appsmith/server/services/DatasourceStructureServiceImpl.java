@@ -0,0 +1,14 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.repositories.DatasourceStructureRepository;
+import com.appsmith.server.services.ce.DatasourceStructureServiceCEImpl;
+import org.springframework.stereotype.Service;
+
+@Service
+public class DatasourceStructureServiceImpl extends DatasourceStructureServiceCEImpl implements DatasourceStructureService {
+
+    public DatasourceStructureServiceImpl(DatasourceStructureRepository repository) {
+        super(repository);
+    }
+
+}
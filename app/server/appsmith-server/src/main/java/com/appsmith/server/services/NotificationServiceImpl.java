@@ -1,5 +1,6 @@
 package com.appsmith.server.services;
 
+import com.appsmith.server.helpers.NotificationBatchWriter;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.repositories.NotificationRepository;
 import com.appsmith.server.services.ce.NotificationServiceCEImpl;
@@ -22,9 +23,11 @@ public class NotificationServiceImpl extends NotificationServiceCEImpl implement
                                    NotificationRepository repository,
                                    AnalyticsService analyticsService,
                                    SessionUserService sessionUserService,
-                                   ResponseUtils responseUtils) {
+                                   ResponseUtils responseUtils,
+                                   NotificationBatchWriter notificationBatchWriter,
+                                   UnreadCounterService unreadCounterService) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService,
-                sessionUserService, responseUtils);
+                sessionUserService, responseUtils, notificationBatchWriter, unreadCounterService);
     }
 }
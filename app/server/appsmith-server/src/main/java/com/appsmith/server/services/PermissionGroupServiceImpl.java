@@ -25,9 +25,11 @@ public class PermissionGroupServiceImpl extends PermissionGroupServiceCEImpl imp
                                       TenantService tenantService,
                                       UserRepository userRepository,
                                       PolicyUtils policyUtils,
-                                      ConfigRepository configRepository) {
+                                      ConfigRepository configRepository,
+                                      UnreadCounterService unreadCounterService) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService,
-                sessionUserService, tenantService, userRepository, policyUtils, configRepository);
+                sessionUserService, tenantService, userRepository, policyUtils, configRepository,
+                unreadCounterService);
     }
 }
@@ -3,7 +3,9 @@ package com.appsmith.server.services;
 import com.appsmith.server.repositories.UserRepository;
 import com.appsmith.server.services.ce.SessionUserServiceCEImpl;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -11,8 +13,9 @@ import org.springframework.stereotype.Service;
 public class SessionUserServiceImpl extends SessionUserServiceCEImpl implements SessionUserService {
 
     public SessionUserServiceImpl(UserRepository userRepository,
-                                  ReactiveRedisOperations<String, Object> redisOperations) {
+                                  ReactiveRedisOperations<String, Object> redisOperations,
+                                  @Qualifier("springSessionDefaultRedisSerializer") RedisSerializer<Object> sessionSerializer) {
 
-        super(userRepository, redisOperations);
+        super(userRepository, redisOperations, sessionSerializer);
     }
 }
@@ -0,0 +1,6 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.UnreadCounterServiceCE;
+
+public interface UnreadCounterService extends UnreadCounterServiceCE {
+}
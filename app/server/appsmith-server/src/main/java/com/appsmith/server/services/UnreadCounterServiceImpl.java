@@ -0,0 +1,14 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.repositories.UnreadCounterRepository;
+import com.appsmith.server.services.ce.UnreadCounterServiceCEImpl;
+import org.springframework.stereotype.Service;
+
+@Service
+public class UnreadCounterServiceImpl extends UnreadCounterServiceCEImpl implements UnreadCounterService {
+
+    public UnreadCounterServiceImpl(UnreadCounterRepository repository) {
+        super(repository);
+    }
+
+}
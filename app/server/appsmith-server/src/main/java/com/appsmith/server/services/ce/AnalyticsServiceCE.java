@@ -7,6 +7,7 @@ import com.appsmith.server.domains.UserData;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
+import java.util.function.Function;
 
 public interface AnalyticsServiceCE {
 
@@ -24,6 +25,10 @@ public interface AnalyticsServiceCE {
 
     <T extends BaseDomain> Mono<T> sendObjectEvent(AnalyticsEvents event, T object);
 
+    <T extends BaseDomain> Mono<Void> sendObjectEventInBackground(AnalyticsEvents event,
+                                                                  Mono<T> objectMono,
+                                                                  Function<T, Mono<Map<String, Object>>> extraPropertiesFunction);
+
     <T extends BaseDomain> Mono<T> sendCreateEvent(T object, Map<String, Object> extraProperties);
 
     <T extends BaseDomain> Mono<T> sendCreateEvent(T object);
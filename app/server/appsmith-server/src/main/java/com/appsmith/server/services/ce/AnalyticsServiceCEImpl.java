@@ -7,28 +7,31 @@ import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.UserData;
+import com.appsmith.server.helpers.AnalyticsEventPipeline;
 import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.helpers.UserUtils;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.services.SessionUserService;
-import com.segment.analytics.Analytics;
 import com.segment.analytics.messages.IdentifyMessage;
+import com.segment.analytics.messages.MessageBuilder;
 import com.segment.analytics.messages.TrackMessage;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 @Slf4j
 public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
 
-    private final Analytics analytics;
+    private static final String IDENTIFY_EVENT = "identify";
+
+    private final AnalyticsEventPipeline analyticsEventPipeline;
     private final SessionUserService sessionUserService;
     private final CommonConfig commonConfig;
     private final ConfigService configService;
@@ -36,13 +39,13 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
     private final UserUtils userUtils;
 
     @Autowired
-    public AnalyticsServiceCEImpl(@Autowired(required = false) Analytics analytics,
+    public AnalyticsServiceCEImpl(AnalyticsEventPipeline analyticsEventPipeline,
                                   SessionUserService sessionUserService,
                                   CommonConfig commonConfig,
                                   ConfigService configService,
                                   PolicyUtils policyUtils,
                                   UserUtils userUtils) {
-        this.analytics = analytics;
+        this.analyticsEventPipeline = analyticsEventPipeline;
         this.sessionUserService = sessionUserService;
         this.commonConfig = commonConfig;
         this.configService = configService;
@@ -50,7 +53,7 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
     }
 
     public boolean isActive() {
-        return analytics != null;
+        return analyticsEventPipeline.isActive();
     }
 
     private String hash(String value) {
@@ -58,28 +61,22 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
     }
 
     public Mono<User> identifyUser(User user, UserData userData) {
-        if (!isActive()) {
+        if (!isActive() || !analyticsEventPipeline.isSampled(IDENTIFY_EVENT)) {
             return Mono.just(user);
         }
 
-        Mono<Boolean> isSuperUserMono = userUtils.isSuperUser(user);
-
-        return Mono.just(user)
-                .zipWith(isSuperUserMono)
-                .map(tuple -> {
-                    User savedUser = tuple.getT1();
-                    final Boolean isSuperUser = tuple.getT2();
-
-                    String username = savedUser.getUsername();
-                    String name = savedUser.getName();
-                    String email = savedUser.getEmail();
+        Mono<IdentifyMessage.Builder> messageMono = userUtils.isSuperUser(user)
+                .map(isSuperUser -> {
+                    String username = user.getUsername();
+                    String name = user.getName();
+                    String email = user.getEmail();
                     if (!commonConfig.isCloudHosting()) {
                         username = hash(username);
                         name = hash(name);
                         email = hash(email);
                     }
 
-                    analytics.enqueue(IdentifyMessage.builder()
+                    return IdentifyMessage.builder()
                             .userId(ObjectUtils.defaultIfNull(username, ""))
                             .traits(Map.of(
                                     "name", ObjectUtils.defaultIfNull(name, ""),
@@ -87,27 +84,25 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
                                     "isSuperUser", isSuperUser != null && isSuperUser,
                                     "role", ObjectUtils.defaultIfNull(userData.getRole(), ""),
                                     "goal", ObjectUtils.defaultIfNull(userData.getUseCase(), "")
-                            ))
-                    );
-                    analytics.flush();
-                    return savedUser;
+                            ));
                 });
+
+        return submitInBackground(messageMono).thenReturn(user);
     }
 
     public void identifyInstance(String instanceId, String role, String useCase) {
-        if (!isActive()) {
+        if (!isActive() || !analyticsEventPipeline.isSampled(IDENTIFY_EVENT)) {
             return;
         }
 
-        analytics.enqueue(IdentifyMessage.builder()
+        analyticsEventPipeline.submit(Mono.just(IdentifyMessage.builder()
                 .userId(instanceId)
                 .traits(Map.of(
                         "isInstance", true,  // Is this "identify" data-point for a user or an instance?
                         "role", ObjectUtils.defaultIfNull(role, ""),
                         "goal", ObjectUtils.defaultIfNull(useCase, "")
                 ))
-        );
-        analytics.flush();
+        ));
     }
 
     @Override
@@ -117,7 +112,7 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
 
     @Override
     public void sendEvent(String event, String userId, Map<String, ?> properties, boolean hashUserId) {
-        if (!isActive()) {
+        if (!isActive() || !analyticsEventPipeline.isSampled(event)) {
             return;
         }
 
@@ -127,6 +122,17 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
         // at java.base/java.util.ImmutableCollections$AbstractImmutableMap.put(ImmutableCollections.java)
         Map<String, Object> analyticsProperties = properties == null ? new HashMap<>() : new HashMap<>(properties);
 
+        analyticsEventPipeline.submit(buildTrackMessage(event, userId, analyticsProperties, hashUserId));
+    }
+
+    /**
+     * Builds the track message for an event which has already been sampled. The properties are modified in place.
+     */
+    private Mono<TrackMessage.Builder> buildTrackMessage(String event,
+                                                         String userId,
+                                                         Map<String, Object> analyticsProperties,
+                                                         boolean hashUserId) {
+
         // Hash usernames at all places for self-hosted instance
         if (userId != null
                 && hashUserId
@@ -150,15 +156,18 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
             }
         }
 
+        // Let the consumers of sampled events scale the counts back up
+        final double sampleRate = analyticsEventPipeline.getSampleRate(event);
+        if (sampleRate < 1.0) {
+            analyticsProperties.put("sampleRate", sampleRate);
+        }
+
         final String finalUserId = userId;
-        configService.getInstanceId().map(instanceId -> {
-            TrackMessage.Builder messageBuilder = TrackMessage.builder(event).userId(finalUserId);
+        return configService.getInstanceId().map(instanceId -> {
             analyticsProperties.put("originService", "appsmith-server");
             analyticsProperties.put("instanceId", instanceId);
-            messageBuilder = messageBuilder.properties(analyticsProperties);
-            analytics.enqueue(messageBuilder);
-            return instanceId;
-        }).subscribeOn(Schedulers.boundedElastic()).subscribe();
+            return TrackMessage.builder(event).userId(finalUserId).properties(analyticsProperties);
+        });
     }
 
     @Override
@@ -172,7 +181,46 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
         }
 
         final String eventTag = getEventTag(event, object);
+        if (!analyticsEventPipeline.isSampled(eventTag)) {
+            return Mono.just(object);
+        }
+
+        final Map<String, Object> properties = extraProperties == null ? null : new HashMap<>(extraProperties);
 
+        return submitInBackground(buildObjectEventMessage(event, eventTag, object, properties))
+                .thenReturn(object);
+    }
+
+    /**
+     * Sends the event in the background, without delaying the caller. The object and the properties of the event are
+     * resolved only if the event is sampled, and off the request thread, so any lookups needed just for the event don't
+     * add to the latency of the request.
+     */
+    @Override
+    public <T extends BaseDomain> Mono<Void> sendObjectEventInBackground(AnalyticsEvents event,
+                                                                         Mono<T> objectMono,
+                                                                         Function<T, Mono<Map<String, Object>>> extraPropertiesFunction) {
+        if (!isActive()) {
+            return Mono.empty();
+        }
+
+        Mono<TrackMessage.Builder> messageMono = objectMono
+                .flatMap(object -> {
+                    final String eventTag = getEventTag(event, object);
+                    if (!analyticsEventPipeline.isSampled(eventTag)) {
+                        return Mono.empty();
+                    }
+                    return extraPropertiesFunction.apply(object)
+                            .flatMap(properties -> buildObjectEventMessage(event, eventTag, object, properties));
+                });
+
+        return submitInBackground(messageMono);
+    }
+
+    private <T extends BaseDomain> Mono<TrackMessage.Builder> buildObjectEventMessage(AnalyticsEvents event,
+                                                                                   String eventTag,
+                                                                                   T object,
+                                                                                   Map<String, Object> extraProperties) {
         // We will create an anonymous user object for event tracking if no user is present
         // Without this, a lot of flows meant for anonymous users will error out
 
@@ -187,14 +235,14 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
                 .switchIfEmpty(Mono.just(anonymousUser));
 
         return userMono
-                .map(user -> {
+                .flatMap(user -> {
 
                     // In case the user is anonymous, don't raise an event, unless it's a signup, logout or page view event.
                     boolean isEventUserSignUpOrLogout = object instanceof User && (event == AnalyticsEvents.CREATE || event == AnalyticsEvents.LOGOUT);
                     boolean isEventPageView = object instanceof NewPage && event == AnalyticsEvents.VIEW;
                     boolean isAvoidLoggingEvent = user.isAnonymous() && !(isEventUserSignUpOrLogout || isEventPageView);
                     if (isAvoidLoggingEvent) {
-                        return object;
+                        return Mono.empty();
                     }
 
                     final String username = (object instanceof User ? (User) object : user).getUsername();
@@ -208,11 +256,21 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
                         analyticsProperties.remove(FieldName.EVENT_DATA);
                     }
 
-                    sendEvent(eventTag, username, analyticsProperties);
-                    return object;
+                    return buildTrackMessage(eventTag, username, analyticsProperties, true);
                 });
     }
 
+    /**
+     * Hands the message over to the pipeline along with the Reactor context of the caller, so that the message can be
+     * built with the security context of the current request even after the request has been served.
+     */
+    private Mono<Void> submitInBackground(Mono<? extends MessageBuilder<?, ?>> messageMono) {
+        return Mono.deferContextual(contextView -> {
+            analyticsEventPipeline.submit(messageMono.contextWrite(contextView));
+            return Mono.empty();
+        });
+    }
+
     /**
      * Generates event name tag to analytic events
      * @param event AnalyticsEvents
@@ -36,11 +36,13 @@ import com.appsmith.server.repositories.WorkspaceRepository;
 import com.appsmith.server.services.ActionCollectionService;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.ApplicationService;
+import com.appsmith.server.services.ApplicationViewBundleService;
 import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.NewActionService;
 import com.appsmith.server.services.NewPageService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.ThemeService;
+import com.appsmith.server.services.UnreadCounterService;
 import com.appsmith.server.services.WorkspaceService;
 import com.google.common.base.Strings;
 import com.mongodb.client.result.UpdateResult;
@@ -95,6 +97,8 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
     private final CommentThreadRepository commentThreadRepository;
     private final ThemeService themeService;
     private final ResponseUtils responseUtils;
+    private final ApplicationViewBundleService applicationViewBundleService;
+    private final UnreadCounterService unreadCounterService;
 
 
     public static final Integer EVALUATION_VERSION = 2;
@@ -433,6 +437,9 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                 .then(newPageService.archivePagesByApplicationId(application.getId(), MANAGE_PAGES))
                 .then(themeService.archiveApplicationThemes(application))
                 .flatMap(applicationService::archive)
+                .flatMap(deletedApplication -> unreadCounterService.invalidate(deletedApplication.getId())
+                        .thenReturn(deletedApplication))
+                .flatMap(deletedApplication -> dropViewBundles(deletedApplication.getId()).thenReturn(deletedApplication))
                 .flatMap(deletedApplication -> {
                     final Map<String, Object> eventData = Map.of(
                             FieldName.APP_MODE, ApplicationMode.EDIT.toString(),
@@ -872,7 +879,8 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
 
                     Mono<UpdateResult> archiveCommentThreadMono = commentThreadRepository.archiveByPageId(
                             id, ApplicationMode.EDIT
-                    );
+                    ).flatMap(updateResult -> unreadCounterService.invalidate(page.getApplicationId())
+                            .thenReturn(updateResult));
 
                     /**
                      *  Only delete unpublished action collection and not the entire action collection.
@@ -964,7 +972,10 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                                 .flatMap(id -> commentThreadRepository.archiveByPageId(id, ApplicationMode.PUBLISHED)
                                         .then(newPageService.archiveById(id))
                                 )
-                                .collectList();
+                                .collectList()
+                                // The threads of the archived pages are no longer counted as unread
+                                .flatMap(archivedPages -> unreadCounterService.invalidate(application.getId())
+                                        .thenReturn(archivedPages));
                     } else {
                         archivePageListMono = Mono.just(new ArrayList<>());
                     }
@@ -1026,7 +1037,21 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
 
         return publishApplicationAndPages
                 .flatMap(newPages -> Mono.zip(publishedActionsListMono, publishedActionCollectionsListMono, publishThemeMono))
-                .then(sendApplicationPublishedEvent(publishApplicationAndPages, publishedActionsListMono, publishedActionCollectionsListMono, applicationId, isPublishedManually));
+                .then(sendApplicationPublishedEvent(publishApplicationAndPages, publishedActionsListMono, publishedActionCollectionsListMono, applicationId, isPublishedManually))
+                .flatMap(application -> dropViewBundles(application.getId()).thenReturn(application));
+    }
+
+    /**
+     * Drops the view bundles of the application, which are then generated again on the next view with the permission
+     * groups of the viewer. A failure here shouldn't fail the publish or the delete, as the bundles are anyway not
+     * served once the application is updated.
+     */
+    private Mono<Void> dropViewBundles(String applicationId) {
+        return applicationViewBundleService.deleteViewBundle(applicationId)
+                .onErrorResume(error -> {
+                    log.warn("Unable to drop the view bundles of application {}", applicationId, error);
+                    return Mono.empty();
+                });
     }
 
     private Mono<Application> sendApplicationPublishedEvent(Mono<List<NewPage>> publishApplicationAndPages,
@@ -1,25 +1,20 @@
 package com.appsmith.server.services.ce;
 
 import com.appsmith.external.constants.AnalyticsEvents;
-import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.constants.ApplicationConstants;
 import com.appsmith.server.constants.Assets;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Action;
-import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationMode;
 import com.appsmith.server.domains.GitApplicationMetadata;
 import com.appsmith.server.domains.GitAuth;
-import com.appsmith.server.domains.NewAction;
-import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.Page;
 import com.appsmith.server.domains.QApplication;
 import com.appsmith.server.domains.Theme;
 import com.appsmith.server.domains.User;
-import com.appsmith.external.models.ActionDTO;
 import com.appsmith.server.dtos.ApplicationAccessDTO;
 import com.appsmith.server.dtos.GitAuthDTO;
 import com.appsmith.server.dtos.GitDeployKeyDTO;
@@ -39,6 +34,7 @@ import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.services.PermissionGroupService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.TenantService;
+import com.appsmith.server.services.UnreadCounterService;
 import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -53,7 +49,6 @@ import reactor.core.scheduler.Scheduler;
 
 import javax.validation.Validator;
 import java.time.Instant;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -79,6 +74,8 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
 
     private final UserRepository userRepository;
 
+    private final UnreadCounterService unreadCounterService;
+
     @Autowired
     public ApplicationServiceCEImpl(Scheduler scheduler,
                                     Validator validator,
@@ -93,7 +90,8 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
                                     ResponseUtils responseUtils,
                                     PermissionGroupService permissionGroupService,
                                     TenantService tenantService,
-                                    UserRepository userRepository) {
+                                    UserRepository userRepository,
+                                    UnreadCounterService unreadCounterService) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.policyUtils = policyUtils;
@@ -104,6 +102,7 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
         this.permissionGroupService = permissionGroupService;
         this.tenantService = tenantService;
         this.userRepository = userRepository;
+        this.unreadCounterService = unreadCounterService;
     }
 
     @Override
@@ -141,7 +140,8 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
 
     private Mono<Application> setUnreadCommentCount(Application application, User user) {
         if (!user.isAnonymous()) {
-            return commentThreadRepository.countUnreadThreads(application.getId(), user.getUsername())
+            final Mono<Long> countMono = commentThreadRepository.countUnreadThreads(application.getId(), user.getUsername());
+            return unreadCounterService.getCount(user.getUsername(), application.getId(), countMono)
                     .map(aLong -> {
                         application.setUnreadCommentThreads(aLong);
                         return application;
@@ -314,7 +314,10 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
 
                     // Now update the policies to change the access to the application
                     return generateAndSetPoliciesForView(application, publicPermissionGroupId,
-                            applicationAccessDTO.getPublicAccess());
+                            applicationAccessDTO.getPublicAccess())
+                            // Who can read the comment threads of the application may have changed
+                            .flatMap(updatedApplication -> unreadCounterService.invalidate(updatedApplication.getId())
+                                    .thenReturn(updatedApplication));
                 })
                 .flatMap(this::setTransientFields);
 
@@ -381,47 +384,24 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
                 applicationPolicyMap, Application.class, Theme.class
         );
 
-        final Flux<NewPage> updatedPagesFlux = policyUtils
-                .updateWithApplicationPermissionsToAllItsPages(application.getId(), pagePolicyMap, addViewAccess);
+        // The policies of the pages, actions, action collections and datasources are updated in place on the database,
+        // without loading the documents, which can be large in case of pages and actions.
+        final Mono<Long> updatedPagesMono = policyUtils
+                .updatePagePoliciesByApplicationId(application.getId(), pagePolicyMap, addViewAccess);
         // Use the same policy map as actions for action collections since action collections have the same kind of permissions
-        final Flux<ActionCollection> updatedActionCollectionsFlux = policyUtils
-                .updateWithPagePermissionsToAllItsActionCollections(application.getId(), actionPolicyMap, addViewAccess);
+        final Mono<Long> updatedActionCollectionsMono = policyUtils
+                .updateActionCollectionPoliciesByApplicationId(application.getId(), actionPolicyMap, addViewAccess);
         Flux<Theme> updatedThemesFlux = policyUtils.updateThemePolicies(application, themePolicyMap, addViewAccess);
-        final Flux<NewAction> updatedActionsFlux = updatedPagesFlux
-                .collectList()
-                .thenMany(updatedActionCollectionsFlux)
-                .collectList()
-                .then(Mono.justOrEmpty(application.getId()))
-                .thenMany(updatedThemesFlux)
-                .collectList()
-                .flatMapMany(applicationId -> policyUtils.updateWithPagePermissionsToAllItsActions(application.getId(), actionPolicyMap, addViewAccess));
+        final Mono<Long> updatedActionsMono = policyUtils
+                .updateActionPoliciesByApplicationId(application.getId(), actionPolicyMap, addViewAccess);
+        final Mono<Long> updatedDatasourcesMono = policyUtils
+                .updateDatasourcePoliciesByApplicationId(application.getId(), datasourcePolicyMap, addViewAccess);
 
-        return updatedActionsFlux
-                .collectList()
-                .flatMap(actions -> {
-                    Set<String> datasourceIds = new HashSet<>();
-                    for (NewAction action : actions) {
-                        ActionDTO unpublishedAction = action.getUnpublishedAction();
-                        ActionDTO publishedAction = action.getPublishedAction();
-
-                        if (unpublishedAction.getDatasource() != null &&
-                                unpublishedAction.getDatasource().getId() != null) {
-                            datasourceIds.add(unpublishedAction.getDatasource().getId());
-                        }
-
-                        if (publishedAction != null &&
-                                publishedAction.getDatasource() != null &&
-                                publishedAction.getDatasource().getId() != null) {
-                            datasourceIds.add(publishedAction.getDatasource().getId());
-                        }
-                    }
-                    Mono<List<Datasource>> updatedDatasourcesMono =
-                            policyUtils.updateWithNewPoliciesToDatasourcesByDatasourceIds(datasourceIds,
-                                            datasourcePolicyMap, addViewAccess)
-                                    .collectList();
-
-                    return updatedDatasourcesMono;
-                })
+        return updatedPagesMono
+                .then(updatedActionCollectionsMono)
+                .thenMany(updatedThemesFlux)
+                .then(updatedActionsMono)
+                .then(updatedDatasourcesMono)
                 .thenReturn(application)
                 .flatMap(app -> {
                     Application updatedApplication;
@@ -0,0 +1,16 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.domains.ApplicationViewBundle;
+import reactor.core.publisher.Mono;
+
+public interface ApplicationViewBundleServiceCE {
+
+    Mono<ApplicationViewBundle> generateViewBundle(String applicationId);
+
+    Mono<ApplicationViewBundle> getViewBundle(String defaultApplicationId, String branchName);
+
+    Mono<Void> deleteViewBundle(String applicationId);
+
+    byte[] decompress(byte[] content);
+
+}
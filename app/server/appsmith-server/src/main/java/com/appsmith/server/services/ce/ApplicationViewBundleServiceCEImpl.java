@@ -0,0 +1,278 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.constants.AnalyticsEvents;
+import com.appsmith.server.configurations.ProjectProperties;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.ApplicationMode;
+import com.appsmith.server.domains.ApplicationPage;
+import com.appsmith.server.domains.ApplicationViewBundle;
+import com.appsmith.server.domains.Layout;
+import com.appsmith.server.domains.QApplication;
+import com.appsmith.server.domains.Theme;
+import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.ApplicationPagesDTO;
+import com.appsmith.server.dtos.ApplicationViewBundleDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ResponseUtils;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.ApplicationViewBundleRepository;
+import com.appsmith.server.services.AnalyticsService;
+import com.appsmith.server.services.ApplicationService;
+import com.appsmith.server.services.LayoutActionService;
+import com.appsmith.server.services.NewActionService;
+import com.appsmith.server.services.NewPageService;
+import com.appsmith.server.services.ThemeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.appsmith.server.acl.AclPermission.READ_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.READ_PAGES;
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ApplicationViewBundleServiceCEImpl implements ApplicationViewBundleServiceCE {
+
+    private final ApplicationViewBundleRepository repository;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationService applicationService;
+    private final NewPageService newPageService;
+    private final NewActionService newActionService;
+    private final ThemeService themeService;
+    private final LayoutActionService layoutActionService;
+    private final ResponseUtils responseUtils;
+    private final ObjectMapper objectMapper;
+    private final ProjectProperties projectProperties;
+    private final AnalyticsService analyticsService;
+
+    /**
+     * Collects the published application, its pages along with the DSL of each page, the actions in view mode and the
+     * published theme into a single response, and stores it gzip compressed against the application and the permission
+     * groups of the current user. The pages and actions are read with those permission groups, so the bundle is served
+     * only to the viewers having the very same permission groups. The permissions of the user on the application, pages
+     * and theme are computed from those permission groups alone, so they are stored in the bundle as well.
+     *
+     * @param applicationId Branched id of the published application
+     * @return The saved bundle
+     */
+    @Override
+    public Mono<ApplicationViewBundle> generateViewBundle(String applicationId) {
+        return repository.getPermissionGroupsOfCurrentUser()
+                .flatMap(permissionGroups -> generateViewBundle(applicationId, getPermissionGroupsKey(permissionGroups)));
+    }
+
+    private Mono<ApplicationViewBundle> generateViewBundle(String applicationId, String permissionGroupsKey) {
+        Mono<Application> applicationMono = applicationService.findById(applicationId, READ_APPLICATIONS)
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.APPLICATION, applicationId)))
+                .cache();
+
+        Mono<ApplicationPagesDTO> pagesMono = newPageService
+                .findApplicationPagesByApplicationIdViewMode(applicationId, true, false)
+                .map(responseUtils::updateApplicationPagesDTOWithDefaultResources);
+
+        Mono<List<PageDTO>> pageDetailsMono = applicationMono
+                .flatMapMany(application -> {
+                    List<ApplicationPage> publishedPages = application.getPublishedPages();
+                    if (CollectionUtils.isEmpty(publishedPages)) {
+                        return Flux.empty();
+                    }
+                    return Flux.fromIterable(publishedPages);
+                })
+                .flatMapSequential(applicationPage -> newPageService.findPageById(applicationPage.getId(), READ_PAGES, true))
+                .map(this::unescapeLayouts)
+                .map(responseUtils::updatePageDTOWithDefaultResources)
+                .collectList();
+
+        Mono<List<ActionViewDTO>> actionsMono = newActionService.getActionsForViewMode(applicationId)
+                .map(responseUtils::updateActionViewDTOWithDefaultResources)
+                .collectList();
+
+        Mono<Theme> themeMono = themeService.getApplicationTheme(applicationId, ApplicationMode.PUBLISHED, null);
+
+        return Mono.zip(applicationMono, pagesMono, pageDetailsMono, actionsMono, themeMono)
+                .map(tuple -> {
+                    Application application = tuple.getT1();
+                    application.setViewMode(true);
+
+                    ApplicationViewBundleDTO bundleDTO = new ApplicationViewBundleDTO();
+                    bundleDTO.setApplication(responseUtils.updateApplicationWithDefaultResources(application));
+                    bundleDTO.setPages(tuple.getT2());
+                    bundleDTO.setPageDetails(tuple.getT3());
+                    bundleDTO.setActions(tuple.getT4());
+                    bundleDTO.setTheme(tuple.getT5());
+                    return bundleDTO;
+                })
+                .flatMap(bundleDTO -> applicationMono.flatMap(application -> saveViewBundle(
+                        applicationId, permissionGroupsKey, application.getUpdatedAt(), bundleDTO)));
+    }
+
+    /**
+     * Only the permission check on the application and the read of the bundle are done per view. In case there is no
+     * bundle for the permission groups of the viewer yet, or the bundle was generated before the application was last
+     * updated, it is generated on the fly and stored for the next viewer with the same permission groups. The view of
+     * the default page of the application is sent to analytics, as the viewer no longer fetches that page on its own.
+     */
+    @Override
+    public Mono<ApplicationViewBundle> getViewBundle(String defaultApplicationId, String branchName) {
+        final List<String> projectedFields = List.of(
+                fieldName(QApplication.application.id),
+                fieldName(QApplication.application.updatedAt),
+                fieldName(QApplication.application.publishedPages));
+
+        return applicationService.findBranchedApplicationId(branchName, defaultApplicationId, READ_APPLICATIONS)
+                .flatMap(applicationId -> applicationRepository.findById(applicationId, projectedFields, READ_APPLICATIONS))
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.APPLICATION, defaultApplicationId)))
+                .zipWith(repository.getPermissionGroupsOfCurrentUser())
+                .flatMap(tuple -> {
+                    final Application application = tuple.getT1();
+                    final String permissionGroupsKey = getPermissionGroupsKey(tuple.getT2());
+                    return repository.findByApplicationIdAndPermissionGroupsKey(application.getId(), permissionGroupsKey)
+                            .filter(bundle -> isUpToDate(bundle, application.getUpdatedAt()))
+                            .switchIfEmpty(Mono.defer(() -> generateViewBundle(application.getId(), permissionGroupsKey)))
+                            .flatMap(bundle -> sendPageViewAnalyticsEvent(application).thenReturn(bundle));
+                });
+    }
+
+    /**
+     * Sends the same page view event as viewing the default page of the application on its own does. The page is read
+     * in the background, off the path of the view.
+     */
+    private Mono<Void> sendPageViewAnalyticsEvent(Application application) {
+        if (CollectionUtils.isEmpty(application.getPublishedPages())) {
+            return Mono.empty();
+        }
+
+        final String defaultPageId = application.getPublishedPages().stream()
+                .filter(ApplicationPage::isDefault)
+                .findFirst()
+                .orElse(application.getPublishedPages().get(0))
+                .getId();
+
+        return analyticsService.sendObjectEventInBackground(
+                AnalyticsEvents.VIEW,
+                newPageService.findById(defaultPageId, READ_PAGES),
+                newPage -> Mono.just(Map.of(
+                        FieldName.EVENT_DATA, Map.of(
+                                FieldName.PAGE, newPage,
+                                FieldName.APP_MODE, ApplicationMode.PUBLISHED.toString()
+                        )
+                ))
+        );
+    }
+
+    /**
+     * Drops the bundles of all the permission groups, to be generated again on the next view.
+     */
+
+    @Override
+    public Mono<Void> deleteViewBundle(String applicationId) {
+        return repository.deleteByApplicationId(applicationId);
+    }
+
+    @Override
+    public byte[] decompress(byte[] content) {
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return gzipInputStream.readAllBytes();
+        } catch (IOException e) {
+            log.error("Unable to decompress application view bundle", e);
+            throw new AppsmithException(AppsmithError.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private Mono<ApplicationViewBundle> saveViewBundle(String applicationId,
+                                                       String permissionGroupsKey,
+                                                       Instant applicationUpdatedAt,
+                                                       ApplicationViewBundleDTO bundleDTO) {
+        final byte[] serializedBundle;
+        try {
+            serializedBundle = objectMapper.writeValueAsBytes(new ResponseDTO<>(HttpStatus.OK.value(), bundleDTO, null));
+        } catch (JsonProcessingException e) {
+            log.error("Unable to serialize view bundle for application {}", applicationId, e);
+            return Mono.error(new AppsmithException(AppsmithError.INTERNAL_SERVER_ERROR));
+        }
+
+        final String version = DigestUtils.md5DigestAsHex(serializedBundle);
+        final byte[] compressedBundle = compress(serializedBundle);
+
+        return repository.findByApplicationIdAndPermissionGroupsKey(applicationId, permissionGroupsKey)
+                .defaultIfEmpty(new ApplicationViewBundle())
+                .flatMap(bundle -> {
+                    if (version.equals(bundle.getVersion()) && isUpToDate(bundle, applicationUpdatedAt)) {
+                        return Mono.just(bundle);
+                    }
+                    bundle.setApplicationId(applicationId);
+                    bundle.setPermissionGroupsKey(permissionGroupsKey);
+                    bundle.setApplicationUpdatedAt(applicationUpdatedAt);
+                    bundle.setServerVersion(projectProperties.getVersion());
+                    bundle.setVersion(version);
+                    bundle.setContent(compressedBundle);
+                    return repository.save(bundle);
+                })
+                // Two viewers may generate a missing bundle at the same time, in which case the one which was saved
+                // first is returned to both of them
+                .onErrorResume(DuplicateKeyException.class, error ->
+                        repository.findByApplicationIdAndPermissionGroupsKey(applicationId, permissionGroupsKey));
+    }
+
+    private boolean isUpToDate(ApplicationViewBundle bundle, Instant applicationUpdatedAt) {
+        return Objects.equals(bundle.getApplicationUpdatedAt(), applicationUpdatedAt)
+                && Objects.equals(bundle.getServerVersion(), projectProperties.getVersion());
+    }
+
+    private static String getPermissionGroupsKey(Set<String> permissionGroups) {
+        return Hashing.sha256()
+                .hashString(String.join(",", new TreeSet<>(permissionGroups)), StandardCharsets.UTF_8)
+                .toString();
+    }
+
+    private PageDTO unescapeLayouts(PageDTO page) {
+        List<Layout> layouts = page.getLayouts();
+        if (CollectionUtils.isEmpty(layouts)) {
+            return page;
+        }
+        for (Layout layout : layouts) {
+            if (layout.getDsl() == null || CollectionUtils.isEmpty(layout.getMongoEscapedWidgetNames())) {
+                continue;
+            }
+            layout.setDsl(layoutActionService.unescapeMongoSpecialCharacters(layout));
+        }
+        return page;
+    }
+
+    private static byte[] compress(byte[] content) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(content);
+        } catch (IOException e) {
+            // Writing to an in-memory stream doesn't fail
+            throw new IllegalStateException(e);
+        }
+        return outputStream.toByteArray();
+    }
+}
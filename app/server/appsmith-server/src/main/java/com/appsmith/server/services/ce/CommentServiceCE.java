@@ -2,7 +2,9 @@ package com.appsmith.server.services.ce;
 
 import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.dtos.CommentPageDTO;
 import com.appsmith.server.dtos.CommentThreadFilterDTO;
+import com.appsmith.server.dtos.CommentThreadPageDTO;
 import com.appsmith.server.services.CrudService;
 import reactor.core.publisher.Mono;
 
@@ -22,6 +24,10 @@ public interface CommentServiceCE extends CrudService<Comment, String> {
 
     Mono<List<CommentThread>> getThreadsByApplicationId(CommentThreadFilterDTO commentThreadFilterDTO, String branchName);
 
+    Mono<CommentThreadPageDTO> getThreadsPageByApplicationId(CommentThreadFilterDTO commentThreadFilterDTO, String branchName);
+
+    Mono<CommentPageDTO> getCommentsByThreadId(String threadId, String cursor, Integer limit);
+
     Mono<Comment> deleteComment(String id);
 
     Mono<CommentThread> deleteThread(String threadId);
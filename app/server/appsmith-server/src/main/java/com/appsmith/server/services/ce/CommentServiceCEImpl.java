@@ -13,7 +13,9 @@ import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.Notification;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.UserData;
+import com.appsmith.server.dtos.CommentPageDTO;
 import com.appsmith.server.dtos.CommentThreadFilterDTO;
+import com.appsmith.server.dtos.CommentThreadPageDTO;
 import com.appsmith.server.events.CommentNotificationEvent;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
@@ -31,6 +33,7 @@ import com.appsmith.server.services.NewPageService;
 import com.appsmith.server.services.NotificationService;
 import com.appsmith.server.services.SequenceService;
 import com.appsmith.server.services.SessionUserService;
+import com.appsmith.server.services.UnreadCounterService;
 import com.appsmith.server.services.UserService;
 import com.appsmith.server.solutions.EmailEventHandler;
 import lombok.extern.slf4j.Slf4j;
@@ -43,12 +46,15 @@ import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import javax.validation.Validator;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -75,6 +81,11 @@ public class CommentServiceCEImpl extends BaseService<CommentRepository, Comment
     private static final String HOW_TO_TAG_USER_COMMENT = "bot/howToTagUser.html";
     private static final String HOW_TO_TAG_BOT_COMMENT = "bot/howToTagBot.html";
 
+    private static final int DEFAULT_THREADS_PAGE_SIZE = 20;
+    private static final int DEFAULT_COMMENTS_PAGE_SIZE = 10;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_SEPARATOR = "_";
+
     private final CommentThreadRepository threadRepository;
     private final UserDataRepository userDataRepository;
 
@@ -89,6 +100,7 @@ public class CommentServiceCEImpl extends BaseService<CommentRepository, Comment
     private final EmailEventHandler emailEventHandler;
     private final SequenceService sequenceService;
     private final ResponseUtils responseUtils;
+    private final UnreadCounterService unreadCounterService;
 
     public CommentServiceCEImpl(
             Scheduler scheduler,
@@ -108,7 +120,8 @@ public class CommentServiceCEImpl extends BaseService<CommentRepository, Comment
             EmailEventHandler emailEventHandler,
             UserDataRepository userDataRepository,
             SequenceService sequenceService,
-            ResponseUtils responseUtils) {
+            ResponseUtils responseUtils,
+            UnreadCounterService unreadCounterService) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.threadRepository = threadRepository;
@@ -123,6 +136,7 @@ public class CommentServiceCEImpl extends BaseService<CommentRepository, Comment
         this.userDataRepository = userDataRepository;
         this.sequenceService = sequenceService;
         this.responseUtils = responseUtils;
+        this.unreadCounterService = unreadCounterService;
     }
 
     @Override
@@ -209,9 +223,11 @@ public class CommentServiceCEImpl extends BaseService<CommentRepository, Comment
         }
 
         if (CommentUtils.isAnyoneMentioned(comment) && Boolean.TRUE.equals(commentThread.getIsPrivate())) {
-            return convertToPublic(commentThread).flatMap(threadRepository::save);
+            return convertToPublic(commentThread).flatMap(threadRepository::save)
+                    .flatMap(this::invalidateUnreadCounters);
         }
-        return threadRepository.save(commentThread);
+        return threadRepository.save(commentThread)
+                .flatMap(this::invalidateUnreadCounters);
     }
 
     /**
@@ -492,6 +508,19 @@ public class CommentServiceCEImpl extends BaseService<CommentRepository, Comment
                     }
 
                     final Boolean isViewed = commentThread.getIsViewed();
+                    final Mono<Void> updateUnreadCounterMono;
+                    if (commentThread.getResolvedState() != null) {
+                        // Resolving a thread changes whether it's unread for everyone.
+                        updateUnreadCounterMono = unreadCounterService.invalidate(threadFromDb.getApplicationId());
+                    } else if (getUnreadCountDelta(threadFromDb, user.getUsername(), isViewed) != 0) {
+                        // Viewing a thread only changes whether it's unread for this user. The counter is dropped
+                        // rather than incremented, as a count running while the thread is saved may count it already.
+                        updateUnreadCounterMono = unreadCounterService.invalidate(
+                                List.of(user.getUsername()), threadFromDb.getApplicationId());
+                    } else {
+                        updateUnreadCounterMono = Mono.empty();
+                    }
+
                     if (isViewed != null) {
                         commentThread.setViewedByUsers(threadFromDb.getViewedByUsers());
                         if (isViewed) {
@@ -506,6 +535,7 @@ public class CommentServiceCEImpl extends BaseService<CommentRepository, Comment
 
                     return threadRepository
                             .updateById(threadId, commentThread, AclPermission.READ_THREADS)
+                            .flatMap(updatedThread -> updateUnreadCounterMono.thenReturn(updatedThread))
                             .flatMap(updatedThread -> {
                                 updatedThread.setIsViewed(true);
                                 // Update branched applicationId and pageId with default Ids
@@ -579,23 +609,8 @@ public class CommentServiceCEImpl extends BaseService<CommentRepository, Comment
 
     @Override
     public Mono<List<CommentThread>> getThreadsByApplicationId(CommentThreadFilterDTO commentThreadFilterDTO) {
-        return applicationService.findById(commentThreadFilterDTO.getApplicationId(), READ_APPLICATIONS)
-                .switchIfEmpty(Mono.error(new AppsmithException(
-                        AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION, commentThreadFilterDTO.getApplicationId()
-                )))
-                .zipWith(sessionUserService.getCurrentUser())
-                .flatMap(objects -> {
-                    Application application = objects.getT1();
-                    User currentUser = objects.getT2();
-
-                    // if user is app viewer, return the comments in published mode only
-                    Boolean permissionPresentForUser = policyUtils.isPermissionPresentForUser(
-                            application.getPolicies(), MANAGE_APPLICATIONS.getValue(), currentUser.getUsername()
-                    );
-                    if(!permissionPresentForUser) {
-                        // user is app viewer, show only PUBLISHED comment threads
-                        commentThreadFilterDTO.setMode(ApplicationMode.PUBLISHED);
-                    }
+        return restrictFilterToUserMode(commentThreadFilterDTO)
+                .flatMap(currentUser -> {
                     return threadRepository.find(commentThreadFilterDTO, AclPermission.READ_THREADS)
                             .collectList()
                             .flatMap(threads -> {
@@ -620,6 +635,152 @@ public class CommentServiceCEImpl extends BaseService<CommentRepository, Comment
                 });
     }
 
+    /**
+     * Returns the current user, after restricting the filter to the published mode if the user can only view the
+     * application.
+     */
+    private Mono<User> restrictFilterToUserMode(CommentThreadFilterDTO commentThreadFilterDTO) {
+        return applicationService.findById(commentThreadFilterDTO.getApplicationId(), READ_APPLICATIONS)
+                .switchIfEmpty(Mono.error(new AppsmithException(
+                        AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION, commentThreadFilterDTO.getApplicationId()
+                )))
+                .zipWith(sessionUserService.getCurrentUser())
+                .map(objects -> {
+                    Application application = objects.getT1();
+                    User currentUser = objects.getT2();
+
+                    // if user is app viewer, return the comments in published mode only
+                    Boolean permissionPresentForUser = policyUtils.isPermissionPresentForUser(
+                            application.getPolicies(), MANAGE_APPLICATIONS.getValue(), currentUser.getUsername()
+                    );
+                    if(!permissionPresentForUser) {
+                        // user is app viewer, show only PUBLISHED comment threads
+                        commentThreadFilterDTO.setMode(ApplicationMode.PUBLISHED);
+                    }
+                    return currentUser;
+                });
+    }
+
+    /**
+     * Fetches a page of the threads of an application, most recently updated first, with only the latest few comments
+     * of each thread. The rest of the comments of a thread can be fetched with {@link #getCommentsByThreadId}.
+     */
+    @Override
+    public Mono<CommentThreadPageDTO> getThreadsPageByApplicationId(CommentThreadFilterDTO commentThreadFilterDTO,
+                                                                     String branchName) {
+        final int limit = getPageSize(commentThreadFilterDTO.getLimit(), DEFAULT_THREADS_PAGE_SIZE);
+        final int commentsLimit = getPageSize(commentThreadFilterDTO.getCommentsLimit(), DEFAULT_COMMENTS_PAGE_SIZE);
+
+        final Tuple2<Instant, String> cursor;
+        try {
+            cursor = parseCursor(commentThreadFilterDTO.getCursor());
+        } catch (AppsmithException e) {
+            return Mono.error(e);
+        }
+        final Instant updatedBefore = cursor == null ? null : cursor.getT1();
+        final String idBefore = cursor == null ? null : cursor.getT2();
+
+        final String defaultApplicationId = commentThreadFilterDTO.getApplicationId();
+        return applicationService.findBranchedApplicationId(branchName, defaultApplicationId, READ_APPLICATIONS)
+                .flatMap(branchAppId -> {
+                    commentThreadFilterDTO.setApplicationId(branchAppId);
+                    return restrictFilterToUserMode(commentThreadFilterDTO);
+                })
+                .flatMap(currentUser -> threadRepository
+                        .findWithLatestComments(commentThreadFilterDTO, updatedBefore, idBefore, limit,
+                                commentsLimit, READ_THREADS)
+                        .map(thread -> {
+                            thread.setIsViewed((thread.getViewedByUsers() != null && thread.getViewedByUsers().contains(currentUser.getUsername()))
+                                    || thread.getResolvedState().getActive());
+                            thread.getComments().forEach(responseUtils::updatePageAndAppIdWithDefaultResourcesForComments);
+                            if (TRUE.equals(thread.getHasMoreComments()) && !thread.getComments().isEmpty()) {
+                                // The comments are in the order they were made, so the first one is the oldest
+                                final Comment oldestComment = thread.getComments().get(0);
+                                thread.setCommentsCursor(toCursor(oldestComment.getCreatedAt(), oldestComment.getId()));
+                            }
+                            return thread;
+                        })
+                        .collectList()
+                )
+                .map(threads -> {
+                    String nextCursor = null;
+                    if (threads.size() == limit) {
+                        final CommentThread lastThread = threads.get(threads.size() - 1);
+                        nextCursor = toCursor(lastThread.getUpdatedAt(), lastThread.getId());
+                    }
+                    threads.forEach(responseUtils::updatePageAndAppIdWithDefaultResourcesForComments);
+                    return new CommentThreadPageDTO(threads, nextCursor);
+                });
+    }
+
+    /**
+     * Fetches a page of the comments of a thread, older than the comment the cursor points to, in the order they were
+     * made. Used to load the older comments of a thread, on top of the latest ones sent with the thread, starting with
+     * the `commentsCursor` of the thread.
+     */
+    @Override
+    public Mono<CommentPageDTO> getCommentsByThreadId(String threadId, String cursor, Integer limit) {
+        final Tuple2<Instant, String> parsedCursor;
+        try {
+            parsedCursor = parseCursor(cursor);
+        } catch (AppsmithException e) {
+            return Mono.error(e);
+        }
+        final Instant createdBefore = parsedCursor == null ? null : parsedCursor.getT1();
+        final String idBefore = parsedCursor == null ? null : parsedCursor.getT2();
+        final int pageSize = getPageSize(limit, DEFAULT_COMMENTS_PAGE_SIZE);
+
+        return threadRepository.findById(threadId, READ_THREADS)
+                .switchIfEmpty(Mono.error(new AppsmithException(
+                        AppsmithError.NO_RESOURCE_FOUND, FieldName.COMMENT_THREAD, threadId
+                )))
+                .flatMap(thread -> repository
+                        .findByThreadId(threadId, createdBefore, idBefore, pageSize, READ_COMMENTS)
+                        .map(responseUtils::updatePageAndAppIdWithDefaultResourcesForComments)
+                        .collectList()
+                )
+                .map(comments -> {
+                    String nextCursor = null;
+                    if (comments.size() == pageSize) {
+                        final Comment oldestComment = comments.get(comments.size() - 1);
+                        nextCursor = toCursor(oldestComment.getCreatedAt(), oldestComment.getId());
+                    }
+                    // Fetched latest first, sent in the order they were made.
+                    Collections.reverse(comments);
+                    return new CommentPageDTO(comments, nextCursor);
+                });
+    }
+
+    /**
+     * Cursors point to the last item of the previous page, by the time it's ordered by and its id, which breaks the ties
+     * between the items with the same time.
+     */
+    private static String toCursor(Instant time, String id) {
+        return time.toEpochMilli() + CURSOR_SEPARATOR + id;
+    }
+
+    /**
+     * Parses a cursor made with {@link #toCursor(Instant, String)}, returning null if there's no cursor.
+     */
+    private static Tuple2<Instant, String> parseCursor(String cursor) {
+        if (StringUtils.isEmpty(cursor)) {
+            return null;
+        }
+        final String[] cursorParts = cursor.split(CURSOR_SEPARATOR, 2);
+        try {
+            return Tuples.of(Instant.ofEpochMilli(Long.parseLong(cursorParts[0])), cursorParts[1]);
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.CURSOR);
+        }
+    }
+
+    private static int getPageSize(Integer requestedSize, int defaultSize) {
+        if (requestedSize == null || requestedSize <= 0) {
+            return defaultSize;
+        }
+        return Math.min(requestedSize, MAX_PAGE_SIZE);
+    }
+
     public Mono<List<CommentThread>> getThreadsByApplicationId(CommentThreadFilterDTO commentThreadFilterDTO,
                                                                String branchName) {
         final String defaultApplicationId = commentThreadFilterDTO.getApplicationId();
@@ -657,6 +818,7 @@ public class CommentServiceCEImpl extends BaseService<CommentRepository, Comment
     public Mono<CommentThread> deleteThread(String threadId) {
         return threadRepository.findById(threadId, AclPermission.MANAGE_THREADS)
                 .flatMap(threadRepository::archive)
+                .flatMap(this::invalidateUnreadCounters)
                 .flatMap(commentThread ->
                         notificationService.createNotification(
                                 commentThread, CommentNotificationEvent.DELETED, commentThread.getAuthorUsername()
@@ -739,7 +901,37 @@ public class CommentServiceCEImpl extends BaseService<CommentRepository, Comment
         return commentSeq.map(sequenceNo -> {
             commentThread.setSequenceId("#" + sequenceNo);
             return sequenceNo;
-        }).then(threadRepository.save(commentThread));
+        }).then(threadRepository.save(commentThread))
+                .flatMap(this::invalidateUnreadCounters);
+    }
+
+    /**
+     * How much viewing, or un-viewing, the thread changes the user's count of unread threads by. Only the unresolved
+     * threads are counted as unread.
+     */
+    static long getUnreadCountDelta(CommentThread threadFromDb, String username, Boolean isViewed) {
+        final CommentThread.CommentThreadState resolvedState = threadFromDb.getResolvedState();
+        if (isViewed == null || resolvedState == null || !FALSE.equals(resolvedState.getActive())) {
+            return 0;
+        }
+
+        final boolean wasViewed = threadFromDb.getViewedByUsers() != null
+                && threadFromDb.getViewedByUsers().contains(username);
+        if (isViewed && !wasViewed) {
+            return -1;
+        } else if (!isViewed && wasViewed) {
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * The thread is unread for some of the users after it's created, commented on or deleted, but it's not known for
+     * whom without looking at who can read it. The unread counters of everyone in the application are dropped, to be
+     * counted again the next time they are read.
+     */
+    private Mono<CommentThread> invalidateUnreadCounters(CommentThread commentThread) {
+        return unreadCounterService.invalidate(commentThread.getApplicationId()).thenReturn(commentThread);
     }
 
     private Mono<Comment> createBotComment(CommentThread commentThread, User user, CommentOnboardingState commentOnboardingState) {
@@ -808,25 +1000,28 @@ public class CommentServiceCEImpl extends BaseService<CommentRepository, Comment
         return Mono.zip(
                         sessionUserService.getCurrentUser(),
                         applicationService.findBranchedApplicationId(branchName, applicationId, READ_APPLICATIONS))
-                .flatMap(tuple ->
-                        threadRepository.countUnreadThreads(tuple.getT2(), tuple.getT1().getUsername())
-                );
+                .flatMap(tuple -> {
+                    final String username = tuple.getT1().getUsername();
+                    final String branchedApplicationId = tuple.getT2();
+                    return unreadCounterService.getCount(
+                            username,
+                            branchedApplicationId,
+                            threadRepository.countUnreadThreads(branchedApplicationId, username)
+                    );
+                });
     }
 
     private Mono<List<Notification>> sendCommentNotifications(
             Set<String> subscribers, Comment comment, CommentNotificationEvent event) {
-        List<Mono<Notification>> monoList = new ArrayList<>();
+        List<String> forUsernames = new ArrayList<>();
         if(subscribers != null) {
             for(String username : subscribers) {
                 if(!username.equals(comment.getAuthorUsername())) {
                     // send notifications to everyone except author of the comment and bot
-                    Mono<Notification> notificationMono = notificationService.createNotification(
-                            comment, event, username
-                    );
-                    monoList.add(notificationMono);
+                    forUsernames.add(username);
                 }
             }
         }
-        return Flux.merge(monoList).collectList();
+        return notificationService.createNotifications(comment, event, forUsernames);
     }
 }
@@ -5,6 +5,7 @@ import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.Policy;
@@ -24,6 +25,7 @@ import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.BaseService;
 import com.appsmith.server.services.DatasourceContextService;
+import com.appsmith.server.services.DatasourceStructureService;
 import com.appsmith.server.services.PluginService;
 import com.appsmith.server.services.SequenceService;
 import com.appsmith.server.services.SessionUserService;
@@ -71,6 +73,7 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
     private final NewActionRepository newActionRepository;
 
     private final DatasourceContextService datasourceContextService;
+    private final DatasourceStructureService datasourceStructureService;
 
     @Autowired
     public DatasourceServiceCEImpl(Scheduler scheduler,
@@ -86,7 +89,8 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
                                    PolicyGenerator policyGenerator,
                                    SequenceService sequenceService,
                                    NewActionRepository newActionRepository,
-                                   DatasourceContextService datasourceContextService) {
+                                   DatasourceContextService datasourceContextService,
+                                   DatasourceStructureService datasourceStructureService) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.workspaceService = workspaceService;
@@ -97,6 +101,7 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
         this.sequenceService = sequenceService;
         this.newActionRepository = newActionRepository;
         this.datasourceContextService = datasourceContextService;
+        this.datasourceStructureService = datasourceStructureService;
     }
 
     @Override
@@ -128,8 +133,15 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
                     return generateAndSetDatasourcePolicies(userMono, datasource1);
                 });
 
+        // The structure isn't saved with the datasource, a structure the datasource is created with is stored on its own.
+        final DatasourceStructure structure = datasource.getStructure();
+
         return datasourceWithPoliciesMono
                 .flatMap(this::validateAndSaveDatasourceToRepository)
+                .flatMap(savedDatasource -> structure == null
+                        ? Mono.just(savedDatasource)
+                        : datasourceStructureService.saveStructure(savedDatasource, structure).thenReturn(savedDatasource)
+                )
                 .flatMap(savedDatasource ->
                         analyticsService.sendCreateEvent(savedDatasource, getAnalyticsProperties(savedDatasource))
                 )
@@ -452,6 +464,7 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
                 .flatMap(toDelete -> {
                     return datasourceContextService.deleteDatasourceContext(toDelete.getId())
                             .then(repository.archive(toDelete))
+                            .then(datasourceStructureService.deleteStructure(toDelete.getId()))
                             .thenReturn(toDelete);
                 })
                 .flatMap(datasource -> {
@@ -0,0 +1,24 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceStructure;
+import reactor.core.publisher.Mono;
+
+public interface DatasourceStructureServiceCE {
+
+    /**
+     * Returns the stored structure of the datasource, if it was fetched with the current configuration of the
+     * datasource. Publishes empty otherwise.
+     */
+    Mono<DatasourceStructure> getStructure(Datasource datasource);
+
+    Mono<Void> saveStructure(Datasource datasource, DatasourceStructure structure);
+
+    Mono<Void> deleteStructure(String datasourceId);
+
+    /**
+     * A fingerprint of the configuration of the datasource, which a stored structure is only used with.
+     */
+    String getConfigurationFingerprint(Datasource datasource);
+
+}
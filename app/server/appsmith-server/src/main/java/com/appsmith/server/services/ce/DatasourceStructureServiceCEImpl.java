@@ -0,0 +1,94 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.models.AuthenticationDTO;
+import com.appsmith.external.models.DBAuth;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
+import com.appsmith.server.repositories.ce.DatasourceStructureRepositoryCE;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+@RequiredArgsConstructor
+public class DatasourceStructureServiceCEImpl implements DatasourceStructureServiceCE {
+
+    private final DatasourceStructureRepositoryCE repository;
+
+    @Override
+    public Mono<DatasourceStructure> getStructure(Datasource datasource) {
+        if (datasource.getId() == null) {
+            return Mono.empty();
+        }
+
+        final String configurationFingerprint = getConfigurationFingerprint(datasource);
+        return repository.findByDatasourceId(datasource.getId())
+                .filter(storedStructure -> configurationFingerprint.equals(storedStructure.getConfigurationFingerprint()))
+                .flatMap(storedStructure -> Mono.justOrEmpty(storedStructure.getStructure()));
+    }
+
+    @Override
+    public Mono<Void> saveStructure(Datasource datasource, DatasourceStructure structure) {
+        return repository.saveStructure(datasource.getId(), getConfigurationFingerprint(datasource), structure).then();
+    }
+
+    @Override
+    public Mono<Void> deleteStructure(String datasourceId) {
+        return repository.deleteByDatasourceId(datasourceId).then();
+    }
+
+    /**
+     * A fingerprint of the parts of the datasource configuration that decide which database the structure comes from:
+     * the plugin, where it connects to, and who it connects as. Secrets are left out of it.
+     */
+    @Override
+    public String getConfigurationFingerprint(Datasource datasource) {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        putString(hasher, datasource.getPluginId());
+
+        final DatasourceConfiguration configuration = datasource.getDatasourceConfiguration();
+        if (configuration != null) {
+            putString(hasher, configuration.getUrl());
+            if (configuration.getEndpoints() != null) {
+                for (Endpoint endpoint : configuration.getEndpoints()) {
+                    putString(hasher, endpoint.getHost());
+                    putString(hasher, Objects.toString(endpoint.getPort(), null));
+                }
+            }
+            if (configuration.getConnection() != null) {
+                putString(hasher, configuration.getConnection().getDefaultDatabaseName());
+                putString(hasher, Objects.toString(configuration.getConnection().getType(), null));
+            }
+            if (configuration.getProperties() != null) {
+                for (Property property : configuration.getProperties()) {
+                    putString(hasher, property.getKey());
+                    putString(hasher, Objects.toString(property.getValue(), null));
+                }
+            }
+
+            final AuthenticationDTO authentication = configuration.getAuthentication();
+            if (authentication instanceof DBAuth) {
+                putString(hasher, ((DBAuth) authentication).getUsername());
+                putString(hasher, ((DBAuth) authentication).getDatabaseName());
+            }
+        }
+
+        return hasher.hash().toString();
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        // The length goes first so that values next to each other can't be mistaken for one another.
+        if (value == null) {
+            hasher.putInt(-1);
+        } else {
+            hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+        }
+    }
+
+}
@@ -64,6 +64,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.bson.types.ObjectId;
+import org.springframework.beans.BeanUtils;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
@@ -793,16 +794,8 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                                                 timeElapsed
                                         );
 
-                                        return Mono.zip(actionMono, actionDTOMono, datasourceMono)
-                                                .flatMap(tuple2 -> {
-                                                    ActionExecutionResult actionExecutionResult = result;
-                                                    NewAction actionFromDb = tuple2.getT1();
-                                                    ActionDTO actionDTO = tuple2.getT2();
-                                                    Datasource datasourceFromDb = tuple2.getT3();
-
-                                                    return Mono.when(sendExecuteAnalyticsEvent(actionFromDb, actionDTO, datasourceFromDb, executeActionDTO, actionExecutionResult, timeElapsed))
-                                                            .thenReturn(result);
-                                                });
+                                        return sendExecuteAnalyticsEvent(actionMono, actionDTOMono, datasourceMono, executeActionDTO, result, timeElapsed)
+                                                .thenReturn(result);
                                     }
                             );
                 })
@@ -1044,10 +1037,16 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
         return analyticsService.isActive();
     }
 
-    private Mono<ActionExecutionRequest> sendExecuteAnalyticsEvent(
-            NewAction action,
-            ActionDTO actionDTO,
-            Datasource datasource,
+    /**
+     * Sends the execution event in the background. The result and its request are copied here, since they are modified
+     * further before being returned, e.g. the request is dropped in view mode and its params are relabelled. The lookups
+     * and the serialization needed for the event are done off the request path, and only if the event is sampled, so
+     * they never add to the latency of the execution.
+     */
+    private Mono<Void> sendExecuteAnalyticsEvent(
+            Mono<NewAction> actionMono,
+            Mono<ActionDTO> actionDTOMono,
+            Mono<Datasource> datasourceMono,
             ExecuteActionDTO executeActionDto,
             ActionExecutionResult actionExecutionResult,
             Long timeElapsed
@@ -1076,6 +1075,44 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
             request = new ActionExecutionRequest();
         }
 
+        final String executionRequestQuery = actionExecutionRequest != null && actionExecutionRequest.getQuery() != null
+                ? actionExecutionRequest.getQuery()
+                : "";
+        final ActionExecutionResult result = copyOfExecutionResult(actionExecutionResult, request);
+
+        return analyticsService.sendObjectEventInBackground(
+                AnalyticsEvents.EXECUTE_ACTION,
+                actionMono,
+                action -> Mono.zip(actionDTOMono, datasourceMono)
+                        .flatMap(tuple -> getExecuteAnalyticsProperties(action, tuple.getT1(), tuple.getT2(), executeActionDto,
+                                result, request, executionRequestQuery, timeElapsed))
+        );
+    }
+
+    /**
+     * Copies the execution result for the analytics event, with the given copy of its request. All the properties are
+     * copied, so that the copy keeps up with the fields added to the result. The copy is shallow, as the response path
+     * only replaces the values of the result, except for the request which it changes in place.
+     */
+    static ActionExecutionResult copyOfExecutionResult(ActionExecutionResult actionExecutionResult,
+                                                       ActionExecutionRequest request) {
+        ActionExecutionResult result = new ActionExecutionResult();
+        BeanUtils.copyProperties(actionExecutionResult, result);
+        result.setRequest(request);
+        return result;
+    }
+
+    private Mono<Map<String, Object>> getExecuteAnalyticsProperties(
+            NewAction action,
+            ActionDTO actionDTO,
+            Datasource datasource,
+            ExecuteActionDTO executeActionDto,
+            ActionExecutionResult actionExecutionResult,
+            ActionExecutionRequest request,
+            String executionRequestQuery,
+            Long timeElapsed
+    ) {
+
         if (request.getHeaders() != null) {
             JsonNode headers = objectMapper.convertValue(request.getHeaders(), JsonNode.class);
             try {
@@ -1187,12 +1224,6 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                     if (paramsList == null) {
                         paramsList = new ArrayList<>();
                     }
-                    String executionRequestQuery = "";
-                    if (actionExecutionResult != null &&
-                            actionExecutionResult.getRequest() != null &&
-                            actionExecutionResult.getRequest().getQuery() != null) {
-                        executionRequestQuery = actionExecutionResult.getRequest().getQuery();
-                    }
 
                     List<String> executionParams =  paramsList.stream().map(param -> param.getValue()).collect(Collectors.toList());
                     final Map<String, Object> eventData = Map.of(
@@ -1208,12 +1239,11 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                     );
                     data.put(FieldName.EVENT_DATA, eventData);
 
-                    return analyticsService.sendObjectEvent(AnalyticsEvents.EXECUTE_ACTION, action, data)
-                            .thenReturn(request);
+                    return Mono.<Map<String, Object>>just(data);
                 })
                 .onErrorResume(error -> {
                     log.warn("Error sending action execution data point", error);
-                    return Mono.just(request);
+                    return Mono.empty();
                 });
     }
 
@@ -1316,8 +1346,11 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
         }
 
         // fetch the published actions by applicationId
-        // No need to sort the results
-        return findAllByApplicationIdAndViewMode(applicationId, true, EXECUTE_ACTIONS, null)
+        // No need to sort the results. Only the published half of the actions is read from the database.
+        return repository.findByApplicationIdAndViewModeWithProjection(applicationId, true, EXECUTE_ACTIONS)
+                // In case the action has not been published yet, do not return it
+                .filter(newAction -> newAction.getPublishedAction() != null)
+                .flatMap(this::sanitizeAction)
                 .filter(newAction -> !PluginType.JS.equals(newAction.getPluginType()))
                 .map(action -> {
                     ActionViewDTO actionViewDTO = new ActionViewDTO();
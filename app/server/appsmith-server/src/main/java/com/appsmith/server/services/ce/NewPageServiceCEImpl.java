@@ -115,7 +115,7 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
 
     @Override
     public Mono<PageDTO> findPageById(String pageId, AclPermission aclPermission, Boolean view) {
-        return this.findById(pageId, aclPermission)
+        return repository.findByIdAndViewMode(pageId, aclPermission, view)
                 .flatMap(page -> getPageByViewMode(page, view));
     }
 
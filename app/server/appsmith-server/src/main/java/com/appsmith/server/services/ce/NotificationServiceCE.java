@@ -10,10 +10,15 @@ import com.appsmith.server.services.CrudService;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface NotificationServiceCE extends CrudService<Notification, String> {
 
     Mono<Notification> createNotification(Comment comment, CommentNotificationEvent event, String forUsername);
 
+    Mono<List<Notification>> createNotifications(Comment comment, CommentNotificationEvent event, Collection<String> forUsernames);
+
     Flux<Notification> createNotification(CommentThread commentThread, CommentNotificationEvent event, String authorUserName);
 
     Mono<UpdateIsReadNotificationByIdDTO> updateIsRead(UpdateIsReadNotificationByIdDTO dto);
@@ -7,17 +7,21 @@ import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.CommentThreadNotification;
 import com.appsmith.server.domains.Notification;
 import com.appsmith.server.domains.QNotification;
+import com.appsmith.server.domains.UnreadCounter;
 import com.appsmith.server.dtos.UpdateIsReadNotificationByIdDTO;
 import com.appsmith.server.dtos.UpdateIsReadNotificationDTO;
 import com.appsmith.server.events.CommentNotificationEvent;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.NotificationBatchWriter;
 import com.appsmith.server.helpers.NumberUtils;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.repositories.NotificationRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.BaseService;
 import com.appsmith.server.services.SessionUserService;
+import com.appsmith.server.services.UnreadCounterService;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.PageRequest;
@@ -34,6 +38,7 @@ import javax.validation.Validator;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Slf4j
@@ -43,6 +48,8 @@ public class NotificationServiceCEImpl
 
     private final SessionUserService sessionUserService;
     private final ResponseUtils responseUtils;
+    private final NotificationBatchWriter notificationBatchWriter;
+    private final UnreadCounterService unreadCounterService;
 
     public NotificationServiceCEImpl(
             Scheduler scheduler,
@@ -52,11 +59,15 @@ public class NotificationServiceCEImpl
             NotificationRepository repository,
             AnalyticsService analyticsService,
             SessionUserService sessionUserService,
-            ResponseUtils responseUtils) {
+            ResponseUtils responseUtils,
+            NotificationBatchWriter notificationBatchWriter,
+            UnreadCounterService unreadCounterService) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.sessionUserService = sessionUserService;
         this.responseUtils = responseUtils;
+        this.notificationBatchWriter = notificationBatchWriter;
+        this.unreadCounterService = unreadCounterService;
     }
 
     @Override
@@ -73,7 +84,8 @@ public class NotificationServiceCEImpl
         }
 
         return notificationWithUsernameMono
-                .flatMap(super::create);
+                .flatMap(super::create)
+                .flatMap(this::invalidateUnreadCounter);
     }
 
     @Override
@@ -152,7 +164,26 @@ public class NotificationServiceCEImpl
         notification.setForUsername(forUsername);
         notification.setIsRead(false);
         notification.setEvent(event);
-        return repository.save(notification);
+        return repository.save(notification)
+                .flatMap(this::invalidateUnreadCounter);
+    }
+
+    /**
+     * Creates a notification for the provided comment for each of the provided users. The notifications are written in
+     * a batch, along with the notifications for other events of the same thread.
+     */
+    @Override
+    public Mono<List<Notification>> createNotifications(Comment comment, CommentNotificationEvent event, Collection<String> forUsernames) {
+        List<Notification> notifications = new ArrayList<>(forUsernames.size());
+        for (String forUsername : forUsernames) {
+            final CommentNotification notification = new CommentNotification();
+            notification.setComment(comment);
+            notification.setForUsername(forUsername);
+            notification.setIsRead(false);
+            notification.setEvent(event);
+            notifications.add(notification);
+        }
+        return submitAsCurrentUser(notifications);
     }
 
     @Override
@@ -169,18 +200,26 @@ public class NotificationServiceCEImpl
                     notificationMonoList.add(commentThreadNotification);
                 }
             }
-            return repository.saveAll(notificationMonoList);
+            return submitAsCurrentUser(notificationMonoList).flatMapIterable(notifications -> notifications);
         }
         return Flux.empty();
     }
 
+    private Mono<List<Notification>> submitAsCurrentUser(List<Notification> notifications) {
+        return sessionUserService.getCurrentUser()
+                .map(user -> notificationBatchWriter.submit(notifications, user.getUsername()))
+                .switchIfEmpty(Mono.fromSupplier(() -> notificationBatchWriter.submit(notifications, null)));
+    }
+
     @Override
     public Mono<UpdateIsReadNotificationByIdDTO> updateIsRead(UpdateIsReadNotificationByIdDTO dto) {
         return sessionUserService.getCurrentUser()
                 .flatMap(user ->
                         repository.updateIsReadByForUsernameAndIdList(
                                 user.getUsername(), dto.getIdList(), dto.getIsRead()
-                        ).thenReturn(dto)
+                        )
+                                .flatMap(result -> updateUnreadCounter(user.getUsername(), result))
+                                .thenReturn(dto)
                 );
     }
 
@@ -188,14 +227,41 @@ public class NotificationServiceCEImpl
     public Mono<UpdateIsReadNotificationDTO> updateIsRead(UpdateIsReadNotificationDTO dto) {
         return sessionUserService.getCurrentUser()
                 .flatMap(user -> repository.updateIsReadByForUsername(user.getUsername(), dto.getIsRead())
+                        .flatMap(result -> updateUnreadCounter(user.getUsername(), result))
                         .thenReturn(dto)
                 );
     }
 
+    /**
+     * Reads the unread count from the user's unread counter, which is only counted from the notifications when it's
+     * missing or was counted too long ago.
+     */
     @Override
     public Mono<Long> getUnreadCount() {
-        return sessionUserService.getCurrentUser().flatMap(user ->
+        return sessionUserService.getCurrentUser().flatMap(user -> unreadCounterService.getCount(
+                user.getUsername(),
+                UnreadCounter.NOTIFICATIONS_SCOPE,
                 repository.countByForUsernameAndIsReadIsFalse(user.getUsername())
-        );
+        ));
+    }
+
+    /**
+     * Drops the user's unread counter instead of incrementing it, as a count which is running while the notification is
+     * written may count it already.
+     */
+    private Mono<Notification> invalidateUnreadCounter(Notification notification) {
+        if (Boolean.TRUE.equals(notification.getIsRead())) {
+            return Mono.just(notification);
+        }
+        return unreadCounterService
+                .invalidate(List.of(notification.getForUsername()), UnreadCounter.NOTIFICATIONS_SCOPE)
+                .thenReturn(notification);
+    }
+
+    private Mono<Void> updateUnreadCounter(String username, UpdateResult result) {
+        if (result.getModifiedCount() == 0) {
+            return Mono.empty();
+        }
+        return unreadCounterService.invalidate(List.of(username), UnreadCounter.NOTIFICATIONS_SCOPE);
     }
 }
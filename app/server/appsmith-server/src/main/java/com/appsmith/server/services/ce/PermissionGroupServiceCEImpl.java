@@ -17,6 +17,7 @@ import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.BaseService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.TenantService;
+import com.appsmith.server.services.UnreadCounterService;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import reactor.core.publisher.Flux;
@@ -46,6 +47,8 @@ public class PermissionGroupServiceCEImpl extends BaseService<PermissionGroupRep
 
     private final ConfigRepository configRepository;
 
+    private final UnreadCounterService unreadCounterService;
+
     private PermissionGroup publicPermissionGroup = null;
 
     public PermissionGroupServiceCEImpl(Scheduler scheduler,
@@ -57,7 +60,8 @@ public class PermissionGroupServiceCEImpl extends BaseService<PermissionGroupRep
                                         SessionUserService sessionUserService,
                                         TenantService tenantService,
                                         UserRepository userRepository,
-                                        PolicyUtils policyUtils, ConfigRepository configRepository) {
+                                        PolicyUtils policyUtils, ConfigRepository configRepository,
+                                        UnreadCounterService unreadCounterService) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.sessionUserService = sessionUserService;
@@ -65,6 +69,7 @@ public class PermissionGroupServiceCEImpl extends BaseService<PermissionGroupRep
         this.userRepository = userRepository;
         this.policyUtils = policyUtils;
         this.configRepository = configRepository;
+        this.unreadCounterService = unreadCounterService;
     }
 
     @Override
@@ -220,7 +225,10 @@ public class PermissionGroupServiceCEImpl extends BaseService<PermissionGroupRep
                                 String email = userMap.get(userId);
                                 return repository.evictPermissionGroupsUser(email, defaultTenantId)
                                         .thenReturn(TRUE);
-                            });
+                            })
+                            // What the users can read changes with their permission groups, so their unread counts
+                            // are counted again
+                            .thenMany(unreadCounterService.invalidateUsers(userMap.values()));
                 })
                 .then();
     }
@@ -4,6 +4,7 @@ import com.appsmith.external.models.Datasource;
 import com.appsmith.server.domains.Workspace;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.dtos.InstallPluginRedisDTO;
+import com.appsmith.server.dtos.PluginFormResourceDTO;
 import com.appsmith.server.dtos.PluginWorkspaceDTO;
 import com.appsmith.server.services.CrudService;
 import reactor.core.publisher.Flux;
@@ -36,6 +37,10 @@ public interface PluginServiceCE extends CrudService<Plugin, String> {
 
     Mono<Map> getFormConfig(String pluginId);
 
+    Mono<PluginFormResourceDTO> getFormResource(String pluginId);
+
+    Mono<Void> preloadFormResources();
+
     Flux<Plugin> getAllRemotePlugins();
 
     Mono<Map> loadPluginResource(String pluginId, String resourcePath);
@@ -7,7 +7,9 @@ import com.appsmith.server.domains.WorkspacePlugin;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.external.models.PluginType;
 import com.appsmith.server.dtos.InstallPluginRedisDTO;
+import com.appsmith.server.dtos.PluginFormResourceDTO;
 import com.appsmith.server.dtos.PluginWorkspaceDTO;
+import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.dtos.WorkspacePluginStatus;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
@@ -34,6 +36,8 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.DigestUtils;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
@@ -43,6 +47,7 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 
 import javax.validation.Validator;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -57,7 +62,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 @Slf4j
 public class PluginServiceCEImpl extends BaseService<PluginRepository, Plugin, String> implements PluginServiceCE {
@@ -69,9 +76,14 @@ public class PluginServiceCEImpl extends BaseService<PluginRepository, Plugin, S
     private final ChannelTopic topic;
     private final ObjectMapper objectMapper;
 
-    private final Map<String, Mono<Map>> formCache = new HashMap<>();
-    private final Map<String, Mono<Map<String, String>>> templateCache = new HashMap<>();
-    private final Map<String, Mono<Map>> labelCache = new HashMap<>();
+    /*
+     * These are read and filled from any of the reactive threads, hence concurrent maps. The cached Monos are created
+     * with `computeIfAbsent`, so that concurrent first requests for a plugin share a single load of its resources.
+     */
+    private final Map<String, Mono<Map>> formCache = new ConcurrentHashMap<>();
+    private final Map<String, Mono<PluginFormResourceDTO>> formResourceCache = new ConcurrentHashMap<>();
+    private final Map<String, Mono<Map<String, String>>> templateCache = new ConcurrentHashMap<>();
+    private final Map<String, Mono<Map>> labelCache = new ConcurrentHashMap<>();
 
     private static final int CONNECTION_TIMEOUT = 10000;
     private static final int READ_TIMEOUT = 10000;
@@ -353,74 +365,129 @@ public class PluginServiceCEImpl extends BaseService<PluginRepository, Plugin, S
         //The following only starts plugins which have been loaded but hasn't been started yet.
         pluginManager.startPlugins();
 
-        return Mono.just(plugin);
+        // The resources of the plugin may have changed with the newly downloaded jar, so warm the cache with them again.
+        evictFormResources(plugin.getId());
+        return getFormResource(plugin.getId())
+                .onErrorResume(error -> {
+                    log.warn("Unable to load resources for plugin {}", plugin.getPackageName(), error);
+                    return Mono.empty();
+                })
+                .thenReturn(plugin);
     }
 
     @Override
     public Mono<Map> getFormConfig(String pluginId) {
-        if (!formCache.containsKey(pluginId)) {
-            final Mono<Map> formMono = loadPluginResource(pluginId, "form.json")
-                    .doOnError(throwable ->
-                            // Remove this pluginId from the cache so it is tried again next time.
-                            formCache.remove(pluginId)
-                    )
-                    .onErrorMap(Exceptions::unwrap)
-                    .cache();
-            final Mono<Map> editorMono = loadPluginResource(pluginId, "editor.json")
-                    .doOnError(throwable ->
-                            // Remove this pluginId from the cache so it is tried again next time.
-                            formCache.remove(pluginId)
-                    )
-                    .onErrorReturn(new HashMap())
-                    .cache();
-            final Mono<Map> settingMono = loadPluginResource(pluginId, "setting.json")
-                    .doOnError(throwable ->
-                            // Remove this pluginId from the cache so it is tried again next time.
-                            formCache.remove(pluginId)
-                    )
-                    .onErrorReturn(new HashMap())
-                    .cache();
-            final Mono<Map> dependencyMono = loadPluginResource(pluginId, "dependency.json")
-                    .doOnError(throwable ->
-                            // Remove this pluginId from the cache so it is tried again next time.
-                            formCache.remove(pluginId)
-                    )
-                    .onErrorReturn(new HashMap())
-                    .cache();
-
-            Mono<Map> resourceMono = Mono.zip(formMono, editorMono, settingMono, dependencyMono)
-                    .map(tuple -> {
-                        Map formMap = tuple.getT1();
-                        Map editorMap = tuple.getT2();
-                        Map settingMap = tuple.getT3();
-                        Map dependencyMap = tuple.getT4();
-
-                        formMap.putAll(editorMap);
-                        formMap.putAll(settingMap);
-                        formMap.putAll(dependencyMap);
-
-                        return formMap;
-                    });
-
-            formCache.put(pluginId, resourceMono);
-        }
+        return formCache.computeIfAbsent(pluginId, id -> loadFormConfig(id)
+                .doOnError(throwable ->
+                        // Remove this pluginId from the cache so it is tried again next time.
+                        formCache.remove(id)
+                )
+                .cache()
+        );
+    }
 
-        return formCache.get(pluginId);
+    @Override
+    public Mono<PluginFormResourceDTO> getFormResource(String pluginId) {
+        return formResourceCache.computeIfAbsent(pluginId, id -> getFormConfig(id)
+                .map(formMap -> serializeFormConfig(id, formMap))
+                .doOnError(throwable ->
+                        // Remove this pluginId from the cache so it is tried again next time.
+                        formResourceCache.remove(id)
+                )
+                .cache()
+        );
     }
 
+    /**
+     * Loads the resources of all the plugins into the cache, so that the editors don't have to wait for the resources
+     * to be read from the plugin jars on their first requests.
+     */
     @Override
-    public Mono<Map> getEditorConfigLabelMap(String pluginId) {
-        if (labelCache.containsKey(pluginId)) {
-            return labelCache.get(pluginId);
+    public Mono<Void> preloadFormResources() {
+        return repository.findAll()
+                .flatMap(plugin -> getFormResource(plugin.getId())
+                        .flatMap(ignored -> getTemplates(plugin))
+                        .onErrorResume(error -> {
+                            log.debug("Unable to preload resources for plugin {}", plugin.getPackageName(), error);
+                            return Mono.empty();
+                        })
+                )
+                .then();
+    }
+
+    /**
+     * Drops the cached resources of the given plugin, which would then be loaded again from the plugin on the next
+     * request.
+     */
+    protected void evictFormResources(String pluginId) {
+        formCache.remove(pluginId);
+        formResourceCache.remove(pluginId);
+        templateCache.remove(pluginId);
+        labelCache.remove(pluginId);
+    }
+
+    private Mono<Map> loadFormConfig(String pluginId) {
+        final Mono<Map> formMono = loadPluginResource(pluginId, "form.json")
+                .onErrorMap(Exceptions::unwrap);
+        // The rest of the resources are optional.
+        final Mono<Map> editorMono = loadPluginResource(pluginId, "editor.json")
+                .onErrorReturn(new HashMap());
+        final Mono<Map> settingMono = loadPluginResource(pluginId, "setting.json")
+                .onErrorReturn(new HashMap());
+        final Mono<Map> dependencyMono = loadPluginResource(pluginId, "dependency.json")
+                .onErrorReturn(new HashMap());
+
+        return Mono.zip(formMono, editorMono, settingMono, dependencyMono)
+                .map(tuple -> {
+                    Map formMap = tuple.getT1();
+                    Map editorMap = tuple.getT2();
+                    Map settingMap = tuple.getT3();
+                    Map dependencyMap = tuple.getT4();
+
+                    formMap.putAll(editorMap);
+                    formMap.putAll(settingMap);
+                    formMap.putAll(dependencyMap);
+
+                    return formMap;
+                });
+    }
+
+    private PluginFormResourceDTO serializeFormConfig(String pluginId, Map formMap) {
+        final byte[] content;
+        try {
+            content = objectMapper.writeValueAsBytes(new ResponseDTO<>(HttpStatus.OK.value(), formMap, null));
+        } catch (JsonProcessingException e) {
+            log.error("Unable to serialize form config for plugin {}", pluginId, e);
+            throw new AppsmithException(AppsmithError.PLUGIN_LOAD_FORM_JSON_FAIL, pluginId, e.getMessage());
         }
 
-        Mono<Map> formConfig = getFormConfig(pluginId);
+        return new PluginFormResourceDTO(formMap, content, compress(content), DigestUtils.md5DigestAsHex(content));
+    }
 
-        if (formConfig == null) {
-            return Mono.just(new HashMap());
+    private static byte[] compress(byte[] content) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(content);
+        } catch (IOException e) {
+            // Writing to an in-memory stream doesn't fail
+            throw new IllegalStateException(e);
         }
+        return outputStream.toByteArray();
+    }
 
-        Mono<Map> labelMapMono = formConfig
+    @Override
+    public Mono<Map> getEditorConfigLabelMap(String pluginId) {
+        return labelCache.computeIfAbsent(pluginId, id -> loadEditorConfigLabelMap(id)
+                .doOnError(throwable ->
+                        // Remove this pluginId from the cache so it is tried again next time.
+                        labelCache.remove(id)
+                )
+                .cache()
+        );
+    }
+
+    private Mono<Map> loadEditorConfigLabelMap(String pluginId) {
+        return getFormConfig(pluginId)
                 .flatMap(formMap -> {
                     Map<String, String> labelMap = new LinkedHashMap(); // need to keep the key value pairs in order
                     List editorMap = (List) formMap.get(KEY_EDITOR);
@@ -458,36 +525,27 @@ public class PluginServiceCEImpl extends BaseService<PluginRepository, Plugin, S
 
                     return Mono.just(labelMap);
                 });
-
-        labelCache.put(pluginId, labelMapMono);
-
-        return labelMapMono;
     }
 
     private Mono<Map<String, String>> getTemplates(Plugin plugin) {
         final String pluginId = plugin.getId();
 
-        if (!templateCache.containsKey(pluginId)) {
-            final Mono<Map<String, String>> mono = Mono.fromSupplier(() -> loadTemplatesFromPlugin(plugin))
-                    .onErrorReturn(FileNotFoundException.class, Collections.emptyMap())
-                    .doOnError(throwable ->
-                            // Remove this pluginId from the cache so it is tried again next time.
-                            templateCache.remove(pluginId)
-                    )
-                    // It's okay if the templates folder is not present, we just return empty templates collection.
-                    .onErrorMap(throwable -> {
-                        log.error("Error loading templates for plugin {}.", plugin.getPackageName(), throwable);
-                        return new AppsmithException(
-                                AppsmithError.PLUGIN_LOAD_TEMPLATES_FAIL,
-                                Exceptions.unwrap(throwable).getMessage()
-                        );
-                    })
-                    .cache();
-
-            templateCache.put(pluginId, mono);
-        }
-
-        return templateCache.get(pluginId);
+        return templateCache.computeIfAbsent(pluginId, id -> Mono.fromSupplier(() -> loadTemplatesFromPlugin(plugin))
+                .onErrorReturn(FileNotFoundException.class, Collections.emptyMap())
+                .doOnError(throwable ->
+                        // Remove this pluginId from the cache so it is tried again next time.
+                        templateCache.remove(id)
+                )
+                // It's okay if the templates folder is not present, we just return empty templates collection.
+                .onErrorMap(throwable -> {
+                    log.error("Error loading templates for plugin {}.", plugin.getPackageName(), throwable);
+                    return new AppsmithException(
+                            AppsmithError.PLUGIN_LOAD_TEMPLATES_FAIL,
+                            Exceptions.unwrap(throwable).getMessage()
+                    );
+                })
+                .cache()
+        );
     }
 
     private Map<String, String> loadTemplatesFromPlugin(Plugin plugin) {
@@ -3,12 +3,36 @@ package com.appsmith.server.services.ce;
 import com.appsmith.external.models.BaseDomain;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface SequenceServiceCE {
 
+    /**
+     * Gets the next number of the sequence. Numbers are dense, i.e. handed out one after the other across all server
+     * instances, except for the ones reserved in blocks by {@link #getNextFromBlock(String)}.
+     */
     Mono<Long> getNext(String name);
 
+    /**
+     * Gets the next count numbers of the sequence, in one round trip to the database. The numbers are consecutive, and
+     * dense like the ones from {@link #getNext(String)}.
+     */
+    Mono<List<Long>> getNext(String name, int count);
+
     Mono<Long> getNext(Class<? extends BaseDomain> domainClass, String suffix);
 
+    Mono<List<Long>> getNext(Class<? extends BaseDomain> domainClass, String suffix, int count);
+
     Mono<String> getNextAsSuffix(Class<? extends BaseDomain> domainClass, String suffix);
 
+    /**
+     * Gets the next number of the sequence from a block of numbers this server instance has reserved ahead, going to the
+     * database only once per block. The numbers are unique, but not dense. Numbers from the blocks of different server
+     * instances interleave, and what is left of a block is skipped when the server restarts. To be used where the
+     * numbers only need to be unique.
+     */
+    Mono<Long> getNextFromBlock(String name);
+
+    Mono<Long> getNextFromBlock(Class<? extends BaseDomain> domainClass, String suffix);
+
 }
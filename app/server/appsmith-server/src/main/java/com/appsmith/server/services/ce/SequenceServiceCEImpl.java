@@ -2,11 +2,23 @@ package com.appsmith.server.services.ce;
 
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.server.domains.Sequence;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.query.Update;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
 import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
@@ -14,8 +26,48 @@ import static org.springframework.data.mongodb.core.query.Query.query;
 
 public class SequenceServiceCEImpl implements SequenceServiceCE {
 
+    // How many numbers of a sequence are reserved at a time for getNextFromBlock.
+    static final int BLOCK_SIZE = 20;
+
+    private static final int MAX_SEQUENCES_WITH_BLOCKS = 10_000;
+
     private final ReactiveMongoTemplate mongoTemplate;
 
+    // Numbers reserved by this instance and not handed out yet, by sequence name. Sequences are mostly per workspace or
+    // per application, so only the recently used ones are kept, and the numbers left in the others are skipped.
+    private final Cache<String, SequenceBlocks> blocksBySequence = CacheBuilder.newBuilder()
+            .maximumSize(MAX_SEQUENCES_WITH_BLOCKS)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    /**
+     * Ranges of reserved numbers of a sequence. There is usually one, but more than one can be reserved when the
+     * numbers run out for concurrent callers.
+     */
+    private static class SequenceBlocks {
+
+        // Each range is {next number, last number}.
+        private final Deque<long[]> ranges = new ArrayDeque<>();
+
+        synchronized Long take() {
+            final long[] range = ranges.peekFirst();
+            if (range == null) {
+                return null;
+            }
+            final long number = range[0]++;
+            if (range[0] > range[1]) {
+                ranges.removeFirst();
+            }
+            return number;
+        }
+
+        synchronized void add(long first, long last) {
+            if (first <= last) {
+                ranges.addLast(new long[]{first, last});
+            }
+        }
+    }
+
     @Autowired
     public SequenceServiceCEImpl(ReactiveMongoTemplate mongoTemplate) {
         this.mongoTemplate = mongoTemplate;
@@ -23,14 +75,17 @@ public class SequenceServiceCEImpl implements SequenceServiceCE {
 
     @Override
     public Mono<Long> getNext(String name) {
-        return mongoTemplate
-                .findAndModify(
-                        query(where("name").is(name)),
-                        new Update().inc("nextNumber", 1),
-                        options().returnNew(true).upsert(true),
-                        Sequence.class
-                )
-                .map(Sequence::getNextNumber);
+        return increment(name, 1);
+    }
+
+    @Override
+    public Mono<List<Long>> getNext(String name, int count) {
+        if (count < 1) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, "count"));
+        }
+
+        return increment(name, count)
+                .map(last -> LongStream.rangeClosed(last - count + 1, last).boxed().collect(Collectors.toList()));
     }
 
     @Override
@@ -38,10 +93,59 @@ public class SequenceServiceCEImpl implements SequenceServiceCE {
         return getNext(mongoTemplate.getCollectionName(domainClass) + suffix);
     }
 
+    @Override
+    public Mono<List<Long>> getNext(Class<? extends BaseDomain> domainClass, String suffix, int count) {
+        return getNext(mongoTemplate.getCollectionName(domainClass) + suffix, count);
+    }
+
     @Override
     public Mono<String> getNextAsSuffix(Class<? extends BaseDomain> domainClass, String suffix) {
         return getNext(mongoTemplate.getCollectionName(domainClass) + suffix)
                 .map(number -> number > 1 ? " " + number : "");
     }
 
+    @Override
+    public Mono<Long> getNextFromBlock(String name) {
+        return Mono.defer(() -> {
+            final SequenceBlocks blocks;
+            try {
+                blocks = blocksBySequence.get(name, SequenceBlocks::new);
+            } catch (ExecutionException e) {
+                return Mono.error(e.getCause());
+            }
+
+            final Long number = blocks.take();
+            if (number != null) {
+                return Mono.just(number);
+            }
+
+            // The numbers have run out, the first one of the newly reserved block is handed out right away.
+            return increment(name, BLOCK_SIZE)
+                    .map(last -> {
+                        final long first = last - BLOCK_SIZE + 1;
+                        blocks.add(first + 1, last);
+                        return first;
+                    });
+        });
+    }
+
+    @Override
+    public Mono<Long> getNextFromBlock(Class<? extends BaseDomain> domainClass, String suffix) {
+        return getNextFromBlock(mongoTemplate.getCollectionName(domainClass) + suffix);
+    }
+
+    /**
+     * Increments the sequence by the given amount, and returns its new value, i.e. the last of the numbers reserved.
+     */
+    private Mono<Long> increment(String name, int amount) {
+        return mongoTemplate
+                .findAndModify(
+                        query(where("name").is(name)),
+                        new Update().inc("nextNumber", amount),
+                        options().returnNew(true).upsert(true),
+                        Sequence.class
+                )
+                .map(Sequence::getNextNumber);
+    }
+
 }
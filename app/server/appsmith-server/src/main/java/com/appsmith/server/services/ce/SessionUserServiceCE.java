@@ -2,6 +2,7 @@ package com.appsmith.server.services.ce;
 
 import com.appsmith.server.domains.User;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebSession;
 import reactor.core.publisher.Mono;
 
 public interface SessionUserServiceCE {
@@ -10,5 +11,9 @@ public interface SessionUserServiceCE {
 
     Mono<User> refreshCurrentUser(ServerWebExchange exchange);
 
+    Mono<Void> trackSession(String email, WebSession session);
+
     Mono<Void> logoutAllSessions(String email);
+
+    Mono<Long> indexExistingSessions();
 }
@@ -9,6 +9,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
@@ -16,8 +19,13 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebSession;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.time.Duration;
+import java.time.Instant;
 
 import static org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
 
@@ -27,6 +35,27 @@ public class SessionUserServiceCEImpl implements SessionUserServiceCE {
 
     private final UserRepository userRepository;
     private final ReactiveRedisOperations<String, Object> redisOperations;
+    private final RedisSerializer<Object> sessionSerializer;
+
+    // This prefix comes from calling `ReactiveRedisSessionRepository.getSessionKey("")` private method.
+    private static final String SESSION_KEY_PREFIX = "spring:session:sessions:";
+
+    // Set of the ids of the sessions of a user, keyed by the user's email in lower case.
+    private static final String USER_SESSIONS_KEY_PREFIX = "appsmith:user-sessions:";
+
+    // Marks that the sessions which existed before the per-user index was introduced have been indexed.
+    private static final String USER_SESSIONS_INDEXED_KEY = "appsmith:user-sessions-indexed";
+
+    // Held by the server which is indexing the existing sessions. Expires, so that a scan which was cut short is taken up
+    // again by the next server that starts.
+    private static final String USER_SESSIONS_INDEXING_LOCK_KEY = "appsmith:user-sessions-indexing";
+
+    private static final Duration USER_SESSIONS_INDEXING_LOCK_TTL = Duration.ofMinutes(10);
+
+    // Same as the `maxInactiveIntervalInSeconds` in `RedisConfig`, so that an index outlives the sessions in it.
+    private static final Duration USER_SESSIONS_TTL = Duration.ofDays(30);
+
+    private static final String SECURITY_CONTEXT_SESSION_ATTR = "sessionAttr:" + DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
 
     @Override
     public Mono<User> getCurrentUser() {
@@ -61,37 +90,128 @@ public class SessionUserServiceCEImpl implements SessionUserServiceCE {
             }
             context.setAuthentication(newToken);
             session.getAttributes().put(DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME, context);
-            return Mono.just(user);
+            return trackSession(user.getEmail(), session).thenReturn(user);
         });
     }
 
+    /**
+     * Adds the session to the index of the sessions of the given user, so that they can be logged out of all their
+     * sessions without scanning through the sessions of all the users. Ids of sessions which have expired since they
+     * were added are removed from the index on the way.
+     */
+    @Override
+    public Mono<Void> trackSession(String email, WebSession session) {
+        if (StringUtils.isEmpty(email)) {
+            return Mono.empty();
+        }
+
+        final String indexKey = getUserSessionsKey(email);
+        return redisOperations.opsForSet().members(indexKey)
+                .map(String::valueOf)
+                .filter(sessionId -> !sessionId.equals(session.getId()))
+                .filterWhen(sessionId -> redisOperations.hasKey(SESSION_KEY_PREFIX + sessionId).map(exists -> !exists))
+                .collectList()
+                .flatMap(expiredSessionIds -> CollectionUtils.isNullOrEmpty(expiredSessionIds)
+                        ? Mono.just(0L)
+                        : redisOperations.opsForSet().remove(indexKey, expiredSessionIds.toArray()))
+                .then(redisOperations.opsForSet().add(indexKey, session.getId()))
+                .then(redisOperations.expire(indexKey, USER_SESSIONS_TTL))
+                .doOnError(error -> log.error("Error indexing user session", error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * Deletes all the sessions of the given user. Once the sessions which existed before the per-user session index was
+     * introduced have been indexed, only the sessions in the user's index are looked at, so this doesn't depend on the
+     * number of sessions of other users. Until then, the sessions of the user are also looked for by scanning through
+     * all the sessions, so that none of them are left logged in.
+     */
     @Override
     public Mono<Void> logoutAllSessions(String email) {
-        // This pattern string comes from calling `ReactiveRedisSessionRepository.getSessionKey("*")` private method.
-        return redisOperations.keys("spring:session:sessions:*")
-                .flatMap(key -> Mono.zip(
-                        Mono.just(key),
-                        // The values are maps, containing various pieces of session related information.
-                        // One of them, holds the serialized User object. We want just that.
-                        redisOperations.opsForHash().entries(key)
-                                .filter(e -> e.getValue() != null &&
-                                        ("sessionAttr:" + DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME).equals(e.getKey())
-                                )
-                                .map(e -> (User) ((SecurityContext) e.getValue()).getAuthentication().getPrincipal())
-                                .next()
-                ))
-                // Now we have tuples of session keys, and the corresponding user objects.
-                // Filter the ones we need to clear out.
-                .filter(tuple -> StringUtils.equalsIgnoreCase(email, tuple.getT2().getEmail()))
-                .map(Tuple2::getT1)
+        final String indexKey = getUserSessionsKey(email);
+        final Flux<String> indexedSessionKeysFlux = redisOperations.opsForSet().members(indexKey)
+                .map(sessionId -> SESSION_KEY_PREFIX + sessionId);
+
+        return redisOperations.hasKey(USER_SESSIONS_INDEXED_KEY)
+                .flatMapMany(isIndexed -> {
+                    if (Boolean.TRUE.equals(isIndexed)) {
+                        return indexedSessionKeysFlux;
+                    }
+                    final Flux<String> scannedSessionKeysFlux = scanSessions()
+                            .filter(tuple -> StringUtils.equalsIgnoreCase(email, tuple.getT2().getEmail()))
+                            .map(Tuple2::getT1);
+                    return Flux.concat(indexedSessionKeysFlux, scannedSessionKeysFlux).distinct();
+                })
                 .collectList()
-                .flatMap(keys ->
-                        CollectionUtils.isNullOrEmpty(keys)
-                                ? Mono.just(0L)
-                                : redisOperations.delete(keys.toArray(String[]::new))
-                )
+                .flatMap(keys -> {
+                    keys.add(indexKey);
+                    return redisOperations.delete(keys.toArray(String[]::new));
+                })
                 .doOnError(error -> log.error("Error clearing user sessions", error))
                 .then();
     }
 
+    /**
+     * Adds the sessions which were created before the per-user session index was introduced to the index. This scans
+     * through all the sessions, so it's done by one server at a time, and only until a scan has gone through all of
+     * them. A scan which fails or is cut short leaves the sessions to be indexed again.
+     *
+     * @return the number of sessions that were indexed.
+     */
+    @Override
+    public Mono<Long> indexExistingSessions() {
+        return redisOperations.hasKey(USER_SESSIONS_INDEXED_KEY)
+                .filter(isIndexed -> !isIndexed)
+                .flatMap(isNotIndexed -> redisOperations.opsForValue()
+                        .setIfAbsent(USER_SESSIONS_INDEXING_LOCK_KEY, Instant.now().toString(), USER_SESSIONS_INDEXING_LOCK_TTL))
+                .filter(Boolean.TRUE::equals)
+                .flatMap(isLocked -> scanAndIndexSessions()
+                        // The scan is marked as done only once it has gone through all the sessions.
+                        .flatMap(count -> redisOperations.opsForValue()
+                                .set(USER_SESSIONS_INDEXED_KEY, Instant.now().toString())
+                                .thenReturn(count))
+                        .onErrorResume(error -> redisOperations.delete(USER_SESSIONS_INDEXING_LOCK_KEY)
+                                .then(Mono.error(error)))
+                        .flatMap(count -> redisOperations.delete(USER_SESSIONS_INDEXING_LOCK_KEY).thenReturn(count)))
+                .defaultIfEmpty(0L);
+    }
+
+    private Mono<Long> scanAndIndexSessions() {
+        return scanSessions()
+                .flatMap(tuple -> {
+                    final String indexKey = getUserSessionsKey(tuple.getT2().getEmail());
+                    return redisOperations.opsForSet().add(indexKey, tuple.getT1().substring(SESSION_KEY_PREFIX.length()))
+                            .then(redisOperations.expire(indexKey, USER_SESSIONS_TTL));
+                }, 16)
+                .count();
+    }
+
+    /**
+     * Scans through all the sessions, and returns the keys of the sessions along with the users logged in to them.
+     */
+    private Flux<Tuple2<String, User>> scanSessions() {
+        // Session attributes are written with the session serializer, rather than the default one of this template.
+        final RedisSerializationContext<String, Object> sessionSerializationContext = RedisSerializationContext
+                .<String, Object>newSerializationContext(sessionSerializer)
+                .key(RedisSerializer.string())
+                .hashKey(RedisSerializer.string())
+                .build();
+
+        return redisOperations.scan(ScanOptions.scanOptions().match(SESSION_KEY_PREFIX + "*").count(1000).build())
+                .flatMap(key -> redisOperations.opsForHash(sessionSerializationContext).get(key, SECURITY_CONTEXT_SESSION_ATTR)
+                        // The values hold the serialized User object, along with other session related information.
+                        .map(value -> (User) ((SecurityContext) value).getAuthentication().getPrincipal())
+                        .filter(user -> !StringUtils.isEmpty(user.getEmail()))
+                        .map(user -> Tuples.of(key, user))
+                        .onErrorResume(error -> {
+                            log.debug("Skipping session {} that couldn't be read", key, error);
+                            return Mono.empty();
+                        }), 16);
+    }
+
+    private static String getUserSessionsKey(String email) {
+        return USER_SESSIONS_KEY_PREFIX + email.toLowerCase();
+    }
+
 }
@@ -14,6 +14,12 @@ public interface ThemeServiceCE extends CrudService<Theme, String> {
     Flux<Theme> getApplicationThemes(String applicationId, String branchName);
     Flux<Theme> getSystemThemes();
     Mono<Theme> getSystemTheme(String themeName);
+
+    /**
+     * Loads the system themes from the DB into memory, replacing the ones loaded earlier, if any.
+     * @return Publishes empty after the system themes are loaded
+     */
+    Mono<Void> loadSystemThemes();
     Mono<Theme> updateTheme(String applicationId, String branchName, Theme resource);
     Mono<Theme> changeCurrentTheme(String themeId, String applicationId, String branchName);
 
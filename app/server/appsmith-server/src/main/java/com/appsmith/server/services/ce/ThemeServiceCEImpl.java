@@ -1,6 +1,7 @@
 package com.appsmith.server.services.ce;
 
 import com.appsmith.external.constants.AnalyticsEvents;
+import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.PolicyGenerator;
 import com.appsmith.server.constants.FieldName;
@@ -16,7 +17,11 @@ import com.appsmith.server.repositories.ce.ThemeRepositoryCE;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.ApplicationService;
 import com.appsmith.server.services.BaseService;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.util.MultiValueMap;
@@ -27,6 +32,15 @@ import reactor.core.scheduler.Scheduler;
 import reactor.util.function.Tuples;
 
 import javax.validation.Validator;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.appsmith.server.acl.AclPermission.MANAGE_APPLICATIONS;
 import static com.appsmith.server.acl.AclPermission.MANAGE_THEMES;
@@ -41,6 +55,27 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepositoryCE, Theme, St
     private final PolicyGenerator policyGenerator;
     private String defaultThemeId;  // acts as a simple cache so that we don't need to fetch from DB always
 
+    // System themes by their id and by their name in lower case. These are replaced as a whole when reloaded.
+    private volatile Map<String, Theme> systemThemesById;
+    private volatile Map<String, Theme> systemThemesByName;
+
+    // Published themes of applications by their id, along with the version of the application they were read for.
+    private final Cache<String, VersionedTheme> publishedThemeCache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_PUBLISHED_THEMES)
+            .expireAfterWrite(PUBLISHED_THEME_CACHE_TTL)
+            .build();
+
+    private static final int MAX_CACHED_PUBLISHED_THEMES = 10_000;
+
+    // Bounds how long a stale theme can be served if it was changed by another server while being cached here.
+    private static final Duration PUBLISHED_THEME_CACHE_TTL = Duration.ofMinutes(10);
+
+    @Value
+    private static class VersionedTheme {
+        String version;
+        Theme theme;
+    }
+
     public ThemeServiceCEImpl(Scheduler scheduler, Validator validator, MongoConverter mongoConverter, ReactiveMongoTemplate reactiveMongoTemplate, ThemeRepository repository, AnalyticsService analyticsService, ApplicationRepository applicationRepository, ApplicationService applicationService, PolicyGenerator policyGenerator) {
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.applicationRepository = applicationRepository;
@@ -84,13 +119,57 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepositoryCE, Theme, St
                         themeId = application.getPublishedModeThemeId();
                     }
                     if (StringUtils.hasLength(themeId)) {
-                        return repository.findById(themeId, READ_THEMES);
+                        final String finalThemeId = themeId;
+                        return getSystemThemeById(themeId)
+                                .switchIfEmpty(Mono.defer(() -> applicationMode == ApplicationMode.PUBLISHED
+                                        ? getPublishedTheme(finalThemeId, application)
+                                        : repository.findById(finalThemeId, READ_THEMES)
+                                ));
                     } else { // theme id is not present, return default theme
-                        return repository.getSystemThemeByName(Theme.DEFAULT_THEME_NAME);
+                        return getSystemTheme(Theme.DEFAULT_THEME_NAME);
                     }
                 });
     }
 
+    /**
+     * Published themes only change when the application is published, which also updates the application. Hence, a
+     * published theme read for the same version of the application can be served from memory.
+     */
+    private Mono<Theme> getPublishedTheme(String themeId, Application application) {
+        final String version = String.valueOf(application.getUpdatedAt());
+        final VersionedTheme cachedTheme = publishedThemeCache.getIfPresent(themeId);
+        if (cachedTheme != null && cachedTheme.getVersion().equals(version)) {
+            return copyForCurrentUser(cachedTheme.getTheme());
+        }
+
+        return repository.findById(themeId, READ_THEMES)
+                .map(theme -> {
+                    // Permissions are of the user who read the theme first, so they are not shared with other users
+                    final Theme themeToCache = copyOf(theme);
+                    themeToCache.setUserPermissions(Set.of());
+                    publishedThemeCache.put(themeId, new VersionedTheme(version, themeToCache));
+                    return theme;
+                });
+    }
+
+    /**
+     * Themes held in memory are read without a permission check. Hence, the current user is checked against the
+     * policies of the theme here, the same way the repository does when reading the theme with {@link
+     * AclPermission#READ_THEMES}, and the permissions of the user are set in the copy returned.
+     */
+    private Mono<Theme> copyForCurrentUser(Theme theme) {
+        return repository.setUserPermissionsInObject(copyOf(theme))
+                .filter(copy -> copy.getUserPermissions().contains(READ_THEMES.getValue()));
+    }
+
+    private void evictPublishedThemes(String... themeIds) {
+        for (String themeId : themeIds) {
+            if (StringUtils.hasLength(themeId)) {
+                publishedThemeCache.invalidate(themeId);
+            }
+        }
+    }
+
     @Override
     public Flux<Theme> getApplicationThemes(String applicationId, String branchName) {
         return applicationService.findByBranchNameAndDefaultApplicationId(branchName, applicationId, READ_APPLICATIONS)
@@ -163,7 +242,7 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepositoryCE, Theme, St
     @Override
     public Mono<String> getDefaultThemeId() {
         if (StringUtils.isEmpty(defaultThemeId)) {
-            return repository.getSystemThemeByName(Theme.DEFAULT_THEME_NAME).map(theme -> {
+            return getSystemTheme(Theme.DEFAULT_THEME_NAME).map(theme -> {
                 defaultThemeId = theme.getId();
                 return theme.getId();
             });
@@ -201,7 +280,7 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepositoryCE, Theme, St
         return applicationRepository.findById(applicationId, MANAGE_APPLICATIONS).flatMap(application -> {
             Mono<Theme> editModeThemeMono;
             if (!StringUtils.hasLength(application.getEditModeThemeId())) { // theme id is empty, use the default theme
-                editModeThemeMono = repository.getSystemThemeByName(Theme.LEGACY_THEME_NAME);
+                editModeThemeMono = getSystemTheme(Theme.LEGACY_THEME_NAME);
             } else { // theme id is not empty, fetch it by id
                 editModeThemeMono = repository.findById(application.getEditModeThemeId(), READ_THEMES);
             }
@@ -220,7 +299,7 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepositoryCE, Theme, St
                             application.getPublishedModeThemeId(), editModeTheme, application, ApplicationMode.PUBLISHED
                     );
                 }
-            });
+            }).doOnNext(publishedTheme -> evictPublishedThemes(application.getPublishedModeThemeId(), publishedTheme.getId()));
         });
     }
 
@@ -302,6 +381,7 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepositoryCE, Theme, St
                 .flatMap(themeAndApplicationTuple -> {
                     Theme theme = themeAndApplicationTuple.getT1();
                     Application application = themeAndApplicationTuple.getT2();
+                    evictPublishedThemes(application.getPublishedModeThemeId());
                     theme.setId(null); // we'll create a copy so setting id to null
                     theme.setSystemTheme(false);
                     // A named theme differs from a non-named one by having an application id
@@ -363,9 +443,93 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepositoryCE, Theme, St
                 }).flatMap(analyticsService::sendDeleteEvent);
     }
 
+    /**
+     * Returns the system theme with the given name, ignoring case, in case the current user can read it. System themes
+     * are read from memory once they have been loaded, as they only change with migrations.
+     */
     @Override
     public Mono<Theme> getSystemTheme(String themeName) {
-        return repository.getSystemThemeByName(themeName);
+        final Map<String, Theme> themesByName = systemThemesByName;
+        if (themesByName == null) {
+            return repository.getSystemThemeByName(themeName);
+        }
+        if (themeName == null) {
+            return Mono.empty();
+        }
+        final Theme theme = themesByName.get(themeName.toLowerCase());
+        return theme == null ? Mono.empty() : copyForCurrentUser(theme);
+    }
+
+    private Mono<Theme> getSystemThemeById(String themeId) {
+        final Map<String, Theme> themesById = systemThemesById;
+        if (themesById == null) {
+            // Not loaded yet, the theme will be read from the DB whether it's a system theme or not
+            return Mono.empty();
+        }
+        final Theme theme = themesById.get(themeId);
+        return theme == null ? Mono.empty() : copyForCurrentUser(theme);
+    }
+
+    @Override
+    public Mono<Void> loadSystemThemes() {
+        return repository.findAllSystemThemes()
+                .collectList()
+                .doOnNext(themes -> {
+                    final Map<String, Theme> themesById = new HashMap<>();
+                    final Map<String, Theme> themesByName = new HashMap<>();
+                    for (Theme theme : themes) {
+                        themesById.put(theme.getId(), theme);
+                        if (theme.getName() != null) {
+                            themesByName.put(theme.getName().toLowerCase(), theme);
+                        }
+                    }
+                    systemThemesById = Map.copyOf(themesById);
+                    systemThemesByName = Map.copyOf(themesByName);
+                    final Theme defaultTheme = themesByName.get(Theme.DEFAULT_THEME_NAME);
+                    defaultThemeId = defaultTheme == null ? null : defaultTheme.getId();
+                    log.debug("Loaded {} system themes", themes.size());
+                })
+                .then();
+    }
+
+    // Themes held in memory are shared, so the callers get a deep copy which they are free to modify, down to the
+    // nested maps and lists of the config, properties and stylesheet of the theme.
+    private static Theme copyOf(Theme theme) {
+        Theme copy = new Theme();
+        BeanUtils.copyProperties(theme, copy);
+        copy.setConfig(deepCopyOf(theme.getConfig()));
+        copy.setProperties(deepCopyOf(theme.getProperties()));
+        copy.setStylesheet(deepCopyOf(theme.getStylesheet()));
+        if (theme.getPolicies() != null) {
+            final Set<Policy> policies = new HashSet<>();
+            for (Policy policy : theme.getPolicies()) {
+                policies.add(Policy.builder()
+                        .permission(policy.getPermission())
+                        .permissionGroups(policy.getPermissionGroups() == null ? null : new HashSet<>(policy.getPermissionGroups()))
+                        .build());
+            }
+            copy.setPolicies(policies);
+        }
+        copy.setUserPermissions(new HashSet<>(theme.getUserPermissions()));
+        return copy;
+    }
+
+    // Theme values are read from JSON documents, so they are made of maps, lists and immutable scalars.
+    @SuppressWarnings("unchecked")
+    private static <T> T deepCopyOf(T value) {
+        if (value instanceof Map) {
+            final Map<Object, Object> copy = new LinkedHashMap<>();
+            ((Map<Object, Object>) value).forEach((key, item) -> copy.put(key, deepCopyOf(item)));
+            return (T) copy;
+        }
+        if (value instanceof Collection) {
+            final List<Object> copy = new ArrayList<>();
+            for (Object item : (Collection<Object>) value) {
+                copy.add(deepCopyOf(item));
+            }
+            return (T) copy;
+        }
+        return value;
     }
 
 
@@ -399,10 +563,10 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepositoryCE, Theme, St
     @Override
     public Mono<Theme> getOrSaveTheme(Theme theme, Application destApplication) {
         if (theme == null) { // this application was exported without theme, assign the legacy theme to it
-            return repository.getSystemThemeByName(Theme.LEGACY_THEME_NAME); // return the default theme
+            return getSystemTheme(Theme.LEGACY_THEME_NAME); // return the default theme
         } else if (theme.isSystemTheme()) {
-            return repository.getSystemThemeByName(theme.getName())
-                    .switchIfEmpty(repository.getSystemThemeByName(Theme.DEFAULT_THEME_NAME));
+            return getSystemTheme(theme.getName())
+                    .switchIfEmpty(Mono.defer(() -> getSystemTheme(Theme.DEFAULT_THEME_NAME)));
         } else {
             // create a new theme
             Theme newTheme = new Theme();
@@ -428,6 +592,7 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepositoryCE, Theme, St
      */
     @Override
     public Mono<Application> archiveApplicationThemes(Application application) {
+        evictPublishedThemes(application.getPublishedModeThemeId());
         return repository.archiveByApplicationId(application.getId())
                 .then(repository.archiveDraftThemesById(application.getEditModeThemeId(), application.getPublishedModeThemeId()))
                 .thenReturn(application);
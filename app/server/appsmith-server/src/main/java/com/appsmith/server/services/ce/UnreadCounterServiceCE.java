@@ -0,0 +1,32 @@
+package com.appsmith.server.services.ce;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface UnreadCounterServiceCE {
+
+    /**
+     * Returns the count of the user's counter in the scope. When there is no such counter, or when it was last counted
+     * too long ago, counts with the given count publisher instead, and stores the result as the counter unless the
+     * counter was changed or dropped while counting.
+     */
+    Mono<Long> getCount(String username, String scope, Mono<Long> countMono);
+
+    /**
+     * Drops the counters of the users in the scope, for them to be counted again the next time they are read.
+     */
+    Mono<Void> invalidate(Collection<String> usernames, String scope);
+
+    /**
+     * Drops the counters of all the users in the scope, for them to be counted again the next time they are read.
+     */
+    Mono<Void> invalidate(String scope);
+
+    /**
+     * Drops all the counters of the users, for them to be counted again the next time they are read. To be used when
+     * what the users can read changes.
+     */
+    Mono<Void> invalidateUsers(Collection<String> usernames);
+
+}
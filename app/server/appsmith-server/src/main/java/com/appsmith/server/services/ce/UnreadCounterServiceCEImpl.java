@@ -0,0 +1,95 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.domains.UnreadCounter;
+import com.appsmith.server.repositories.ce.UnreadCounterRepositoryCE;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Counters are best effort. Writes to the counted things drop the counters instead of adding to them, since a write
+ * and an addition can't be ordered against a count running at the same time. A counter whose drop fails may be off
+ * until it is counted again. A counter that is dropped while it is being counted is not stored, and is counted again
+ * on the next read. Counters are counted again at least every {@link #COUNTER_TTL}, which bounds how long they can be
+ * off for.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class UnreadCounterServiceCEImpl implements UnreadCounterServiceCE {
+
+    private static final Duration COUNTER_TTL = Duration.ofMinutes(15);
+
+    private final UnreadCounterRepositoryCE repository;
+
+    @Override
+    public Mono<Long> getCount(String username, String scope, Mono<Long> countMono) {
+        final Instant countedAfter = Instant.now().minus(COUNTER_TTL);
+        return repository.findByUsernameAndScope(username, scope)
+                .switchIfEmpty(Mono.defer(() -> repository.createIfAbsent(username, scope)))
+                .map(Optional::of)
+                .onErrorResume(error -> {
+                    log.warn("Error while reading the unread counter of scope {}", scope, error);
+                    return Mono.just(Optional.empty());
+                })
+                .flatMap(counter -> {
+                    if (counter.isPresent() && isCountedAfter(counter.get(), countedAfter)) {
+                        return Mono.just(counter.get().getCount());
+                    }
+
+                    return countMono.flatMap(count -> counter
+                            .map(storedCounter -> repository
+                                    .setCount(username, scope, count, storedCounter.getVersion())
+                                    .onErrorResume(error -> {
+                                        log.warn("Error while saving the unread counter of scope {}", scope, error);
+                                        return Mono.empty();
+                                    })
+                                    .thenReturn(count))
+                            .orElseGet(() -> Mono.just(count)));
+                });
+    }
+
+    private static boolean isCountedAfter(UnreadCounter counter, Instant countedAfter) {
+        return counter.getCount() != null
+                && counter.getUpdatedAt() != null
+                && counter.getUpdatedAt().isAfter(countedAfter);
+    }
+
+    @Override
+    public Mono<Void> invalidate(Collection<String> usernames, String scope) {
+        return repository.deleteByUsernamesAndScope(usernames, scope)
+                .onErrorResume(error -> {
+                    log.warn("Error while dropping the unread counters of scope {}", scope, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    @Override
+    public Mono<Void> invalidate(String scope) {
+        return repository.deleteByScope(scope)
+                .onErrorResume(error -> {
+                    log.warn("Error while dropping the unread counters of scope {}", scope, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    @Override
+    public Mono<Void> invalidateUsers(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return repository.deleteByUsernames(usernames)
+                .onErrorResume(error -> {
+                    log.warn("Error while dropping the unread counters of {} users", usernames.size(), error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
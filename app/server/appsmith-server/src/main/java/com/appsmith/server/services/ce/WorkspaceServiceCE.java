@@ -33,6 +33,8 @@ public interface WorkspaceServiceCE extends CrudService<Workspace, String> {
 
     Flux<Workspace> getAll(AclPermission permission);
 
+    Flux<Workspace> getAll(List<String> includeFields, AclPermission permission);
+
     Mono<List<PermissionGroupInfoDTO>> getPermissionGroupsForWorkspace(String workspaceId);
 
     Mono<Workspace> uploadLogo(String workspaceId, Part filePart);
@@ -602,4 +602,9 @@ public class WorkspaceServiceCEImpl extends BaseService<WorkspaceRepository, Wor
         return repository.findAll(permission);
     }
 
+    @Override
+    public Flux<Workspace> getAll(List<String> includeFields, AclPermission permission) {
+        return repository.findAll(includeFields, permission);
+    }
+
 }
@@ -6,6 +6,7 @@ import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.ApplicationService;
 import com.appsmith.server.services.DatasourceService;
+import com.appsmith.server.services.DatasourceStructureService;
 import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.NewPageService;
 import com.appsmith.server.services.PluginService;
@@ -27,9 +28,11 @@ public class CreateDBTablePageSolutionImpl extends CreateDBTablePageSolutionCEIm
                                          AnalyticsService analyticsService,
                                          SessionUserService sessionUserService,
                                          ResponseUtils responseUtils,
-                                         PluginExecutorHelper pluginExecutorHelper) {
+                                         PluginExecutorHelper pluginExecutorHelper,
+                                         DatasourceStructureService datasourceStructureService) {
 
         super(datasourceService, newPageService, layoutActionService, applicationPageService, applicationService,
-                pluginService, analyticsService, sessionUserService, responseUtils, pluginExecutorHelper);
+                pluginService, analyticsService, sessionUserService, responseUtils, pluginExecutorHelper,
+                datasourceStructureService);
     }
 }
\ No newline at end of file
@@ -1,10 +1,10 @@
 package com.appsmith.server.solutions;
 
 import com.appsmith.server.helpers.PluginExecutorHelper;
-import com.appsmith.server.repositories.CustomDatasourceRepository;
 import com.appsmith.server.services.AuthenticationValidator;
 import com.appsmith.server.services.DatasourceContextService;
 import com.appsmith.server.services.DatasourceService;
+import com.appsmith.server.services.DatasourceStructureService;
 import com.appsmith.server.services.PluginService;
 import com.appsmith.server.solutions.ce.DatasourceStructureSolutionCEImpl;
 import lombok.extern.slf4j.Slf4j;
@@ -18,10 +18,10 @@ public class DatasourceStructureSolutionImpl extends DatasourceStructureSolution
                                            PluginExecutorHelper pluginExecutorHelper,
                                            PluginService pluginService,
                                            DatasourceContextService datasourceContextService,
-                                           CustomDatasourceRepository datasourceRepository,
+                                           DatasourceStructureService datasourceStructureService,
                                            AuthenticationValidator authenticationValidator) {
 
-        super(datasourceService, pluginExecutorHelper, pluginService, datasourceContextService, datasourceRepository,
+        super(datasourceService, pluginExecutorHelper, pluginService, datasourceContextService, datasourceStructureService,
                 authenticationValidator);
     }
 }
@@ -1,6 +1,9 @@
 package com.appsmith.server.solutions;
 
+import com.appsmith.server.repositories.ActionCollectionRepository;
+import com.appsmith.server.repositories.ApplicationRepository;
 import com.appsmith.server.repositories.DatasourceRepository;
+import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.repositories.NewPageRepository;
 import com.appsmith.server.repositories.WorkspaceRepository;
 import com.appsmith.server.services.ActionCollectionService;
@@ -8,9 +11,9 @@ import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.ApplicationService;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.services.DatasourceService;
-import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.LayoutCollectionService;
 import com.appsmith.server.services.NewActionService;
+import com.appsmith.server.services.NewPageService;
 import com.appsmith.server.services.WorkspaceService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.ThemeService;
@@ -33,14 +36,18 @@ public class ExamplesWorkspaceClonerImpl extends ExamplesWorkspaceClonerCEImpl i
                                           ApplicationService applicationService,
                                           ApplicationPageService applicationPageService,
                                           NewPageRepository newPageRepository,
+                                          NewPageService newPageService,
                                           NewActionService newActionService,
-                                          LayoutActionService layoutActionService,
+                                          NewActionRepository newActionRepository,
                                           ActionCollectionService actionCollectionService,
+                                          ActionCollectionRepository actionCollectionRepository,
+                                          ApplicationRepository applicationRepository,
                                           LayoutCollectionService layoutCollectionService,
                                           ThemeService themeService) {
 
         super(workspaceService, workspaceRepository, datasourceService, datasourceRepository, configService,
                 sessionUserService, userService, applicationService, applicationPageService, newPageRepository,
-                newActionService, layoutActionService, actionCollectionService, layoutCollectionService, themeService);
+                newPageService, newActionService, newActionRepository, actionCollectionService,
+                actionCollectionRepository, applicationRepository, layoutCollectionService, themeService);
     }
 }
@@ -1,10 +1,13 @@
 package com.appsmith.server.solutions.ce;
 
 import com.appsmith.server.dtos.UserHomepageDTO;
+import com.appsmith.server.dtos.WorkspaceApplicationsPageDTO;
 import reactor.core.publisher.Mono;
 
 public interface ApplicationFetcherCE {
 
     Mono<UserHomepageDTO> getAllApplications();
 
+    Mono<WorkspaceApplicationsPageDTO> getApplicationsPage(Integer page, Integer size, boolean includeMembers);
+
 }
@@ -2,8 +2,11 @@ package com.appsmith.server.solutions.ce;
 
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.server.domains.Application;
+import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.ApplicationPage;
 import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.QApplication;
+import com.appsmith.server.domains.QWorkspace;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.UserData;
 import com.appsmith.server.domains.Workspace;
@@ -12,6 +15,7 @@ import com.appsmith.server.dtos.ReleaseNode;
 import com.appsmith.server.dtos.UserAndPermissionGroupDTO;
 import com.appsmith.server.dtos.UserHomepageDTO;
 import com.appsmith.server.dtos.WorkspaceApplicationsDTO;
+import com.appsmith.server.dtos.WorkspaceApplicationsPageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.ResponseUtils;
@@ -37,12 +41,14 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.appsmith.server.acl.AclPermission.READ_APPLICATIONS;
 import static com.appsmith.server.acl.AclPermission.READ_PAGES;
 import static com.appsmith.server.acl.AclPermission.READ_WORKSPACES;
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
 
 
 @Slf4j
@@ -64,6 +70,44 @@ public class ApplicationFetcherCEImpl implements ApplicationFetcherCE {
     private final NewPageService newPageService;
     private final UserWorkspaceService userWorkspaceService;
 
+    private static final int DEFAULT_HOMEPAGE_WORKSPACES_PAGE_SIZE = 20;
+    private static final int MAX_HOMEPAGE_WORKSPACES_PAGE_SIZE = 100;
+
+    // Fields of the workspaces that are shown on the homepage. Policies are needed to compute the user's permissions.
+    private static final List<String> HOMEPAGE_WORKSPACE_FIELDS = List.of(
+            fieldName(QWorkspace.workspace.id),
+            fieldName(QWorkspace.workspace.name),
+            fieldName(QWorkspace.workspace.slug),
+            fieldName(QWorkspace.workspace.logoAssetId),
+            fieldName(QWorkspace.workspace.tenantId),
+            fieldName(QWorkspace.workspace.isAutoGeneratedWorkspace),
+            fieldName(QWorkspace.workspace.policies)
+    );
+
+    // Fields of the applications that are shown on the homepage, or are needed to open them from there.
+    private static final List<String> HOMEPAGE_APPLICATION_FIELDS = List.of(
+            fieldName(QApplication.application.id),
+            fieldName(QApplication.application.name),
+            fieldName(QApplication.application.workspaceId),
+            fieldName(QApplication.application.isPublic),
+            fieldName(QApplication.application.pages),
+            fieldName(QApplication.application.publishedPages),
+            fieldName(QApplication.application.color),
+            fieldName(QApplication.application.icon),
+            fieldName(QApplication.application.slug),
+            fieldName(QApplication.application.gitApplicationMetadata),
+            fieldName(QApplication.application.lastDeployedAt),
+            fieldName(QApplication.application.lastEditedAt),
+            fieldName(QApplication.application.evaluationVersion),
+            fieldName(QApplication.application.applicationVersion),
+            fieldName(QApplication.application.forkingEnabled),
+            fieldName(QApplication.application.isManualUpdate),
+            fieldName(QApplication.application.modifiedBy),
+            fieldName(QApplication.application.defaultResources),
+            fieldName(QApplication.application.cloneInProgress),
+            fieldName(QApplication.application.policies)
+    );
+
     private <Domain extends BaseDomain> Flux<Domain> sortDomain(Flux<Domain> domainFlux, List<String> sortOrder) {
         if (CollectionUtils.isEmpty(sortOrder)) {
             return domainFlux;
@@ -118,16 +162,8 @@ public class ApplicationFetcherCEImpl implements ApplicationFetcherCE {
                             .findAllUserApps(READ_APPLICATIONS)
                             //sort transformation
                             .transform(domainFlux -> sortDomain(domainFlux, userData.getRecentlyUsedAppIds()))
-                            // Git connected apps will have gitApplicationMetadat
-                            .filter(application -> application.getGitApplicationMetadata() == null
-                                            // 1. When the ssh key is generated by user and then the connect app fails
-                                            || (StringUtils.isEmpty(application.getGitApplicationMetadata().getDefaultBranchName())
-                                                && StringUtils.isEmpty(application.getGitApplicationMetadata().getBranchName()))
-                                            // 2. When the DefaultBranchName is missing due to branch creation flow failures or corrupted scenarios
-                                            || (!StringUtils.isEmpty(application.getGitApplicationMetadata().getBranchName())
-                                                && application.getGitApplicationMetadata().getBranchName().equals(application.getGitApplicationMetadata().getDefaultBranchName())
-                                    )
-                            )
+                            .filter(ApplicationFetcherCEImpl::isDefaultBranchApplication)
+                            .filter(ApplicationFetcherCEImpl::isNotCloneInProgress)
                             .map(responseUtils::updateApplicationWithDefaultResources);
 
                     Mono<Map<String, Collection<Application>>> applicationsMapMono = applicationFlux.collectMultimap(
@@ -223,6 +259,137 @@ public class ApplicationFetcherCEImpl implements ApplicationFetcherCE {
                 });
     }
 
+    /**
+     * Fetches a page of the workspaces the current user can read, in the order of their recent use, along with the
+     * applications in only those workspaces. Only the fields shown on the homepage are read for the workspaces and the
+     * applications. The members of the workspaces are included only if asked for, as they can otherwise be fetched
+     * per workspace when needed.
+     *
+     * @param page           Zero based index of the page of workspaces
+     * @param size           Number of workspaces per page
+     * @param includeMembers Whether to include the members of the workspaces in the page
+     * @return A page of workspaces with their applications
+     */
+    @Override
+    public Mono<WorkspaceApplicationsPageDTO> getApplicationsPage(Integer page, Integer size, boolean includeMembers) {
+        final int pageNumber = page == null ? 0 : page;
+        final int pageSize = size == null ? DEFAULT_HOMEPAGE_WORKSPACES_PAGE_SIZE : size;
+        if (pageNumber < 0) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.PAGE));
+        }
+        if (pageSize <= 0 || pageSize > MAX_HOMEPAGE_WORKSPACES_PAGE_SIZE) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.SIZE));
+        }
+
+        Mono<UserData> userDataMono = sessionUserService.getCurrentUser()
+                .flatMap(user -> {
+                    if (user.isAnonymous()) {
+                        return Mono.error(new AppsmithException(AppsmithError.USER_NOT_SIGNED_IN));
+                    }
+                    return userDataService.getForCurrentUser();
+                })
+                .defaultIfEmpty(new UserData());
+
+        return userDataMono.flatMap(userData -> workspaceService.getAll(HOMEPAGE_WORKSPACE_FIELDS, READ_WORKSPACES)
+                .transform(domainFlux -> sortDomain(domainFlux, userData.getRecentlyUsedWorkspaceIds()))
+                .collectList()
+                .flatMap(workspaces -> {
+                    final int fromIndex = (int) Math.min((long) pageNumber * pageSize, workspaces.size());
+                    final int toIndex = Math.min(fromIndex + pageSize, workspaces.size());
+                    final List<Workspace> workspacesInPage = workspaces.subList(fromIndex, toIndex);
+                    final Set<String> workspaceIds = workspacesInPage.stream()
+                            .map(Workspace::getId)
+                            .collect(Collectors.toSet());
+
+                    final WorkspaceApplicationsPageDTO pageDTO = new WorkspaceApplicationsPageDTO();
+                    pageDTO.setPage(pageNumber);
+                    pageDTO.setSize(pageSize);
+                    pageDTO.setTotalWorkspaces(workspaces.size());
+                    pageDTO.setHasMore(toIndex < workspaces.size());
+
+                    if (workspaceIds.isEmpty()) {
+                        pageDTO.setWorkspaceApplications(List.of());
+                        return Mono.just(pageDTO);
+                    }
+
+                    Mono<Map<String, Collection<Application>>> applicationsMapMono = applicationRepository
+                            .findByMultipleWorkspaceIds(workspaceIds, HOMEPAGE_APPLICATION_FIELDS, READ_APPLICATIONS)
+                            .transform(domainFlux -> sortDomain(domainFlux, userData.getRecentlyUsedAppIds()))
+                            .filter(ApplicationFetcherCEImpl::isDefaultBranchApplication)
+                            .filter(ApplicationFetcherCEImpl::isNotCloneInProgress)
+                            .map(responseUtils::updateApplicationWithDefaultResources)
+                            .collectList()
+                            .flatMap(this::setDefaultPageSlugs)
+                            .map(applications -> {
+                                Map<String, Collection<Application>> applicationsByWorkspaceId = new LinkedHashMap<>();
+                                for (Application application : applications) {
+                                    applicationsByWorkspaceId
+                                            .computeIfAbsent(application.getWorkspaceId(), id -> new ArrayList<>())
+                                            .add(application);
+                                }
+                                return applicationsByWorkspaceId;
+                            });
+
+                    Mono<Map<String, List<UserAndPermissionGroupDTO>>> membersMapMono = includeMembers
+                            ? userWorkspaceService.getWorkspaceMembers(workspaceIds)
+                            : Mono.just(Map.of());
+
+                    return Mono.zip(applicationsMapMono, membersMapMono)
+                            .map(tuple -> {
+                                final Map<String, Collection<Application>> applicationsByWorkspaceId = tuple.getT1();
+                                final Map<String, List<UserAndPermissionGroupDTO>> membersByWorkspaceId = tuple.getT2();
+
+                                List<WorkspaceApplicationsDTO> workspaceApplicationsDTOS = new ArrayList<>();
+                                for (Workspace workspace : workspacesInPage) {
+                                    WorkspaceApplicationsDTO workspaceApplicationsDTO = new WorkspaceApplicationsDTO();
+                                    workspaceApplicationsDTO.setWorkspace(workspace);
+                                    workspaceApplicationsDTO.setApplications(new ArrayList<>(
+                                            applicationsByWorkspaceId.getOrDefault(workspace.getId(), List.of())
+                                    ));
+                                    workspaceApplicationsDTO.setUsers(membersByWorkspaceId.get(workspace.getId()));
+                                    workspaceApplicationsDTOS.add(workspaceApplicationsDTO);
+                                }
+
+                                pageDTO.setWorkspaceApplications(workspaceApplicationsDTOS);
+                                return pageDTO;
+                            });
+                }));
+    }
+
+    private Mono<List<Application>> setDefaultPageSlugs(List<Application> applications) {
+        if (applications.isEmpty()) {
+            return Mono.just(applications);
+        }
+
+        List<String> applicationIds = applications.stream().map(BaseDomain::getId).collect(Collectors.toList());
+        return newPageService.findPageSlugsByApplicationIds(applicationIds, READ_PAGES)
+                .collectMultimap(NewPage::getApplicationId)
+                .map(applicationPageMap -> {
+                    for (Application application : applications) {
+                        setDefaultPageSlug(application, applicationPageMap, Application::getPages, NewPage::getUnpublishedPage);
+                        setDefaultPageSlug(application, applicationPageMap, Application::getPublishedPages, NewPage::getPublishedPage);
+                    }
+                    return applications;
+                });
+    }
+
+    // Git connected apps will have gitApplicationMetadata, only the default branch of those is shown on the homepage.
+    private static boolean isDefaultBranchApplication(Application application) {
+        return application.getGitApplicationMetadata() == null
+                // 1. When the ssh key is generated by user and then the connect app fails
+                || (StringUtils.isEmpty(application.getGitApplicationMetadata().getDefaultBranchName())
+                    && StringUtils.isEmpty(application.getGitApplicationMetadata().getBranchName()))
+                // 2. When the DefaultBranchName is missing due to branch creation flow failures or corrupted scenarios
+                || (!StringUtils.isEmpty(application.getGitApplicationMetadata().getBranchName())
+                    && application.getGitApplicationMetadata().getBranchName().equals(application.getGitApplicationMetadata().getDefaultBranchName()));
+    }
+
+    // A clone of an application is hidden until all of its pages are cloned. A clone that was interrupted stays hidden
+    // until it is resumed by the next clone of the same application into the workspace.
+    private static boolean isNotCloneInProgress(Application application) {
+        return !Boolean.TRUE.equals(application.getCloneInProgress());
+    }
+
     private void setDefaultPageSlug(
             Application application,
             Map<String, Collection<NewPage>> applicationPageMap,
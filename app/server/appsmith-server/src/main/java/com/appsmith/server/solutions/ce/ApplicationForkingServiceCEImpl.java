@@ -89,6 +89,8 @@ public class ApplicationForkingServiceCEImpl implements ApplicationForkingServic
         // and whenever the user refreshes the page, the sane forked application is available.
         // To achieve this, we use a synchronous sink which does not take subscription cancellations into account. This
         // means that even if the subscriber has cancelled its subscription, the create method still generates its event.
+        // If the fork is stopped midway anyway, e.g. by a restart, the next fork of the same application into the same
+        // workspace resumes it.
         return Mono.create(sink -> forkApplicationMono
                 .subscribe(sink::success, sink::error, null, sink.currentContext())
         );
@@ -33,6 +33,7 @@ import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.ApplicationService;
 import com.appsmith.server.services.DatasourceService;
+import com.appsmith.server.services.DatasourceStructureService;
 import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.NewPageService;
 import com.appsmith.server.services.PluginService;
@@ -82,6 +83,7 @@ public class CreateDBTablePageSolutionCEImpl implements CreateDBTablePageSolutio
     private final SessionUserService sessionUserService;
     private final ResponseUtils responseUtils;
     private final PluginExecutorHelper pluginExecutorHelper;
+    private final DatasourceStructureService datasourceStructureService;
 
     private static final String FILE_PATH = "CRUD-DB-Table-Template-Application.json";
 
@@ -188,6 +190,11 @@ public class CreateDBTablePageSolutionCEImpl implements CreateDBTablePageSolutio
                 .filter(Datasource::getIsValid)
                 .switchIfEmpty(Mono.error(
                         new AppsmithException(AppsmithError.INVALID_DATASOURCE, FieldName.DATASOURCE, datasourceId))
+                )
+                // The structure is stored apart from the datasource, and is used to map the template columns
+                .flatMap(datasource -> datasourceStructureService.getStructure(datasource)
+                        .doOnNext(datasource::setStructure)
+                        .thenReturn(datasource)
                 );
 
         return datasourceMono
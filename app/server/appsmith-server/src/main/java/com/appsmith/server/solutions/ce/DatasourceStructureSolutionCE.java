@@ -12,8 +12,16 @@ public interface DatasourceStructureSolutionCE {
 
     Mono<DatasourceStructure> getStructure(String datasourceId, boolean ignoreCache);
 
+    /**
+     * Gets the structure of the datasource. When the cache is ignored, the structure is fetched again from the plugin,
+     * incrementally if asked to, i.e. introspecting only what has changed since the stored structure was fetched.
+     */
+    Mono<DatasourceStructure> getStructure(String datasourceId, boolean ignoreCache, boolean incremental);
+
     Mono<DatasourceStructure> getStructure(Datasource datasource, boolean ignoreCache);
 
+    Mono<DatasourceStructure> getStructure(Datasource datasource, boolean ignoreCache, boolean incremental);
+
     Mono<ActionExecutionResult> getDatasourceMetadata(String datasourceId, List<Property> pluginSpecifiedTemplates);
 
 }
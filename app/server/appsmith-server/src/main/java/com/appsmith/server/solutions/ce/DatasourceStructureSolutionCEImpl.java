@@ -14,10 +14,10 @@ import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.PluginExecutorHelper;
-import com.appsmith.server.repositories.CustomDatasourceRepository;
 import com.appsmith.server.services.AuthenticationValidator;
 import com.appsmith.server.services.DatasourceContextService;
 import com.appsmith.server.services.DatasourceService;
+import com.appsmith.server.services.DatasourceStructureService;
 import com.appsmith.server.services.PluginService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,7 +27,10 @@ import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -39,12 +42,22 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
     private final PluginExecutorHelper pluginExecutorHelper;
     private final PluginService pluginService;
     private final DatasourceContextService datasourceContextService;
-    private final CustomDatasourceRepository datasourceRepository;
+    private final DatasourceStructureService datasourceStructureService;
     private final AuthenticationValidator authenticationValidator;
 
+    // Fetches of the structure that are running, by the id of their datasource and whether they are incremental. A fetch
+    // that is asked for while another one of the same kind is running for the same datasource waits for that one,
+    // instead of introspecting the database again. A full fetch doesn't wait for an incremental one, as that would give
+    // back a structure built on top of the stored one, which the full fetch is asked for to start over from.
+    private final Map<String, Mono<DatasourceStructure>> runningStructureFetches = new ConcurrentHashMap<>();
+
     public Mono<DatasourceStructure> getStructure(String datasourceId, boolean ignoreCache) {
+        return getStructure(datasourceId, ignoreCache, true);
+    }
+
+    public Mono<DatasourceStructure> getStructure(String datasourceId, boolean ignoreCache, boolean incremental) {
         return datasourceService.getById(datasourceId)
-                .flatMap(datasource -> getStructure(datasource, ignoreCache))
+                .flatMap(datasource -> getStructure(datasource, ignoreCache, incremental))
                 .defaultIfEmpty(new DatasourceStructure())
                 .onErrorMap(
                         IllegalArgumentException.class,
@@ -69,16 +82,52 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
     }
 
     public Mono<DatasourceStructure> getStructure(Datasource datasource, boolean ignoreCache) {
+        return getStructure(datasource, ignoreCache, true);
+    }
+
+    public Mono<DatasourceStructure> getStructure(Datasource datasource, boolean ignoreCache, boolean incremental) {
         if (!CollectionUtils.isEmpty(datasource.getInvalids())) {
             // Don't attempt to get structure for invalid datasources.
             return Mono.empty();
         }
 
-        if (!ignoreCache && datasource.getStructure() != null) {
-            // Return the cached structure if available.
-            return Mono.just(datasource.getStructure());
+        if (datasource.getId() == null) {
+            return fetchStructure(datasource, null).then(Mono.empty());
+        }
+
+        final Mono<DatasourceStructure> storedStructureMono = datasourceStructureService.getStructure(datasource);
+        if (!ignoreCache) {
+            // Return the stored structure if available.
+            return storedStructureMono
+                    .switchIfEmpty(Mono.defer(() -> fetchAndSaveStructure(datasource, null)));
+        }
+
+        if (!incremental) {
+            return fetchAndSaveStructure(datasource, null);
         }
 
+        return storedStructureMono
+                .flatMap(storedStructure -> fetchAndSaveStructure(datasource, storedStructure))
+                .switchIfEmpty(Mono.defer(() -> fetchAndSaveStructure(datasource, null)));
+    }
+
+    private Mono<DatasourceStructure> fetchAndSaveStructure(Datasource datasource, DatasourceStructure previousStructure) {
+        final String fetchKey = datasource.getId() + (previousStructure == null ? ":full" : ":incremental");
+        return Mono.defer(() -> {
+            // Only this fetch is removed once it's done, and not another fetch that has been put in its place since.
+            final AtomicReference<Mono<DatasourceStructure>> fetchReference = new AtomicReference<>();
+            final Mono<DatasourceStructure> fetch = fetchStructure(datasource, previousStructure)
+                    .flatMap(structure -> datasourceStructureService.saveStructure(datasource, structure).thenReturn(structure))
+                    .doFinally(signalType -> runningStructureFetches.remove(fetchKey, fetchReference.get()))
+                    .cache();
+            fetchReference.set(fetch);
+
+            final Mono<DatasourceStructure> runningFetch = runningStructureFetches.putIfAbsent(fetchKey, fetch);
+            return runningFetch != null ? runningFetch : fetch;
+        });
+    }
+
+    private Mono<DatasourceStructure> fetchStructure(Datasource datasource, DatasourceStructure previousStructure) {
         // This mono, when computed, will load the structure of the datasource by calling the plugin method.
         return pluginExecutorHelper
                 .getPluginExecutor(pluginService.findById(datasource.getPluginId()))
@@ -86,8 +135,11 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                 .flatMap(pluginExecutor -> datasourceContextService
                         .retryOnce(
                                 datasource,
-                                resourceContext -> ((PluginExecutor<Object>) pluginExecutor)
-                                        .getStructure(resourceContext.getConnection(), datasource.getDatasourceConfiguration())
+                                resourceContext -> ((PluginExecutor<Object>) pluginExecutor).getStructure(
+                                        resourceContext.getConnection(),
+                                        datasource.getDatasourceConfiguration(),
+                                        previousStructure
+                                )
                         )
                 )
                 .timeout(Duration.ofSeconds(GET_STRUCTURE_TIMEOUT_SECONDS))
@@ -123,11 +175,7 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                     }
 
                     return e;
-                })
-                .flatMap(structure -> datasource.getId() == null
-                        ? Mono.empty()
-                        : datasourceRepository.saveStructure(datasource.getId(), structure).thenReturn(structure)
-                );
+                });
     }
 
     /**
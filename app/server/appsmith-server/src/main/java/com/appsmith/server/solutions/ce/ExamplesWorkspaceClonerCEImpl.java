@@ -1,7 +1,5 @@
 package com.appsmith.server.solutions.ce;
 
-import com.appsmith.external.helpers.AppsmithEventContext;
-import com.appsmith.external.helpers.AppsmithEventContextType;
 import com.appsmith.external.models.AuthenticationDTO;
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.Datasource;
@@ -12,6 +10,7 @@ import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationPage;
 import com.appsmith.server.domains.Layout;
+import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.Workspace;
 import com.appsmith.server.domains.Theme;
@@ -22,7 +21,11 @@ import com.appsmith.server.dtos.DslActionDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.TextUtils;
+import com.appsmith.server.repositories.ActionCollectionRepository;
+import com.appsmith.server.repositories.ApplicationRepository;
 import com.appsmith.server.repositories.DatasourceRepository;
+import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.repositories.NewPageRepository;
 import com.appsmith.server.repositories.WorkspaceRepository;
 import com.appsmith.server.services.ActionCollectionService;
@@ -30,13 +33,14 @@ import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.ApplicationService;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.services.DatasourceService;
-import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.LayoutCollectionService;
 import com.appsmith.server.services.NewActionService;
+import com.appsmith.server.services.NewPageService;
 import com.appsmith.server.services.WorkspaceService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.ThemeService;
 import com.appsmith.server.services.UserService;
+import com.google.common.hash.Hashing;
 import com.mongodb.client.result.UpdateResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,18 +50,31 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 public class ExamplesWorkspaceClonerCEImpl implements ExamplesWorkspaceClonerCE {
 
+    // How long a clone of an application is held by the fork working on it, before another fork may resume it. Cloning
+    // an application takes seconds, so a clone still in progress after this was interrupted.
+    private static final Duration CLONE_LEASE_DURATION = Duration.ofMinutes(10);
+
     private final WorkspaceService workspaceService;
     private final WorkspaceRepository workspaceRepository;
     private final DatasourceService datasourceService;
@@ -68,9 +85,12 @@ public class ExamplesWorkspaceClonerCEImpl implements ExamplesWorkspaceClonerCE
     private final ApplicationService applicationService;
     private final ApplicationPageService applicationPageService;
     private final NewPageRepository newPageRepository;
+    private final NewPageService newPageService;
     private final NewActionService newActionService;
-    private final LayoutActionService layoutActionService;
+    private final NewActionRepository newActionRepository;
     private final ActionCollectionService actionCollectionService;
+    private final ActionCollectionRepository actionCollectionRepository;
+    private final ApplicationRepository applicationRepository;
     private final LayoutCollectionService layoutCollectionService;
     private final ThemeService themeService;
 
@@ -169,230 +189,343 @@ public class ExamplesWorkspaceClonerCEImpl implements ExamplesWorkspaceClonerCE
     /**
      * Clone all applications (except deleted ones), including it's pages and actions from one workspace into
      * another. Also clones all datasources (not just the ones used by any applications) in the given workspace.
+     * <p>
+     * The pages, actions and action collections of an application are read all at once, rewritten in memory to refer
+     * to each other's clones, and inserted with a single bulk insert per collection. They're inserted already published,
+     * so the clone is published with a single update of the application at the end. As the ids of the clones are derived
+     * from the ids of the cloned application and the source documents, a clone that was interrupted is resumed, by the
+     * next clone of the same application into the same workspace, without duplicating anything.
      *
      * @param toWorkspaceId   ID of the workspace that is the target to copy objects to.
-     * @return Empty Mono.
+     * @return Publishes the IDs of the cloned applications.
      */
     public Mono<List<String>> cloneApplications(
             String toWorkspaceId,
             Flux<Application> applicationFlux,
             Flux<Datasource> datasourceFlux
     ) {
-        final List<NewPage> clonedPages = new ArrayList<>();
-        final List<String> newApplicationIds = new ArrayList<>();
-
         // A map of datasourceId => {a cached Mono that clones this datasource and yields the new datasource }.
-        final Map<String, Mono<Datasource>> cloneDatasourceMonos = new HashMap<>();
+        final Map<String, Mono<Datasource>> cloneDatasourceMonos = new ConcurrentHashMap<>();
 
         return datasourceFlux
-                .flatMap(datasource -> {
-                    final String datasourceId = datasource.getId();
-                    final Mono<Datasource> clonerMono = cloneDatasource(datasourceId, toWorkspaceId);
-                    cloneDatasourceMonos.put(datasourceId, clonerMono.cache());
-                    return clonerMono;
-                })
+                .flatMap(datasource -> getClonedDatasource(datasource.getId(), toWorkspaceId, cloneDatasourceMonos))
                 .thenMany(applicationFlux)
-                .flatMap(application -> {
-                    application.setWorkspaceId(toWorkspaceId);
-
-                    final String defaultPageId = application.getPages().stream()
-                            .filter(ApplicationPage::isDefault)
-                            .map(ApplicationPage::getId)
-                            .findFirst()
-                            .orElse("");
-
-                    return doOnlyCloneApplicationObjectWithoutItsDependenciesAndReturnNonDeletedPages(application, newApplicationIds)
-                            .flatMap(page ->
-                                    Mono.zip(
-                                            Mono.just(page),
-                                            Mono.just(defaultPageId.equals(page.getId()))
-                                    )
-                            );
-                })
-                .flatMap(tuple -> {
-                    final NewPage newPage = tuple.getT1();
-                    final boolean isDefault = tuple.getT2();
-                    final String templatePageId = newPage.getId();
-                    DefaultResources defaults = new DefaultResources();
-                    defaults.setApplicationId(newPage.getApplicationId());
-                    newPage.setDefaultResources(defaults);
-                    makePristine(newPage);
-                    PageDTO page = newPage.getUnpublishedPage();
-
-                    if (page.getLayouts() != null) {
-                        for (final Layout layout : page.getLayouts()) {
-                            layout.setId(new ObjectId().toString());
-                        }
-                    }
+                // Applications are cloned one after the other, so that only one of them is held in memory at a time.
+                .concatMap(application -> cloneApplication(application, toWorkspaceId, cloneDatasourceMonos))
+                .collectList();
+    }
 
-                    page.setApplicationId(newPage.getApplicationId());
-                    page.setDefaultResources(defaults);
-                    return applicationPageService
-                            .createPage(page)
-                            .flatMap(savedPage ->
-                                    isDefault
-                                            ? applicationPageService.makePageDefault(savedPage).thenReturn(savedPage)
-                                            : Mono.just(savedPage))
-                            .flatMap(savedPage -> newPageRepository.findById(savedPage.getId()))
-                            .flatMap(savedPage -> {
-                                clonedPages.add(savedPage);
-                                return newActionService
-                                        .findByPageId(templatePageId)
-                                        .map(newAction -> {
-                                            ActionDTO action = newAction.getUnpublishedAction();
-                                            log.info("Preparing action for cloning {} {}.", action.getName(), newAction.getId());
-                                            action.setPageId(savedPage.getId());
-                                            action.setDefaultResources(null);
-                                            return newAction;
-                                        })
-                                        .flatMap(newAction -> {
-                                            final String originalActionId = newAction.getId();
-                                            log.info("Creating clone of action {}", originalActionId);
-                                            makePristine(newAction);
-                                            newAction.setWorkspaceId(toWorkspaceId);
-                                            ActionDTO action = newAction.getUnpublishedAction();
-                                            action.setCollectionId(null);
-
-                                            Mono<ActionDTO> actionMono = Mono.just(action);
-                                            final Datasource datasourceInsideAction = action.getDatasource();
-                                            if (datasourceInsideAction != null) {
-                                                if (datasourceInsideAction.getId() != null) {
-                                                    final String datasourceId = datasourceInsideAction.getId();
-                                                    if (!cloneDatasourceMonos.containsKey(datasourceId)) {
-                                                        cloneDatasourceMonos.put(datasourceId, cloneDatasource(datasourceId, toWorkspaceId).cache());
-                                                    }
-                                                    actionMono = cloneDatasourceMonos.get(datasourceId)
-                                                            .map(newDatasource -> {
-                                                                action.setDatasource(newDatasource);
-                                                                return action;
-                                                            });
-                                                } else {
-                                                    datasourceInsideAction.setWorkspaceId(toWorkspaceId);
-                                                }
-                                            }
-                                            return Mono.zip(actionMono
-                                                            .flatMap(actionDTO -> layoutActionService.createAction(
-                                                                    actionDTO, new AppsmithEventContext(AppsmithEventContextType.CLONE_PAGE))
-                                                            )
-                                                            .map(ActionDTO::getId),
-                                                    Mono.justOrEmpty(originalActionId));
-                                        })
-                                        // This call to `collectMap` will wait for all actions in all pages to have been processed, and so the
-                                        // `clonedPages` list will also contain all pages cloned.
-                                        .collect(HashMap<String, String>::new, (map, tuple2) -> map.put(tuple2.getT2(), tuple2.getT1()))
-                                        .flatMap(actionIdsMap -> {
-                                            // Map of <originalCollectionId, clonedActionCollectionIds>
-                                            HashMap<String, String> collectionIdsMap = new HashMap<>();
-                                            // Pick all action collections
-                                            return actionCollectionService
-                                                    .findByPageId(templatePageId)
-                                                    .flatMap(actionCollection -> {
-                                                        // Keep a record of the original collection id
-                                                        final String originalCollectionId = actionCollection.getId();
-                                                        log.info("Creating clone of action collection {}", originalCollectionId);
-                                                        // Sanitize them
-                                                        makePristine(actionCollection);
-                                                        actionCollection.setPublishedCollection(null);
-                                                        final ActionCollectionDTO unpublishedCollection = actionCollection.getUnpublishedCollection();
-                                                        unpublishedCollection.setPageId(savedPage.getId());
-
-                                                        DefaultResources defaultResources = new DefaultResources();
-                                                        defaultResources.setPageId(savedPage.getId());
-                                                        unpublishedCollection.setDefaultResources(defaultResources);
-
-                                                        actionCollection.setWorkspaceId(toWorkspaceId);
-                                                        actionCollection.setApplicationId(savedPage.getApplicationId());
-
-                                                        DefaultResources defaultResources1 = new DefaultResources();
-                                                        defaultResources1.setApplicationId(savedPage.getApplicationId());
-                                                        actionCollection.setDefaultResources(defaultResources1);
-
-                                                        actionCollectionService.generateAndSetPolicies(savedPage, actionCollection);
-
-                                                        // Replace all action Ids from map and replace with newly created actionIds
-                                                        final Map<String, String> newActionIds = new HashMap<>();
-                                                        unpublishedCollection
-                                                                .getDefaultToBranchedActionIdsMap()
-                                                                .forEach((defaultActionId, oldActionId) -> {
-                                                                    if (StringUtils.hasLength(oldActionId)
-                                                                            && StringUtils.hasLength(actionIdsMap.get(oldActionId))) {
-
-                                                                        // As this is a new application and not connected
-                                                                        // through git branch, the default and newly
-                                                                        // created actionId will be same
-                                                                        newActionIds
-                                                                            .put(actionIdsMap.get(oldActionId), actionIdsMap.get(oldActionId));
-                                                                    } else {
-                                                                        log.debug("Unable to find action {} while forking inside ID map: {}", oldActionId, actionIdsMap);
-                                                                    }
-                                                                });
-
-                                                        unpublishedCollection.setDefaultToBranchedActionIdsMap(newActionIds);
-
-                                                        return actionCollectionService.create(actionCollection)
-                                                                .flatMap(clonedActionCollection -> {
-                                                                    if (StringUtils.isEmpty(clonedActionCollection.getDefaultResources().getCollectionId())) {
-                                                                        ActionCollection updates = new ActionCollection();
-                                                                        DefaultResources defaultResources2 = clonedActionCollection.getDefaultResources();
-                                                                        defaultResources2.setCollectionId(clonedActionCollection.getId());
-                                                                        updates.setDefaultResources(defaultResources2);
-                                                                        return actionCollectionService.update(clonedActionCollection.getId(), updates);
-                                                                    }
-                                                                    return Mono.just(clonedActionCollection);
-                                                                })
-                                                                .flatMap(clonedActionCollection -> {
-                                                                    collectionIdsMap.put(originalCollectionId, clonedActionCollection.getId());
-                                                                    return Flux.fromIterable(newActionIds.values())
-                                                                            .flatMap(newActionService::findById)
-                                                                            .flatMap(newlyCreatedAction -> {
-                                                                                ActionDTO unpublishedAction = newlyCreatedAction.getUnpublishedAction();
-                                                                                unpublishedAction.setCollectionId(clonedActionCollection.getId());
-                                                                                unpublishedAction.getDefaultResources().setCollectionId(clonedActionCollection.getId());
-                                                                                return newActionService.update(newlyCreatedAction.getId(), newlyCreatedAction);
-                                                                            })
-                                                                            .collectList();
-                                                                });
-                                                    })
-                                                    .collectList()
-                                                    .then(Mono.zip(Mono.just(actionIdsMap), Mono.just(collectionIdsMap)));
-                                        });
-                            });
+    private Mono<Datasource> getClonedDatasource(String datasourceId,
+                                                 String toWorkspaceId,
+                                                 Map<String, Mono<Datasource>> cloneDatasourceMonos) {
+        return cloneDatasourceMonos.computeIfAbsent(datasourceId, id -> cloneDatasource(id, toWorkspaceId).cache());
+    }
+
+    /**
+     * Clones the given application, with its pages, actions, action collections and themes, into the given workspace,
+     * and publishes the clone.
+     *
+     * @return Publishes the ID of the cloned application.
+     */
+    private Mono<String> cloneApplication(Application application,
+                                          String toWorkspaceId,
+                                          Map<String, Mono<Datasource>> cloneDatasourceMonos) {
+        final String templateApplicationId = application.getId();
+        final List<ApplicationPage> templateApplicationPages = application.getPages() == null
+                ? List.of() : new ArrayList<>(application.getPages());
+        final String templateEditModeThemeId = application.getEditModeThemeId();
+        application.setWorkspaceId(toWorkspaceId);
+
+        final Mono<Application> clonedApplicationMono = applicationRepository
+                .claimCloneInProgress(templateApplicationId, toWorkspaceId, CLONE_LEASE_DURATION, AclPermission.MANAGE_APPLICATIONS)
+                .flatMap(clonedApplication -> {
+                    log.info("Resuming clone {} of application {}", clonedApplication.getId(), templateApplicationId);
+                    // The themes are only cloned if that didn't happen before the clone was interrupted.
+                    if (Objects.equals(templateEditModeThemeId, clonedApplication.getEditModeThemeId())) {
+                        return forkThemes(application, clonedApplication).thenReturn(clonedApplication);
+                    }
+                    return Mono.just(clonedApplication);
                 })
-                .flatMap(tuple -> updateActionAndCollectionsIdsInClonedPages(clonedPages, tuple.getT1(), tuple.getT2()))
-                // Now publish all the example applications which have been cloned to ensure that there is a
-                // view mode for the newly created user.
-                .then(Mono.just(newApplicationIds))
-                .flatMapMany(Flux::fromIterable)
-                .flatMap(appId -> applicationPageService.publish(appId, false).thenReturn(appId))
+                .switchIfEmpty(Mono.defer(() -> cloneApplicationDocument(application)
+                        .flatMap(clonedApplication -> forkThemes(application, clonedApplication).thenReturn(clonedApplication))
+                ));
+
+        final Mono<List<NewPage>> templatePagesMono = newPageRepository
+                .findByApplicationIdAndNonDeletedEditMode(templateApplicationId, AclPermission.READ_PAGES)
+                .collectList();
+
+        final Mono<List<NewAction>> templateActionsMono = newActionRepository
+                .findByApplicationId(templateApplicationId, AclPermission.READ_ACTIONS)
+                .filter(newAction -> newAction.getUnpublishedAction() != null
+                        && newAction.getUnpublishedAction().getDeletedAt() == null)
+                .collectList();
+
+        final Mono<List<ActionCollection>> templateCollectionsMono = actionCollectionRepository
+                .findByApplicationId(templateApplicationId, AclPermission.READ_ACTIONS, null)
+                .filter(actionCollection -> actionCollection.getUnpublishedCollection() != null
+                        && actionCollection.getUnpublishedCollection().getDeletedAt() == null)
                 .collectList();
+
+        return Mono.zip(clonedApplicationMono, templatePagesMono, templateActionsMono, templateCollectionsMono)
+                .flatMap(tuple -> {
+                    final Application clonedApplication = tuple.getT1();
+                    final List<NewAction> templateActions = tuple.getT3();
+
+                    return Flux.fromIterable(templateActions)
+                            .map(NewAction::getUnpublishedAction)
+                            .filter(action -> action.getDatasource() != null && action.getDatasource().getId() != null)
+                            .map(action -> action.getDatasource().getId())
+                            .distinct()
+                            .flatMap(datasourceId -> getClonedDatasource(datasourceId, toWorkspaceId, cloneDatasourceMonos)
+                                    // The clone fails, rather than leave out the actions that use the datasource.
+                                    .switchIfEmpty(Mono.error(new AppsmithException(
+                                            AppsmithError.NO_RESOURCE_FOUND, FieldName.DATASOURCE, datasourceId)))
+                                    .map(clonedDatasource -> Tuples.of(datasourceId, clonedDatasource)))
+                            .collectMap(Tuple2::getT1, Tuple2::getT2)
+                            .flatMap(clonedDatasources -> insertClones(
+                                    new ApplicationClone(clonedApplication, toWorkspaceId, clonedDatasources),
+                                    templateApplicationPages,
+                                    tuple.getT2(),
+                                    templateActions,
+                                    tuple.getT4()
+                            ));
+                });
     }
 
-    private Flux<NewPage> updateActionAndCollectionsIdsInClonedPages(List<NewPage> clonedPages,
-                                                                     Map<String, String> actionIdsMap,
-                                                                     Map<String, String> actionCollectionIdsMap) {
-        final List<Mono<NewPage>> pageSaveMonos = new ArrayList<>();
+    /**
+     * The state of cloning one application: the clone, and the ids of the clones of all the documents that are cloned
+     * into it, by the ids of their source documents.
+     */
+    private static class ApplicationClone {
+        private final Application application;
+        private final String workspaceId;
+        private final Map<String, Datasource> datasources;
+        private final Map<String, String> pageIds = new HashMap<>();
+        private final Map<String, String> actionIds = new HashMap<>();
+        private final Map<String, String> collectionIds = new HashMap<>();
+        private final Map<String, NewPage> pagesByTemplatePageId = new LinkedHashMap<>();
+
+        ApplicationClone(Application application, String workspaceId, Map<String, Datasource> datasources) {
+            this.application = application;
+            this.workspaceId = workspaceId;
+            this.datasources = datasources;
+        }
+
+        /**
+         * Id of the clone of the given document in this application. It's always the same for the same application,
+         * which is what lets an interrupted clone be resumed. The id starts with the timestamp of the application's id,
+         * like the ids generated by the database would.
+         */
+        String getCloneId(String templateId) {
+            final byte[] applicationIdBytes = new ObjectId(application.getId()).toByteArray();
+            final byte[] hash = Hashing.sha256()
+                    .hashString(application.getId() + ":" + templateId, StandardCharsets.UTF_8)
+                    .asBytes();
+            final byte[] idBytes = new byte[12];
+            System.arraycopy(applicationIdBytes, 0, idBytes, 0, 4);
+            System.arraycopy(hash, 0, idBytes, 4, 8);
+            return new ObjectId(idBytes).toHexString();
+        }
+    }
+
+    private Mono<String> insertClones(ApplicationClone clone,
+                                      List<ApplicationPage> templateApplicationPages,
+                                      List<NewPage> templatePages,
+                                      List<NewAction> templateActions,
+                                      List<ActionCollection> templateCollections) {
+        final String clonedApplicationId = clone.application.getId();
+
+        // Compute the ids of all the clones first, as the documents refer to each other.
+        for (NewPage page : templatePages) {
+            clone.pageIds.put(page.getId(), clone.getCloneId(page.getId()));
+        }
+        final List<NewAction> actions = templateActions.stream()
+                .filter(newAction -> clone.pageIds.containsKey(newAction.getUnpublishedAction().getPageId()))
+                .collect(Collectors.toList());
+        for (NewAction action : actions) {
+            clone.actionIds.put(action.getId(), clone.getCloneId(action.getId()));
+        }
+        final List<ActionCollection> collections = templateCollections.stream()
+                .filter(actionCollection -> clone.pageIds.containsKey(actionCollection.getUnpublishedCollection().getPageId()))
+                .collect(Collectors.toList());
+        for (ActionCollection collection : collections) {
+            clone.collectionIds.put(collection.getId(), clone.getCloneId(collection.getId()));
+        }
 
-        for (final NewPage page : clonedPages) {
-            // If there are no unpublished layouts, there would be no published layouts either.
-            // Move on to the next page.
-            if (page.getUnpublishedPage().getLayouts() == null) {
-                continue;
+        // Pages go first, as the actions and collections inherit their policies.
+        for (NewPage page : templatePages) {
+            final String templatePageId = page.getId();
+            clone.pagesByTemplatePageId.put(templatePageId, clonePage(page, clone));
+        }
+        actions.forEach(action -> cloneAction(action, clone));
+        collections.forEach(collection -> cloneActionCollection(collection, clone));
+
+        // Keep the order of the pages in the template application. Pages missing from it are added at the end.
+        final Map<String, String> remainingPageIds = new LinkedHashMap<>();
+        clone.pagesByTemplatePageId.keySet().forEach(templatePageId -> remainingPageIds.put(templatePageId, clone.pageIds.get(templatePageId)));
+        final List<ApplicationPage> applicationPages = new ArrayList<>();
+        for (ApplicationPage templateApplicationPage : templateApplicationPages) {
+            final String pageId = remainingPageIds.remove(templateApplicationPage.getId());
+            if (pageId != null) {
+                applicationPages.add(createApplicationPage(pageId, templateApplicationPage.isDefault()));
             }
+        }
+        remainingPageIds.values().forEach(pageId -> applicationPages.add(createApplicationPage(pageId, false)));
+
+        log.info("Inserting {} pages, {} actions and {} action collections into cloned application {}",
+                templatePages.size(), actions.size(), collections.size(), clonedApplicationId);
+
+        return Mono.when(
+                        newPageRepository.insertAllUnordered(new ArrayList<>(clone.pagesByTemplatePageId.values())),
+                        newActionRepository.insertAllUnordered(actions),
+                        actionCollectionRepository.insertAllUnordered(collections)
+                )
+                // Publishing the theme is safe to repeat, so it's done before the clone is marked complete.
+                .then(themeService.publishTheme(clonedApplicationId))
+                .then(applicationRepository.completeClone(
+                        clonedApplicationId,
+                        applicationPages,
+                        clone.application.getUnpublishedAppLayout(),
+                        AclPermission.MANAGE_APPLICATIONS
+                ))
+                .thenReturn(clonedApplicationId);
+    }
 
-            boolean shouldSave = false;
+    private static ApplicationPage createApplicationPage(String pageId, boolean isDefault) {
+        final ApplicationPage applicationPage = new ApplicationPage();
+        applicationPage.setId(pageId);
+        applicationPage.setIsDefault(isDefault);
+        applicationPage.setDefaultPageId(pageId);
+        return applicationPage;
+    }
 
-            for (final Layout layout : page.getUnpublishedPage().getLayouts()) {
-                if (layout.getLayoutOnLoadActions() != null) {
-                    shouldSave = updateOnLoadActionsWithNewActionAndCollectionIds(actionIdsMap, actionCollectionIdsMap, page.getId(), shouldSave, layout);
-                }
+    private NewPage clonePage(NewPage newPage, ApplicationClone clone) {
+        final String pageId = clone.pageIds.get(newPage.getId());
+        final String applicationId = clone.application.getId();
+        makePristine(newPage);
+        newPage.setId(pageId);
+        newPage.setApplicationId(applicationId);
+        if (newPage.getGitSyncId() == null) {
+            newPage.setGitSyncId(applicationId + "_" + new ObjectId());
+        }
+
+        DefaultResources defaults = new DefaultResources();
+        defaults.setApplicationId(applicationId);
+        defaults.setPageId(pageId);
+        newPage.setDefaultResources(defaults);
+
+        final PageDTO page = newPage.getUnpublishedPage();
+        page.setApplicationId(applicationId);
+        page.setDefaultResources(defaults);
+        page.setSlug(TextUtils.makeSlug(page.getName()));
+        if (CollectionUtils.isEmpty(page.getLayouts())) {
+            page.setLayouts(new ArrayList<>(List.of(newPageService.createDefaultLayout())));
+        }
+        for (final Layout layout : page.getLayouts()) {
+            layout.setId(new ObjectId().toString());
+            if (layout.getLayoutOnLoadActions() != null) {
+                updateOnLoadActionsWithNewActionAndCollectionIds(clone.actionIds, clone.collectionIds, pageId, false, layout);
             }
+        }
+
+        applicationPageService.generateAndSetPagePolicies(clone.application, page);
+        newPage.setPolicies(page.getPolicies());
+        newPage.setPublishedPage(page);
+        return newPage;
+    }
 
-            if (shouldSave) {
-                pageSaveMonos.add(newPageRepository.save(page));
+    private void cloneAction(NewAction newAction, ApplicationClone clone) {
+        final String actionId = clone.actionIds.get(newAction.getId());
+        final ActionDTO action = newAction.getUnpublishedAction();
+        final NewPage page = clone.pagesByTemplatePageId.get(action.getPageId());
+        final String collectionId = action.getCollectionId() == null ? null : clone.collectionIds.get(action.getCollectionId());
+        log.debug("Preparing action for cloning {} {}.", action.getName(), newAction.getId());
+
+        makePristine(newAction);
+        newAction.setId(actionId);
+        newAction.setApplicationId(clone.application.getId());
+        newAction.setWorkspaceId(clone.workspaceId);
+        newActionService.generateAndSetActionPolicies(page, newAction);
+
+        DefaultResources defaults = new DefaultResources();
+        defaults.setApplicationId(clone.application.getId());
+        defaults.setActionId(actionId);
+        newAction.setDefaultResources(defaults);
+
+        action.setPageId(page.getId());
+        action.setCollectionId(collectionId);
+        DefaultResources actionDefaults = new DefaultResources();
+        actionDefaults.setPageId(page.getId());
+        actionDefaults.setCollectionId(collectionId);
+        action.setDefaultResources(actionDefaults);
+
+        final Datasource datasourceInsideAction = action.getDatasource();
+        if (datasourceInsideAction != null) {
+            if (datasourceInsideAction.getId() != null) {
+                // Only a reference to the datasource is stored inside the action.
+                final Datasource clonedDatasource = clone.datasources.get(datasourceInsideAction.getId());
+                Datasource datasource = new Datasource();
+                datasource.setId(clonedDatasource.getId());
+                datasource.setPluginId(newAction.getPluginId());
+                datasource.setName(clonedDatasource.getName());
+                action.setDatasource(datasource);
+            } else {
+                datasourceInsideAction.setWorkspaceId(clone.workspaceId);
             }
         }
 
-        return Flux.concat(pageSaveMonos);
+        newAction.setPublishedAction(action);
+    }
+
+    private void cloneActionCollection(ActionCollection actionCollection, ApplicationClone clone) {
+        final String collectionId = clone.collectionIds.get(actionCollection.getId());
+        final ActionCollectionDTO unpublishedCollection = actionCollection.getUnpublishedCollection();
+        final NewPage page = clone.pagesByTemplatePageId.get(unpublishedCollection.getPageId());
+        log.debug("Preparing action collection for cloning {} {}.", unpublishedCollection.getName(), actionCollection.getId());
+
+        makePristine(actionCollection);
+        actionCollection.setId(collectionId);
+        actionCollection.setApplicationId(clone.application.getId());
+        actionCollection.setWorkspaceId(clone.workspaceId);
+        actionCollectionService.generateAndSetPolicies(page, actionCollection);
+        if (actionCollection.getGitSyncId() == null) {
+            actionCollection.setGitSyncId(clone.application.getId() + "_" + new ObjectId());
+        }
+
+        DefaultResources defaults = new DefaultResources();
+        defaults.setApplicationId(clone.application.getId());
+        defaults.setCollectionId(collectionId);
+        actionCollection.setDefaultResources(defaults);
+
+        unpublishedCollection.setPageId(page.getId());
+        DefaultResources collectionDefaults = new DefaultResources();
+        collectionDefaults.setPageId(page.getId());
+        unpublishedCollection.setDefaultResources(collectionDefaults);
+
+        // As this is a new application and not connected through git branch, the default and the cloned action ids
+        // are the same.
+        unpublishedCollection.setDefaultToBranchedActionIdsMap(
+                getClonedActionIdsMap(unpublishedCollection.getDefaultToBranchedActionIdsMap(), clone.actionIds));
+        unpublishedCollection.setDefaultToBranchedArchivedActionIdsMap(
+                getClonedActionIdsMap(unpublishedCollection.getDefaultToBranchedArchivedActionIdsMap(), clone.actionIds));
+
+        actionCollection.setPublishedCollection(unpublishedCollection);
+    }
+
+    private static Map<String, String> getClonedActionIdsMap(Map<String, String> defaultToBranchedActionIdsMap,
+                                                             Map<String, String> actionIdsMap) {
+        final Map<String, String> newActionIds = new HashMap<>();
+        if (defaultToBranchedActionIdsMap == null) {
+            return newActionIds;
+        }
+        defaultToBranchedActionIdsMap.forEach((defaultActionId, oldActionId) -> {
+            if (StringUtils.hasLength(oldActionId) && StringUtils.hasLength(actionIdsMap.get(oldActionId))) {
+                newActionIds.put(actionIdsMap.get(oldActionId), actionIdsMap.get(oldActionId));
+            } else {
+                log.debug("Unable to find action {} while cloning inside ID map: {}", oldActionId, actionIdsMap);
+            }
+        });
+        return newActionIds;
     }
 
     private boolean updateOnLoadActionsWithNewActionAndCollectionIds(Map<String, String> actionIdsMap,
@@ -424,33 +557,6 @@ public class ExamplesWorkspaceClonerCEImpl implements ExamplesWorkspaceClonerCE
         return shouldSave;
     }
 
-    /**
-     * This function simply creates a clone of the Application object without cloning its children (page and actions)
-     * Once the new application object is created, it adds the new application's id into the list applicationIds
-     *
-     * @param application : Application to be cloned
-     * @param applicationIds : List where the cloned new application's id would be stored
-     * @return A flux that yields all the pages in the template application
-     */
-    private Flux<NewPage> doOnlyCloneApplicationObjectWithoutItsDependenciesAndReturnNonDeletedPages(Application application, List<String> applicationIds) {
-        final String templateApplicationId = application.getId();
-        return cloneApplicationDocument(application)
-                .flatMapMany(
-                        savedApplication -> {
-                            applicationIds.add(savedApplication.getId());
-                            return forkThemes(application, savedApplication).thenMany(
-                                    newPageRepository
-                                            .findByApplicationIdAndNonDeletedEditMode(templateApplicationId, AclPermission.READ_PAGES)
-                                            .map(newPage -> {
-                                                log.info("Preparing page for cloning {} {}.", newPage.getUnpublishedPage().getName(), newPage.getId());
-                                                newPage.setApplicationId(savedApplication.getId());
-                                                return newPage;
-                                            })
-                            );
-                        }
-                );
-    }
-
     private Mono<UpdateResult> forkThemes(Application srcApplication, Application destApplication) {
         return Mono.zip(
                 themeService.cloneThemeToApplication(srcApplication.getEditModeThemeId(), destApplication),
@@ -484,6 +590,8 @@ public class ExamplesWorkspaceClonerCEImpl implements ExamplesWorkspaceClonerCE
         application.setPages(new ArrayList<>());
         application.setPublishedPages(new ArrayList<>());
         application.setIsPublic(false);
+        application.setCloneInProgress(true);
+        application.setCloneLeaseExpiresAt(Instant.now().plus(CLONE_LEASE_DURATION));
 
         Mono<User> userMono = sessionUserService.getCurrentUser();
 
@@ -581,9 +689,13 @@ public class ExamplesWorkspaceClonerCEImpl implements ExamplesWorkspaceClonerCE
 
     public void makePristine(BaseDomain domain) {
         // Set the ID to null for this domain object so that it is saved a new document in the database (as opposed to
-        // updating an existing document). If it contains any policies, they are also reset.
+        // updating an existing document). If it contains any policies, they are also reset. The audit fields are reset
+        // too, so that they are set for the new document, instead of being carried over from the source document.
         domain.setId(null);
+        domain.setCreatedAt(null);
         domain.setUpdatedAt(null);
+        domain.setCreatedBy(null);
+        domain.setModifiedBy(null);
         if (domain.getPolicies() != null) {
             domain.getPolicies().clear();
         }
@@ -5,7 +5,6 @@ import com.appsmith.external.converters.GsonISOStringToInstantConverter;
 import com.appsmith.external.helpers.Stopwatch;
 import com.appsmith.external.models.AuthenticationDTO;
 import com.appsmith.external.models.AuthenticationResponse;
-import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.BasicAuth;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.Datasource;
@@ -75,6 +74,7 @@ import org.springframework.http.codec.multipart.Part;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
@@ -752,10 +752,8 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                                     // Don't update the datasource configuration for already available datasources
                                     existingDatasource.setDatasourceConfiguration(null);
                                     return datasourceService.update(existingDatasource.getId(), existingDatasource)
-                                            .map(datasource1 -> {
-                                                datasourceMap.put(importedDatasourceName, datasource1.getId());
-                                                return datasource1;
-                                            });
+                                            .doOnNext(datasource1 -> datasourceMap.put(importedDatasourceName, datasource1.getId()))
+                                            .then(Mono.<Datasource>empty());
                                 }
 
                                 // This is explicitly copied over from the map we created before
@@ -772,12 +770,20 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                                     updateAuthenticationDTO(datasource, decryptedFields);
                                 }
 
-                                return createUniqueDatasourceIfNotPresent(existingDatasourceFlux, datasource, workspaceId)
-                                        .map(datasource1 -> {
+                                // Only the datasources which are not present in the workspace yet are passed on, to
+                                // be created together
+                                return findOrPrepareDatasource(existingDatasourceFlux, datasource)
+                                        .flatMap(datasource1 -> {
+                                            if (datasource1 == datasource) {
+                                                return Mono.just(datasource1);
+                                            }
                                             datasourceMap.put(importedDatasourceName, datasource1.getId());
-                                            return datasource1;
+                                            return Mono.empty();
                                         });
-                            });
+                            })
+                            .collectList()
+                            .flatMapMany(newDatasources ->
+                                    createDatasourcesWithUniqueNames(newDatasources, workspaceId, datasourceMap));
                 })
                 .then(
                         // 1. Assign the policies for the imported application
@@ -1180,25 +1186,6 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
         }
     }
 
-    /**
-     * This function will respond with unique suffixed number for the entity to avoid duplicate names
-     *
-     * @param sourceEntity for which the suffixed number is required to avoid duplication
-     * @param workspaceId  workspace in which entity should be searched
-     * @return next possible number in case of duplication
-     */
-    private Mono<String> getUniqueSuffixForDuplicateNameEntity(BaseDomain sourceEntity, String workspaceId) {
-        if (sourceEntity != null) {
-            return sequenceService
-                    .getNextAsSuffix(sourceEntity.getClass(), " for workspace with _id : " + workspaceId)
-                    .map(sequenceNumber -> {
-                        // sequence number will be empty if no duplicate is found
-                        return sequenceNumber.isEmpty() ? " #1" : " #" + sequenceNumber.trim();
-                    });
-        }
-        return Mono.just("");
-    }
-
     /**
      * Method to
      * - save imported pages
@@ -1842,19 +1829,17 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
     }
 
     /**
-     * This will check if the datasource is already present in the workspace and create a new one if unable to find one
+     * This will check if the datasource is already present in the workspace, and prepare the given one to be created
+     * if unable to find one
      *
      * @param existingDatasourceFlux already present datasource in the workspace
      * @param datasource             which will be checked against existing datasources
-     * @param workspaceId            workspace where duplicate datasource should be checked
-     * @return already present or brand new datasource depending upon the equality check
+     * @return already present datasource, or the given datasource prepared to be created
      */
-    private Mono<Datasource> createUniqueDatasourceIfNotPresent(Flux<Datasource> existingDatasourceFlux,
-                                                                Datasource datasource,
-                                                                String workspaceId) {
+    private Mono<Datasource> findOrPrepareDatasource(Flux<Datasource> existingDatasourceFlux, Datasource datasource) {
         /*
             1. If same datasource is present return
-            2. If unable to find the datasource create a new datasource with unique name and return
+            2. If unable to find the datasource return the datasource to be created
          */
         final DatasourceConfiguration datasourceConfig = datasource.getDatasourceConfiguration();
         AuthenticationResponse authResponse = new AuthenticationResponse();
@@ -1869,25 +1854,58 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                 // For git import exclude datasource configuration
                 .filter(ds -> ds.getName().equals(datasource.getName()) && datasource.getPluginId().equals(ds.getPluginId()))
                 .next()  // Get the first matching datasource, we don't need more than one here.
-                .switchIfEmpty(Mono.defer(() -> {
+                .switchIfEmpty(Mono.fromSupplier(() -> {
                     if (datasourceConfig != null && datasourceConfig.getAuthentication() != null) {
                         datasourceConfig.getAuthentication().setAuthenticationResponse(authResponse);
                     }
-                    // No matching existing datasource found, so create a new one.
+                    // No matching existing datasource found, so a new one is to be created.
                     datasource.setIsConfigured(datasourceConfig != null && datasourceConfig.getAuthentication() != null);
-                    return datasourceService
-                            .findByNameAndWorkspaceId(datasource.getName(), workspaceId, AclPermission.MANAGE_DATASOURCES)
-                            .flatMap(duplicateNameDatasource ->
-                                    getUniqueSuffixForDuplicateNameEntity(duplicateNameDatasource, workspaceId)
-                            )
-                            .map(suffix -> {
-                                datasource.setName(datasource.getName() + suffix);
-                                return datasource;
-                            })
-                            .then(datasourceService.create(datasource));
+                    return datasource;
                 }));
     }
 
+    /**
+     * Creates the datasources of the import which are not present in the workspace yet. A datasource whose name is
+     * already taken in the workspace gets a numbered suffix. The numbers for all of them are reserved together in one
+     * round trip, from the same sequence that numbers the default names of the datasources of the workspace, so that
+     * they don't collide with the names given before.
+     *
+     * @param datasources   to be created
+     * @param workspaceId   workspace in which the datasources are created
+     * @param datasourceMap map of the imported names of the datasources to their ids, which the created ones are added to
+     * @return created datasources
+     */
+    private Flux<Datasource> createDatasourcesWithUniqueNames(List<Datasource> datasources,
+                                                              String workspaceId,
+                                                              Map<String, String> datasourceMap) {
+        // The imported names are kept before any of the datasources are renamed
+        final List<Tuple2<String, Datasource>> importedNameAndDatasources = datasources.stream()
+                .map(datasource -> Tuples.of(datasource.getName(), datasource))
+                .collect(Collectors.toList());
+
+        return Flux.fromIterable(datasources)
+                .filterWhen(datasource -> datasourceService
+                        .findByNameAndWorkspaceId(datasource.getName(), workspaceId, AclPermission.MANAGE_DATASOURCES)
+                        .hasElement())
+                .collectList()
+                .flatMap(duplicateNameDatasources -> {
+                    if (duplicateNameDatasources.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    return sequenceService
+                            .getNext(Datasource.class, " for workspace with _id : " + workspaceId, duplicateNameDatasources.size())
+                            .doOnNext(sequenceNumbers -> {
+                                for (int i = 0; i < duplicateNameDatasources.size(); i++) {
+                                    final Datasource datasource = duplicateNameDatasources.get(i);
+                                    datasource.setName(datasource.getName() + " #" + sequenceNumbers.get(i));
+                                }
+                            });
+                })
+                .thenMany(Flux.fromIterable(importedNameAndDatasources))
+                .flatMap(tuple -> datasourceService.create(tuple.getT2())
+                        .doOnNext(datasource -> datasourceMap.put(tuple.getT1(), datasource.getId())));
+    }
+
     /**
      * Here we will be rehydrating the sensitive fields like password, secrets etc. in datasource while importing the application
      *
@@ -2,9 +2,11 @@ package com.appsmith.server.controllers;
 
 import com.appsmith.server.configurations.SecurityTestConfig;
 import com.appsmith.server.constants.Url;
+import com.appsmith.server.domains.ApplicationViewBundle;
 import com.appsmith.server.dtos.ApplicationImportDTO;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.ApplicationService;
+import com.appsmith.server.services.ApplicationViewBundleService;
 import com.appsmith.server.services.ThemeService;
 import com.appsmith.server.services.UserDataService;
 import com.appsmith.server.solutions.ApplicationFetcher;
@@ -18,6 +20,7 @@ import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -27,6 +30,7 @@ import org.springframework.web.reactive.function.BodyInserters;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 @ExtendWith(SpringExtension.class)
 @WebFluxTest(ApplicationController.class)
@@ -53,6 +57,9 @@ public class ApplicationControllerTest {
     @MockBean
     ThemeService themeService;
 
+    @MockBean
+    ApplicationViewBundleService applicationViewBundleService;
+
     @MockBean
     UserDataService userDataService;
 
@@ -123,4 +130,50 @@ public class ApplicationControllerTest {
                 .expectStatus()
                 .isEqualTo(200);
     }
+
+    @Test
+    @WithMockUser
+    public void getApplicationViewBundle_WhenETagMatches_ReturnsNotModified() {
+        ApplicationViewBundle bundle = new ApplicationViewBundle();
+        bundle.setApplicationId("appId");
+        bundle.setVersion("bundleVersion");
+        bundle.setContent(new byte[0]);
+
+        Mockito.when(applicationViewBundleService.getViewBundle(Mockito.eq("appId"), Mockito.any()))
+                .thenReturn(Mono.just(bundle));
+
+        webTestClient.get()
+                .uri(Url.APPLICATION_URL + "/view/appId/bundle")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"bundleVersion\"")
+                .exchange()
+                .expectStatus()
+                .isNotModified()
+                .expectHeader()
+                .valueEquals(HttpHeaders.ETAG, "\"bundleVersion\"");
+    }
+
+    @Test
+    @WithMockUser
+    public void getApplicationViewBundle_WhenETagDoesNotMatch_ReturnsBundle() {
+        byte[] content = "{}".getBytes(StandardCharsets.UTF_8);
+        ApplicationViewBundle bundle = new ApplicationViewBundle();
+        bundle.setApplicationId("appId");
+        bundle.setVersion("bundleVersion");
+        bundle.setContent(content);
+
+        Mockito.when(applicationViewBundleService.getViewBundle(Mockito.eq("appId"), Mockito.any()))
+                .thenReturn(Mono.just(bundle));
+        Mockito.when(applicationViewBundleService.decompress(content)).thenReturn(content);
+
+        webTestClient.get()
+                .uri(Url.APPLICATION_URL + "/view/appId/bundle")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"olderVersion\"")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .valueEquals(HttpHeaders.ETAG, "\"bundleVersion\"")
+                .expectBody()
+                .json("{}");
+    }
 }
@@ -0,0 +1,109 @@
+package com.appsmith.server.featureflags;
+
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.User;
+import org.ff4j.FF4j;
+import org.ff4j.core.FlippingExecutionContext;
+import org.ff4j.parser.yaml.YamlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of checking a feature flag on a request path, directly through FF4j with its audit on, as it used to be
+ * done, and through {@link FeatureFlagEvaluator}, with and without its audit.
+ * <p>
+ * Not run with the tests. Run the {@code main} method from the test classpath, after {@code mvn test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class FeatureFlagEvaluatorBenchmark {
+
+    private static final String FLAGS_FILE = "features/init-flags.yml";
+
+    @Param({"1000"})
+    public int userCount;
+
+    private User[] users;
+
+    private FF4j auditedFF4j;
+
+    private FeatureFlagEvaluator evaluator;
+
+    private FeatureFlagEvaluator auditedEvaluator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        users = new User[userCount];
+        for (int i = 0; i < userCount; i++) {
+            users[i] = new User();
+            users[i].setEmail("user" + i + (i % 2 == 0 ? "@appsmith.com" : "@example.com"));
+        }
+
+        auditedFF4j = new FF4j(new YamlParser(), FLAGS_FILE).audit(true);
+        evaluator = new FeatureFlagEvaluator(new FF4j(new YamlParser(), FLAGS_FILE), false, 10_000);
+        auditedEvaluator = new FeatureFlagEvaluator(new FF4j(new YamlParser(), FLAGS_FILE), true, 10_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        auditedFF4j.getEventPublisher().stop();
+        evaluator.shutdown();
+        auditedEvaluator.shutdown();
+    }
+
+    private User anyUser() {
+        return users[ThreadLocalRandom.current().nextInt(users.length)];
+    }
+
+    @Benchmark
+    public boolean checkWithAuditedFF4j() {
+        return auditedFF4j.check(
+                FeatureFlagEnum.LINTING.name(), new FlippingExecutionContext(Map.of(FieldName.USER, anyUser())));
+    }
+
+    @Benchmark
+    public boolean checkWithEvaluator() {
+        return evaluator.check(FeatureFlagEnum.LINTING.name(), anyUser());
+    }
+
+    @Benchmark
+    public boolean checkWithAuditedEvaluator() {
+        return auditedEvaluator.check(FeatureFlagEnum.LINTING.name(), anyUser());
+    }
+
+    @Benchmark
+    public Map<String, Boolean> getAllFlagsWithEvaluator() {
+        return evaluator.getAllFlags(anyUser());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FeatureFlagEvaluatorBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
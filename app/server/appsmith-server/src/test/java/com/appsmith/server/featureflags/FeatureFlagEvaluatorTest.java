@@ -0,0 +1,100 @@
+package com.appsmith.server.featureflags;
+
+import com.appsmith.server.domains.User;
+import org.ff4j.FF4j;
+import org.ff4j.audit.Event;
+import org.ff4j.audit.repository.EventRepository;
+import org.ff4j.core.FlippingExecutionContext;
+import org.ff4j.parser.yaml.YamlParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+public class FeatureFlagEvaluatorTest {
+
+    private FF4j ff4j;
+
+    private FeatureFlagEvaluator evaluator;
+
+    @BeforeEach
+    public void setUp() {
+        ff4j = Mockito.spy(new FF4j(new YamlParser(), "features/init-flags-test.yml").autoCreate(false));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (evaluator != null) {
+            evaluator.shutdown();
+        }
+    }
+
+    private static User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        return user;
+    }
+
+    @Test
+    public void check_WhenCalledRepeatedly_EvaluatesFlagsOncePerUser() {
+        evaluator = new FeatureFlagEvaluator(ff4j, false, 100);
+        final int featureCount = ff4j.getFeatures().size();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(evaluator.check("TEST_FEATURE_1", user("user@appsmith.com"))).isTrue();
+            assertThat(evaluator.check("TEST_FEATURE_1", user("user@example.com"))).isFalse();
+        }
+
+        Mockito.verify(ff4j, Mockito.times(2 * featureCount)).check(anyString(), any(FlippingExecutionContext.class));
+        assertThat(evaluator.getAllFlags(user("user@appsmith.com"))).hasSize(featureCount);
+    }
+
+    @Test
+    public void check_WhenFlagSetChangesAndInvalidated_EvaluatesAgain() {
+        evaluator = new FeatureFlagEvaluator(ff4j, false, 100);
+        assertThat(evaluator.check("TEST_FEATURE_1", user("user@appsmith.com"))).isTrue();
+
+        ff4j.disable("TEST_FEATURE_1");
+        evaluator.invalidate();
+
+        assertThat(evaluator.check("TEST_FEATURE_1", user("user@appsmith.com"))).isFalse();
+    }
+
+    @Test
+    public void check_WhenAuditEnabled_SavesEventsInBackgroundWithoutFF4jAudit() {
+        EventRepository eventRepository = Mockito.mock(EventRepository.class);
+        ff4j.setEventRepository(eventRepository);
+        evaluator = new FeatureFlagEvaluator(ff4j, true, 100);
+
+        evaluator.check("TEST_FEATURE_1", user("user@appsmith.com"));
+        evaluator.check("TEST_FEATURE_1", user("user@appsmith.com"));
+        assertThat(ff4j.isEnableAudit()).isFalse();
+
+        // Shutting down drains whatever is left in the audit queue.
+        evaluator.shutdown();
+        evaluator = null;
+
+        ArgumentCaptor<Event> eventCaptor = ArgumentCaptor.forClass(Event.class);
+        Mockito.verify(eventRepository, Mockito.times(2)).saveEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues()).allSatisfy(event -> {
+            assertThat(event.getName()).isEqualTo("TEST_FEATURE_1");
+            assertThat(event.getUser()).isEqualTo("user@appsmith.com");
+        });
+    }
+
+    @Test
+    public void getAllFlags_ReturnsUnmodifiableMap() {
+        evaluator = new FeatureFlagEvaluator(ff4j, false, 100);
+        Map<String, Boolean> flags = evaluator.getAllFlags(user("user@example.com"));
+        assertThat(flags).containsKeys("TEST_FEATURE_1", "TEST_FEATURE_2", "TEST_FEATURE_3");
+        assertThrows(UnsupportedOperationException.class, () -> flags.put("x", true));
+    }
+}
@@ -0,0 +1,124 @@
+package com.appsmith.server.helpers;
+
+import com.segment.analytics.messages.MessageBuilder;
+import com.segment.analytics.messages.TrackMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AnalyticsEventPipelineTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<List<MessageBuilder<?, ?>>> sentBatches = new CopyOnWriteArrayList<>();
+
+    private AnalyticsEventPipeline pipeline;
+
+    @AfterEach
+    public void tearDown() {
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("Timed out waiting for the condition").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private double countOf(String outcome) {
+        return meterRegistry.counter("appsmith.analytics.events", "outcome", outcome).count();
+    }
+
+    @Test
+    public void submit_WhenBatchIsFull_SendsBatchWithoutWaitingForInterval() throws InterruptedException {
+        pipeline = new AnalyticsEventPipeline(sentBatches::add, meterRegistry, 100, 3, Duration.ofHours(1).toMillis(), Map.of());
+
+        for (int i = 0; i < 3; i++) {
+            pipeline.submit(Mono.just(TrackMessage.builder("event" + i).userId("user")));
+        }
+
+        waitUntil(() -> sentBatches.size() == 1);
+        assertThat(sentBatches.get(0)).hasSize(3);
+        assertThat(countOf("sent")).isEqualTo(3);
+    }
+
+    @Test
+    public void submit_WhenClientIsSlow_DropsEventsBeyondCapacity() throws InterruptedException {
+        CountDownLatch releaseClient = new CountDownLatch(1);
+        pipeline = new AnalyticsEventPipeline(messages -> {
+            try {
+                releaseClient.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sentBatches.add(messages);
+        }, meterRegistry, 2, 1, Duration.ofHours(1).toMillis(), Map.of());
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            pipeline.submit(Mono.just(TrackMessage.builder("event" + i).userId("user")));
+        }
+        // Submitting never waits for the client
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+
+        waitUntil(() -> countOf("dropped") == 8);
+
+        releaseClient.countDown();
+        waitUntil(() -> countOf("sent") == 2);
+    }
+
+    @Test
+    public void submit_WhenMessageFailsToBuild_DoesNotHoldCapacity() throws InterruptedException {
+        pipeline = new AnalyticsEventPipeline(sentBatches::add, meterRegistry, 1, 1, Duration.ofHours(1).toMillis(), Map.of());
+
+        pipeline.submit(Mono.error(new RuntimeException("lookup failed")));
+        waitUntil(() -> countOf("failed") == 1);
+
+        pipeline.submit(Mono.just(TrackMessage.builder("event").userId("user")));
+        waitUntil(() -> sentBatches.size() == 1);
+        assertThat(countOf("dropped")).isZero();
+    }
+
+    @Test
+    public void isSampled_WhenRateIsConfigured_SamplesOnlyThatEvent() {
+        pipeline = new AnalyticsEventPipeline(sentBatches::add, meterRegistry, 100, 10, Duration.ofHours(1).toMillis(),
+                AnalyticsEventPipeline.parseSampleRates("execute_ACTION_TRIGGERED=0, invalid, other=abc"));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(pipeline.isSampled("execute_ACTION_TRIGGERED")).isFalse();
+            assertThat(pipeline.isSampled("create_APPLICATION")).isTrue();
+        }
+        assertThat(pipeline.getSampleRate("other")).isEqualTo(1.0);
+        assertThat(countOf("sampled_out")).isEqualTo(10);
+    }
+
+    @Test
+    public void shutdown_WhenMessagesAreQueued_FlushesThem() throws InterruptedException {
+        pipeline = new AnalyticsEventPipeline(sentBatches::add, meterRegistry, 100, 10, Duration.ofHours(1).toMillis(), Map.of());
+
+        pipeline.submit(Mono.just(TrackMessage.builder("event").userId("user")));
+        waitUntil(() -> pipeline.getQueuedCount() == 1);
+        // The batch is not full and the flush interval has not elapsed
+        assertThat(sentBatches).isEmpty();
+
+        pipeline.shutdown();
+        pipeline = null;
+
+        assertThat(sentBatches).hasSize(1);
+    }
+}
@@ -0,0 +1,293 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.domains.Comment;
+import com.appsmith.server.domains.CommentNotification;
+import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.domains.CommentThreadNotification;
+import com.appsmith.server.domains.Notification;
+import com.appsmith.server.domains.UnreadCounter;
+import com.appsmith.server.events.CommentNotificationEvent;
+import com.appsmith.server.repositories.NotificationRepository;
+import com.appsmith.server.services.UnreadCounterService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NotificationBatchWriterTest {
+
+    private static final String AUTHOR = "author@example.com";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<List<Notification>> writtenBatches = new CopyOnWriteArrayList<>();
+
+    private NotificationRepository repository;
+
+    private UnreadCounterService unreadCounterService;
+
+    private NotificationBatchWriter writer;
+
+    @BeforeEach
+    public void setUp() {
+        repository = Mockito.mock(NotificationRepository.class);
+        Mockito.when(repository.insertUnordered(Mockito.anyList())).thenAnswer(invocation -> {
+            List<Notification> batch = new ArrayList<>(invocation.getArgument(0));
+            writtenBatches.add(batch);
+            return Mono.just(batch.size());
+        });
+        unreadCounterService = Mockito.mock(UnreadCounterService.class);
+        Mockito.when(unreadCounterService.invalidate(Mockito.anyCollection(), Mockito.anyString())).thenReturn(Mono.empty());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("Timed out waiting for the condition").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private double countOf(String outcome) {
+        return meterRegistry.counter("appsmith.notifications.writes", "outcome", outcome).count();
+    }
+
+    // A notification about a new comment of the thread
+    private static CommentNotification commentNotification(String forUsername, String threadId, CommentNotificationEvent event) {
+        return commentNotification(forUsername, threadId, new ObjectId().toHexString(), event);
+    }
+
+    private static CommentNotification commentNotification(String forUsername, String threadId, String commentId,
+                                                           CommentNotificationEvent event) {
+        Comment comment = new Comment();
+        comment.setId(commentId);
+        comment.setThreadId(threadId);
+        CommentNotification notification = new CommentNotification();
+        notification.setComment(comment);
+        notification.setForUsername(forUsername);
+        notification.setEvent(event);
+        return notification;
+    }
+
+    private static CommentThreadNotification threadNotification(String forUsername, String threadId, CommentNotificationEvent event) {
+        CommentThread thread = new CommentThread();
+        thread.setId(threadId);
+        CommentThreadNotification notification = new CommentThreadNotification();
+        notification.setCommentThread(thread);
+        notification.setForUsername(forUsername);
+        notification.setEvent(event);
+        return notification;
+    }
+
+    @Test
+    public void submit_WhenFannedOut_WritesAllNotificationsInOneBatch() throws InterruptedException {
+        writer = new NotificationBatchWriter(repository, unreadCounterService, meterRegistry, 500, Duration.ofMillis(50).toMillis());
+        writer.start();
+
+        List<CommentNotification> notifications = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            notifications.add(commentNotification("user" + i, "thread", CommentNotificationEvent.CREATED));
+        }
+        List<CommentNotification> submitted = writer.submit(notifications, AUTHOR);
+
+        // Ids are set right away, so the callers can use the notifications before they are written
+        assertThat(submitted).allSatisfy(notification -> {
+            assertThat(notification.getId()).isNotNull();
+            assertThat(notification.getCreatedAt()).isNotNull();
+            assertThat(notification.getCreatedBy()).isEqualTo(AUTHOR);
+            assertThat(notification.getModifiedBy()).isEqualTo(AUTHOR);
+        });
+
+        waitUntil(() -> countOf("written") == 200);
+        assertThat(writtenBatches).hasSize(1);
+        assertThat(writtenBatches.get(0)).hasSize(200);
+        assertThat(meterRegistry.summary("appsmith.notifications.write.batch.size").count()).isEqualTo(1);
+    }
+
+    @Test
+    public void submit_WhenSameUserAndCommentWithinWindow_CoalescesIntoLatestNotification() {
+        writer = new NotificationBatchWriter(repository, unreadCounterService, meterRegistry, 500, Duration.ofHours(1).toMillis());
+        writer.start();
+
+        writer.submit(List.of(commentNotification("user", "thread", "comment", CommentNotificationEvent.CREATED)), AUTHOR);
+        writer.submit(List.of(commentNotification("user", "thread", "comment", CommentNotificationEvent.DELETED)), AUTHOR);
+        writer.submit(List.of(commentNotification("user", "thread", "other-comment", CommentNotificationEvent.CREATED)), AUTHOR);
+        writer.submit(List.of(commentNotification("other-user", "thread", "comment", CommentNotificationEvent.CREATED)), AUTHOR);
+
+        assertThat(writer.getPendingCount()).isEqualTo(3);
+        writer.flush().block();
+
+        assertThat(writtenBatches).hasSize(1);
+        List<Notification> batch = writtenBatches.get(0);
+        assertThat(batch).hasSize(3);
+        CommentNotification coalesced = (CommentNotification) batch.stream()
+                .filter(notification -> "user".equals(notification.getForUsername())
+                        && "comment".equals(((CommentNotification) notification).getComment().getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(coalesced.getEvent()).isEqualTo(CommentNotificationEvent.DELETED);
+        assertThat(countOf("coalesced")).isEqualTo(1);
+        assertThat(countOf("written")).isEqualTo(3);
+    }
+
+    @Test
+    public void submit_WhenDifferentCommentsOfSameThreadWithinWindow_WritesOneNotificationPerComment() {
+        writer = new NotificationBatchWriter(repository, unreadCounterService, meterRegistry, 500, Duration.ofHours(1).toMillis());
+        writer.start();
+
+        writer.submit(List.of(commentNotification("user", "thread", "first-comment", CommentNotificationEvent.CREATED)), AUTHOR);
+        writer.submit(List.of(commentNotification("user", "thread", "second-comment", CommentNotificationEvent.CREATED)), AUTHOR);
+        writer.submit(List.of(commentNotification("user", "thread", "third-comment", CommentNotificationEvent.TAGGED)), AUTHOR);
+        writer.flush().block();
+
+        assertThat(writtenBatches).hasSize(1);
+        assertThat(writtenBatches.get(0)).extracting(notification -> ((CommentNotification) notification).getComment().getId())
+                .containsExactly("first-comment", "second-comment", "third-comment");
+        assertThat(countOf("coalesced")).isZero();
+    }
+
+    @Test
+    public void submit_WhenSameThreadEventWithinWindow_CoalescesOnlyThatEvent() {
+        writer = new NotificationBatchWriter(repository, unreadCounterService, meterRegistry, 500, Duration.ofHours(1).toMillis());
+        writer.start();
+
+        writer.submit(List.of(threadNotification("user", "thread", CommentNotificationEvent.RESOLVED)), AUTHOR);
+        writer.submit(List.of(threadNotification("user", "thread", CommentNotificationEvent.RESOLVED)), AUTHOR);
+        writer.submit(List.of(threadNotification("user", "thread", CommentNotificationEvent.DELETED)), AUTHOR);
+        writer.flush().block();
+
+        assertThat(writtenBatches.get(0)).extracting(notification -> ((CommentThreadNotification) notification).getEvent())
+                .containsExactly(CommentNotificationEvent.RESOLVED, CommentNotificationEvent.DELETED);
+        assertThat(countOf("coalesced")).isEqualTo(1);
+    }
+
+    @Test
+    public void submit_WhenCoalesced_ReturnsOnlyNotificationsWhichAreWrittenWithIdsTheyAreWrittenWith() {
+        writer = new NotificationBatchWriter(repository, unreadCounterService, meterRegistry, 500, Duration.ofHours(1).toMillis());
+        writer.start();
+
+        List<CommentNotification> firstSubmitted = writer.submit(List.of(
+                commentNotification("user", "thread", "comment", CommentNotificationEvent.CREATED),
+                commentNotification("user", "thread", "comment", CommentNotificationEvent.UPDATED),
+                commentNotification("other-user", "thread", "comment", CommentNotificationEvent.CREATED)
+        ), AUTHOR);
+
+        // Only the latest notification of a user and comment is returned out of the ones submitted together
+        assertThat(firstSubmitted).extracting(CommentNotification::getEvent)
+                .containsExactly(CommentNotificationEvent.UPDATED, CommentNotificationEvent.CREATED);
+
+        // A notification coalesced with a pending one is written with the id already returned for the pending one
+        List<CommentNotification> secondSubmitted = writer.submit(List.of(
+                commentNotification("user", "thread", "comment", CommentNotificationEvent.DELETED)
+        ), AUTHOR);
+        assertThat(secondSubmitted).hasSize(1);
+        assertThat(secondSubmitted.get(0).getId()).isEqualTo(firstSubmitted.get(0).getId());
+
+        writer.flush().block();
+
+        assertThat(writtenBatches).hasSize(1);
+        assertThat(writtenBatches.get(0)).extracting(Notification::getId)
+                .containsExactlyInAnyOrder(firstSubmitted.get(0).getId(), firstSubmitted.get(1).getId());
+    }
+
+    @Test
+    public void stop_WritesPendingNotificationsBeforeCallingBack() throws InterruptedException {
+        Sinks.One<Integer> insertResult = Sinks.one();
+        Mockito.when(repository.insertUnordered(Mockito.anyList())).thenReturn(insertResult.asMono());
+        writer = new NotificationBatchWriter(repository, unreadCounterService, meterRegistry, 500, Duration.ofHours(1).toMillis());
+        writer.start();
+        writer.submit(List.of(commentNotification("user", "thread", CommentNotificationEvent.CREATED)), AUTHOR);
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        // Returns right away, without waiting for the write
+        writer.stop(stopped::countDown);
+        assertThat(writer.isRunning()).isFalse();
+        assertThat(stopped.getCount()).isEqualTo(1);
+
+        insertResult.tryEmitValue(1);
+        assertThat(stopped.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(countOf("written")).isEqualTo(1);
+    }
+
+    @Test
+    public void submit_WhenPendingReachesBatchSize_FlushesWithoutWaitingForInterval() throws InterruptedException {
+        writer = new NotificationBatchWriter(repository, unreadCounterService, meterRegistry, 2, Duration.ofHours(1).toMillis());
+        writer.start();
+
+        writer.submit(List.of(
+                commentNotification("user1", "thread", CommentNotificationEvent.CREATED),
+                commentNotification("user2", "thread", CommentNotificationEvent.CREATED)
+        ), AUTHOR);
+
+        waitUntil(() -> countOf("written") == 2);
+        assertThat(writer.getPendingCount()).isZero();
+    }
+
+    @Test
+    public void flush_WhenWriteFails_CountsFailuresAndCompletes() {
+        Mockito.when(repository.insertUnordered(Mockito.anyList())).thenReturn(Mono.error(new RuntimeException("write failed")));
+        writer = new NotificationBatchWriter(repository, unreadCounterService, meterRegistry, 500, Duration.ofHours(1).toMillis());
+        writer.start();
+
+        writer.submit(List.of(commentNotification("user", "thread", CommentNotificationEvent.CREATED)), AUTHOR);
+        writer.flush().block();
+
+        assertThat(countOf("failed")).isEqualTo(1);
+        assertThat(countOf("written")).isZero();
+    }
+
+    @Test
+    public void flush_WhenWritten_InvalidatesUnreadCountersOfUsers() {
+        writer = new NotificationBatchWriter(repository, unreadCounterService, meterRegistry, 500, Duration.ofHours(1).toMillis());
+        writer.start();
+
+        final Notification readNotification = commentNotification("user3", "thread", CommentNotificationEvent.CREATED);
+        readNotification.setIsRead(true);
+        writer.submit(List.of(
+                commentNotification("user1", "thread", CommentNotificationEvent.CREATED),
+                commentNotification("user1", "other-thread", CommentNotificationEvent.CREATED),
+                commentNotification("user2", "thread", CommentNotificationEvent.CREATED),
+                readNotification
+        ), AUTHOR);
+        writer.flush().block();
+
+        Mockito.verify(unreadCounterService).invalidate(Set.of("user1", "user2"), UnreadCounter.NOTIFICATIONS_SCOPE);
+    }
+
+    @Test
+    public void flush_WhenPartiallyWritten_InvalidatesUnreadCountersOfUsers() {
+        Mockito.when(repository.insertUnordered(Mockito.anyList())).thenReturn(Mono.just(1));
+        writer = new NotificationBatchWriter(repository, unreadCounterService, meterRegistry, 500, Duration.ofHours(1).toMillis());
+        writer.start();
+
+        writer.submit(List.of(
+                commentNotification("user1", "thread", CommentNotificationEvent.CREATED),
+                commentNotification("user2", "thread", CommentNotificationEvent.CREATED)
+        ), AUTHOR);
+        writer.flush().block();
+
+        Mockito.verify(unreadCounterService).invalidate(Set.of("user1", "user2"), UnreadCounter.NOTIFICATIONS_SCOPE);
+    }
+}
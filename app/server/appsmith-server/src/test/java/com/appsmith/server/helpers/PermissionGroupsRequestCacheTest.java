@@ -0,0 +1,65 @@
+package com.appsmith.server.helpers;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PermissionGroupsRequestCacheTest {
+
+    @Test
+    public void getOrResolve_WhenCalledMultipleTimes_ResolvesOnlyOnce() {
+        PermissionGroupsRequestCache requestCache = new PermissionGroupsRequestCache();
+        AtomicInteger resolverCalls = new AtomicInteger();
+
+        Mono<Set<String>> lookupMono = Mono.defer(() -> requestCache.getOrResolve("user@example.com", () -> {
+            resolverCalls.incrementAndGet();
+            return Mono.just(Set.of("pg1", "pg2"));
+        }));
+
+        StepVerifier.create(lookupMono.repeat(4).collectList())
+                .assertNext(results -> {
+                    assertThat(results).hasSize(5);
+                    assertThat(results).allMatch(permissionGroups -> permissionGroups.equals(Set.of("pg1", "pg2")));
+                })
+                .verifyComplete();
+
+        assertThat(resolverCalls.get()).isEqualTo(1);
+        assertThat(requestCache.getLookupCount()).isEqualTo(5);
+        assertThat(requestCache.getResolutionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void getOrResolve_WhenInvalidated_ResolvesAgain() {
+        PermissionGroupsRequestCache requestCache = new PermissionGroupsRequestCache();
+
+        StepVerifier.create(requestCache.getOrResolve("user@example.com", () -> Mono.just(Set.of("pg1"))))
+                .expectNext(Set.of("pg1"))
+                .verifyComplete();
+
+        requestCache.invalidate();
+
+        StepVerifier.create(requestCache.getOrResolve("user@example.com", () -> Mono.just(Set.of("pg1", "pg2"))))
+                .expectNext(Set.of("pg1", "pg2"))
+                .verifyComplete();
+
+        assertThat(requestCache.getResolutionCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void getOrResolve_WhenResolutionFails_DoesNotCacheError() {
+        PermissionGroupsRequestCache requestCache = new PermissionGroupsRequestCache();
+
+        StepVerifier.create(requestCache.getOrResolve("user@example.com", () -> Mono.error(new RuntimeException("failed"))))
+                .expectError(RuntimeException.class)
+                .verify();
+
+        StepVerifier.create(requestCache.getOrResolve("user@example.com", () -> Mono.just(Set.of("pg1"))))
+                .expectNext(Set.of("pg1"))
+                .verifyComplete();
+    }
+}
@@ -1,5 +1,6 @@
 package com.appsmith.server.repositories;
 
+import com.appsmith.external.models.Policy;
 import com.appsmith.server.domains.Application;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,10 +11,15 @@ import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -49,4 +55,58 @@ public class CustomApplicationRepositoryImplTest {
             assertThat(CollectionUtils.isEmpty(strings)).isTrue();
         }).verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void updatePoliciesByCriteria_AddAndRemovePermissionGroups_OnlyPoliciesUpdated() {
+        String randomWorkspaceId = UUID.randomUUID().toString();
+        Application application1 = new Application();
+        application1.setWorkspaceId(randomWorkspaceId);
+        application1.setName("app with policy");
+        application1.setPolicies(new HashSet<>(Set.of(Policy.builder()
+                .permission("read:applications")
+                .permissionGroups(new HashSet<>(Set.of("existing-group")))
+                .build())));
+
+        Application application2 = new Application();
+        application2.setWorkspaceId(randomWorkspaceId);
+        application2.setName("app without policy");
+
+        Map<String, Policy> policyMap = Map.of("read:applications", Policy.builder()
+                .permission("read:applications")
+                .permissionGroups(Set.of("new-group"))
+                .build());
+
+        Mono<List<Application>> addedMono = applicationRepository.saveAll(List.of(application1, application2))
+                .then(applicationRepository.updatePoliciesByCriteria(
+                        List.of(where("workspaceId").is(randomWorkspaceId)), policyMap, true, null))
+                .doOnNext(count -> assertThat(count).isEqualTo(2))
+                .thenMany(applicationRepository.findByWorkspaceId(randomWorkspaceId))
+                .collectList();
+
+        StepVerifier.create(addedMono).assertNext(applications -> {
+            assertThat(applications).hasSize(2);
+            for (Application application : applications) {
+                assertThat(application.getName()).startsWith("app with");
+                Policy readPolicy = application.getPolicies().stream()
+                        .filter(policy -> "read:applications".equals(policy.getPermission()))
+                        .findFirst()
+                        .orElseThrow();
+                assertThat(readPolicy.getPermissionGroups()).contains("new-group");
+            }
+        }).verifyComplete();
+
+        Instant beforeRemoval = Instant.now();
+        Mono<List<Application>> removedMono = applicationRepository.updatePoliciesByCriteria(
+                        List.of(where("workspaceId").is(randomWorkspaceId)), policyMap, false, null)
+                .thenMany(applicationRepository.findByWorkspaceId(randomWorkspaceId))
+                .collectList();
+
+        StepVerifier.create(removedMono).assertNext(applications -> {
+            for (Application application : applications) {
+                application.getPolicies().forEach(policy ->
+                        assertThat(policy.getPermissionGroups()).doesNotContain("new-group"));
+                assertThat(application.getUpdatedAt()).isAfterOrEqualTo(beforeRemoval);
+            }
+        }).verifyComplete();
+    }
+}
@@ -0,0 +1,110 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.domains.Comment;
+import com.appsmith.server.domains.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.appsmith.server.acl.AclPermission.READ_COMMENTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+public class CustomCommentRepositoryImplTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2022-10-01T10:00:00Z");
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    CacheableRepositoryHelper cacheableRepositoryHelper;
+
+    @Autowired
+    ReactiveMongoOperations mongoOperations;
+
+    private String threadId;
+
+    private Set<String> permissionGroups;
+
+    @BeforeEach
+    public void setUp() {
+        threadId = UUID.randomUUID().toString();
+        User apiUser = userRepository.findByEmail("api_user").block();
+        permissionGroups = cacheableRepositoryHelper.getPermissionGroupsOfUser(apiUser).block();
+    }
+
+    private Comment createComment(Instant createdAt) {
+        Comment comment = new Comment();
+        comment.setThreadId(threadId);
+        comment.setPolicies(new HashSet<>(Set.of(Policy.builder()
+                .permission(READ_COMMENTS.getValue())
+                .permissionGroups(new HashSet<>(permissionGroups))
+                .build())));
+        Comment savedComment = mongoOperations.insert(comment).block();
+
+        // The time of creation is set on save, and is overwritten here to control the order of the comments.
+        mongoOperations.updateFirst(Query.query(where("id").is(savedComment.getId())),
+                new Update().set("createdAt", createdAt), Comment.class).block();
+        return savedComment;
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void findByThreadId_WhenPagingWithCursorOfOldestComment_ReturnsEveryCommentOnce() {
+        // Three of the comments are made at the same time, and are ordered by their ids.
+        List<Comment> comments = new ArrayList<>();
+        comments.add(createComment(CREATED_AT.plusSeconds(60)));
+        comments.add(createComment(CREATED_AT));
+        comments.add(createComment(CREATED_AT));
+        comments.add(createComment(CREATED_AT));
+        comments.add(createComment(CREATED_AT.minusSeconds(60)));
+
+        List<String> pagedCommentIds = new ArrayList<>();
+        Instant createdBefore = null;
+        String idBefore = null;
+        for (int page = 0; page < 3; page++) {
+            List<Comment> pageComments = commentRepository
+                    .findByThreadId(threadId, createdBefore, idBefore, 2, READ_COMMENTS)
+                    .collectList()
+                    .block();
+            assertThat(pageComments).hasSizeLessThanOrEqualTo(2);
+            pageComments.forEach(comment -> pagedCommentIds.add(comment.getId()));
+            if (pageComments.isEmpty()) {
+                break;
+            }
+            Comment oldestComment = pageComments.get(pageComments.size() - 1);
+            createdBefore = oldestComment.getCreatedAt();
+            idBefore = oldestComment.getId();
+        }
+
+        List<String> tiedCommentIds = new ArrayList<>(List.of(comments.get(1).getId(), comments.get(2).getId(),
+                comments.get(3).getId()));
+        tiedCommentIds.sort((a, b) -> b.compareTo(a));
+        List<String> expectedCommentIds = new ArrayList<>();
+        expectedCommentIds.add(comments.get(0).getId());
+        expectedCommentIds.addAll(tiedCommentIds);
+        expectedCommentIds.add(comments.get(4).getId());
+        assertThat(pagedCommentIds).containsExactlyElementsOf(expectedCommentIds);
+    }
+}
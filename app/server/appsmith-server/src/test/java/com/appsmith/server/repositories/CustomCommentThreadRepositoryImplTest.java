@@ -0,0 +1,184 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.domains.Comment;
+import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.CommentThreadFilterDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.appsmith.server.acl.AclPermission.READ_COMMENTS;
+import static com.appsmith.server.acl.AclPermission.READ_THREADS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+public class CustomCommentThreadRepositoryImplTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2022-10-01T10:00:00Z");
+
+    @Autowired
+    CommentThreadRepository commentThreadRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    CacheableRepositoryHelper cacheableRepositoryHelper;
+
+    @Autowired
+    ReactiveMongoOperations mongoOperations;
+
+    private String applicationId;
+
+    private Set<String> permissionGroups;
+
+    @BeforeEach
+    public void setUp() {
+        applicationId = UUID.randomUUID().toString();
+        User apiUser = userRepository.findByEmail("api_user").block();
+        permissionGroups = cacheableRepositoryHelper.getPermissionGroupsOfUser(apiUser).block();
+    }
+
+    private Set<Policy> policies(String permission, Set<String> permissionGroups) {
+        return new HashSet<>(Set.of(Policy.builder()
+                .permission(permission)
+                .permissionGroups(new HashSet<>(permissionGroups))
+                .build()));
+    }
+
+    private CommentThread createThread(Instant updatedAt) {
+        CommentThread thread = new CommentThread();
+        thread.setApplicationId(applicationId);
+        thread.setPolicies(policies(READ_THREADS.getValue(), permissionGroups));
+        CommentThread savedThread = mongoOperations.insert(thread).block();
+
+        // The time of update is set on save, and is overwritten here to control the order of the threads.
+        mongoOperations.updateFirst(Query.query(where("id").is(savedThread.getId())),
+                new Update().set("updatedAt", updatedAt), CommentThread.class).block();
+        savedThread.setUpdatedAt(updatedAt);
+        return savedThread;
+    }
+
+    private Comment createComment(CommentThread thread, String body, Instant createdAt, Set<String> permissionGroups) {
+        Comment comment = new Comment();
+        comment.setThreadId(thread.getId());
+        comment.setApplicationId(applicationId);
+        comment.setAuthorName(body);
+        comment.setPolicies(policies(READ_COMMENTS.getValue(), permissionGroups));
+        Comment savedComment = mongoOperations.insert(comment).block();
+
+        mongoOperations.updateFirst(Query.query(where("id").is(savedComment.getId())),
+                new Update().set("createdAt", createdAt), Comment.class).block();
+        return savedComment;
+    }
+
+    private CommentThreadFilterDTO filter() {
+        CommentThreadFilterDTO filterDTO = new CommentThreadFilterDTO();
+        filterDTO.setApplicationId(applicationId);
+        return filterDTO;
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void findWithLatestComments_WhenPagingWithCursorOfLastThread_ReturnsEveryThreadOnce() {
+        // Three of the threads are updated at the same time, and are ordered by their ids.
+        List<CommentThread> threads = new ArrayList<>();
+        threads.add(createThread(UPDATED_AT.plusSeconds(60)));
+        threads.add(createThread(UPDATED_AT));
+        threads.add(createThread(UPDATED_AT));
+        threads.add(createThread(UPDATED_AT));
+        threads.add(createThread(UPDATED_AT.minusSeconds(60)));
+
+        List<String> pagedThreadIds = new ArrayList<>();
+        Instant updatedBefore = null;
+        String idBefore = null;
+        for (int page = 0; page < 3; page++) {
+            List<CommentThread> pageThreads = commentThreadRepository
+                    .findWithLatestComments(filter(), updatedBefore, idBefore, 2, 5, READ_THREADS)
+                    .collectList()
+                    .block();
+            assertThat(pageThreads).hasSizeLessThanOrEqualTo(2);
+            pageThreads.forEach(thread -> pagedThreadIds.add(thread.getId()));
+            if (pageThreads.isEmpty()) {
+                break;
+            }
+            CommentThread lastThread = pageThreads.get(pageThreads.size() - 1);
+            updatedBefore = lastThread.getUpdatedAt();
+            idBefore = lastThread.getId();
+        }
+
+        List<String> tiedThreadIds = new ArrayList<>(List.of(threads.get(1).getId(), threads.get(2).getId(),
+                threads.get(3).getId()));
+        tiedThreadIds.sort((a, b) -> b.compareTo(a));
+        List<String> expectedThreadIds = new ArrayList<>();
+        expectedThreadIds.add(threads.get(0).getId());
+        expectedThreadIds.addAll(tiedThreadIds);
+        expectedThreadIds.add(threads.get(4).getId());
+        assertThat(pagedThreadIds).containsExactlyElementsOf(expectedThreadIds);
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void findWithLatestComments_WhenThreadHasMoreComments_ReturnsLatestCommentsInOrderOfCreation() {
+        CommentThread longThread = createThread(UPDATED_AT);
+        createComment(longThread, "first", UPDATED_AT.minusSeconds(30), permissionGroups);
+        createComment(longThread, "second", UPDATED_AT.minusSeconds(20), permissionGroups);
+        createComment(longThread, "third", UPDATED_AT.minusSeconds(10), permissionGroups);
+
+        CommentThread shortThread = createThread(UPDATED_AT.minusSeconds(60));
+        createComment(shortThread, "first", UPDATED_AT.minusSeconds(90), permissionGroups);
+        createComment(shortThread, "second", UPDATED_AT.minusSeconds(80), permissionGroups);
+
+        StepVerifier.create(commentThreadRepository.findWithLatestComments(filter(), null, null, 10, 2, READ_THREADS))
+                .assertNext(thread -> {
+                    assertThat(thread.getId()).isEqualTo(longThread.getId());
+                    assertThat(thread.getComments()).extracting(Comment::getAuthorName)
+                            .containsExactly("second", "third");
+                    assertThat(thread.getHasMoreComments()).isTrue();
+                })
+                .assertNext(thread -> {
+                    // Exactly as many comments as the limit, so there are no more to load
+                    assertThat(thread.getId()).isEqualTo(shortThread.getId());
+                    assertThat(thread.getComments()).extracting(Comment::getAuthorName)
+                            .containsExactly("first", "second");
+                    assertThat(thread.getHasMoreComments()).isFalse();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void findWithLatestComments_WhenUserCannotReadSomeComments_LeavesThemOut() {
+        CommentThread thread = createThread(UPDATED_AT);
+        createComment(thread, "visible", UPDATED_AT.minusSeconds(20), permissionGroups);
+        createComment(thread, "hidden", UPDATED_AT.minusSeconds(10), Set.of("some-other-permission-group"));
+
+        StepVerifier.create(commentThreadRepository.findWithLatestComments(filter(), null, null, 10, 1, READ_THREADS))
+                .assertNext(fetchedThread -> {
+                    assertThat(fetchedThread.getComments()).extracting(Comment::getAuthorName)
+                            .containsExactly("visible");
+                    // The hidden comment doesn't count towards the comments left to load either
+                    assertThat(fetchedThread.getHasMoreComments()).isFalse();
+                })
+                .verifyComplete();
+    }
+}
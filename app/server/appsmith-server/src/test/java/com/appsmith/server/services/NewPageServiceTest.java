@@ -17,6 +17,7 @@ import reactor.test.StepVerifier;
 
 import java.util.UUID;
 
+import static com.appsmith.server.acl.AclPermission.READ_PAGES;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
@@ -94,4 +95,30 @@ public class NewPageServiceTest {
         }).verifyComplete();
     }
 
-}
\ No newline at end of file
+    @Test
+    @WithUserDetails("api_user")
+    public void findPageById_WhenViewModeTrue_ReturnsPublishedPage() {
+        String randomId = UUID.randomUUID().toString();
+        Workspace workspace = new Workspace();
+        workspace.setName("org_" + randomId);
+        Mono<PageDTO> pageMono = workspaceService.create(workspace).flatMap(createdWorkspace -> {
+            Application application = new Application();
+            application.setName("app_" + randomId);
+            return applicationPageService.createApplication(application, createdWorkspace.getId());
+        }).flatMap(application -> {
+            PageDTO pageDTO = new PageDTO();
+            pageDTO.setName("page_" + randomId);
+            pageDTO.setApplicationId(application.getId());
+            return applicationPageService.createPage(pageDTO);
+        }).flatMap(pageDTO -> applicationPageService.publish(pageDTO.getApplicationId(), true).thenReturn(pageDTO)
+        ).flatMap(pageDTO -> newPageService.findPageById(pageDTO.getId(), READ_PAGES, true));
+
+        StepVerifier.create(pageMono).assertNext(page -> {
+            assertThat(page.getName()).isEqualTo("page_" + randomId);
+            assertThat(page.getApplicationId()).isNotNull();
+            assertThat(page.getLayouts()).isNotEmpty();
+            assertThat(page.getUserPermissions()).contains(READ_PAGES.getValue());
+        }).verifyComplete();
+    }
+
+}
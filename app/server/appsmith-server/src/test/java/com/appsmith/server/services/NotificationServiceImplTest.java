@@ -1,10 +1,12 @@
 package com.appsmith.server.services;
 
 import com.appsmith.server.domains.Notification;
+import com.appsmith.server.domains.UnreadCounter;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.UpdateIsReadNotificationByIdDTO;
 import com.appsmith.server.dtos.UpdateIsReadNotificationDTO;
 import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.helpers.NotificationBatchWriter;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.repositories.NotificationRepository;
 import com.mongodb.client.result.UpdateResult;
@@ -50,6 +52,10 @@ public class NotificationServiceImplTest {
     private SessionUserService sessionUserService;
     @MockBean
     private ResponseUtils responseUtils;
+    @MockBean
+    private NotificationBatchWriter notificationBatchWriter;
+    @MockBean
+    private UnreadCounterService unreadCounterService;
 
     NotificationService notificationService;
     private User currentUser;
@@ -58,7 +64,8 @@ public class NotificationServiceImplTest {
     public void setUp() {
         notificationService = new NotificationServiceImpl(
                 scheduler, validator, mongoConverter, reactiveMongoTemplate,
-                repository, analyticsService, sessionUserService, responseUtils);
+                repository, analyticsService, sessionUserService, responseUtils, notificationBatchWriter,
+                unreadCounterService);
         currentUser = new User();
         currentUser.setEmail("sample-email");
 
@@ -67,6 +74,8 @@ public class NotificationServiceImplTest {
         Mockito.when(repository.countByForUsername(currentUser.getUsername())).thenReturn(Mono.just(100L));
         // mock the repository to return unread count as 5
         Mockito.when(repository.countByForUsernameAndIsReadIsFalse(currentUser.getUsername())).thenReturn(Mono.just(5L));
+        Mockito.when(unreadCounterService.invalidate(Mockito.anyCollection(), Mockito.anyString()))
+                .thenReturn(Mono.empty());
     }
 
     private List<Notification> createSampleNotificationList() {
@@ -174,4 +183,38 @@ public class NotificationServiceImplTest {
                 })
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void updateIsRead_WhenUpdateById_InvalidatesUnreadCounterIfAnyWasModified() {
+        UpdateIsReadNotificationByIdDTO dto = new UpdateIsReadNotificationByIdDTO();
+        dto.setIsRead(true);
+        dto.setIdList(List.of("sample-id-1", "sample-id-2", "sample-id-3"));
+
+        // one of the notifications was read already
+        UpdateResult updateResult = Mockito.mock(UpdateResult.class);
+        Mockito.when(updateResult.getModifiedCount()).thenReturn(2L);
+        Mockito.when(repository.updateIsReadByForUsernameAndIdList(
+                currentUser.getUsername(), dto.getIdList(), true)
+        ).thenReturn(Mono.just(updateResult));
+
+        StepVerifier
+                .create(notificationService.updateIsRead(dto))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        Mockito.verify(unreadCounterService)
+                .invalidate(List.of(currentUser.getUsername()), UnreadCounter.NOTIFICATIONS_SCOPE);
+    }
+
+    @Test
+    public void getUnreadCount_ReadsUnreadCounter() {
+        Mockito.when(unreadCounterService.getCount(
+                eq(currentUser.getUsername()), eq(UnreadCounter.NOTIFICATIONS_SCOPE), Mockito.any())
+        ).thenReturn(Mono.just(3L));
+
+        StepVerifier
+                .create(notificationService.getUnreadCount())
+                .expectNext(3L)
+                .verifyComplete();
+    }
+}
@@ -73,7 +73,7 @@ public class PluginServiceTest {
         Mockito.when(pluginService.loadPluginResource(Mockito.anyString(), eq("dependency.json")))
                 .thenReturn(Mono.error(new AppsmithException(AppsmithError.PLUGIN_LOAD_FORM_JSON_FAIL)));
 
-        Mono<Map> formConfig = pluginService.getFormConfig("random-plugin-id");
+        Mono<Map> formConfig = pluginService.getFormConfig("plugin-without-form-config");
 
         StepVerifier.create(formConfig)
                 .expectError(AppsmithException.class)
@@ -95,7 +95,7 @@ public class PluginServiceTest {
         Mockito.when(pluginService.loadPluginResource(Mockito.anyString(), eq("dependency.json")))
                 .thenReturn(Mono.error(new AppsmithException(AppsmithError.PLUGIN_LOAD_FORM_JSON_FAIL)));
 
-        Mono<Map> formConfig = pluginService.getFormConfig("random-plugin-id");
+        Mono<Map> formConfig = pluginService.getFormConfig("plugin-without-editor-config");
         StepVerifier.create(formConfig)
                 .assertNext(form -> {
                     assertThat(form).isNotNull();
@@ -131,7 +131,7 @@ public class PluginServiceTest {
         Mockito.when(pluginService.loadPluginResource(Mockito.anyString(), eq("dependency.json")))
                 .thenReturn(Mono.just(dependencyMap));
 
-        Mono<Map> formConfig = pluginService.getFormConfig("random-plugin-id");
+        Mono<Map> formConfig = pluginService.getFormConfig("plugin-with-all-configs");
         StepVerifier.create(formConfig)
                 .assertNext(form -> {
                     assertThat(form).isNotNull();
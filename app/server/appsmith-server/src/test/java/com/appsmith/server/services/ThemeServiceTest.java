@@ -546,6 +546,38 @@ public class ThemeServiceTest {
                 }).verifyComplete();
     }
 
+    @WithUserDetails("api_user")
+    @Test
+    public void getApplicationTheme_WhenCustomThemeIsRepublished_UpdatedThemeReturned() {
+        Application application = createApplication();
+        String applicationId = application.getId();
+
+        // Create and apply a custom theme in edit mode, and publish it
+        Theme customTheme = new Theme();
+        customTheme.setDisplayName("My custom theme");
+        themeService.persistCurrentTheme(applicationId, null, customTheme)
+                .flatMap(theme -> themeService.changeCurrentTheme(theme.getId(), applicationId, null))
+                .then(applicationPageService.publish(applicationId, TRUE))
+                .block();
+
+        // Read the published theme once, so that it's cached
+        Theme publishedTheme = themeService.getApplicationTheme(applicationId, ApplicationMode.PUBLISHED, null).block();
+        assertThat(publishedTheme.getDisplayName()).isEqualTo("My custom theme");
+
+        // Update the theme in edit mode and publish again
+        Theme themeCustomization = new Theme();
+        themeCustomization.setDisplayName("Updated name");
+        Mono<Theme> republishedThemeMono = themeService.updateTheme(applicationId, null, themeCustomization)
+                .then(applicationPageService.publish(applicationId, TRUE))
+                .then(themeService.getApplicationTheme(applicationId, ApplicationMode.PUBLISHED, null));
+
+        StepVerifier.create(republishedThemeMono)
+                .assertNext(theme -> {
+                    assertThat(theme.getId()).isEqualTo(publishedTheme.getId());
+                    assertThat(theme.getDisplayName()).isEqualTo("Updated name");
+                }).verifyComplete();
+    }
+
     @WithUserDetails("api_user")
     @Test
     public void publishTheme_WhenNoThemeIsSet_SystemDefaultThemeIsSetToPublishedMode() {
@@ -15,6 +15,7 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DefaultResources;
 import com.appsmith.external.models.PaginationField;
 import com.appsmith.external.models.PaginationType;
+import com.appsmith.external.models.PluginType;
 import com.appsmith.external.models.ParsedDataType;
 import com.appsmith.external.models.Policy;
 import com.appsmith.external.models.Property;
@@ -44,6 +45,7 @@ import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.MockPluginExecutor;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.helpers.WidgetSuggestionHelper;
+import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.repositories.PermissionGroupRepository;
 import com.appsmith.server.repositories.PluginRepository;
 import com.appsmith.server.services.ApplicationPageService;
@@ -75,6 +77,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
@@ -107,6 +111,8 @@ import static com.appsmith.server.constants.FieldName.DEVELOPER;
 import static com.appsmith.server.constants.FieldName.VIEWER;
 import static com.appsmith.server.services.ce.ApplicationPageServiceCEImpl.EVALUATION_VERSION;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -170,6 +176,12 @@ public class ActionServiceCE_Test {
     @SpyBean
     AstService astService;
 
+    @Autowired
+    NewActionRepository newActionRepository;
+
+    @Autowired
+    ReactiveMongoOperations mongoOperations;
+
     Application testApp = null;
 
     PageDTO testPage = null;
@@ -1151,6 +1163,43 @@ public class ActionServiceCE_Test {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getActionsInViewMode_WhenPluginTypeIsMissing_FillsItInFromUnpublishedAction() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        ActionDTO action = new ActionDTO();
+        action.setName("viewModeActionWithoutPluginType");
+        action.setPageId(testPage.getId());
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+        action.setActionConfiguration(actionConfiguration);
+        action.setDatasource(datasource);
+
+        ActionDTO savedAction = layoutActionService.createSingleAction(action).block();
+        applicationPageService.publish(testApp.getId(), true).block();
+        // Actions have been found without their plugin type and id in the database
+        mongoOperations.updateFirst(
+                query(where("_id").is(savedAction.getId())),
+                new Update().unset("pluginType").unset("pluginId"),
+                NewAction.class
+        ).block();
+
+        Mono<NewAction> viewModeActionMono = newActionRepository
+                .findByApplicationIdAndViewModeWithProjection(testApp.getId(), true, EXECUTE_ACTIONS)
+                .filter(newAction -> savedAction.getId().equals(newAction.getId()))
+                .single()
+                .flatMap(newActionService::sanitizeAction);
+
+        StepVerifier.create(viewModeActionMono)
+                .assertNext(newAction -> {
+                    assertThat(newAction.getPluginId()).isEqualTo(datasource.getPluginId());
+                    assertThat(newAction.getPluginType()).isEqualTo(PluginType.API);
+                    assertThat(newAction.getPublishedAction().getName()).isEqualTo(action.getName());
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void executeActionWithExternalDatasource() {
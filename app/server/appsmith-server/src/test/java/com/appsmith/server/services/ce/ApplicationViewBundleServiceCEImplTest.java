@@ -0,0 +1,219 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.constants.AnalyticsEvents;
+import com.appsmith.server.configurations.ProjectProperties;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.ApplicationMode;
+import com.appsmith.server.domains.ApplicationPage;
+import com.appsmith.server.domains.ApplicationViewBundle;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.Theme;
+import com.appsmith.server.dtos.ApplicationPagesDTO;
+import com.appsmith.server.dtos.ApplicationViewBundleDTO;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.helpers.ResponseUtils;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.ApplicationViewBundleRepository;
+import com.appsmith.server.services.AnalyticsService;
+import com.appsmith.server.services.ApplicationService;
+import com.appsmith.server.services.LayoutActionService;
+import com.appsmith.server.services.NewActionService;
+import com.appsmith.server.services.NewPageService;
+import com.appsmith.server.services.ThemeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static com.appsmith.server.acl.AclPermission.READ_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.READ_PAGES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class ApplicationViewBundleServiceCEImplTest {
+
+    private static final String APPLICATION_ID = "application-id";
+
+    private static final String DEFAULT_PAGE_ID = "default-page-id";
+
+    private static final Instant UPDATED_AT = Instant.parse("2022-10-01T10:00:00Z");
+
+    private ApplicationViewBundleRepository repository;
+
+    private ApplicationRepository applicationRepository;
+
+    private ApplicationService applicationService;
+
+    private NewPageService newPageService;
+
+    private ObjectMapper objectMapper;
+
+    private AnalyticsService analyticsService;
+
+    private ApplicationViewBundleServiceCE viewBundleService;
+
+    @BeforeEach
+    public void setUp() throws JsonProcessingException {
+        repository = Mockito.mock(ApplicationViewBundleRepository.class);
+        applicationRepository = Mockito.mock(ApplicationRepository.class);
+        applicationService = Mockito.mock(ApplicationService.class);
+        newPageService = Mockito.mock(NewPageService.class);
+        NewActionService newActionService = Mockito.mock(NewActionService.class);
+        ThemeService themeService = Mockito.mock(ThemeService.class);
+        ResponseUtils responseUtils = Mockito.mock(ResponseUtils.class);
+        objectMapper = Mockito.mock(ObjectMapper.class);
+        analyticsService = Mockito.mock(AnalyticsService.class);
+        ProjectProperties projectProperties = Mockito.mock(ProjectProperties.class);
+
+        Mockito.when(projectProperties.getVersion()).thenReturn("v1");
+
+        Application application = new Application();
+        application.setId(APPLICATION_ID);
+        application.setUpdatedAt(UPDATED_AT);
+        application.setUserPermissions(Set.of(READ_APPLICATIONS.getValue()));
+        application.setPublishedPages(List.of(applicationPage("page-id", false), applicationPage(DEFAULT_PAGE_ID, true)));
+        Mockito.when(applicationService.findBranchedApplicationId(null, APPLICATION_ID, READ_APPLICATIONS))
+                .thenReturn(Mono.just(APPLICATION_ID));
+        Mockito.when(applicationRepository.findById(eq(APPLICATION_ID), anyList(), eq(READ_APPLICATIONS)))
+                .thenReturn(Mono.just(application));
+        Mockito.when(applicationService.findById(APPLICATION_ID, READ_APPLICATIONS)).thenReturn(Mono.just(application));
+
+        Mockito.when(newPageService.findApplicationPagesByApplicationIdViewMode(APPLICATION_ID, true, false))
+                .thenReturn(Mono.just(new ApplicationPagesDTO()));
+        Mockito.when(newActionService.getActionsForViewMode(APPLICATION_ID)).thenReturn(Flux.empty());
+        Mockito.when(themeService.getApplicationTheme(APPLICATION_ID, ApplicationMode.PUBLISHED, null))
+                .thenReturn(Mono.just(new Theme()));
+        Mockito.when(responseUtils.updateApplicationPagesDTOWithDefaultResources(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        Mockito.when(responseUtils.updateApplicationWithDefaultResources(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        Mockito.when(objectMapper.writeValueAsBytes(any())).thenReturn("{}".getBytes(StandardCharsets.UTF_8));
+
+        Mockito.when(repository.save(any(ApplicationViewBundle.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        Mockito.when(newPageService.findPageById(anyString(), eq(READ_PAGES), eq(true))).thenReturn(Mono.empty());
+        Mockito.when(newPageService.findById(DEFAULT_PAGE_ID, READ_PAGES)).thenReturn(Mono.just(new NewPage()));
+        Mockito.when(analyticsService.sendObjectEventInBackground(any(), any(), any())).thenReturn(Mono.empty());
+
+        viewBundleService = new ApplicationViewBundleServiceCEImpl(repository, applicationRepository, applicationService,
+                newPageService, newActionService, themeService, Mockito.mock(LayoutActionService.class), responseUtils,
+                objectMapper, projectProperties, analyticsService);
+    }
+
+    private static ApplicationPage applicationPage(String id, boolean isDefault) {
+        ApplicationPage applicationPage = new ApplicationPage();
+        applicationPage.setId(id);
+        applicationPage.setIsDefault(isDefault);
+        return applicationPage;
+    }
+
+    private static ApplicationViewBundle bundle(String permissionGroupsKey, Instant applicationUpdatedAt) {
+        ApplicationViewBundle bundle = new ApplicationViewBundle();
+        bundle.setApplicationId(APPLICATION_ID);
+        bundle.setPermissionGroupsKey(permissionGroupsKey);
+        bundle.setApplicationUpdatedAt(applicationUpdatedAt);
+        bundle.setServerVersion("v1");
+        bundle.setVersion("version");
+        return bundle;
+    }
+
+    private String captureLookedUpPermissionGroupsKey() {
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(repository, Mockito.atLeastOnce())
+                .findByApplicationIdAndPermissionGroupsKey(eq(APPLICATION_ID), keyCaptor.capture());
+        return keyCaptor.getValue();
+    }
+
+    @Test
+    public void getViewBundle_WhenBundleOfPermissionGroupsIsUpToDate_ServesItWithoutGenerating() {
+        Mockito.when(repository.getPermissionGroupsOfCurrentUser()).thenReturn(Mono.just(Set.of("group1")));
+        Mockito.when(repository.findByApplicationIdAndPermissionGroupsKey(eq(APPLICATION_ID), anyString()))
+                .thenAnswer(invocation -> Mono.just(bundle(invocation.getArgument(1), UPDATED_AT)));
+
+        StepVerifier.create(viewBundleService.getViewBundle(APPLICATION_ID, null))
+                .assertNext(bundle -> assertThat(bundle.getVersion()).isEqualTo("version"))
+                .verifyComplete();
+
+        Mockito.verify(applicationService, Mockito.never()).findById(anyString(), any());
+        Mockito.verify(repository, Mockito.never()).save(any());
+    }
+
+    @Test
+    public void getViewBundle_WhenApplicationUpdatedSinceGeneration_GeneratesForPermissionGroupsOfViewer() {
+        Mockito.when(repository.getPermissionGroupsOfCurrentUser()).thenReturn(Mono.just(Set.of("group1")));
+        Mockito.when(repository.findByApplicationIdAndPermissionGroupsKey(eq(APPLICATION_ID), anyString()))
+                .thenAnswer(invocation -> Mono.just(bundle(invocation.getArgument(1), UPDATED_AT.minusSeconds(60))));
+
+        StepVerifier.create(viewBundleService.getViewBundle(APPLICATION_ID, null))
+                .assertNext(bundle -> {
+                    assertThat(bundle.getApplicationUpdatedAt()).isEqualTo(UPDATED_AT);
+                    assertThat(bundle.getPermissionGroupsKey()).isEqualTo(captureLookedUpPermissionGroupsKey());
+                    assertThat(bundle.getVersion()).isNotEqualTo("version");
+                })
+                .verifyComplete();
+
+        Mockito.verify(repository).save(any());
+    }
+
+    @Test
+    public void getViewBundle_ForViewersWithDifferentPermissionGroups_ServesDifferentBundles() {
+        Mockito.when(repository.findByApplicationIdAndPermissionGroupsKey(eq(APPLICATION_ID), anyString()))
+                .thenReturn(Mono.empty());
+
+        Mockito.when(repository.getPermissionGroupsOfCurrentUser()).thenReturn(Mono.just(Set.of("group1", "group2")));
+        String firstKey = viewBundleService.getViewBundle(APPLICATION_ID, null).block().getPermissionGroupsKey();
+
+        Mockito.when(repository.getPermissionGroupsOfCurrentUser()).thenReturn(Mono.just(Set.of("group1")));
+        String secondKey = viewBundleService.getViewBundle(APPLICATION_ID, null).block().getPermissionGroupsKey();
+
+        // The same groups in any order make the same key
+        Mockito.when(repository.getPermissionGroupsOfCurrentUser()).thenReturn(Mono.just(Set.of("group2", "group1")));
+        String thirdKey = viewBundleService.getViewBundle(APPLICATION_ID, null).block().getPermissionGroupsKey();
+
+        assertThat(firstKey).isNotEqualTo(secondKey);
+        assertThat(thirdKey).isEqualTo(firstKey);
+    }
+
+    @Test
+    public void getViewBundle_WhenGenerated_KeepsPermissionsOfViewersWithThosePermissionGroups() throws JsonProcessingException {
+        Mockito.when(repository.getPermissionGroupsOfCurrentUser()).thenReturn(Mono.just(Set.of("group1")));
+        Mockito.when(repository.findByApplicationIdAndPermissionGroupsKey(eq(APPLICATION_ID), anyString()))
+                .thenReturn(Mono.empty());
+
+        StepVerifier.create(viewBundleService.getViewBundle(APPLICATION_ID, null))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        ArgumentCaptor<ResponseDTO<ApplicationViewBundleDTO>> responseCaptor = ArgumentCaptor.forClass(ResponseDTO.class);
+        Mockito.verify(objectMapper).writeValueAsBytes(responseCaptor.capture());
+        assertThat(responseCaptor.getValue().getData().getApplication().getUserPermissions())
+                .containsExactly(READ_APPLICATIONS.getValue());
+    }
+
+    @Test
+    public void getViewBundle_SendsViewEventOfDefaultPage() {
+        Mockito.when(repository.getPermissionGroupsOfCurrentUser()).thenReturn(Mono.just(Set.of("group1")));
+        Mockito.when(repository.findByApplicationIdAndPermissionGroupsKey(eq(APPLICATION_ID), anyString()))
+                .thenAnswer(invocation -> Mono.just(bundle(invocation.getArgument(1), UPDATED_AT)));
+
+        StepVerifier.create(viewBundleService.getViewBundle(APPLICATION_ID, null))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        Mockito.verify(analyticsService).sendObjectEventInBackground(eq(AnalyticsEvents.VIEW), any(), any());
+        Mockito.verify(newPageService).findById(DEFAULT_PAGE_ID, READ_PAGES);
+    }
+}
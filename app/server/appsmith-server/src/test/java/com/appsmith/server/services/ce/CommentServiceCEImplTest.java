@@ -0,0 +1,381 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.ApplicationMode;
+import com.appsmith.server.domains.Comment;
+import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.CommentPageDTO;
+import com.appsmith.server.dtos.CommentThreadFilterDTO;
+import com.appsmith.server.dtos.CommentThreadPageDTO;
+import com.appsmith.server.events.CommentNotificationEvent;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PolicyUtils;
+import com.appsmith.server.helpers.ResponseUtils;
+import com.appsmith.server.repositories.CommentRepository;
+import com.appsmith.server.repositories.CommentThreadRepository;
+import com.appsmith.server.repositories.UserDataRepository;
+import com.appsmith.server.services.AnalyticsService;
+import com.appsmith.server.services.ApplicationService;
+import com.appsmith.server.services.NewPageService;
+import com.appsmith.server.services.NotificationService;
+import com.appsmith.server.services.SequenceService;
+import com.appsmith.server.services.SessionUserService;
+import com.appsmith.server.services.UnreadCounterService;
+import com.appsmith.server.services.UserService;
+import com.appsmith.server.solutions.EmailEventHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import javax.validation.Validator;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.appsmith.server.acl.AclPermission.MANAGE_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.MANAGE_THREADS;
+import static com.appsmith.server.acl.AclPermission.READ_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.READ_COMMENTS;
+import static com.appsmith.server.acl.AclPermission.READ_THREADS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+
+public class CommentServiceCEImplTest {
+
+    private static final String APPLICATION_ID = "application-id";
+
+    private static final String USERNAME = "user@example.com";
+
+    private CommentRepository commentRepository;
+
+    private CommentThreadRepository threadRepository;
+
+    private ApplicationService applicationService;
+
+    private SessionUserService sessionUserService;
+
+    private PolicyUtils policyUtils;
+
+    private UnreadCounterService unreadCounterService;
+
+    private NotificationService notificationService;
+
+    private AnalyticsService analyticsService;
+
+    private EmailEventHandler emailEventHandler;
+
+    private CommentServiceCE commentService;
+
+    @BeforeEach
+    public void setUp() {
+        commentRepository = Mockito.mock(CommentRepository.class);
+        threadRepository = Mockito.mock(CommentThreadRepository.class);
+        applicationService = Mockito.mock(ApplicationService.class);
+        sessionUserService = Mockito.mock(SessionUserService.class);
+        policyUtils = Mockito.mock(PolicyUtils.class);
+        unreadCounterService = Mockito.mock(UnreadCounterService.class);
+        notificationService = Mockito.mock(NotificationService.class);
+        analyticsService = Mockito.mock(AnalyticsService.class);
+        emailEventHandler = Mockito.mock(EmailEventHandler.class);
+        ResponseUtils responseUtils = Mockito.mock(ResponseUtils.class);
+
+        User user = new User();
+        user.setId("user-id");
+        user.setEmail(USERNAME);
+        Mockito.when(sessionUserService.getCurrentUser()).thenReturn(Mono.just(user));
+
+        Application application = new Application();
+        application.setId(APPLICATION_ID);
+        Mockito.when(applicationService.findBranchedApplicationId(null, APPLICATION_ID, READ_APPLICATIONS))
+                .thenReturn(Mono.just(APPLICATION_ID));
+        Mockito.when(applicationService.findById(APPLICATION_ID, READ_APPLICATIONS)).thenReturn(Mono.just(application));
+        Mockito.when(policyUtils.isPermissionPresentForUser(any(), eq(MANAGE_APPLICATIONS.getValue()), eq(USERNAME)))
+                .thenReturn(true);
+
+        Mockito.when(responseUtils.updatePageAndAppIdWithDefaultResourcesForComments(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        Mockito.when(unreadCounterService.invalidate(anyCollection(), anyString())).thenReturn(Mono.empty());
+        Mockito.when(unreadCounterService.invalidate(anyString())).thenReturn(Mono.empty());
+        Mockito.when(threadRepository.updateById(anyString(), any(CommentThread.class), eq(READ_THREADS)))
+                .thenAnswer(invocation -> Mono.just(invocation.<CommentThread>getArgument(1)));
+
+        commentService = new CommentServiceCEImpl(Schedulers.immediate(), Mockito.mock(Validator.class),
+                Mockito.mock(MongoConverter.class), Mockito.mock(ReactiveMongoTemplate.class), commentRepository,
+                analyticsService, threadRepository, Mockito.mock(UserService.class),
+                sessionUserService, applicationService, Mockito.mock(NewPageService.class),
+                notificationService, Mockito.mock(PolicyGenerator.class), policyUtils,
+                emailEventHandler, Mockito.mock(UserDataRepository.class),
+                Mockito.mock(SequenceService.class), responseUtils, unreadCounterService);
+    }
+
+    private static CommentThread thread(String id, Instant updatedAt, Set<String> viewedByUsers) {
+        CommentThread thread = new CommentThread();
+        thread.setId(id);
+        thread.setApplicationId(APPLICATION_ID);
+        thread.setUpdatedAt(updatedAt);
+        thread.setViewedByUsers(viewedByUsers);
+        CommentThread.CommentThreadState resolvedState = new CommentThread.CommentThreadState();
+        resolvedState.setActive(false);
+        thread.setResolvedState(resolvedState);
+        thread.setComments(new ArrayList<>(List.of(new Comment())));
+        thread.setHasMoreComments(false);
+        return thread;
+    }
+
+    private static CommentThread unresolvedThread(Set<String> viewedByUsers) {
+        CommentThread thread = thread("thread-id", Instant.now(), new HashSet<>(viewedByUsers));
+        thread.setComments(null);
+        return thread;
+    }
+
+    private static CommentThread.CommentThreadState resolvedState(boolean active) {
+        CommentThread.CommentThreadState resolvedState = new CommentThread.CommentThreadState();
+        resolvedState.setActive(active);
+        return resolvedState;
+    }
+
+    private static CommentThread viewUpdate(Boolean isViewed) {
+        CommentThread update = new CommentThread();
+        update.setIsViewed(isViewed);
+        return update;
+    }
+
+    private static Comment comment(String id, Instant createdAt) {
+        Comment comment = new Comment();
+        comment.setId(id);
+        comment.setCreatedAt(createdAt);
+        return comment;
+    }
+
+    private static CommentThreadFilterDTO filter(String cursor, Integer limit) {
+        CommentThreadFilterDTO filterDTO = new CommentThreadFilterDTO();
+        filterDTO.setApplicationId(APPLICATION_ID);
+        filterDTO.setCursor(cursor);
+        filterDTO.setLimit(limit);
+        return filterDTO;
+    }
+
+    @Test
+    public void getThreadsPageByApplicationId_WhenPageIsFull_ReturnsCursorThatFetchesThreadsAfterLastThread() {
+        Instant updatedAt = Instant.parse("2022-10-01T10:00:00.123Z");
+        Mockito.when(threadRepository.findWithLatestComments(any(), isNull(), isNull(), eq(2), anyInt(), eq(READ_THREADS)))
+                .thenReturn(Flux.just(
+                        thread("thread-2", updatedAt, Set.of(USERNAME)),
+                        thread("thread-1", updatedAt, Set.of())
+                ));
+
+        CommentThreadPageDTO firstPage = commentService.getThreadsPageByApplicationId(filter(null, 2), null).block();
+
+        assertThat(firstPage.getThreads()).extracting(CommentThread::getId).containsExactly("thread-2", "thread-1");
+        assertThat(firstPage.getThreads()).extracting(CommentThread::getIsViewed).containsExactly(true, false);
+        assertThat(firstPage.getNextCursor()).isNotNull();
+
+        // The cursor carries both the time and the id of the last thread, so threads updated at the same time are
+        // neither skipped nor repeated on the next page.
+        Mockito.when(threadRepository.findWithLatestComments(any(), eq(updatedAt), eq("thread-1"), eq(2), anyInt(), eq(READ_THREADS)))
+                .thenReturn(Flux.just(thread("thread-0", updatedAt, Set.of())));
+
+        StepVerifier.create(commentService.getThreadsPageByApplicationId(filter(firstPage.getNextCursor(), 2), null))
+                .assertNext(secondPage -> {
+                    assertThat(secondPage.getThreads()).extracting(CommentThread::getId).containsExactly("thread-0");
+                    // A page with fewer threads than the limit is the last one
+                    assertThat(secondPage.getNextCursor()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void getThreadsPageByApplicationId_WhenCursorIsMalformed_ThrowsInvalidParameter() {
+        for (String cursor : List.of("not-a-cursor", "1664618400000", "yesterday_thread-1")) {
+            StepVerifier.create(commentService.getThreadsPageByApplicationId(filter(cursor, 2), null))
+                    .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                            && ((AppsmithException) throwable).getError() == AppsmithError.INVALID_PARAMETER)
+                    .verify();
+        }
+
+        Mockito.verify(threadRepository, Mockito.never())
+                .findWithLatestComments(any(), any(), anyString(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    public void getThreadsPageByApplicationId_WhenThreadHasMoreComments_ReturnsCursorOfOldestComment() {
+        Instant createdAt = Instant.parse("2022-10-01T10:00:00.123Z");
+        CommentThread longThread = thread("thread-2", createdAt, Set.of());
+        longThread.setComments(new ArrayList<>(List.of(comment("comment-1", createdAt), comment("comment-2", createdAt))));
+        longThread.setHasMoreComments(true);
+        Mockito.when(threadRepository.findWithLatestComments(any(), isNull(), isNull(), eq(2), anyInt(), eq(READ_THREADS)))
+                .thenReturn(Flux.just(longThread, thread("thread-1", createdAt, Set.of())));
+
+        StepVerifier.create(commentService.getThreadsPageByApplicationId(filter(null, 2), null))
+                .assertNext(page -> assertThat(page.getThreads()).extracting(CommentThread::getCommentsCursor)
+                        .containsExactly(createdAt.toEpochMilli() + "_comment-1", null))
+                .verifyComplete();
+    }
+
+    @Test
+    public void getCommentsByThreadId_WhenPageIsFull_ReturnsCursorThatFetchesCommentsBeforeOldestComment() {
+        Instant createdAt = Instant.parse("2022-10-01T10:00:00.123Z");
+        Mockito.when(threadRepository.findById("thread-id", READ_THREADS))
+                .thenReturn(Mono.just(unresolvedThread(Set.of())));
+        // Fetched latest first
+        Mockito.when(commentRepository.findByThreadId(eq("thread-id"), isNull(), isNull(), eq(2), eq(READ_COMMENTS)))
+                .thenReturn(Flux.just(comment("comment-3", createdAt), comment("comment-2", createdAt)));
+
+        CommentPageDTO firstPage = commentService.getCommentsByThreadId("thread-id", null, 2).block();
+
+        assertThat(firstPage.getComments()).extracting(Comment::getId).containsExactly("comment-2", "comment-3");
+        assertThat(firstPage.getNextCursor()).isNotNull();
+
+        // The cursor carries both the time and the id of the oldest comment, so comments made at the same time are
+        // neither skipped nor repeated on the next page.
+        Mockito.when(commentRepository.findByThreadId(eq("thread-id"), eq(createdAt), eq("comment-2"), eq(2), eq(READ_COMMENTS)))
+                .thenReturn(Flux.just(comment("comment-1", createdAt)));
+
+        StepVerifier.create(commentService.getCommentsByThreadId("thread-id", firstPage.getNextCursor(), 2))
+                .assertNext(secondPage -> {
+                    assertThat(secondPage.getComments()).extracting(Comment::getId).containsExactly("comment-1");
+                    // A page with fewer comments than the limit is the last one
+                    assertThat(secondPage.getNextCursor()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void getCommentsByThreadId_WhenCursorIsMalformed_ThrowsInvalidParameter() {
+        for (String cursor : List.of("not-a-cursor", "1664618400000", "yesterday_comment-1")) {
+            StepVerifier.create(commentService.getCommentsByThreadId("thread-id", cursor, 2))
+                    .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                            && ((AppsmithException) throwable).getError() == AppsmithError.INVALID_PARAMETER)
+                    .verify();
+        }
+
+        Mockito.verify(threadRepository, Mockito.never()).findById(anyString(), any(AclPermission.class));
+    }
+
+    @Test
+    public void getThreadsPageByApplicationId_WhenLimitsAreMissingOrTooLarge_UsesBoundedLimits() {
+        Mockito.when(threadRepository.findWithLatestComments(any(), isNull(), isNull(), anyInt(), anyInt(), eq(READ_THREADS)))
+                .thenReturn(Flux.empty());
+
+        CommentThreadFilterDTO filterDTO = filter(null, null);
+        StepVerifier.create(commentService.getThreadsPageByApplicationId(filterDTO, null))
+                .assertNext(page -> assertThat(page.getNextCursor()).isNull())
+                .verifyComplete();
+        Mockito.verify(threadRepository).findWithLatestComments(any(), isNull(), isNull(), eq(20), eq(10), eq(READ_THREADS));
+
+        filterDTO = filter(null, 1000);
+        filterDTO.setCommentsLimit(-1);
+        StepVerifier.create(commentService.getThreadsPageByApplicationId(filterDTO, null))
+                .assertNext(page -> assertThat(page.getThreads()).isEmpty())
+                .verifyComplete();
+        Mockito.verify(threadRepository).findWithLatestComments(any(), isNull(), isNull(), eq(100), eq(10), eq(READ_THREADS));
+    }
+
+    @Test
+    public void getThreadsPageByApplicationId_WhenUserIsAppViewer_FetchesPublishedThreadsOnly() {
+        Mockito.when(policyUtils.isPermissionPresentForUser(any(), eq(MANAGE_APPLICATIONS.getValue()), eq(USERNAME)))
+                .thenReturn(false);
+        Mockito.when(threadRepository.findWithLatestComments(any(), isNull(), isNull(), anyInt(), anyInt(), eq(READ_THREADS)))
+                .thenReturn(Flux.empty());
+
+        CommentThreadFilterDTO filterDTO = filter(null, 2);
+        commentService.getThreadsPageByApplicationId(filterDTO, null).block();
+
+        assertThat(filterDTO.getMode()).isEqualTo(ApplicationMode.PUBLISHED);
+    }
+
+    @Test
+    public void getUnreadCountDelta_CountsOnlyChangesToWhetherUnresolvedThreadIsViewed() {
+        CommentThread viewedThread = unresolvedThread(Set.of(USERNAME));
+        CommentThread unviewedThread = unresolvedThread(Set.of("other@example.com"));
+
+        assertThat(CommentServiceCEImpl.getUnreadCountDelta(unviewedThread, USERNAME, true)).isEqualTo(-1);
+        assertThat(CommentServiceCEImpl.getUnreadCountDelta(viewedThread, USERNAME, false)).isEqualTo(1);
+        assertThat(CommentServiceCEImpl.getUnreadCountDelta(viewedThread, USERNAME, true)).isZero();
+        assertThat(CommentServiceCEImpl.getUnreadCountDelta(unviewedThread, USERNAME, false)).isZero();
+        assertThat(CommentServiceCEImpl.getUnreadCountDelta(unviewedThread, USERNAME, null)).isZero();
+
+        CommentThread threadWithoutViewers = unresolvedThread(Set.of());
+        threadWithoutViewers.setViewedByUsers(null);
+        assertThat(CommentServiceCEImpl.getUnreadCountDelta(threadWithoutViewers, USERNAME, true)).isEqualTo(-1);
+
+        // Resolved threads are not counted as unread, whether they are viewed or not
+        CommentThread resolvedThread = unresolvedThread(Set.of());
+        resolvedThread.setResolvedState(resolvedState(true));
+        assertThat(CommentServiceCEImpl.getUnreadCountDelta(resolvedThread, USERNAME, true)).isZero();
+        resolvedThread.setResolvedState(null);
+        assertThat(CommentServiceCEImpl.getUnreadCountDelta(resolvedThread, USERNAME, true)).isZero();
+    }
+
+    @Test
+    public void updateThread_WhenUserViewsAndUnviewsThread_UpdatesOnlyTheirCounter() {
+        Mockito.when(threadRepository.findById("thread-id", READ_THREADS))
+                .thenReturn(Mono.just(unresolvedThread(Set.of())));
+        StepVerifier.create(commentService.updateThread("thread-id", viewUpdate(true), null))
+                .assertNext(thread -> assertThat(thread.getViewedByUsers()).containsExactly(USERNAME))
+                .verifyComplete();
+
+        Mockito.when(threadRepository.findById("thread-id", READ_THREADS))
+                .thenReturn(Mono.just(unresolvedThread(Set.of(USERNAME))));
+        StepVerifier.create(commentService.updateThread("thread-id", viewUpdate(false), null))
+                .assertNext(thread -> assertThat(thread.getViewedByUsers()).isEmpty())
+                .verifyComplete();
+        Mockito.verify(unreadCounterService, Mockito.times(2)).invalidate(List.of(USERNAME), APPLICATION_ID);
+
+        Mockito.verify(unreadCounterService, Mockito.never()).invalidate(anyString());
+    }
+
+    @Test
+    public void updateThread_WhenThreadIsResolved_InvalidatesCountersOfApplication() {
+        Mockito.when(threadRepository.findById("thread-id", READ_THREADS))
+                .thenReturn(Mono.just(unresolvedThread(Set.of())));
+        Mockito.when(notificationService.createNotification(any(CommentThread.class), any(), eq(USERNAME)))
+                .thenReturn(Flux.empty());
+        Mockito.when(emailEventHandler.publish(eq(USERNAME), any(), any(CommentThread.class), isNull()))
+                .thenReturn(Mono.just(true));
+
+        CommentThread update = new CommentThread();
+        update.setResolvedState(resolvedState(true));
+        StepVerifier.create(commentService.updateThread("thread-id", update, null))
+                .assertNext(thread -> assertThat(thread.getResolvedState().getActive()).isTrue())
+                .verifyComplete();
+
+        Mockito.verify(unreadCounterService).invalidate(APPLICATION_ID);
+        Mockito.verify(unreadCounterService, Mockito.never()).invalidate(anyCollection(), anyString());
+    }
+
+    @Test
+    public void deleteThread_InvalidatesCountersOfApplication() {
+        CommentThread thread = unresolvedThread(Set.of());
+        thread.setAuthorUsername(USERNAME);
+        Mockito.when(threadRepository.findById("thread-id", MANAGE_THREADS)).thenReturn(Mono.just(thread));
+        Mockito.when(threadRepository.archive(thread)).thenReturn(Mono.just(thread));
+        Mockito.when(notificationService.createNotification(thread, CommentNotificationEvent.DELETED, USERNAME))
+                .thenReturn(Flux.empty());
+        Mockito.when(analyticsService.sendDeleteEvent(thread)).thenReturn(Mono.just(thread));
+
+        StepVerifier.create(commentService.deleteThread("thread-id"))
+                .expectNext(thread)
+                .verifyComplete();
+
+        Mockito.verify(unreadCounterService).invalidate(APPLICATION_ID);
+    }
+}
@@ -1,7 +1,11 @@
 package com.appsmith.server.services.ce;
 
+import com.appsmith.external.constants.DisplayDataType;
+import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.ParsedDataType;
+import com.appsmith.external.models.WidgetSuggestionDTO;
 import com.appsmith.server.acl.PolicyGenerator;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.NewAction;
@@ -25,6 +29,7 @@ import com.appsmith.server.services.NewPageService;
 import com.appsmith.server.services.PermissionGroupService;
 import com.appsmith.server.services.PluginService;
 import com.appsmith.server.services.SessionUserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -62,8 +67,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -385,4 +393,29 @@ public class NewActionServiceCEImplTest {
                 })
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCopyOfExecutionResult_KeepsEveryFieldWithGivenRequest() {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setStatusCode("200");
+        result.setTitle("test title");
+        result.setErrorType("test error type");
+        result.setHeaders(new ObjectMapper().createObjectNode().put("Content-Type", "application/json"));
+        result.setBody(List.of(Map.of("id", 1)));
+        result.setReadableError("test readable error");
+        result.setIsExecutionSuccess(true);
+        result.setMessages(Set.of("test message"));
+        result.setRequest(new ActionExecutionRequest());
+        result.setDataTypes(List.of(new ParsedDataType(DisplayDataType.TABLE)));
+        result.setSuggestedWidgets(List.of(new WidgetSuggestionDTO()));
+        result.setTruncated(true);
+        // Fails when a field is added to the result and not set above, so that it is covered too
+        assertThat(result).hasNoNullFieldsOrProperties();
+
+        ActionExecutionRequest request = new ActionExecutionRequest();
+        ActionExecutionResult copy = NewActionServiceCEImpl.copyOfExecutionResult(result, request);
+
+        assertSame(request, copy.getRequest());
+        assertThat(copy).usingRecursiveComparison().ignoringFields("request").isEqualTo(result);
+    }
+}
@@ -1,6 +1,7 @@
 package com.appsmith.server.services.ce;
 
 import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.dtos.PluginFormResourceDTO;
 import com.appsmith.server.repositories.PluginRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.WorkspaceService;
@@ -18,16 +19,23 @@ import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 
 import javax.validation.Validator;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(SpringExtension.class)
@@ -107,4 +115,28 @@ public class PluginServiceCEImplTest {
         final Map<?, ?> expectedChildrenSection = objectMapper.readValue(mockExample.getFile(), Map.class);
         assertEquals(expectedChildrenSection, templateChildrenList.get(0));
     }
+
+    @Test
+    public void testGetFormResource_loadsAndSerializesOnlyOnce() throws IOException {
+        Plugin plugin = new Plugin();
+        plugin.setId("test-plugin-id");
+        plugin.setPackageName("test-plugin");
+        plugin.setDatasourceUiConfig(new HashMap<>(Map.of("form", List.of("field"))));
+        plugin.setActionUiConfig(Map.of("editor", List.of("query")));
+        Mockito.when(repository.findById("test-plugin-id")).thenReturn(Mono.just(plugin));
+
+        final PluginFormResourceDTO formResource = pluginService.getFormResource("test-plugin-id").block();
+        assertNotNull(formResource);
+        assertSame(formResource, pluginService.getFormResource("test-plugin-id").block());
+        // One read for each of the form, editor, setting and dependency configs
+        Mockito.verify(repository, Mockito.times(4)).findById("test-plugin-id");
+
+        final Map<?, ?> response = objectMapper.readValue(formResource.getContent(), Map.class);
+        assertEquals(Map.of("form", List.of("field"), "editor", List.of("query")), response.get("data"));
+        assertEquals(DigestUtils.md5DigestAsHex(formResource.getContent()), formResource.getVersion());
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(formResource.getCompressedContent()))) {
+            assertArrayEquals(formResource.getContent(), gzipInputStream.readAllBytes());
+        }
+        assertSame(formResource.getForm(), pluginService.getFormConfig("test-plugin-id").block());
+    }
 }
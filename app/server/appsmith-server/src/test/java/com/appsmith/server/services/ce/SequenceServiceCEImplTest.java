@@ -0,0 +1,96 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.domains.Sequence;
+import com.appsmith.server.exceptions.AppsmithException;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class SequenceServiceCEImplTest {
+
+    private final AtomicLong storedNumber = new AtomicLong();
+
+    private ReactiveMongoTemplate mongoTemplate;
+
+    private SequenceServiceCE sequenceService;
+
+    @BeforeEach
+    public void setUp() {
+        mongoTemplate = Mockito.mock(ReactiveMongoTemplate.class);
+        // Behaves like the $inc on the sequence document
+        Mockito.when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Sequence.class)))
+                .thenAnswer(invocation -> {
+                    Update update = invocation.getArgument(1);
+                    Number amount = (Number) ((Document) update.getUpdateObject().get("$inc")).get("nextNumber");
+                    Sequence sequence = new Sequence();
+                    sequence.setNextNumber(storedNumber.addAndGet(amount.longValue()));
+                    return Mono.just(sequence);
+                });
+        sequenceService = new SequenceServiceCEImpl(mongoTemplate);
+    }
+
+    private void verifyRoundTrips(int count) {
+        Mockito.verify(mongoTemplate, Mockito.times(count))
+                .findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Sequence.class));
+    }
+
+    @Test
+    public void getNext_WithCount_ReservesConsecutiveNumbersInOneRoundTrip() {
+        StepVerifier.create(sequenceService.getNext("sequence"))
+                .expectNext(1L)
+                .verifyComplete();
+
+        StepVerifier.create(sequenceService.getNext("sequence", 3))
+                .expectNext(List.of(2L, 3L, 4L))
+                .verifyComplete();
+
+        StepVerifier.create(sequenceService.getNext("sequence"))
+                .expectNext(5L)
+                .verifyComplete();
+
+        verifyRoundTrips(3);
+    }
+
+    @Test
+    public void getNext_WithInvalidCount_ThrowsException() {
+        StepVerifier.create(sequenceService.getNext("sequence", 0))
+                .expectError(AppsmithException.class)
+                .verify();
+
+        verifyRoundTrips(0);
+    }
+
+    @Test
+    public void getNextFromBlock_HandsOutUniqueNumbersWithOneRoundTripPerBlock() {
+        final int count = SequenceServiceCEImpl.BLOCK_SIZE + 5;
+        List<Long> numbers = Flux.range(0, count)
+                .flatMap(i -> sequenceService.getNextFromBlock("sequence"))
+                .collectList()
+                .block();
+
+        Set<Long> uniqueNumbers = new HashSet<>(numbers);
+        assertThat(uniqueNumbers).hasSize(count);
+        verifyRoundTrips(2);
+
+        // Dense numbers are never taken from the reserved blocks
+        Long denseNumber = sequenceService.getNext("sequence").block();
+        assertThat(uniqueNumbers).doesNotContain(denseNumber);
+    }
+}
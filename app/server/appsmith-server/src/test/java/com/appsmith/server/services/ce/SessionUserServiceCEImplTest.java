@@ -0,0 +1,184 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.domains.User;
+import com.appsmith.server.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveSetOperations;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.web.server.WebSession;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class SessionUserServiceCEImplTest {
+
+    private ReactiveRedisOperations<String, Object> redisOperations;
+
+    private ReactiveSetOperations<String, Object> setOperations;
+
+    private ReactiveValueOperations<String, Object> valueOperations;
+
+    private SessionUserServiceCE sessionUserService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        redisOperations = Mockito.mock(ReactiveRedisOperations.class);
+        setOperations = Mockito.mock(ReactiveSetOperations.class);
+        Mockito.when(redisOperations.opsForSet()).thenReturn(setOperations);
+        valueOperations = Mockito.mock(ReactiveValueOperations.class);
+        Mockito.when(redisOperations.opsForValue()).thenReturn(valueOperations);
+        sessionUserService = new SessionUserServiceCEImpl(
+                Mockito.mock(UserRepository.class), redisOperations, Mockito.mock(RedisSerializer.class));
+    }
+
+    @Test
+    public void logoutAllSessions_DeletesOnlyIndexedSessionsOfUser() {
+        Mockito.when(redisOperations.hasKey("appsmith:user-sessions-indexed")).thenReturn(Mono.just(true));
+        Mockito.when(setOperations.members("appsmith:user-sessions:user@example.com"))
+                .thenReturn(Flux.just("session1", "session2"));
+        Mockito.when(redisOperations.delete(
+                "spring:session:sessions:session1",
+                "spring:session:sessions:session2",
+                "appsmith:user-sessions:user@example.com"
+        )).thenReturn(Mono.just(3L));
+
+        StepVerifier.create(sessionUserService.logoutAllSessions("User@Example.com"))
+                .verifyComplete();
+
+        // The sessions of other users are never looked at
+        Mockito.verify(redisOperations, Mockito.never()).keys(anyString());
+        Mockito.verify(redisOperations, Mockito.never()).scan(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void logoutAllSessions_WhenExistingSessionsAreNotIndexedYet_AlsoDeletesScannedSessionsOfUser() {
+        Mockito.when(redisOperations.hasKey("appsmith:user-sessions-indexed")).thenReturn(Mono.just(false));
+        Mockito.when(setOperations.members("appsmith:user-sessions:user@example.com"))
+                .thenReturn(Flux.just("session1"));
+        Mockito.when(redisOperations.scan(any())).thenReturn(Flux.just(
+                "spring:session:sessions:session1",
+                "spring:session:sessions:old-session",
+                "spring:session:sessions:other-user-session"
+        ));
+        ReactiveHashOperations<String, Object, Object> hashOperations = Mockito.mock(ReactiveHashOperations.class);
+        Mockito.when(redisOperations.opsForHash(any(RedisSerializationContext.class))).thenReturn(hashOperations);
+        Mockito.when(hashOperations.get(eq("spring:session:sessions:session1"), any()))
+                .thenReturn(Mono.just(securityContext("user@example.com")));
+        Mockito.when(hashOperations.get(eq("spring:session:sessions:old-session"), any()))
+                .thenReturn(Mono.just(securityContext("USER@example.com")));
+        Mockito.when(hashOperations.get(eq("spring:session:sessions:other-user-session"), any()))
+                .thenReturn(Mono.just(securityContext("other@example.com")));
+        // The session which was created before the index is deleted along with the indexed one
+        Mockito.when(redisOperations.delete(
+                "spring:session:sessions:session1",
+                "spring:session:sessions:old-session",
+                "appsmith:user-sessions:user@example.com"
+        )).thenReturn(Mono.just(3L));
+
+        StepVerifier.create(sessionUserService.logoutAllSessions("user@example.com"))
+                .verifyComplete();
+    }
+
+    private static SecurityContext securityContext(String email) {
+        User user = new User();
+        user.setEmail(email);
+        return new SecurityContextImpl(new UsernamePasswordAuthenticationToken(user, null));
+    }
+
+    @Test
+    public void trackSession_AddsSessionAndRemovesExpiredOnes() {
+        final String indexKey = "appsmith:user-sessions:user@example.com";
+        WebSession session = Mockito.mock(WebSession.class);
+        Mockito.when(session.getId()).thenReturn("new-session");
+
+        Mockito.when(setOperations.members(indexKey)).thenReturn(Flux.just("live-session", "expired-session"));
+        Mockito.when(redisOperations.hasKey("spring:session:sessions:live-session")).thenReturn(Mono.just(true));
+        Mockito.when(redisOperations.hasKey("spring:session:sessions:expired-session")).thenReturn(Mono.just(false));
+        Mockito.when(setOperations.remove(eq(indexKey), any())).thenReturn(Mono.just(1L));
+        Mockito.when(setOperations.add(indexKey, "new-session")).thenReturn(Mono.just(1L));
+        Mockito.when(redisOperations.expire(eq(indexKey), any(Duration.class))).thenReturn(Mono.just(true));
+
+        StepVerifier.create(sessionUserService.trackSession("user@example.com", session))
+                .verifyComplete();
+
+        Mockito.verify(setOperations).remove(indexKey, "expired-session");
+        Mockito.verify(setOperations).add(indexKey, "new-session");
+        Mockito.verify(redisOperations).expire(eq(indexKey), any(Duration.class));
+    }
+
+    @Test
+    public void indexExistingSessions_WhenAlreadyIndexed_DoesNotScan() {
+        Mockito.when(redisOperations.hasKey("appsmith:user-sessions-indexed")).thenReturn(Mono.just(true));
+
+        StepVerifier.create(sessionUserService.indexExistingSessions())
+                .expectNext(0L)
+                .verifyComplete();
+
+        Mockito.verify(redisOperations, Mockito.never()).scan(any());
+    }
+
+    @Test
+    public void indexExistingSessions_WhenScanFails_ReleasesLockWithoutMarkingIndexed() {
+        Mockito.when(redisOperations.hasKey("appsmith:user-sessions-indexed")).thenReturn(Mono.just(false));
+        Mockito.when(valueOperations.setIfAbsent(eq("appsmith:user-sessions-indexing"), any(), any(Duration.class)))
+                .thenReturn(Mono.just(true));
+        Mockito.when(redisOperations.scan(any())).thenReturn(Flux.error(new RuntimeException("Connection lost")));
+        Mockito.when(redisOperations.delete("appsmith:user-sessions-indexing")).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(sessionUserService.indexExistingSessions())
+                .expectErrorMessage("Connection lost")
+                .verify();
+
+        // The next server to start scans again
+        Mockito.verify(valueOperations, Mockito.never()).set(eq("appsmith:user-sessions-indexed"), any());
+        Mockito.verify(redisOperations).delete("appsmith:user-sessions-indexing");
+    }
+
+    @Test
+    public void indexExistingSessions_WhenScanCompletes_MarksIndexedAndReleasesLock() {
+        Mockito.when(redisOperations.hasKey("appsmith:user-sessions-indexed")).thenReturn(Mono.just(false));
+        Mockito.when(valueOperations.setIfAbsent(eq("appsmith:user-sessions-indexing"), any(), any(Duration.class)))
+                .thenReturn(Mono.just(true));
+        Mockito.when(redisOperations.scan(any())).thenReturn(Flux.empty());
+        Mockito.when(valueOperations.set(eq("appsmith:user-sessions-indexed"), any())).thenReturn(Mono.just(true));
+        Mockito.when(redisOperations.delete("appsmith:user-sessions-indexing")).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(sessionUserService.indexExistingSessions())
+                .expectNext(0L)
+                .verifyComplete();
+
+        Mockito.verify(valueOperations).set(eq("appsmith:user-sessions-indexed"), any());
+        Mockito.verify(redisOperations).delete("appsmith:user-sessions-indexing");
+    }
+
+    @Test
+    public void indexExistingSessions_WhenAnotherServerIsIndexing_DoesNotScan() {
+        Mockito.when(redisOperations.hasKey("appsmith:user-sessions-indexed")).thenReturn(Mono.just(false));
+        Mockito.when(valueOperations.setIfAbsent(eq("appsmith:user-sessions-indexing"), any(), any(Duration.class)))
+                .thenReturn(Mono.just(false));
+
+        StepVerifier.create(sessionUserService.indexExistingSessions())
+                .expectNext(0L)
+                .verifyComplete();
+
+        Mockito.verify(redisOperations, Mockito.never()).scan(any());
+        Mockito.verify(redisOperations, Mockito.never()).delete(anyString());
+    }
+}
@@ -0,0 +1,184 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.ApplicationMode;
+import com.appsmith.server.domains.Theme;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.ThemeRepository;
+import com.appsmith.server.services.AnalyticsService;
+import com.appsmith.server.services.ApplicationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.validation.Validator;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.appsmith.server.acl.AclPermission.READ_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.READ_THEMES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ThemeServiceCEImplTest {
+
+    private ThemeRepository repository;
+
+    private ApplicationService applicationService;
+
+    private ThemeServiceCE themeService;
+
+    @BeforeEach
+    public void setUp() {
+        repository = Mockito.mock(ThemeRepository.class);
+        applicationService = Mockito.mock(ApplicationService.class);
+        themeService = new ThemeServiceCEImpl(Schedulers.immediate(), Mockito.mock(Validator.class),
+                Mockito.mock(MongoConverter.class), Mockito.mock(ReactiveMongoTemplate.class), repository,
+                Mockito.mock(AnalyticsService.class), Mockito.mock(ApplicationRepository.class), applicationService,
+                Mockito.mock(PolicyGenerator.class));
+        givenPermissionGroupsOfCurrentUser(Set.of("group"));
+    }
+
+    // Sets the permissions of the current user in the themes the same way the repository does
+    private void givenPermissionGroupsOfCurrentUser(Set<String> permissionGroups) {
+        Mockito.when(repository.setUserPermissionsInObject(Mockito.any(Theme.class))).thenAnswer(invocation -> {
+            Theme theme = invocation.getArgument(0);
+            Set<String> permissions = new HashSet<>();
+            for (Policy policy : theme.getPolicies()) {
+                if (!Collections.disjoint(policy.getPermissionGroups(), permissionGroups)) {
+                    permissions.add(policy.getPermission());
+                }
+            }
+            theme.setUserPermissions(permissions);
+            return Mono.just(theme);
+        });
+    }
+
+    private static Theme theme(String id, String name) {
+        Theme theme = new Theme();
+        theme.setId(id);
+        theme.setName(name);
+
+        Map<String, Object> colors = new HashMap<>();
+        colors.put("primaryColor", "#553DE9");
+        Map<String, Object> config = new HashMap<>();
+        config.put("colors", colors);
+        config.put("fontFamily", new ArrayList<>(List.of("Nunito Sans", "Poppins")));
+        theme.setConfig(config);
+
+        Map<String, Object> buttonStyle = new HashMap<>();
+        buttonStyle.put("boxShadow", "none");
+        Map<String, Object> stylesheet = new HashMap<>();
+        stylesheet.put("BUTTON_WIDGET", buttonStyle);
+        theme.setStylesheet(stylesheet);
+
+        theme.setPolicies(new HashSet<>(Set.of(Policy.builder()
+                .permission(READ_THEMES.getValue())
+                .permissionGroups(new HashSet<>(Set.of("group")))
+                .build())));
+        return theme;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void modifyNestedValues(Theme theme) {
+        Map<String, Object> config = (Map<String, Object>) theme.getConfig();
+        ((Map<String, Object>) config.get("colors")).put("primaryColor", "#000000");
+        ((List<Object>) config.get("fontFamily")).add("Comic Sans");
+        ((Map<String, Object>) theme.getStylesheet().get("BUTTON_WIDGET")).put("boxShadow", "0 0 1px black");
+        theme.getPolicies().iterator().next().getPermissionGroups().add("other-group");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void assertNestedValuesUnchanged(Theme theme) {
+        Map<String, Object> config = (Map<String, Object>) theme.getConfig();
+        assertThat(((Map<String, Object>) config.get("colors")).get("primaryColor")).isEqualTo("#553DE9");
+        assertThat((List<Object>) config.get("fontFamily")).containsExactly("Nunito Sans", "Poppins");
+        assertThat(((Map<String, Object>) theme.getStylesheet().get("BUTTON_WIDGET")).get("boxShadow")).isEqualTo("none");
+        assertThat(theme.getPolicies().iterator().next().getPermissionGroups()).containsExactly("group");
+    }
+
+    @Test
+    public void getSystemTheme_WhenCopyIsModified_KeepsLoadedThemeUnchanged() {
+        Mockito.when(repository.findAllSystemThemes()).thenReturn(Flux.just(theme("system-theme-id", "default")));
+        themeService.loadSystemThemes().block();
+
+        modifyNestedValues(themeService.getSystemTheme("default").block());
+
+        assertNestedValuesUnchanged(themeService.getSystemTheme("default").block());
+    }
+
+    @Test
+    public void getApplicationTheme_WhenCopyOfPublishedThemeIsModified_KeepsCachedThemeUnchanged() {
+        Application application = new Application();
+        application.setId("application-id");
+        application.setPublishedModeThemeId("theme-id");
+        application.setUpdatedAt(Instant.now());
+        Mockito.when(applicationService.findByBranchNameAndDefaultApplicationId(null, "application-id", READ_APPLICATIONS))
+                .thenReturn(Mono.just(application));
+        Mockito.when(repository.findById("theme-id", READ_THEMES))
+                .thenReturn(Mono.fromSupplier(() -> theme("theme-id", "custom")));
+
+        modifyNestedValues(themeService.getApplicationTheme("application-id", ApplicationMode.PUBLISHED, null).block());
+
+        assertNestedValuesUnchanged(themeService.getApplicationTheme("application-id", ApplicationMode.PUBLISHED, null).block());
+        // The second read is served from the cache
+        Mockito.verify(repository, Mockito.times(1)).findById("theme-id", READ_THEMES);
+    }
+
+    @Test
+    public void getSystemTheme_WhenUserCanReadTheme_SetsPermissionsOfUser() {
+        Mockito.when(repository.findAllSystemThemes()).thenReturn(Flux.just(theme("system-theme-id", "default")));
+        themeService.loadSystemThemes().block();
+
+        Theme theme = themeService.getSystemTheme("default").block();
+
+        assertThat(theme.getUserPermissions()).containsExactly(READ_THEMES.getValue());
+    }
+
+    @Test
+    public void getSystemTheme_WhenUserCannotReadTheme_ReturnsEmpty() {
+        Mockito.when(repository.findAllSystemThemes()).thenReturn(Flux.just(theme("system-theme-id", "default")));
+        themeService.loadSystemThemes().block();
+        givenPermissionGroupsOfCurrentUser(Set.of("other-group"));
+
+        assertThat(themeService.getSystemTheme("default").blockOptional()).isEmpty();
+    }
+
+    @Test
+    public void getApplicationTheme_WhenCachedPublishedThemeIsReadByAnotherUser_ChecksPermissionsOfThatUser() {
+        Application application = new Application();
+        application.setId("application-id");
+        application.setPublishedModeThemeId("theme-id");
+        application.setUpdatedAt(Instant.now());
+        Mockito.when(applicationService.findByBranchNameAndDefaultApplicationId(null, "application-id", READ_APPLICATIONS))
+                .thenReturn(Mono.just(application));
+        Mockito.when(repository.findById("theme-id", READ_THEMES)).thenReturn(Mono.fromSupplier(() -> {
+            Theme theme = theme("theme-id", "custom");
+            theme.setUserPermissions(new HashSet<>(Set.of(READ_THEMES.getValue())));
+            return theme;
+        }));
+
+        Theme readFromDb = themeService.getApplicationTheme("application-id", ApplicationMode.PUBLISHED, null).block();
+        assertThat(readFromDb.getUserPermissions()).containsExactly(READ_THEMES.getValue());
+
+        Theme readFromCache = themeService.getApplicationTheme("application-id", ApplicationMode.PUBLISHED, null).block();
+        assertThat(readFromCache.getUserPermissions()).containsExactly(READ_THEMES.getValue());
+
+        givenPermissionGroupsOfCurrentUser(Set.of("other-group"));
+        assertThat(themeService.getApplicationTheme("application-id", ApplicationMode.PUBLISHED, null).blockOptional())
+                .isEmpty();
+        Mockito.verify(repository, Mockito.times(1)).findById("theme-id", READ_THEMES);
+    }
+}
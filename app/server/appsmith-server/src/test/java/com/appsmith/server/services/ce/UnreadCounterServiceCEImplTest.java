@@ -0,0 +1,112 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.domains.UnreadCounter;
+import com.appsmith.server.repositories.UnreadCounterRepository;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+
+public class UnreadCounterServiceCEImplTest {
+
+    private static final String SCOPE = UnreadCounter.NOTIFICATIONS_SCOPE;
+
+    private UnreadCounterRepository repository;
+
+    private UnreadCounterServiceCE unreadCounterService;
+
+    @BeforeEach
+    public void setUp() {
+        repository = Mockito.mock(UnreadCounterRepository.class);
+        Mockito.when(repository.setCount(anyString(), anyString(), anyLong(), Mockito.any()))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(0, 0L, null)));
+        Mockito.when(repository.deleteByUsernamesAndScope(Mockito.anyCollection(), anyString()))
+                .thenReturn(Mono.just(DeleteResult.acknowledged(1)));
+        unreadCounterService = new UnreadCounterServiceCEImpl(repository);
+    }
+
+    private static UnreadCounter counter(Long count, Instant countedAt, Long version) {
+        UnreadCounter counter = new UnreadCounter();
+        counter.setUsername("user");
+        counter.setScope(SCOPE);
+        counter.setCount(count);
+        counter.setUpdatedAt(countedAt);
+        counter.setVersion(version);
+        return counter;
+    }
+
+    @Test
+    public void getCount_WhenCounterIsFresh_ReadsCounterWithoutCounting() {
+        Mockito.when(repository.findByUsernameAndScope("user", SCOPE)).thenReturn(Mono.just(counter(4L, Instant.now(), 1L)));
+        AtomicInteger countCalls = new AtomicInteger();
+
+        StepVerifier.create(unreadCounterService.getCount("user", SCOPE, Mono.fromCallable(() -> {
+                    countCalls.incrementAndGet();
+                    return 10L;
+                })))
+                .expectNext(4L)
+                .verifyComplete();
+
+        assertThat(countCalls.get()).isZero();
+        Mockito.verify(repository, Mockito.never()).setCount(anyString(), anyString(), anyLong(), Mockito.any());
+    }
+
+    @Test
+    public void getCount_WhenCounterIsMissingOrStale_CountsAndStoresCountIfCounterIsUnchanged() {
+        // A missing counter is created without a count, and the count is stored only if it's still at that version
+        Mockito.when(repository.findByUsernameAndScope("user", SCOPE)).thenReturn(Mono.empty());
+        Mockito.when(repository.createIfAbsent("user", SCOPE)).thenReturn(Mono.just(counter(null, null, null)));
+        StepVerifier.create(unreadCounterService.getCount("user", SCOPE, Mono.just(10L)))
+                .expectNext(10L)
+                .verifyComplete();
+
+        Mockito.when(repository.findByUsernameAndScope("user", SCOPE))
+                .thenReturn(Mono.just(counter(4L, Instant.now().minus(Duration.ofDays(1)), 3L)));
+        StepVerifier.create(unreadCounterService.getCount("user", SCOPE, Mono.just(11L)))
+                .expectNext(11L)
+                .verifyComplete();
+
+        Mockito.verify(repository).setCount("user", SCOPE, 10L, null);
+        Mockito.verify(repository).setCount("user", SCOPE, 11L, 3L);
+    }
+
+    @Test
+    public void getCount_WhenCounterCannotBeCreated_ReturnsCountWithoutStoringIt() {
+        Mockito.when(repository.findByUsernameAndScope("user", SCOPE)).thenReturn(Mono.empty());
+        // Another read created the counter at the same time
+        Mockito.when(repository.createIfAbsent("user", SCOPE))
+                .thenReturn(Mono.error(new DuplicateKeyException("Duplicate counter")));
+
+        StepVerifier.create(unreadCounterService.getCount("user", SCOPE, Mono.just(10L)))
+                .expectNext(10L)
+                .verifyComplete();
+
+        Mockito.verify(repository, Mockito.never()).setCount(anyString(), anyString(), anyLong(), Mockito.any());
+    }
+
+    @Test
+    public void invalidateUsers_DropsCountersOfUsersInEveryScope() {
+        Mockito.when(repository.deleteByUsernames(List.of("user1", "user2")))
+                .thenReturn(Mono.just(DeleteResult.acknowledged(3)));
+
+        StepVerifier.create(unreadCounterService.invalidateUsers(List.of("user1", "user2")))
+                .verifyComplete();
+        StepVerifier.create(unreadCounterService.invalidateUsers(List.of()))
+                .verifyComplete();
+
+        Mockito.verify(repository, Mockito.times(1)).deleteByUsernames(Mockito.anyCollection());
+    }
+}
@@ -1,5 +1,6 @@
 package com.appsmith.server.solutions;
 
+import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationPage;
 import com.appsmith.server.domains.GitApplicationMetadata;
@@ -11,6 +12,8 @@ import com.appsmith.server.domains.Workspace;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.dtos.UserHomepageDTO;
 import com.appsmith.server.dtos.WorkspaceApplicationsDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.repositories.ApplicationRepository;
 import com.appsmith.server.services.ApplicationService;
@@ -471,4 +474,85 @@ public class ApplicationFetcherUnitTest {
             assertThat(applications.get(i).getId()).isEqualTo(appIds.get(i));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getApplicationsPage_SecondPage_OnlyAppsOfWorkspacesInPageAreFetched() {
+        initMocks();
+        UserData userData = new UserData();
+        userData.setRecentlyUsedWorkspaceIds(List.of("org-4", "org-3"));
+        Mockito.when(userDataService.getForCurrentUser()).thenReturn(Mono.just(userData));
+        Mockito.when(workspaceService.getAll(anyList(), eq(READ_WORKSPACES)))
+                .thenReturn(Flux.fromIterable(createDummyWorkspaces()));
+
+        // Workspaces are ordered as org-4, org-3, org-1, org-2, so the second page of 2 is org-1 and org-2
+        List<Application> applications = createDummyApplications(2, 3);
+        Mockito.when(applicationRepository.findByMultipleWorkspaceIds(eq(Set.of("org-1", "org-2")), anyList(), eq(READ_APPLICATIONS)))
+                .thenReturn(Flux.fromIterable(applications));
+        Mockito.when(newPageService.findPageSlugsByApplicationIds(anyList(), eq(READ_PAGES)))
+                .thenReturn(Flux.fromIterable(createDummyPages(2, 3)));
+        for (Application application : applications) {
+            Mockito
+                    .when(responseUtils.updateApplicationWithDefaultResources(application))
+                    .thenReturn(updateDefaultPageIdsWithinApplication(application));
+        }
+
+        StepVerifier.create(applicationFetcher.getApplicationsPage(1, 2, false))
+                .assertNext(pageDTO -> {
+                    assertThat(pageDTO.getTotalWorkspaces()).isEqualTo(4);
+                    assertThat(pageDTO.isHasMore()).isFalse();
+                    List<WorkspaceApplicationsDTO> dtos = pageDTO.getWorkspaceApplications();
+                    assertThat(dtos).extracting(dto -> dto.getWorkspace().getId()).containsExactly("org-1", "org-2");
+                    for (WorkspaceApplicationsDTO dto : dtos) {
+                        assertThat(dto.getApplications()).hasSize(3);
+                        assertThat(dto.getUsers()).isNull();
+                        for (Application application : dto.getApplications()) {
+                            assertThat(application.getWorkspaceId()).isEqualTo(dto.getWorkspace().getId());
+                            application.getPages().forEach(
+                                    page -> assertThat(page.getSlug()).isEqualTo(page.getId() + "-unpublished-slug")
+                            );
+                        }
+                    }
+                })
+                .verifyComplete();
+
+        // Members are not fetched unless asked for, and the apps of all workspaces are never fetched
+        Mockito.verify(userWorkspaceService, Mockito.never()).getWorkspaceMembers((Set<String>) any());
+        Mockito.verify(applicationRepository, Mockito.never()).findAllUserApps(any());
+    }
+
+    @Test
+    public void getApplicationsPage_WhenCloneIsInProgress_CloneIsNotReturned() {
+        initMocks();
+        Mockito.when(userDataService.getForCurrentUser()).thenReturn(Mono.just(new UserData()));
+        Mockito.when(workspaceService.getAll(anyList(), eq(READ_WORKSPACES)))
+                .thenReturn(Flux.fromIterable(createDummyWorkspaces()));
+
+        List<Application> applications = createDummyApplications(1, 2);
+        applications.get(1).setCloneInProgress(true);
+        Mockito.when(applicationRepository.findByMultipleWorkspaceIds(eq(Set.of("org-1")), anyList(), eq(READ_APPLICATIONS)))
+                .thenReturn(Flux.fromIterable(applications));
+        Mockito.when(newPageService.findPageSlugsByApplicationIds(anyList(), eq(READ_PAGES)))
+                .thenReturn(Flux.fromIterable(createDummyPages(1, 2)));
+        for (Application application : applications) {
+            Mockito
+                    .when(responseUtils.updateApplicationWithDefaultResources(application))
+                    .thenReturn(updateDefaultPageIdsWithinApplication(application));
+        }
+
+        StepVerifier.create(applicationFetcher.getApplicationsPage(0, 1, false))
+                .assertNext(pageDTO -> assertThat(pageDTO.getWorkspaceApplications().get(0).getApplications())
+                        .extracting(Application::getId)
+                        .containsExactly("org-1-app-1"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void getApplicationsPage_InvalidPageSize_ThrowsException() {
+        initMocks();
+
+        StepVerifier.create(applicationFetcher.getApplicationsPage(0, 0, false))
+                .expectErrorMatches(error -> error instanceof AppsmithException
+                        && error.getMessage().equals(AppsmithError.INVALID_PARAMETER.getMessage(FieldName.SIZE)))
+                .verify();
+    }
+}
@@ -59,6 +59,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
@@ -71,6 +74,7 @@ import reactor.util.function.Tuple3;
 import reactor.util.function.Tuple4;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -766,6 +770,97 @@ public class ApplicationForkingServiceTests {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void forkApplication_WhenPreviousForkWasInterrupted_ResumesIntoSameApplication() {
+        Workspace targetWorkspace = new Workspace();
+        targetWorkspace.setName("resume-fork-target-org");
+        final String targetWorkspaceId = workspaceService.create(targetWorkspace).block().getId();
+
+        Workspace srcWorkspace = new Workspace();
+        srcWorkspace.setName("resume-fork-src-org");
+        final String srcWorkspaceId = workspaceService.create(srcWorkspace).block().getId();
+
+        Application application = new Application();
+        application.setName("resume-fork-app");
+        final String originalAppId = applicationPageService.createApplication(application, srcWorkspaceId).block().getId();
+        PageDTO pageDTO = new PageDTO();
+        pageDTO.setName("resume-fork-page");
+        pageDTO.setApplicationId(originalAppId);
+        applicationPageService.createPage(pageDTO).block();
+
+        final Application firstFork = applicationForkingService.forkApplicationToWorkspace(originalAppId, targetWorkspaceId).block();
+        assert firstFork != null;
+
+        // Leave the fork as it would be if the server stopped after inserting the pages, before publishing them.
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where(FieldName.ID).is(firstFork.getId())),
+                new Update().set("cloneInProgress", true).set("pages", List.of()).set("publishedPages", List.of())
+                        .set("cloneLeaseExpiresAt", Instant.now().minusSeconds(60)),
+                Application.class
+        );
+
+        final Application resumedFork = applicationForkingService.forkApplicationToWorkspace(originalAppId, targetWorkspaceId).block();
+
+        StepVerifier.create(newPageService.findNewPagesByApplicationId(firstFork.getId(), READ_PAGES).collectList()
+                        .zipWith(applicationService.findById(firstFork.getId(), READ_APPLICATIONS)))
+                .assertNext(tuple -> {
+                    final List<NewPage> forkedPages = tuple.getT1();
+                    final Application forkedApplication = tuple.getT2();
+
+                    assertThat(resumedFork.getId()).isEqualTo(firstFork.getId());
+                    // The pages which were inserted before aren't inserted again
+                    assertThat(forkedPages).hasSize(2);
+                    assertThat(forkedApplication.getCloneInProgress()).isNull();
+                    assertThat(forkedApplication.getPages()).hasSize(2);
+                    assertThat(forkedApplication.getPublishedPages()).hasSize(2);
+                    assertThat(forkedPages).allSatisfy(newPage -> assertThat(newPage.getPublishedPage()).isNotNull());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void forkApplication_WhenPreviousForkIsStillRunning_ForksIntoNewApplication() {
+        Workspace targetWorkspace = new Workspace();
+        targetWorkspace.setName("running-fork-target-org");
+        final String targetWorkspaceId = workspaceService.create(targetWorkspace).block().getId();
+
+        Workspace srcWorkspace = new Workspace();
+        srcWorkspace.setName("running-fork-src-org");
+        final String srcWorkspaceId = workspaceService.create(srcWorkspace).block().getId();
+
+        Application application = new Application();
+        application.setName("running-fork-app");
+        final String originalAppId = applicationPageService.createApplication(application, srcWorkspaceId).block().getId();
+
+        final Instant forkStartedAt = Instant.now();
+        final Application firstFork = applicationForkingService.forkApplicationToWorkspace(originalAppId, targetWorkspaceId).block();
+        assert firstFork != null;
+
+        // Leave the fork as it would be while it's still being worked on by another request.
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where(FieldName.ID).is(firstFork.getId())),
+                new Update().set("cloneInProgress", true).set("cloneLeaseExpiresAt", Instant.now().plusSeconds(600)),
+                Application.class
+        );
+
+        final Application secondFork = applicationForkingService.forkApplicationToWorkspace(originalAppId, targetWorkspaceId).block();
+
+        StepVerifier.create(newPageService.findNewPagesByApplicationId(secondFork.getId(), READ_PAGES).collectList())
+                .assertNext(forkedPages -> {
+                    assertThat(secondFork.getId()).isNotEqualTo(firstFork.getId());
+                    // The pages are inserted in bulk, and are audited as if they were saved
+                    assertThat(forkedPages).isNotEmpty();
+                    assertThat(forkedPages).allSatisfy(newPage -> {
+                        assertThat(newPage.getCreatedBy()).isEqualTo("api_user");
+                        assertThat(newPage.getModifiedBy()).isEqualTo("api_user");
+                        assertThat(newPage.getCreatedAt()).isAfterOrEqualTo(forkStartedAt);
+                    });
+                })
+                .verifyComplete();
+    }
+
     private Flux<ActionDTO> getActionsInWorkspace(Workspace workspace) {
         return applicationService
                 .findByWorkspaceId(workspace.getId(), READ_APPLICATIONS)
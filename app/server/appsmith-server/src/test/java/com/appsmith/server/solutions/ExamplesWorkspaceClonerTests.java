@@ -27,6 +27,8 @@ import com.appsmith.server.domains.Workspace;
 import com.appsmith.server.dtos.ActionCollectionDTO;
 import com.appsmith.server.dtos.DslActionDTO;
 import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.MockPluginExecutor;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.ApplicationRepository;
@@ -1010,6 +1012,61 @@ public class ExamplesWorkspaceClonerTests {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void cloneApplicationWithActionOfMissingDatasource_FailsClone() {
+        Workspace sourceOrg = new Workspace();
+        sourceOrg.setName("Source Org With Missing Datasource");
+
+        Workspace targetOrg = new Workspace();
+        targetOrg.setName("Target Org With Missing Datasource");
+
+        final Mono<List<String>> resultMono = workspaceService.create(sourceOrg)
+                .flatMap(sourceOrg1 -> {
+                    final Application app1 = new Application();
+                    app1.setName("app with missing datasource");
+                    app1.setWorkspaceId(sourceOrg1.getId());
+
+                    final Datasource ds1 = new Datasource();
+                    ds1.setName("datasource to be removed");
+                    ds1.setWorkspaceId(sourceOrg1.getId());
+                    ds1.setPluginId(installedPlugin.getId());
+                    ds1.setDatasourceConfiguration(new DatasourceConfiguration());
+
+                    return applicationPageService.createApplication(app1)
+                            .flatMap(createdApp -> Mono.zip(
+                                    Mono.just(createdApp),
+                                    newPageRepository.findByApplicationId(createdApp.getId()).collectList(),
+                                    datasourceService.create(ds1)
+                            ))
+                            .flatMap(tuple -> {
+                                final ActionDTO action1 = new ActionDTO();
+                                action1.setName("action1");
+                                action1.setPageId(tuple.getT2().get(0).getId());
+                                action1.setWorkspaceId(sourceOrg1.getId());
+                                action1.setDatasource(tuple.getT3());
+                                action1.setPluginId(installedPlugin.getId());
+
+                                return layoutActionService.createSingleAction(action1)
+                                        .then(Mono.fromRunnable(() -> mongoTemplate.remove(
+                                                Query.query(Criteria.where("id").is(tuple.getT3().getId())),
+                                                Datasource.class
+                                        )))
+                                        .then(Mono.zip(workspaceService.create(targetOrg), Mono.just(tuple.getT1())));
+                            });
+                })
+                .flatMap(tuple -> examplesWorkspaceCloner.cloneApplications(
+                        tuple.getT1().getId(),
+                        Flux.just(tuple.getT2())
+                ));
+
+        // The action isn't left out of the clone without its datasource
+        StepVerifier.create(resultMono)
+                .expectErrorMatches(error -> error instanceof AppsmithException
+                        && ((AppsmithException) error).getError() == AppsmithError.NO_RESOURCE_FOUND)
+                .verify();
+    }
+
     private List<String> getUnpublishedActionName(List<ActionDTO> actions) {
         List<String> names = new ArrayList<>();
         for (ActionDTO action : actions) {
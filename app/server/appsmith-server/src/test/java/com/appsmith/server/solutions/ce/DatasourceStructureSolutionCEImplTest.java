@@ -0,0 +1,161 @@
+package com.appsmith.server.solutions.ce;
+
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.domains.DatasourceContext;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.services.AuthenticationValidator;
+import com.appsmith.server.services.DatasourceContextService;
+import com.appsmith.server.services.DatasourceService;
+import com.appsmith.server.services.DatasourceStructureService;
+import com.appsmith.server.services.PluginService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+
+public class DatasourceStructureSolutionCEImplTest {
+
+    private PluginExecutor<Object> pluginExecutor;
+
+    private DatasourceStructureService datasourceStructureService;
+
+    private DatasourceStructureSolutionCE datasourceStructureSolution;
+
+    private Datasource datasource;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        pluginExecutor = Mockito.mock(PluginExecutor.class);
+        datasourceStructureService = Mockito.mock(DatasourceStructureService.class);
+        Mockito.when(datasourceStructureService.saveStructure(any(), any())).thenReturn(Mono.empty());
+
+        PluginExecutorHelper pluginExecutorHelper = Mockito.mock(PluginExecutorHelper.class);
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(any())).thenReturn(Mono.just(pluginExecutor));
+
+        PluginService pluginService = Mockito.mock(PluginService.class);
+        Mockito.when(pluginService.findById(any())).thenReturn(Mono.just(new Plugin()));
+
+        DatasourceContextService datasourceContextService = Mockito.mock(DatasourceContextService.class);
+        Mockito.when(datasourceContextService.retryOnce(any(), any())).thenAnswer(invocation -> {
+            Function<DatasourceContext<?>, Mono<?>> task = invocation.getArgument(1);
+            DatasourceContext<Object> context = new DatasourceContext<>();
+            context.setConnection("connection");
+            return task.apply(context);
+        });
+
+        datasourceStructureSolution = new DatasourceStructureSolutionCEImpl(
+                Mockito.mock(DatasourceService.class),
+                pluginExecutorHelper,
+                pluginService,
+                datasourceContextService,
+                datasourceStructureService,
+                Mockito.mock(AuthenticationValidator.class)
+        );
+
+        datasource = new Datasource();
+        datasource.setId("datasource-id");
+        datasource.setPluginId("plugin-id");
+        datasource.setDatasourceConfiguration(new DatasourceConfiguration());
+    }
+
+    private static DatasourceStructure structureWithTable(String tableName) {
+        return new DatasourceStructure(List.of(new DatasourceStructure.Table(
+                DatasourceStructure.TableType.TABLE, "public", tableName, List.of(), List.of(), List.of())));
+    }
+
+    @Test
+    public void getStructure_WhenRefreshedConcurrently_FetchesFromPluginOnce() {
+        Mockito.when(datasourceStructureService.getStructure(datasource)).thenReturn(Mono.empty());
+        Mockito.when(pluginExecutor.getStructure(any(), any(), isNull()))
+                .thenReturn(Mono.delay(Duration.ofMillis(200)).thenReturn(structureWithTable("users")));
+
+        Mono<List<DatasourceStructure>> structuresMono = Mono.zip(
+                datasourceStructureSolution.getStructure(datasource, true, false),
+                datasourceStructureSolution.getStructure(datasource, true, false),
+                datasourceStructureSolution.getStructure(datasource, false)
+        ).map(tuple -> List.of(tuple.getT1(), tuple.getT2(), tuple.getT3()));
+
+        StepVerifier.create(structuresMono)
+                .assertNext(structures -> {
+                    assertThat(structures.get(1)).isSameAs(structures.get(0));
+                    assertThat(structures.get(2)).isSameAs(structures.get(0));
+                })
+                .verifyComplete();
+
+        Mockito.verify(pluginExecutor, Mockito.times(1)).getStructure(any(), any(), isNull());
+        Mockito.verify(datasourceStructureService, Mockito.times(1)).saveStructure(eq(datasource), any());
+
+        // Once the fetch is done, the next refresh fetches again
+        StepVerifier.create(datasourceStructureSolution.getStructure(datasource, true, false))
+                .expectNextCount(1)
+                .verifyComplete();
+        Mockito.verify(pluginExecutor, Mockito.times(2)).getStructure(any(), any(), isNull());
+    }
+
+    @Test
+    public void getStructure_WhenStructureStored_ReturnsItWithoutFetching() {
+        DatasourceStructure storedStructure = structureWithTable("users");
+        Mockito.when(datasourceStructureService.getStructure(datasource)).thenReturn(Mono.just(storedStructure));
+
+        StepVerifier.create(datasourceStructureSolution.getStructure(datasource, false))
+                .expectNext(storedStructure)
+                .verifyComplete();
+
+        Mockito.verify(pluginExecutor, Mockito.never()).getStructure(any(), any(), any());
+    }
+
+    @Test
+    public void getStructure_WhenRefreshedIncrementally_GivesStoredStructureToPlugin() {
+        DatasourceStructure storedStructure = structureWithTable("users");
+        DatasourceStructure fetchedStructure = structureWithTable("orders");
+        Mockito.when(datasourceStructureService.getStructure(datasource)).thenReturn(Mono.just(storedStructure));
+        Mockito.when(pluginExecutor.getStructure(any(), any(), eq(storedStructure))).thenReturn(Mono.just(fetchedStructure));
+
+        StepVerifier.create(datasourceStructureSolution.getStructure(datasource, true, true))
+                .expectNext(fetchedStructure)
+                .verifyComplete();
+
+        Mockito.verify(datasourceStructureService).saveStructure(datasource, fetchedStructure);
+    }
+
+    @Test
+    public void getStructure_WhenFullRefreshRunsWithIncrementalRefresh_FetchesBothFromPlugin() {
+        DatasourceStructure storedStructure = structureWithTable("users");
+        DatasourceStructure incrementalStructure = structureWithTable("orders");
+        DatasourceStructure fullStructure = structureWithTable("customers");
+        Mockito.when(datasourceStructureService.getStructure(datasource)).thenReturn(Mono.just(storedStructure));
+        Mockito.when(pluginExecutor.getStructure(any(), any(), eq(storedStructure)))
+                .thenReturn(Mono.delay(Duration.ofMillis(200)).thenReturn(incrementalStructure));
+        Mockito.when(pluginExecutor.getStructure(any(), any(), isNull()))
+                .thenReturn(Mono.delay(Duration.ofMillis(200)).thenReturn(fullStructure));
+
+        StepVerifier.create(Mono.zip(
+                        datasourceStructureSolution.getStructure(datasource, true, true),
+                        datasourceStructureSolution.getStructure(datasource, true, false)
+                ))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1()).isSameAs(incrementalStructure);
+                    // The full refresh doesn't get the structure of the incremental one that's running
+                    assertThat(tuple.getT2()).isSameAs(fullStructure);
+                })
+                .verifyComplete();
+
+        Mockito.verify(pluginExecutor, Mockito.times(1)).getStructure(any(), any(), eq(storedStructure));
+        Mockito.verify(pluginExecutor, Mockito.times(1)).getStructure(any(), any(), isNull());
+    }
+}